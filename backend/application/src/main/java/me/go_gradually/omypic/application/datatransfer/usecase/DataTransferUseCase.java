@@ -4,9 +4,13 @@ import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import me.go_gradually.omypic.application.datatransfer.model.DataTransferImportResult;
 import me.go_gradually.omypic.application.question.port.QuestionGroupPort;
+import me.go_gradually.omypic.application.rulebook.model.StoredRulebookFile;
+import me.go_gradually.omypic.application.rulebook.policy.RagPolicy;
 import me.go_gradually.omypic.application.rulebook.port.RulebookFileStore;
 import me.go_gradually.omypic.application.rulebook.port.RulebookIndexPort;
 import me.go_gradually.omypic.application.rulebook.port.RulebookPort;
+import me.go_gradually.omypic.application.rulebook.usecase.EnabledRulebookCatalog;
+import me.go_gradually.omypic.application.rulebook.usecase.RulebookChunkCache;
 import me.go_gradually.omypic.application.wrongnote.port.WrongNotePort;
 import me.go_gradually.omypic.application.wrongnote.port.WrongNoteRecentQueuePort;
 import me.go_gradually.omypic.domain.question.QuestionGroupAggregate;
@@ -15,9 +19,9 @@ import me.go_gradually.omypic.domain.question.QuestionItem;
 import me.go_gradually.omypic.domain.question.QuestionItemId;
 import me.go_gradually.omypic.domain.question.QuestionGroup;
 import me.go_gradually.omypic.domain.rulebook.Rulebook;
+import me.go_gradually.omypic.domain.rulebook.RulebookChunk;
 import me.go_gradually.omypic.domain.rulebook.RulebookId;
 import me.go_gradually.omypic.domain.rulebook.RulebookScope;
-import me.go_gradually.omypic.domain.shared.util.TextUtils;
 import me.go_gradually.omypic.domain.wrongnote.WrongNote;
 import me.go_gradually.omypic.domain.wrongnote.WrongNoteId;
 
@@ -26,6 +30,7 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -59,6 +64,8 @@ public class DataTransferUseCase {
     private final RulebookFileStore rulebookFileStore;
     private final RulebookIndexPort rulebookIndexPort;
     private final ObjectMapper objectMapper;
+    private final RulebookChunkCache chunkCache;
+    private final EnabledRulebookCatalog enabledRulebooks;
 
     public DataTransferUseCase(QuestionGroupPort questionGroupPort,
                                RulebookPort rulebookPort,
@@ -67,6 +74,46 @@ public class DataTransferUseCase {
                                RulebookFileStore rulebookFileStore,
                                RulebookIndexPort rulebookIndexPort,
                                ObjectMapper objectMapper) {
+        this(questionGroupPort, rulebookPort, wrongNotePort, wrongNoteRecentQueuePort,
+                rulebookFileStore, rulebookIndexPort, objectMapper, (RagPolicy) null);
+    }
+
+    // import한 룰북도 업로드와 같은 조각 크기로 색인한다. ragPolicy가 없으면 기본값을 쓴다.
+    public DataTransferUseCase(QuestionGroupPort questionGroupPort,
+                               RulebookPort rulebookPort,
+                               WrongNotePort wrongNotePort,
+                               WrongNoteRecentQueuePort wrongNoteRecentQueuePort,
+                               RulebookFileStore rulebookFileStore,
+                               RulebookIndexPort rulebookIndexPort,
+                               ObjectMapper objectMapper,
+                               RagPolicy ragPolicy) {
+        this(questionGroupPort, rulebookPort, wrongNotePort, wrongNoteRecentQueuePort,
+                rulebookFileStore, rulebookIndexPort, objectMapper, new RulebookChunkCache(rulebookFileStore, ragPolicy));
+    }
+
+    // 룰북 업로드(RulebookUseCase)와 같은 조각 캐시를 쓰면, 방금 내보낸 데이터를 다시 가져올 때 파일을 다시 나누지 않는다.
+    public DataTransferUseCase(QuestionGroupPort questionGroupPort,
+                               RulebookPort rulebookPort,
+                               WrongNotePort wrongNotePort,
+                               WrongNoteRecentQueuePort wrongNoteRecentQueuePort,
+                               RulebookFileStore rulebookFileStore,
+                               RulebookIndexPort rulebookIndexPort,
+                               ObjectMapper objectMapper,
+                               RulebookChunkCache chunkCache) {
+        this(questionGroupPort, rulebookPort, wrongNotePort, wrongNoteRecentQueuePort,
+                rulebookFileStore, rulebookIndexPort, objectMapper, chunkCache, new EnabledRulebookCatalog(rulebookPort));
+    }
+
+    // import는 룰북을 통째로 바꾸므로, 턴 검색(RulebookUseCase)이 보는 켜진 룰북 목록과 같은 인스턴스를 넘겨야 바로 반영된다.
+    public DataTransferUseCase(QuestionGroupPort questionGroupPort,
+                               RulebookPort rulebookPort,
+                               WrongNotePort wrongNotePort,
+                               WrongNoteRecentQueuePort wrongNoteRecentQueuePort,
+                               RulebookFileStore rulebookFileStore,
+                               RulebookIndexPort rulebookIndexPort,
+                               ObjectMapper objectMapper,
+                               RulebookChunkCache chunkCache,
+                               EnabledRulebookCatalog enabledRulebooks) {
         this.questionGroupPort = questionGroupPort;
         this.rulebookPort = rulebookPort;
         this.wrongNotePort = wrongNotePort;
@@ -74,6 +121,8 @@ public class DataTransferUseCase {
         this.rulebookFileStore = rulebookFileStore;
         this.rulebookIndexPort = rulebookIndexPort;
         this.objectMapper = objectMapper;
+        this.chunkCache = chunkCache;
+        this.enabledRulebooks = enabledRulebooks;
     }
 
     public byte[] exportZip() throws IOException {
@@ -130,7 +179,11 @@ public class DataTransferUseCase {
         validateRulebookEntries(rulebooks, entries);
 
         ImportedPayload payload = toImportedPayload(questionGroups, rulebooks, wrongNotes, queueSnapshot, entries);
-        applyImportedPayload(payload);
+        try {
+            applyImportedPayload(payload);
+        } finally {
+            enabledRulebooks.invalidate();
+        }
 
         return new DataTransferImportResult(
                 Instant.now(),
@@ -158,15 +211,28 @@ public class DataTransferUseCase {
 
     private List<RulebookSnapshot> collectRulebookSnapshots(List<RulebookFileSnapshot> rulebookFiles) throws IOException {
         List<RulebookSnapshot> snapshots = new ArrayList<>();
+        Map<String, String> entryByPath = new HashMap<>();
         for (Rulebook rulebook : rulebookPort.findAll()) {
-            String entryPath = toRulebookEntryPath(rulebook.getId().value(), rulebook.getFilename());
-            byte[] bytes = rulebookFileStore.readBytes(rulebook.getPath());
-            rulebookFiles.add(new RulebookFileSnapshot(entryPath, bytes));
+            String entryPath = rulebookFileEntry(rulebook, entryByPath, rulebookFiles);
             snapshots.add(RulebookSnapshot.fromDomain(rulebook, entryPath));
         }
         return snapshots;
     }
 
+    // 저장소가 같은 내용을 한 경로에 두므로, 경로가 같은 룰북은 파일을 한 번만 읽고 zip 항목 하나를 같이 가리킨다.
+    private String rulebookFileEntry(Rulebook rulebook,
+                                     Map<String, String> entryByPath,
+                                     List<RulebookFileSnapshot> rulebookFiles) throws IOException {
+        String existing = entryByPath.get(rulebook.getPath());
+        if (existing != null) {
+            return existing;
+        }
+        String entryPath = toRulebookEntryPath(rulebook.getId().value(), rulebook.getFilename());
+        rulebookFiles.add(new RulebookFileSnapshot(entryPath, rulebookFileStore.readBytes(rulebook.getPath())));
+        entryByPath.put(rulebook.getPath(), entryPath);
+        return entryPath;
+    }
+
     private String toRulebookEntryPath(String rulebookId, String filename) {
         String safeName = filename == null ? "rulebook.md" : SAFE_FILENAME.matcher(filename).replaceAll("_");
         if (safeName.isBlank()) {
@@ -256,31 +322,23 @@ public class DataTransferUseCase {
         rulebookFileStore.clearAll();
         rulebookIndexPort.reset();
 
-        for (QuestionGroupAggregate group : payload.questionGroups) {
-            questionGroupPort.save(group);
-        }
-        for (ImportedRulebook importedRulebook : payload.rulebooks) {
-            RulebookSnapshot snapshot = importedRulebook.snapshot;
-            var stored = rulebookFileStore.store(snapshot.filename, importedRulebook.bytes);
-            Rulebook rulebook = Rulebook.rehydrate(
-                    RulebookId.of(snapshot.id),
-                    snapshot.filename,
-                    stored.path(),
-                    snapshot.scope,
-                    QuestionGroup.fromNullable(snapshot.questionGroup),
-                    snapshot.enabled,
-                    snapshot.createdAt,
-                    snapshot.updatedAt
-            );
-            rulebookPort.save(rulebook);
-            String text = rulebookFileStore.readText(stored.path());
-            List<String> chunks = TextUtils.splitChunks(text, 800);
+        questionGroupPort.saveAll(payload.questionGroups);
+        rulebookPort.saveAll(storeAndIndexRulebooks(payload.rulebooks));
+        wrongNotePort.saveAll(payload.wrongNotes);
+        wrongNoteRecentQueuePort.saveGlobalQueue(payload.wrongNoteQueue);
+    }
+
+    // 파일 저장과 색인은 룰북마다 하고, 메타데이터는 모아서 한 번에 쓴다.
+    private List<Rulebook> storeAndIndexRulebooks(List<ImportedRulebook> importedRulebooks) throws IOException {
+        List<Rulebook> rulebooks = new ArrayList<>();
+        for (ImportedRulebook importedRulebook : importedRulebooks) {
+            StoredRulebookFile stored = rulebookFileStore.store(importedRulebook.snapshot.filename, importedRulebook.bytes);
+            Rulebook rulebook = importedRulebook.snapshot.toDomain(stored.path());
+            List<RulebookChunk> chunks = chunkCache.chunksOf(rulebook.getId(), stored.path());
             rulebookIndexPort.indexRulebookChunks(rulebook.getId(), rulebook.getFilename(), chunks);
+            rulebooks.add(rulebook);
         }
-        for (WrongNote wrongNote : payload.wrongNotes) {
-            wrongNotePort.save(wrongNote);
-        }
-        wrongNoteRecentQueuePort.saveGlobalQueue(payload.wrongNoteQueue);
+        return rulebooks;
     }
 
     private <T> T readJson(byte[] bytes, Class<T> type) throws IOException {
@@ -391,6 +449,19 @@ public class DataTransferUseCase {
             snapshot.fileEntry = fileEntry;
             return snapshot;
         }
+
+        Rulebook toDomain(String storedPath) {
+            return Rulebook.rehydrate(
+                    RulebookId.of(id),
+                    filename,
+                    storedPath,
+                    scope,
+                    QuestionGroup.fromNullable(questionGroup),
+                    enabled,
+                    createdAt,
+                    updatedAt
+            );
+        }
     }
 
     private static class WrongNoteSnapshot {
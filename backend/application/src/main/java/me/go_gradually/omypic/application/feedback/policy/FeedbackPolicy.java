@@ -12,4 +12,12 @@ public interface FeedbackPolicy {
     default int getWrongnoteWindowSize() {
         return 100;
     }
+
+    default long getTurnPromptCacheTtlMs() {
+        return 600_000L;
+    }
+
+    default int getTurnPromptCacheMaxEntries() {
+        return 512;
+    }
 }
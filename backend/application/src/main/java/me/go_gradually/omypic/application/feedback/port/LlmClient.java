@@ -1,5 +1,6 @@
 package me.go_gradually.omypic.application.feedback.port;
 
+import me.go_gradually.omypic.domain.feedback.Recommendations;
 import me.go_gradually.omypic.domain.session.LlmConversationState;
 import me.go_gradually.omypic.domain.session.LlmPromptContext;
 
@@ -17,4 +18,12 @@ public interface LlmClient {
                                String userPrompt,
                                LlmConversationState conversationState,
                                LlmPromptContext promptContext) throws Exception;
+
+    /**
+     * 대화 상태 없이 filler/adjective/adverb 추천 3개만 작은 스키마로 생성한다.
+     */
+    Recommendations generateRecommendations(String apiKey,
+                                            String model,
+                                            String systemPrompt,
+                                            String userPrompt) throws Exception;
 }
@@ -8,11 +8,20 @@ import java.util.List;
 public record LlmGenerateResult(Feedback feedback,
                                 List<String> schemaFallbackReasons,
                                 LlmConversationState conversationState,
-                                String summaryForNextTurn) {
+                                String summaryForNextTurn,
+                                long inputTokens) {
     public LlmGenerateResult {
         feedback = feedback == null ? Feedback.of("", List.of(), List.of(), "", List.of()) : feedback;
         schemaFallbackReasons = schemaFallbackReasons == null ? List.of() : List.copyOf(schemaFallbackReasons);
         conversationState = conversationState == null ? LlmConversationState.empty() : conversationState;
         summaryForNextTurn = summaryForNextTurn == null ? "" : summaryForNextTurn.trim();
+        inputTokens = Math.max(0L, inputTokens);
+    }
+
+    public LlmGenerateResult(Feedback feedback,
+                             List<String> schemaFallbackReasons,
+                             LlmConversationState conversationState,
+                             String summaryForNextTurn) {
+        this(feedback, schemaFallbackReasons, conversationState, summaryForNextTurn, 0L);
     }
 }
@@ -11,6 +11,7 @@ import me.go_gradually.omypic.application.rulebook.usecase.RulebookUseCase;
 import me.go_gradually.omypic.application.session.port.SessionStorePort;
 import me.go_gradually.omypic.application.shared.port.MetricsPort;
 import me.go_gradually.omypic.application.wrongnote.usecase.WrongNoteUseCase;
+import me.go_gradually.omypic.domain.feedback.Corrections;
 import me.go_gradually.omypic.domain.feedback.Feedback;
 import me.go_gradually.omypic.domain.feedback.FeedbackConstraints;
 import me.go_gradually.omypic.domain.feedback.FeedbackLanguage;
@@ -18,6 +19,7 @@ import me.go_gradually.omypic.domain.feedback.RecommendationDetail;
 import me.go_gradually.omypic.domain.feedback.Recommendations;
 import me.go_gradually.omypic.domain.question.QuestionGroup;
 import me.go_gradually.omypic.domain.rulebook.RulebookContext;
+import me.go_gradually.omypic.domain.session.ConversationRebasePolicy;
 import me.go_gradually.omypic.domain.session.SessionId;
 import me.go_gradually.omypic.domain.session.SessionState;
 
@@ -43,6 +45,8 @@ public class FeedbackUseCase {
     private static final String EMPTY_SYSTEM_PROMPT = "";
     private static final String UNKNOWN_QUESTION = "(질문 없음)";
     private static final String NO_RECENT_RECOMMENDATIONS = "(없음)";
+    private static final long DEFAULT_TURN_PROMPT_CACHE_TTL_MS = 600_000L;
+    private static final int DEFAULT_TURN_PROMPT_CACHE_MAX_ENTRIES = 512;
     private static final String BASE_COACH_PROMPT_TEMPLATE = """
 지금부터 너는 OPIc(Oral Proficiency Interview Computer) 학습용 선생님이다.
 
@@ -153,27 +157,37 @@ JSON 타입 계약(반드시 동일하게 준수):
 %s
 
 이 문서 기반 + 문법 및 단어 뉘앙스의 사용을 피드백하라.
+""";
+    private static final String BANNED_RECOMMENDATION_PHRASES =
+            "\"remove\", \"eliminate\", \"avoid using\", \"stop using\", \"빼라\", \"제거\", \"남용\"";
+    private static final String RECOMMENDATION_EXCLUSION_TEMPLATE = """
+
+# 추천 표현 제약
+- 최근 추천 이력에 있는 term은 recommendations에 다시 쓰지 마라.
+  - Filler: %s
+  - Adjective: %s
+  - Adverb: %s
+- recommendations.term/usage에는 다음 삭제 지시 표현을 쓰지 마라: %s
 """;
     private static final String RECOMMENDATION_SYSTEM_PROMPT_TEMPLATE = """
 지금부터 너의 핵심 임무는 현재 답변에 가장 어울리는 추천 표현 3개를 생성하는 것이다.
 추천 표현 카테고리는 filler/adjective/adverb 각 1개이며, 사용자가 지금 말한 문맥과 의미를 직접 반영해야 한다.
-문장에 어울리지 않는 상투 표현 반복은 피하고, 최근 추천 이력과 겹칠 경우 다른 표현을 우선 검토하라.
-단, 문맥 적합도가 가장 높다면 중복을 허용해도 된다.
-
-다음은 적용할 전략/룰북이다.
-%s
-
-중복 처리 지침:
-%s
+최근 추천 이력과 같은 term은 피하고, 특히 이미 중복된 항목은 다른 표현으로 교체하라.
 
 중요 규칙(절대 준수):
 - recommendation은 "추가하면 자연스러워지는 표현"만 제안한다.
 - 사용자가 이미 쓴 filler/adjective/adverb를 "빼라/줄여라/제거하라/남용하지 마라" 형태로 지적하지 마라.
 - 추천은 교정/삭제 지시가 아니라, 현재 문장을 더 자연스럽게 확장하는 "추가 제안"이어야 한다.
 - 각 항목 usage에는 반드시 "어떤 문맥에서 문장에 덧붙이면 자연스러워지는지"를 1문장으로 쓴다.
-- 금지 표현 예시: "remove", "eliminate", "avoid using", "stop using", "빼라", "제거", "남용"
+- 금지 표현 예시: %s
 
-summary/corrections/exampleAnswer/rulebookEvidence는 간결하게 작성해도 되지만 JSON 스키마를 반드시 만족해야 한다.
+반드시 JSON 객체 1개만 출력하라. 출력 키는 정확히 filler, adjective, adverb 3개만 허용한다.
+{
+  "filler": {"term": "string", "usage": "string"},
+  "adjective": {"term": "string", "usage": "string"},
+  "adverb": {"term": "string", "usage": "string"}
+}
+- usage는 %s로 작성하라.
 """;
     private static final String RECOMMENDATION_USER_PROMPT_TEMPLATE = """
 # 추천 표현 전용 생성
@@ -184,13 +198,7 @@ summary/corrections/exampleAnswer/rulebookEvidence는 간결하게 작성해도
 사용자 답변:
 %s
 
-룰북 문서 1:
-%s
-
-룰북 문서 2:
-%s
-
-최근 5턴 추천 이력(중복 회피 참고):
+최근 5턴 추천 이력(중복 금지):
 - Filler: %s
 - Adjective: %s
 - Adverb: %s
@@ -207,7 +215,8 @@ summary/corrections/exampleAnswer/rulebookEvidence는 간결하게 작성해도
     private final MetricsPort metrics;
     private final SessionStorePort sessionStore;
     private final WrongNoteUseCase wrongNoteUseCase;
-    private final int conversationRebaseTurns;
+    private final ConversationRebasePolicy conversationRebasePolicy;
+    private final TurnPromptCache turnPromptCache;
 
     public FeedbackUseCase(List<LlmClient> clientList,
                            RulebookUseCase rulebookUseCase,
@@ -233,13 +242,34 @@ summary/corrections/exampleAnswer/rulebookEvidence는 간결하게 작성해도
                            SessionStorePort sessionStore,
                            WrongNoteUseCase wrongNoteUseCase,
                            int conversationRebaseTurns) {
+        this(
+                clientList,
+                rulebookUseCase,
+                feedbackPolicy,
+                metrics,
+                sessionStore,
+                wrongNoteUseCase,
+                ConversationRebasePolicy.turnsOnly(conversationRebaseTurns)
+        );
+    }
+
+    public FeedbackUseCase(List<LlmClient> clientList,
+                           RulebookUseCase rulebookUseCase,
+                           FeedbackPolicy feedbackPolicy,
+                           MetricsPort metrics,
+                           SessionStorePort sessionStore,
+                           WrongNoteUseCase wrongNoteUseCase,
+                           ConversationRebasePolicy conversationRebasePolicy) {
         this.clients = clientList.stream().collect(Collectors.toMap(LlmClient::provider, c -> c));
         this.rulebookUseCase = rulebookUseCase;
         this.feedbackPolicy = feedbackPolicy;
         this.metrics = metrics;
         this.sessionStore = sessionStore;
         this.wrongNoteUseCase = wrongNoteUseCase;
-        this.conversationRebaseTurns = Math.max(1, conversationRebaseTurns);
+        this.conversationRebasePolicy = conversationRebasePolicy == null
+                ? ConversationRebasePolicy.turnsOnly(DEFAULT_CONVERSATION_REBASE_TURNS)
+                : conversationRebasePolicy;
+        this.turnPromptCache = new TurnPromptCache(metrics, System::currentTimeMillis);
     }
 
     public FeedbackResult generateFeedback(String apiKey, FeedbackCommand command) {
@@ -275,6 +305,50 @@ summary/corrections/exampleAnswer/rulebookEvidence는 간결하게 작성해도
                                                    String feedbackLanguage,
                                                    int maxRulebookDocuments) {
         FeedbackLanguage language = FeedbackLanguage.of(feedbackLanguage);
+        long indexVersion = rulebookUseCase.indexVersion();
+        TurnPromptCache.Key key = turnPromptKey(questionId, questionText, questionGroup, language);
+        PrefetchedTurnPrompt cached = turnPromptCache.peek(key, indexVersion, turnPromptCacheTtlMs());
+        if (cached != null) {
+            return cached;
+        }
+        PrefetchedTurnPrompt prefetch = buildPrefetchedTurnPrompt(questionId, questionText, questionGroup, language, maxRulebookDocuments);
+        cacheTurnPrompt(key, prefetch, indexVersion);
+        return prefetch;
+    }
+
+    private void cacheTurnPrompt(TurnPromptCache.Key key, PrefetchedTurnPrompt prefetch, long indexVersion) {
+        if (!prefetch.questionId().isEmpty()) {
+            turnPromptCache.put(key, prefetch, indexVersion, turnPromptCacheMaxEntries());
+        }
+    }
+
+    /**
+     * 다른 세션이 만든 것까지 포함해 캐시에 있는 turn 프롬프트를 돌려준다. 없거나 질문·룰북이 바뀌었으면 null이다.
+     */
+    public PrefetchedTurnPrompt findPrefetchedTurnPrompt(String questionId,
+                                                         String questionText,
+                                                         QuestionGroup questionGroup,
+                                                         String feedbackLanguage) {
+        if (trimText(questionId).isEmpty()) {
+            return null;
+        }
+        TurnPromptCache.Key key = turnPromptKey(questionId, questionText, questionGroup, FeedbackLanguage.of(feedbackLanguage));
+        return turnPromptCache.find(key, rulebookUseCase.indexVersion(), turnPromptCacheTtlMs());
+    }
+
+    private TurnPromptCache.Key turnPromptKey(String questionId,
+                                              String questionText,
+                                              QuestionGroup questionGroup,
+                                              FeedbackLanguage language) {
+        String group = questionGroup == null ? "" : questionGroup.value();
+        return new TurnPromptCache.Key(trimText(questionId), trimText(questionText), group, language.value());
+    }
+
+    private PrefetchedTurnPrompt buildPrefetchedTurnPrompt(String questionId,
+                                                           String questionText,
+                                                           QuestionGroup questionGroup,
+                                                           FeedbackLanguage language,
+                                                           int maxRulebookDocuments) {
         String safeQuestionText = trimText(questionText);
         String query = buildTurnQuery(safeQuestionText, "");
         List<RulebookContext> contexts = rulebookUseCase.searchContextsForTurn(questionGroup, query, maxRulebookDocuments);
@@ -289,6 +363,16 @@ summary/corrections/exampleAnswer/rulebookEvidence는 간결하게 작성해도
         );
     }
 
+    private long turnPromptCacheTtlMs() {
+        long ttlMs = feedbackPolicy.getTurnPromptCacheTtlMs();
+        return ttlMs > 0L ? ttlMs : DEFAULT_TURN_PROMPT_CACHE_TTL_MS;
+    }
+
+    private int turnPromptCacheMaxEntries() {
+        int maxEntries = feedbackPolicy.getTurnPromptCacheMaxEntries();
+        return maxEntries > 0 ? maxEntries : DEFAULT_TURN_PROMPT_CACHE_MAX_ENTRIES;
+    }
+
     public Feedback generateFeedbackForTurnWithPrefetch(String apiKey,
                                                         FeedbackCommand command,
                                                         String answerText,
@@ -379,26 +463,21 @@ summary/corrections/exampleAnswer/rulebookEvidence는 간결하게 작성해도
         SessionState safeState = state == null
                 ? sessionStore.getOrCreate(SessionId.of(command.getSessionId()))
                 : state;
-        if (safeState.shouldRebaseConversation(conversationRebaseTurns)) {
-            if (safeState.isLlmBootstrapped()) {
-                // Rebase starts a fresh conversation, but keeps bootstrap already applied.
-                safeState.resetConversationState(false);
-            } else {
-                safeState.resetConversationState();
-            }
-        }
+        rebaseConversationIfNeeded(safeState);
         Instant start = Instant.now();
         try {
             LlmPromptContext promptContext = safeState.buildPromptContext();
+            RecommendationHistory history = recommendationHistory(promptContext);
             LlmGenerateResult generated = generateWithConversationRecovery(
                     client,
                     apiKey,
                     command,
-                    userPrompt,
+                    withRecommendationExclusions(userPrompt, history),
                     systemPrompt,
                     safeState,
                     promptContext
             );
+            safeState.recordLlmTurnUsage(generated.inputTokens(), Duration.between(start, Instant.now()).toMillis());
             logSchemaFallbackIfNeeded(command, provider, generated.schemaFallbackReasons());
             Feedback feedback = generated.feedback();
             FeedbackConstraints constraints = feedbackConstraints();
@@ -407,14 +486,11 @@ summary/corrections/exampleAnswer/rulebookEvidence는 간결하게 작성해도
                     apiKey,
                     command,
                     client,
-                    provider,
                     language,
                     feedback,
-                    constraints,
-                    contexts,
                     questionText,
                     text,
-                    promptContext
+                    history
             );
             safeState.updateConversationState(generated.conversationState());
             safeState.setLlmSummary(resolveSummaryForNextTurn(generated, feedback));
@@ -434,6 +510,16 @@ summary/corrections/exampleAnswer/rulebookEvidence는 간결하게 작성해도
         }
     }
 
+    private void rebaseConversationIfNeeded(SessionState state) {
+        ConversationRebasePolicy.RebaseDecision decision = state.decideConversationRebase(conversationRebasePolicy);
+        if (!decision.rebase()) {
+            return;
+        }
+        // Rebase starts a fresh conversation, but keeps bootstrap already applied.
+        state.rebaseConversation(!state.isLlmBootstrapped(), conversationRebasePolicy.carryForwardTurns());
+        metrics.incrementConversationRebase(decision.reason().name());
+    }
+
     private LlmGenerateResult generateWithConversationRecovery(LlmClient client,
                                                                String apiKey,
                                                                FeedbackCommand command,
@@ -490,62 +576,21 @@ summary/corrections/exampleAnswer/rulebookEvidence는 간결하게 작성해도
     private Feedback applyRecommendationStrategy(String apiKey,
                                                  FeedbackCommand command,
                                                  LlmClient client,
-                                                 String provider,
                                                  FeedbackLanguage language,
                                                  Feedback baseFeedback,
-                                                 FeedbackConstraints constraints,
-                                                 List<RulebookContext> contexts,
                                                  String questionText,
                                                  String answerText,
-                                                 LlmPromptContext promptContext) {
-        RecommendationHistory history = recommendationHistory(promptContext);
-        Recommendations selected = baseFeedback.getRecommendations();
-        RecommendationEvaluation selectedEvaluation = evaluateRecommendations(selected, history);
-
-        if (shouldGenerateRecommendationCandidate(selectedEvaluation)) {
-            Recommendations candidate = generateRecommendationCandidate(
-                    apiKey,
-                    command,
-                    client,
-                    provider,
-                    language,
-                    constraints,
-                    contexts,
-                    questionText,
-                    answerText,
-                    history,
-                    false
-            );
-            RecommendationEvaluation candidateEvaluation = evaluateRecommendations(candidate, history);
-            if (isBetterRecommendation(candidateEvaluation, selectedEvaluation)) {
-                selected = candidate;
-                selectedEvaluation = candidateEvaluation;
-            }
-
-            if (shouldAttemptRecommendationRepair(selectedEvaluation)) {
-                metrics.incrementRecommendationRepairAttempt();
-                Recommendations repaired = generateRecommendationCandidate(
-                        apiKey,
-                        command,
-                        client,
-                        provider,
-                        language,
-                        constraints,
-                        contexts,
-                        questionText,
-                        answerText,
-                        history,
-                        true
-                );
-                RecommendationEvaluation repairedEvaluation = evaluateRecommendations(repaired, history);
-                if (isBetterRecommendation(repairedEvaluation, selectedEvaluation)) {
-                    selected = repaired;
-                    selectedEvaluation = repairedEvaluation;
-                    metrics.incrementRecommendationRepairSuccess();
-                }
-            }
-        }
-
+                                                 RecommendationHistory history) {
+        Recommendations selected = repairRecommendationsIfNeeded(
+                apiKey,
+                command,
+                client,
+                language,
+                baseFeedback.getRecommendations(),
+                questionText,
+                answerText,
+                history
+        );
         RecommendationCompletion completion = ensureRecommendationCompleteness(selected, language);
         if (completion.minimalFallbackApplied()) {
             metrics.incrementRecommendationMinimalFallback();
@@ -563,65 +608,100 @@ summary/corrections/exampleAnswer/rulebookEvidence는 간결하게 작성해도
         );
     }
 
-    private boolean shouldGenerateRecommendationCandidate(RecommendationEvaluation evaluation) {
-        return true;
+    // 첫 요청에 이력/금지어 제약을 싣기 때문에, 위반이 남은 턴만 추천 전용 소형 호출로 보정한다.
+    private Recommendations repairRecommendationsIfNeeded(String apiKey,
+                                                          FeedbackCommand command,
+                                                          LlmClient client,
+                                                          FeedbackLanguage language,
+                                                          Recommendations recommendations,
+                                                          String questionText,
+                                                          String answerText,
+                                                          RecommendationHistory history) {
+        RecommendationEvaluation evaluation = evaluateRecommendations(recommendations, history);
+        if (!shouldAttemptRecommendationRepair(evaluation)) {
+            return recommendations;
+        }
+        metrics.incrementRecommendationRepairAttempt();
+        Recommendations candidate = generateRecommendationCandidate(apiKey, command, client, language, questionText, answerText, history);
+        Recommendations merged = normalizeRecommendations(mergeRepairedRecommendations(recommendations, candidate, history), language, answerText);
+        if (!isBetterRecommendation(evaluateRecommendations(merged, history), evaluation)) {
+            return recommendations;
+        }
+        metrics.incrementRecommendationRepairSuccess();
+        return merged;
     }
 
     private boolean shouldAttemptRecommendationRepair(RecommendationEvaluation evaluation) {
-        return evaluation.missingCount() > 0 || evaluation.duplicateCount() >= 2;
+        return evaluation.missingCount() > 0 || evaluation.duplicateCount() > 0;
     }
 
     private Recommendations generateRecommendationCandidate(String apiKey,
                                                             FeedbackCommand command,
                                                             LlmClient client,
-                                                            String provider,
                                                             FeedbackLanguage language,
-                                                            FeedbackConstraints constraints,
-                                                            List<RulebookContext> contexts,
                                                             String questionText,
                                                             String answerText,
-                                                            RecommendationHistory history,
-                                                            boolean strictDeduplication) {
-        String systemPrompt = buildRecommendationSystemPrompt(language.value(), contexts, strictDeduplication);
-        String userPrompt = buildRecommendationUserPrompt(questionText, answerText, contexts, history);
+                                                            RecommendationHistory history) {
+        String systemPrompt = buildRecommendationSystemPrompt(language.value());
+        String userPrompt = buildRecommendationUserPrompt(questionText, answerText, history);
         try {
-            LlmGenerateResult generated = client.generate(
-                    apiKey,
-                    command.getModel(),
-                    systemPrompt,
-                    userPrompt,
-                    LlmConversationState.empty(),
-                    LlmPromptContext.empty()
-            );
-            logSchemaFallbackIfNeeded(command, provider, generated.schemaFallbackReasons());
-            Feedback normalized = generated.feedback().normalized(constraints, answerText, language, contexts);
-            return normalized.getRecommendations();
+            Recommendations generated = client.generateRecommendations(apiKey, command.getModel(), systemPrompt, userPrompt);
+            return generated == null ? emptyRecommendations() : generated;
         } catch (Exception error) {
             log.warning(String.format(
-                    "recommendation generation failed sessionId=%s model=%s strict=%s reason=%s",
+                    "recommendation generation failed sessionId=%s model=%s reason=%s",
                     command.getSessionId(),
                     command.getModel(),
-                    strictDeduplication,
                     failureMessage(error)
             ));
             return emptyRecommendations();
         }
     }
 
-    private String buildRecommendationSystemPrompt(String language,
-                                                   List<RulebookContext> contexts,
-                                                   boolean strictDeduplication) {
-        String duplicateGuideline = strictDeduplication
-                ? "최근 추천어와 같은 term은 피하고, 특히 이미 중복된 항목은 다른 표현으로 교체하라."
-                : "최근 추천어와의 중복을 줄이되, 현재 문맥에 가장 적합하면 중복을 허용해도 된다.";
-        return RECOMMENDATION_SYSTEM_PROMPT_TEMPLATE.formatted(renderStrategy(contexts), duplicateGuideline)
-                + "\n\n"
-                + structuredOutputInstruction(promptLanguage(language));
+    private Recommendations mergeRepairedRecommendations(Recommendations base,
+                                                         Recommendations candidate,
+                                                         RecommendationHistory history) {
+        return new Recommendations(
+                preferUsableDetail(base.filler(), candidate.filler(), history.fillerTerms()),
+                preferUsableDetail(base.adjective(), candidate.adjective(), history.adjectiveTerms()),
+                preferUsableDetail(base.adverb(), candidate.adverb(), history.adverbTerms())
+        );
+    }
+
+    // 보정 호출 결과는 첫 응답처럼 Feedback.normalized를 거쳐야 접두어·구분자 처리가 같아진다. 추천 칸만 쓰므로 나머지는 비워 둔다.
+    private Recommendations normalizeRecommendations(Recommendations recommendations, FeedbackLanguage language, String answerText) {
+        Feedback recommendationsOnly = Feedback.of("", new Corrections(null, null, null), recommendations, "", List.of());
+        return recommendationsOnly.normalized(feedbackConstraints(), answerText, language, List.of()).getRecommendations();
+    }
+
+    private RecommendationDetail preferUsableDetail(RecommendationDetail base,
+                                                    RecommendationDetail candidate,
+                                                    List<String> historyTerms) {
+        if (isUsableRecommendation(base, historyTerms) || !isUsableRecommendation(candidate, historyTerms)) {
+            return base;
+        }
+        return candidate;
+    }
+
+    private boolean isUsableRecommendation(RecommendationDetail detail, List<String> historyTerms) {
+        return !isRecommendationMissing(detail) && !isDuplicateTerm(detail.term(), historyTerms);
+    }
+
+    private String withRecommendationExclusions(String userPrompt, RecommendationHistory history) {
+        return userPrompt + RECOMMENDATION_EXCLUSION_TEMPLATE.formatted(
+                joinHistory(history.fillerTerms()),
+                joinHistory(history.adjectiveTerms()),
+                joinHistory(history.adverbTerms()),
+                BANNED_RECOMMENDATION_PHRASES
+        );
+    }
+
+    private String buildRecommendationSystemPrompt(String language) {
+        return RECOMMENDATION_SYSTEM_PROMPT_TEMPLATE.formatted(BANNED_RECOMMENDATION_PHRASES, promptLanguage(language));
     }
 
     private String buildRecommendationUserPrompt(String questionText,
                                                  String answerText,
-                                                 List<RulebookContext> contexts,
                                                  RecommendationHistory history) {
         String safeQuestion = trimText(questionText);
         if (safeQuestion.isBlank()) {
@@ -630,8 +710,6 @@ summary/corrections/exampleAnswer/rulebookEvidence는 간결하게 작성해도
         return RECOMMENDATION_USER_PROMPT_TEMPLATE.formatted(
                 safeQuestion,
                 trimText(answerText),
-                rulebookDoc(contexts, 0),
-                rulebookDoc(contexts, 1),
                 joinHistory(history.fillerTerms()),
                 joinHistory(history.adjectiveTerms()),
                 joinHistory(history.adverbTerms())
@@ -861,7 +939,7 @@ summary/corrections/exampleAnswer/rulebookEvidence는 간결하게 작성해도
     }
 
     private String toRulebookLine(RulebookContext context) {
-        return "- [" + context.filename() + "] " + context.text();
+        return "- [" + context.source() + "] " + context.text();
     }
 
     private String buildUserPrompt(PromptInput input, List<RulebookContext> contexts, String language) {
@@ -886,7 +964,7 @@ summary/corrections/exampleAnswer/rulebookEvidence는 간결하게 작성해도
         if (contexts == null || index >= contexts.size()) {
             return NO_RULEBOOK_DOC;
         }
-        return "[" + contexts.get(index).filename() + "] " + contexts.get(index).text();
+        return "[" + contexts.get(index).source() + "] " + contexts.get(index).text();
     }
 
     private String buildTurnQuery(String questionText, String answerText) {
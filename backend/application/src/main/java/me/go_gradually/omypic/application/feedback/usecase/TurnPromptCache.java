@@ -0,0 +1,86 @@
+package me.go_gradually.omypic.application.feedback.usecase;
+
+import me.go_gradually.omypic.application.shared.port.MetricsPort;
+
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * 세션과 무관하게 프로세스 전체가 함께 쓰는 turn 프롬프트(prefetch) 캐시.
+ * 같은 질문·언어라면 누가 만들었든 시스템 프롬프트와 룰북 검색 결과를 그대로 재사용한다.
+ * 질문 본문과 그룹도 키에 들어가므로, 질문을 고치거나 그룹을 옮기면 예전 프롬프트 대신 새로 만든다.
+ * 룰북 인덱스 버전이 바뀌었거나 TTL이 지난 항목은 stale로 보고 버린다. TTL은 다른 인스턴스에서 바뀐 룰북을 따라가기 위한 상한이다.
+ */
+final class TurnPromptCache {
+    static final String HIT = "hit";
+    static final String MISS = "miss";
+    static final String STALE = "stale";
+
+    private final Map<Key, Entry> entries = new ConcurrentHashMap<>();
+    private final MetricsPort metrics;
+    private final LongSupplier nowMillisSupplier;
+
+    TurnPromptCache(MetricsPort metrics, LongSupplier nowMillisSupplier) {
+        this.metrics = metrics;
+        this.nowMillisSupplier = nowMillisSupplier;
+    }
+
+    // turn 시점 조회만 hit/miss/stale 지표에 남긴다.
+    FeedbackUseCase.PrefetchedTurnPrompt find(Key key, long indexVersion, long ttlMs) {
+        Lookup lookup = lookup(key, indexVersion, ttlMs);
+        metrics.incrementTurnPromptCache(lookup.outcome());
+        return lookup.prompt();
+    }
+
+    // prefetch가 이미 만든 값이 있는지 볼 때 쓴다. 지표에는 남기지 않는다.
+    FeedbackUseCase.PrefetchedTurnPrompt peek(Key key, long indexVersion, long ttlMs) {
+        return lookup(key, indexVersion, ttlMs).prompt();
+    }
+
+    // 같은 질문을 여러 세션이 동시에 prefetch하면 둘 다 만들 수 있다. 마지막 값이 남을 뿐 결과는 같다.
+    void put(Key key, FeedbackUseCase.PrefetchedTurnPrompt prompt, long indexVersion, int maxEntries) {
+        entries.put(key, new Entry(prompt, indexVersion, nowMillisSupplier.getAsLong()));
+        if (entries.size() > maxEntries) {
+            evict(indexVersion, maxEntries);
+        }
+    }
+
+    private Lookup lookup(Key key, long indexVersion, long ttlMs) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return new Lookup(MISS, null);
+        }
+        if (!entry.isFresh(indexVersion, nowMillisSupplier.getAsLong(), ttlMs)) {
+            entries.remove(key, entry);
+            return new Lookup(STALE, null);
+        }
+        return new Lookup(HIT, entry.prompt());
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    private void evict(long indexVersion, int maxEntries) {
+        entries.values().removeIf(entry -> entry.indexVersion() != indexVersion);
+        while (entries.size() > maxEntries) {
+            entries.entrySet().stream()
+                    .min(Comparator.comparingLong(candidate -> candidate.getValue().createdAtEpochMs()))
+                    .ifPresent(oldest -> entries.remove(oldest.getKey(), oldest.getValue()));
+        }
+    }
+
+    record Key(String questionId, String questionText, String questionGroup, String language) {
+    }
+
+    private record Lookup(String outcome, FeedbackUseCase.PrefetchedTurnPrompt prompt) {
+    }
+
+    private record Entry(FeedbackUseCase.PrefetchedTurnPrompt prompt, long indexVersion, long createdAtEpochMs) {
+        private boolean isFresh(long currentIndexVersion, long nowEpochMs, long ttlMs) {
+            return indexVersion == currentIndexVersion && nowEpochMs - createdAtEpochMs < ttlMs;
+        }
+    }
+}
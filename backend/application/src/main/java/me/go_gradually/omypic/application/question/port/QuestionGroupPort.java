@@ -6,6 +6,7 @@ import me.go_gradually.omypic.domain.question.QuestionGroupId;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 public interface QuestionGroupPort {
     List<QuestionGroupAggregate> findAll();
@@ -19,4 +20,26 @@ public interface QuestionGroupPort {
     void deleteById(QuestionGroupId id);
 
     void deleteAll();
+
+    // 그룹마다 태그 집합만. 저장소가 태그 필드만 읽을 수 있으면 재정의한다.
+    default List<Set<String>> findAllTags() {
+        return findAll().stream().map(QuestionGroupAggregate::getTags).toList();
+    }
+
+    // 태그 중 하나라도 달려 있고 질문이 하나 이상인 그룹의 id.
+    default List<QuestionGroupId> findIdsWithQuestionsByAnyTag(Set<String> tags) {
+        return findAll().stream()
+                .filter(group -> group.hasAnyTag(tags))
+                .filter(QuestionGroupAggregate::hasQuestions)
+                .map(QuestionGroupAggregate::getId)
+                .toList();
+    }
+
+    default List<QuestionGroupAggregate> saveAll(Collection<QuestionGroupAggregate> groups) {
+        return groups.stream().map(this::save).toList();
+    }
+
+    default void deleteAllById(Collection<QuestionGroupId> ids) {
+        ids.forEach(this::deleteById);
+    }
 }
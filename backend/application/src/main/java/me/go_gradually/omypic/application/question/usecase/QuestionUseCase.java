@@ -17,6 +17,7 @@ import java.time.Instant;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 public class QuestionUseCase {
@@ -70,8 +71,8 @@ public class QuestionUseCase {
 
     public List<QuestionTagStat> listTagStats() {
         Map<String, Long> counts = new LinkedHashMap<>();
-        for (QuestionGroupAggregate group : repository.findAll()) {
-            for (String tag : group.getTags()) {
+        for (Set<String> tags : repository.findAllTags()) {
+            for (String tag : tags) {
                 counts.merge(tag, 1L, Long::sum);
             }
         }
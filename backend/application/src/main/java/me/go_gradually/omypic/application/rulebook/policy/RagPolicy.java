@@ -2,4 +2,16 @@ package me.go_gradually.omypic.application.rulebook.policy;
 
 public interface RagPolicy {
     int getMaxContextChunks();
+
+    default int getChunkTargetChars() {
+        return 800;
+    }
+
+    default int getChunkOverlapChars() {
+        return 120;
+    }
+
+    default long getEnabledRulebookCacheTtlMs() {
+        return 5000L;
+    }
 }
@@ -12,4 +12,9 @@ public interface EmbeddingPort {
     default String modelVersion() {
         return "unknown";
     }
+
+    // 모델을 백그라운드에서 올리는 동안에는 false. 그사이 embed는 임시 대체 벡터를 돌려주고 provider/modelVersion도 그쪽을 가리킨다.
+    default boolean isReady() {
+        return true;
+    }
 }
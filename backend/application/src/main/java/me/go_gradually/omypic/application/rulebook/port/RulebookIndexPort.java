@@ -1,5 +1,6 @@
 package me.go_gradually.omypic.application.rulebook.port;
 
+import me.go_gradually.omypic.domain.rulebook.RulebookChunk;
 import me.go_gradually.omypic.domain.rulebook.RulebookContext;
 import me.go_gradually.omypic.domain.rulebook.RulebookId;
 
@@ -8,9 +9,14 @@ import java.util.List;
 import java.util.Set;
 
 public interface RulebookIndexPort {
-    void indexRulebookChunks(RulebookId rulebookId, String filename, List<String> chunks) throws IOException;
+    void indexRulebookChunks(RulebookId rulebookId, String filename, List<RulebookChunk> chunks) throws IOException;
 
     List<RulebookContext> search(String query, int topK, Set<RulebookId> enabledRulebookIds) throws IOException;
 
     void reset() throws IOException;
+
+    // 색인 구조가 바뀌어 기존 색인에 쓸 수 없으면 비우고 true를 돌려준다. 호출한 쪽이 저장된 룰북으로 다시 채운다.
+    default boolean resetIfOutdated() throws IOException {
+        return false;
+    }
 }
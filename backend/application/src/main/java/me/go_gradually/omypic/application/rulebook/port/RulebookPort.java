@@ -3,6 +3,7 @@ package me.go_gradually.omypic.application.rulebook.port;
 import me.go_gradually.omypic.domain.rulebook.Rulebook;
 import me.go_gradually.omypic.domain.rulebook.RulebookId;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -20,4 +21,17 @@ public interface RulebookPort {
     void deleteById(RulebookId id);
 
     void deleteAll();
+
+    // 켜진 룰북만. 저장소가 enabled로 걸러 읽을 수 있으면 재정의한다.
+    default List<Rulebook> findAllEnabled() {
+        return findAll().stream().filter(Rulebook::isEnabled).toList();
+    }
+
+    default List<Rulebook> saveAll(Collection<Rulebook> rulebooks) {
+        return rulebooks.stream().map(this::save).toList();
+    }
+
+    default void deleteAllById(Collection<RulebookId> ids) {
+        ids.forEach(this::deleteById);
+    }
 }
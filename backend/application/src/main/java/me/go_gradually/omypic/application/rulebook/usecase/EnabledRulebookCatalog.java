@@ -0,0 +1,70 @@
+package me.go_gradually.omypic.application.rulebook.usecase;
+
+import me.go_gradually.omypic.application.rulebook.port.RulebookPort;
+import me.go_gradually.omypic.domain.rulebook.Rulebook;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * 켜진 룰북 스냅샷을 들고 있다가 룰북이 바뀔 때만 다시 만들어 volatile 필드로 바꿔 끼운다.
+ * 턴마다 도는 검색은 {@link #current()}와 {@link #version()}만 읽으므로 저장소를 조회하지 않는다.
+ * 다른 인스턴스에서 바꾼 룰북은 백그라운드 스케줄러가 {@link #reloadIfChanged()}로 주기적으로 따라잡는다.
+ * 버전은 변경마다 하나씩 올라가며, 검색 결과를 캐시한 쪽이 무효화 기준으로 쓴다.
+ */
+public final class EnabledRulebookCatalog {
+    private static final Logger log = Logger.getLogger(EnabledRulebookCatalog.class.getName());
+    private final RulebookPort repository;
+    private final AtomicLong version = new AtomicLong();
+    private volatile EnabledRulebookSnapshot snapshot;
+
+    public EnabledRulebookCatalog(RulebookPort repository) {
+        this.repository = repository;
+    }
+
+    public EnabledRulebookSnapshot current() {
+        EnabledRulebookSnapshot current = snapshot;
+        return current != null ? current : load();
+    }
+
+    // 업로드·토글·삭제 직후 호출한다. 저장이 끝난 뒤 다시 읽으므로 새 상태가 바로 보인다.
+    public synchronized void refresh() {
+        snapshot = EnabledRulebookSnapshot.of(version.incrementAndGet(), repository.findAllEnabled());
+    }
+
+    // import처럼 저장소를 통째로 바꾼 경우. 실패해도 import 결과를 가리지 않고 다음 주기 재조회에 맡긴다.
+    public void invalidate() {
+        try {
+            refresh();
+        } catch (RuntimeException e) {
+            log.log(Level.WARNING, "Failed to reload enabled rulebooks after import", e);
+        }
+    }
+
+    // 스냅샷에 묶인 버전을 돌려줘, 캐시 키의 버전과 검색 범위가 항상 같은 스냅샷에서 나오게 한다.
+    public long version() {
+        return current().version();
+    }
+
+    // 스케줄러가 호출한다. 다른 인스턴스가 바꿔 내용이 달라졌을 때만 새 버전으로 바꿔 끼운다.
+    public synchronized void reloadIfChanged() {
+        EnabledRulebookSnapshot previous = snapshot;
+        List<Rulebook> rulebooks = repository.findAllEnabled();
+        EnabledRulebookSnapshot loaded = EnabledRulebookSnapshot.of(version.get(), rulebooks);
+        if (previous == null) {
+            snapshot = loaded;
+        } else if (!previous.sameRulebooks(loaded)) {
+            snapshot = EnabledRulebookSnapshot.of(version.incrementAndGet(), rulebooks);
+        }
+    }
+
+    // 스케줄러가 첫 주기를 돌기 전에 들어온 요청만 여기로 온다. 동시에 들어와도 저장소는 한 번만 읽는다.
+    private synchronized EnabledRulebookSnapshot load() {
+        if (snapshot == null) {
+            reloadIfChanged();
+        }
+        return snapshot;
+    }
+}
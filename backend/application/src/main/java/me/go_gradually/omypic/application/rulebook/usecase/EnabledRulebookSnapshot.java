@@ -0,0 +1,91 @@
+package me.go_gradually.omypic.application.rulebook.usecase;
+
+import me.go_gradually.omypic.domain.question.QuestionGroup;
+import me.go_gradually.omypic.domain.rulebook.Rulebook;
+import me.go_gradually.omypic.domain.rulebook.RulebookId;
+import me.go_gradually.omypic.domain.rulebook.RulebookScope;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 켜져 있는 룰북 id를 범위(MAIN)와 질문 그룹(QUESTION)별로 미리 나눠 둔 불변 스냅샷.
+ * 턴마다 같은 집합을 그대로 색인 검색 필터로 넘기므로 한 번 만든 뒤에는 바꾸지 않는다.
+ */
+public final class EnabledRulebookSnapshot {
+    private final long version;
+    private final Set<RulebookId> enabledIds;
+    private final Set<RulebookId> mainIds;
+    private final Map<QuestionGroup, Set<RulebookId>> questionIds;
+
+    private EnabledRulebookSnapshot(long version,
+                                    Set<RulebookId> enabledIds,
+                                    Set<RulebookId> mainIds,
+                                    Map<QuestionGroup, Set<RulebookId>> questionIds) {
+        this.version = version;
+        this.enabledIds = enabledIds;
+        this.mainIds = mainIds;
+        this.questionIds = questionIds;
+    }
+
+    public static EnabledRulebookSnapshot of(long version, List<Rulebook> rulebooks) {
+        Set<RulebookId> enabled = new HashSet<>();
+        Set<RulebookId> main = new HashSet<>();
+        Map<QuestionGroup, Set<RulebookId>> byGroup = new HashMap<>();
+        for (Rulebook rulebook : rulebooks) {
+            if (rulebook.isEnabled()) {
+                enabled.add(rulebook.getId());
+                partition(rulebook, main, byGroup);
+            }
+        }
+        return new EnabledRulebookSnapshot(version, Set.copyOf(enabled), Set.copyOf(main), copyOf(byGroup));
+    }
+
+    // 질문 그룹이 없는 QUESTION 룰북은 어느 턴에도 고르지 않는다(기존 필터와 같다).
+    private static void partition(Rulebook rulebook, Set<RulebookId> main, Map<QuestionGroup, Set<RulebookId>> byGroup) {
+        if (rulebook.getScope() == RulebookScope.MAIN) {
+            main.add(rulebook.getId());
+        } else if (rulebook.getScope() == RulebookScope.QUESTION && rulebook.getQuestionGroup() != null) {
+            byGroup.computeIfAbsent(rulebook.getQuestionGroup(), group -> new HashSet<>()).add(rulebook.getId());
+        }
+    }
+
+    private static Map<QuestionGroup, Set<RulebookId>> copyOf(Map<QuestionGroup, Set<RulebookId>> byGroup) {
+        Map<QuestionGroup, Set<RulebookId>> copy = new HashMap<>();
+        byGroup.forEach((group, ids) -> copy.put(group, Set.copyOf(ids)));
+        return Map.copyOf(copy);
+    }
+
+    public long version() {
+        return version;
+    }
+
+    public boolean isEmpty() {
+        return enabledIds.isEmpty();
+    }
+
+    public Set<RulebookId> enabledIds() {
+        return enabledIds;
+    }
+
+    public Set<RulebookId> mainIds() {
+        return mainIds;
+    }
+
+    // 버전과 상관없이 같은 룰북이 같은 범위·그룹으로 켜져 있는지 본다.
+    boolean sameRulebooks(EnabledRulebookSnapshot other) {
+        return enabledIds.equals(other.enabledIds)
+                && mainIds.equals(other.mainIds)
+                && questionIds.equals(other.questionIds);
+    }
+
+    public Set<RulebookId> questionIds(QuestionGroup questionGroup) {
+        if (questionGroup == null) {
+            return Set.of();
+        }
+        return questionIds.getOrDefault(questionGroup, Set.of());
+    }
+}
@@ -0,0 +1,54 @@
+package me.go_gradually.omypic.application.rulebook.usecase;
+
+import me.go_gradually.omypic.application.rulebook.policy.RagPolicy;
+import me.go_gradually.omypic.application.rulebook.port.RulebookFileStore;
+import me.go_gradually.omypic.domain.rulebook.MarkdownChunker;
+import me.go_gradually.omypic.domain.rulebook.RulebookChunk;
+import me.go_gradually.omypic.domain.rulebook.RulebookId;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 룰북 원본을 나눈 조각 목록을 (룰북 id, 저장 경로) 기준으로 최근 몇 개만 들고 있는다.
+ * 파일 저장소가 내용 해시로 경로를 정하므로 경로가 곧 내용 버전이고, 내용이 바뀌면 키도 바뀌어 따로 무효화하지 않는다.
+ * 업로드 직후 색인과 같은 데이터를 다시 가져오는 import가 파일 읽기·분할을 반복하지 않게 한다.
+ */
+public final class RulebookChunkCache {
+    private static final int MAX_ENTRIES = 32;
+
+    private final RulebookFileStore fileStore;
+    private final MarkdownChunker chunker;
+    private final Map<Key, List<RulebookChunk>> entries = Collections.synchronizedMap(new LinkedHashMap<>(MAX_ENTRIES, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, List<RulebookChunk>> eldest) {
+            return size() > MAX_ENTRIES;
+        }
+    });
+
+    // ragPolicy가 없으면 기본 조각 크기를 쓴다.
+    public RulebookChunkCache(RulebookFileStore fileStore, RagPolicy ragPolicy) {
+        this.fileStore = fileStore;
+        this.chunker = ragPolicy == null
+                ? MarkdownChunker.withDefaults()
+                : MarkdownChunker.of(ragPolicy.getChunkTargetChars(), ragPolicy.getChunkOverlapChars());
+    }
+
+    // 같은 키를 동시에 처음 읽으면 두 번 나눌 수 있지만 결과가 같아 잠그지 않는다.
+    public List<RulebookChunk> chunksOf(RulebookId rulebookId, String path) throws IOException {
+        Key key = new Key(rulebookId, path);
+        List<RulebookChunk> cached = entries.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        List<RulebookChunk> chunks = List.copyOf(chunker.split(fileStore.readText(path)));
+        entries.put(key, chunks);
+        return chunks;
+    }
+
+    private record Key(RulebookId rulebookId, String path) {
+    }
+}
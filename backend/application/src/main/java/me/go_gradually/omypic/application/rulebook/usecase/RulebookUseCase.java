@@ -8,10 +8,10 @@ import me.go_gradually.omypic.application.rulebook.port.RulebookPort;
 import me.go_gradually.omypic.application.shared.port.MetricsPort;
 import me.go_gradually.omypic.domain.question.QuestionGroup;
 import me.go_gradually.omypic.domain.rulebook.Rulebook;
+import me.go_gradually.omypic.domain.rulebook.RulebookChunk;
 import me.go_gradually.omypic.domain.rulebook.RulebookContext;
 import me.go_gradually.omypic.domain.rulebook.RulebookId;
 import me.go_gradually.omypic.domain.rulebook.RulebookScope;
-import me.go_gradually.omypic.domain.shared.util.TextUtils;
 
 import java.io.IOException;
 import java.time.Duration;
@@ -19,32 +19,59 @@ import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.logging.Logger;
 
 public class RulebookUseCase {
+    private static final Logger log = Logger.getLogger(RulebookUseCase.class.getName());
     private final RulebookPort repository;
     private final RulebookIndexPort indexPort;
     private final RulebookFileStore fileStore;
     private final RagPolicy ragPolicy;
     private final MetricsPort metrics;
+    private final RulebookChunkCache chunkCache;
+    private final EnabledRulebookCatalog enabledRulebooks;
 
     public RulebookUseCase(RulebookPort repository,
                            RulebookIndexPort indexPort,
                            RulebookFileStore fileStore,
                            RagPolicy ragPolicy,
                            MetricsPort metrics) {
+        this(repository, indexPort, fileStore, ragPolicy, metrics, new RulebookChunkCache(fileStore, ragPolicy));
+    }
+
+    public RulebookUseCase(RulebookPort repository,
+                           RulebookIndexPort indexPort,
+                           RulebookFileStore fileStore,
+                           RagPolicy ragPolicy,
+                           MetricsPort metrics,
+                           RulebookChunkCache chunkCache) {
+        this(repository, indexPort, fileStore, ragPolicy, metrics, chunkCache, new EnabledRulebookCatalog(repository));
+    }
+
+    // import(DataTransferUseCase)와 조각 캐시·켜진 룰북 목록을 같이 쓰려면 같은 인스턴스를 넘긴다.
+    public RulebookUseCase(RulebookPort repository,
+                           RulebookIndexPort indexPort,
+                           RulebookFileStore fileStore,
+                           RagPolicy ragPolicy,
+                           MetricsPort metrics,
+                           RulebookChunkCache chunkCache,
+                           EnabledRulebookCatalog enabledRulebooks) {
         this.repository = repository;
         this.indexPort = indexPort;
         this.fileStore = fileStore;
         this.ragPolicy = ragPolicy;
         this.metrics = metrics;
+        this.chunkCache = chunkCache;
+        this.enabledRulebooks = enabledRulebooks;
     }
 
     public Rulebook upload(String filename, byte[] bytes, RulebookScope scope, String questionGroup) throws IOException {
         Instant start = Instant.now();
         validateMarkdownFilename(filename);
         Rulebook saved = storeRulebook(filename, bytes, scope, questionGroup);
+        rebuildIndexIfOutdated();
         indexRulebook(saved, filename);
+        enabledRulebooks.refresh();
         metrics.recordRulebookUploadLatency(Duration.between(start, Instant.now()));
         return saved;
     }
@@ -65,11 +92,26 @@ public class RulebookUseCase {
     }
 
     private void indexRulebook(Rulebook saved, String filename) throws IOException {
-        String text = fileStore.readText(saved.getPath());
-        List<String> chunks = TextUtils.splitChunks(text, 800);
+        List<RulebookChunk> chunks = chunkCache.chunksOf(saved.getId(), saved.getPath());
         indexPort.indexRulebookChunks(saved.getId(), filename, chunks);
     }
 
+    // 색인 구조가 바뀌어 어댑터가 색인을 비웠으면 저장된 룰북 파일로 다시 채운다. 기동 때와 업로드 직전에 불린다.
+    // 파일을 읽지 못한 룰북은 건너뛰어 나머지 룰북 검색까지 막지 않는다.
+    public boolean rebuildIndexIfOutdated() throws IOException {
+        if (!indexPort.resetIfOutdated()) {
+            return false;
+        }
+        for (Rulebook rulebook : repository.findAll()) {
+            try {
+                indexRulebook(rulebook, rulebook.getFilename());
+            } catch (IOException e) {
+                log.warning(() -> "Rulebook index rebuild skipped id=" + rulebook.getId().value() + " reason=" + e.getMessage());
+            }
+        }
+        return true;
+    }
+
     public List<Rulebook> list() {
         return repository.findAll();
     }
@@ -77,62 +119,46 @@ public class RulebookUseCase {
     public Rulebook toggle(String id, boolean enabled) {
         Rulebook doc = repository.findById(RulebookId.of(id)).orElseThrow();
         doc.toggle(enabled, Instant.now());
-        return repository.save(doc);
+        Rulebook saved = repository.save(doc);
+        enabledRulebooks.refresh();
+        return saved;
     }
 
     public void delete(String id) {
         repository.deleteById(RulebookId.of(id));
+        enabledRulebooks.refresh();
+    }
+
+    // 룰북 업로드·토글·삭제·import마다 올라간다. 검색 결과를 캐시한 쪽이 무효화 기준으로 쓴다.
+    public long indexVersion() {
+        return enabledRulebooks.version();
     }
 
     public List<RulebookContext> searchContexts(String query) {
-        Set<RulebookId> enabledIds = repository.findAll().stream()
-                .filter(Rulebook::isEnabled)
-                .map(Rulebook::getId)
-                .collect(Collectors.toSet());
-        return searchByIds(query, ragPolicy.getMaxContextChunks(), enabledIds);
+        return searchByIds(query, ragPolicy.getMaxContextChunks(), enabledRulebooks.current().enabledIds());
     }
 
     public List<RulebookContext> searchContextsForTurn(QuestionGroup questionGroup, String query, int maxDocuments) {
         if (maxDocuments <= 0) {
             return List.of();
         }
-        List<Rulebook> enabledRulebooks = enabledRulebooks();
-        if (enabledRulebooks.isEmpty()) {
+        EnabledRulebookSnapshot snapshot = enabledRulebooks.current();
+        if (snapshot.isEmpty()) {
             return List.of();
         }
-        Set<RulebookId> mainIds = mainRulebookIds(enabledRulebooks);
-        Set<RulebookId> questionIds = questionRulebookIds(enabledRulebooks, questionGroup);
-        return selectContextsForTurn(query, maxDocuments, mainIds, questionIds);
-    }
-
-    private List<Rulebook> enabledRulebooks() {
-        return repository.findAll().stream().filter(Rulebook::isEnabled).toList();
-    }
-
-    private Set<RulebookId> mainRulebookIds(List<Rulebook> enabledRulebooks) {
-        return enabledRulebooks.stream()
-                .filter(rulebook -> rulebook.getScope() == RulebookScope.MAIN)
-                .map(Rulebook::getId)
-                .collect(Collectors.toSet());
-    }
-
-    private Set<RulebookId> questionRulebookIds(List<Rulebook> enabledRulebooks, QuestionGroup questionGroup) {
-        return enabledRulebooks.stream()
-                .filter(rulebook -> rulebook.getScope() == RulebookScope.QUESTION)
-                .filter(rulebook -> questionGroup != null && questionGroup.equals(rulebook.getQuestionGroup()))
-                .map(Rulebook::getId)
-                .collect(Collectors.toSet());
+        return selectContextsForTurn(query, maxDocuments, snapshot.mainIds(), snapshot.questionIds(questionGroup));
     }
 
     private List<RulebookContext> selectContextsForTurn(String query,
                                                         int maxDocuments,
                                                         Set<RulebookId> mainIds,
                                                         Set<RulebookId> questionIds) {
+        List<RulebookContext> mainHits = searchByIds(query, maxDocuments, mainIds);
+        List<RulebookContext> questionHits = searchByIds(query, maxDocuments, questionIds);
         List<RulebookContext> selected = new ArrayList<>();
-        addUnique(selected, searchByIds(query, 1, mainIds), maxDocuments);
-        addUnique(selected, searchByIds(query, maxDocuments - selected.size(), questionIds), maxDocuments);
-        addUnique(selected, searchByIds(query, maxDocuments, mainIds), maxDocuments);
-        addUnique(selected, searchByIds(query, maxDocuments, questionIds), maxDocuments);
+        addUnique(selected, mainHits.subList(0, Math.min(1, mainHits.size())), maxDocuments);
+        addUnique(selected, questionHits, maxDocuments);
+        addUnique(selected, mainHits, maxDocuments);
         return selected;
     }
 
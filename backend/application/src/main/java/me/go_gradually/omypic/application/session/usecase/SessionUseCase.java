@@ -5,6 +5,7 @@ import me.go_gradually.omypic.application.session.model.InvalidGroupTagsExceptio
 import me.go_gradually.omypic.application.session.model.ModeUpdateCommand;
 import me.go_gradually.omypic.application.session.port.SessionStorePort;
 import me.go_gradually.omypic.domain.question.QuestionGroupAggregate;
+import me.go_gradually.omypic.domain.question.QuestionGroupId;
 import me.go_gradually.omypic.domain.session.SessionId;
 import me.go_gradually.omypic.domain.session.SessionState;
 
@@ -31,9 +32,8 @@ public class SessionUseCase {
         SessionState state = getOrCreate(command.getSessionId());
         state.applyModeUpdate(command.getMode(), command.getContinuousBatchSize());
         Set<String> selectedTags = normalizedSelectedTags(command);
-        List<QuestionGroupAggregate> allGroups = questionGroupPort.findAll();
-        validateSelectedTags(selectedTags, allGroups);
-        List<String> candidateGroupIds = shuffledCandidateGroupIds(allGroups, selectedTags);
+        validateSelectedTags(selectedTags, availableTags());
+        List<String> candidateGroupIds = shuffledCandidateGroupIds(selectedTags);
         state.configureQuestionGroups(selectedTags, candidateGroupIds);
         return state;
     }
@@ -46,16 +46,16 @@ public class SessionUseCase {
         return selectedTags;
     }
 
-    private void validateSelectedTags(Set<String> selectedTags, List<QuestionGroupAggregate> allGroups) {
-        Set<String> availableTags = availableTags(allGroups);
+    private void validateSelectedTags(Set<String> selectedTags, Set<String> availableTags) {
         List<String> invalidTags = invalidTags(selectedTags, availableTags);
         if (!invalidTags.isEmpty()) {
             throw new InvalidGroupTagsException("Some selectedGroupTags are invalid", invalidTags);
         }
     }
 
-    private Set<String> availableTags(List<QuestionGroupAggregate> allGroups) {
-        return allGroups.stream().flatMap(group -> group.getTags().stream()).collect(Collectors.toSet());
+    // 그룹 문서 전체가 아니라 태그만 읽는다.
+    private Set<String> availableTags() {
+        return questionGroupPort.findAllTags().stream().flatMap(Set::stream).collect(Collectors.toSet());
     }
 
     private List<String> invalidTags(Set<String> selectedTags, Set<String> availableTags) {
@@ -65,11 +65,9 @@ public class SessionUseCase {
                 .toList();
     }
 
-    private List<String> shuffledCandidateGroupIds(List<QuestionGroupAggregate> allGroups, Set<String> selectedTags) {
-        List<String> candidateGroupIds = allGroups.stream()
-                .filter(group -> group.hasAnyTag(selectedTags))
-                .filter(QuestionGroupAggregate::hasQuestions)
-                .map(group -> group.getId().value())
+    private List<String> shuffledCandidateGroupIds(Set<String> selectedTags) {
+        List<String> candidateGroupIds = questionGroupPort.findIdsWithQuestionsByAnyTag(selectedTags).stream()
+                .map(QuestionGroupId::value)
                 .collect(Collectors.toCollection(ArrayList::new));
         Collections.shuffle(candidateGroupIds);
         return candidateGroupIds;
@@ -13,6 +13,12 @@ public interface MetricsPort {
 
     void recordVoiceTurnLatency(Duration duration);
 
+    void recordVoiceTurnSttLatency(Duration duration);
+
+    void recordSttUploadBytes(long bytes);
+
+    void recordVoiceEventDeliveryLag(Duration duration);
+
     void recordRulebookUploadLatency(Duration duration);
 
     void incrementSttRequest();
@@ -32,4 +38,10 @@ public interface MetricsPort {
     void incrementRecommendationRepairSuccess();
 
     void incrementRecommendationMinimalFallback();
+
+    void incrementConversationRebase(String reason);
+
+    void incrementVoiceEventDropped(String policy);
+
+    void incrementTurnPromptCache(String outcome);
 }
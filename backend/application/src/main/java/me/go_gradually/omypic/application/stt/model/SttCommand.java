@@ -2,6 +2,7 @@ package me.go_gradually.omypic.application.stt.model;
 
 public class SttCommand {
     private byte[] fileBytes;
+    private String fileName;
     private String model;
     private String apiKey;
     private boolean translate;
@@ -15,6 +16,14 @@ public class SttCommand {
         this.fileBytes = fileBytes;
     }
 
+    public String getFileName() {
+        return fileName;
+    }
+
+    public void setFileName(String fileName) {
+        this.fileName = fileName;
+    }
+
     public String getModel() {
         return model;
     }
@@ -52,8 +52,8 @@ public class SttUseCase {
     }
 
     private String transcribeOnce(SttCommand command, Instant start) throws Exception {
-        String text = sttGateway.transcribe(command.getFileBytes(), command.getModel(),
-                command.getApiKey(), command.isTranslate(), sttPolicy.getVadSettings());
+        String text = sttGateway.transcribe(command.getFileBytes(), command.getFileName(),
+                command.getModel(), command.getApiKey(), command.isTranslate(), sttPolicy.getVadSettings());
         metrics.recordSttLatency(Duration.between(start, Instant.now()));
         return text;
     }
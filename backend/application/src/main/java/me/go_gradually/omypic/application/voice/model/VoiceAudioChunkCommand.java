@@ -3,8 +3,11 @@ package me.go_gradually.omypic.application.voice.model;
 public class VoiceAudioChunkCommand {
     private String voiceSessionId;
     private String pcm16Base64;
+    private byte[] pcm16;
+    private int pcm16Length;
     private Integer sampleRate;
     private Long sequence;
+    private Boolean endOfTurn;
 
     public String getVoiceSessionId() {
         return voiceSessionId;
@@ -22,6 +25,23 @@ public class VoiceAudioChunkCommand {
         this.pcm16Base64 = pcm16Base64;
     }
 
+    public byte[] getPcm16() {
+        return pcm16;
+    }
+
+    public int getPcm16Length() {
+        return pcm16Length;
+    }
+
+    /**
+     * 이미 디코딩된 PCM16을 넘긴다. 앞 length바이트만 읽으며, 배열은 appendAudio 호출 중에만 유효하다.
+     * 지정하면 pcm16Base64보다 우선한다.
+     */
+    public void setPcm16(byte[] pcm16, int length) {
+        this.pcm16 = pcm16;
+        this.pcm16Length = pcm16 == null ? 0 : Math.max(0, Math.min(length, pcm16.length));
+    }
+
     public Integer getSampleRate() {
         return sampleRate;
     }
@@ -37,4 +57,12 @@ public class VoiceAudioChunkCommand {
     public void setSequence(Long sequence) {
         this.sequence = sequence;
     }
+
+    public Boolean getEndOfTurn() {
+        return endOfTurn;
+    }
+
+    public void setEndOfTurn(Boolean endOfTurn) {
+        this.endOfTurn = endOfTurn;
+    }
 }
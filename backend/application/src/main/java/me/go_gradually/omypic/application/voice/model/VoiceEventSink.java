@@ -3,4 +3,17 @@ package me.go_gradually.omypic.application.voice.model;
 @FunctionalInterface
 public interface VoiceEventSink {
     boolean send(String event, Object payload);
+
+    /**
+     * json은 payload를 이미 직렬화한 UTF-8 바이트다. 그대로 쓸 수 있는 싱크는 재정의해 다시 직렬화하지 않는다.
+     */
+    default boolean sendSerialized(String event, Object payload, byte[] json) {
+        return send(event, payload);
+    }
+
+    /**
+     * 송신 대기열이 넘쳐 서버가 이 싱크를 끊을 때 한 번 불린다. 클라이언트가 재연결하도록 연결을 닫는다.
+     */
+    default void disconnect() {
+    }
 }
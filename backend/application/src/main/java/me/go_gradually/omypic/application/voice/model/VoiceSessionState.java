@@ -0,0 +1,40 @@
+package me.go_gradually.omypic.application.voice.model;
+
+import java.util.List;
+
+/**
+ * 프로세스 밖에 보관하는 음성 세션 상태. 재시작이나 다른 인스턴스에서도 recover와 이벤트 재전송에 쓸 수 있는 값만 담는다.
+ * 오디오 버퍼, 진행 중인 turn, 피드백 prefetch처럼 그 프로세스 안에서만 의미가 있는 상태는 포함하지 않는다.
+ */
+public record VoiceSessionState(String voiceSessionId,
+                                String sessionId,
+                                boolean stopped,
+                                String stopReason,
+                                long stoppedAtEpochMs,
+                                long currentTurnId,
+                                Question currentQuestion,
+                                Long lastAcceptedChunkSequence,
+                                long latestEventId,
+                                List<Event> events) {
+    public VoiceSessionState {
+        events = events == null ? List.of() : List.copyOf(events);
+    }
+
+    public long oldestEventId() {
+        return events.isEmpty() ? 0L : events.get(0).eventId();
+    }
+
+    public VoiceSessionState withEvents(List<Event> events, long latestEventId) {
+        return new VoiceSessionState(voiceSessionId, sessionId, stopped, stopReason, stoppedAtEpochMs,
+                currentTurnId, currentQuestion, lastAcceptedChunkSequence, latestEventId, events);
+    }
+
+    public record Question(String id, String text, String group, String groupId, String questionType) {
+    }
+
+    /**
+     * json은 SSE로 보낸 payload를 직렬화한 문자열 그대로다.
+     */
+    public record Event(long eventId, String event, String json) {
+    }
+}
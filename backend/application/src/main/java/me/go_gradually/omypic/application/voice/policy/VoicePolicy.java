@@ -1,5 +1,7 @@
 package me.go_gradually.omypic.application.voice.policy;
 
+import me.go_gradually.omypic.application.stt.model.VadSettings;
+
 public interface VoicePolicy {
     String voiceSttModel();
 
@@ -14,4 +16,19 @@ public interface VoicePolicy {
     long voiceRecoveryRetentionMs();
 
     int voiceStoppedContextMax();
+
+    long voiceEventReplayMaxBytes();
+
+    int voiceSinkQueueCapacity();
+
+    String voiceSlowSinkPolicy();
+
+    String voiceSttAudioFormat();
+
+    VadSettings getVadSettings();
+
+    // VAD가 발화를 못 찾은 turn도 기본은 STT로 보낸다. 작게 말한 답변을 무음으로 오판해 버리지 않기 위해서다.
+    default boolean voiceSkipNoSpeechTurns() {
+        return false;
+    }
 }
@@ -0,0 +1,38 @@
+package me.go_gradually.omypic.application.voice.port;
+
+import me.go_gradually.omypic.application.voice.model.VoiceSessionState;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface VoiceSessionStateStore {
+    /**
+     * 이벤트 목록을 뺀 나머지 필드를 덮어쓴다. 저장된 이벤트는 그대로 둔다.
+     */
+    void save(VoiceSessionState state);
+
+    /**
+     * 이벤트를 뒤에 붙이고 가장 최근 maxEvents개만 남긴다. latestEventId도 함께 올린다.
+     */
+    void appendEvent(String voiceSessionId, VoiceSessionState.Event event, int maxEvents);
+
+    /**
+     * 여러 이벤트를 순서대로 붙이고 가장 최근 maxEvents개만 남긴다. 한 번의 쓰기로 묶을 수 있는 저장소는 재정의한다.
+     */
+    default void appendEvents(String voiceSessionId, List<VoiceSessionState.Event> events, int maxEvents) {
+        for (VoiceSessionState.Event event : events) {
+            appendEvent(voiceSessionId, event, maxEvents);
+        }
+    }
+
+    /**
+     * 저장한 이벤트를 다른 인스턴스가 읽어 재전송하는지 여부. 아니라면 프로세스 안 replay 로그만으로 충분하므로 이벤트를 넘기지 않는다.
+     */
+    default boolean sharesEventsAcrossInstances() {
+        return true;
+    }
+
+    Optional<VoiceSessionState> find(String voiceSessionId);
+
+    void delete(String voiceSessionId);
+}
@@ -0,0 +1,302 @@
+package me.go_gradually.omypic.application.voice.usecase;
+
+import java.util.Arrays;
+
+/**
+ * PCM16(mono)을 FLAC으로 무손실 압축한다.
+ * 블록마다 고정 예측기(0~4차) 중 잔차가 가장 작은 것을 골라 Rice 부호화하고, 이득이 없으면 원본(verbatim)으로 싣는다.
+ * LPC·파티션 분할·MD5 서명은 생략한 최소 구현이며, 결과는 표준 FLAC 디코더로 읽을 수 있다.
+ */
+final class FlacAudioEncoder implements SttAudioEncoder {
+    private static final int BLOCK_SIZE = 4096;
+    private static final int BITS_PER_SAMPLE = 16;
+    private static final int MAX_FIXED_ORDER = 4;
+    private static final int MAX_RICE_PARAMETER = 14;
+    private static final int[] CRC8_TABLE = crcTable(0x07, 8);
+    private static final int[] CRC16_TABLE = crcTable(0x8005, 16);
+
+    @Override
+    public EncodedAudio encode(SegmentedPcmBuffer pcm16, int sampleRate) {
+        int total = pcm16.sampleCount();
+        BitWriter out = new BitWriter(pcm16.length() / 2 + 64);
+        writeStreamHeader(out, sampleRate > 0 ? sampleRate : Pcm16Audio.DEFAULT_SAMPLE_RATE, total);
+        int[] block = new int[BLOCK_SIZE];
+        int[] residual = new int[BLOCK_SIZE];
+        for (int start = 0, frame = 0; start < total; start += BLOCK_SIZE, frame += 1) {
+            int count = readBlock(pcm16, start, Math.min(BLOCK_SIZE, total - start), block);
+            writeFrame(out, block, 0, count, frame, residual);
+        }
+        return new EncodedAudio(out.toByteArray(), "audio.flac");
+    }
+
+    // 전체 샘플 배열을 만들지 않고 블록 하나 분량만 슬랩에서 읽어 온다.
+    private static int readBlock(SegmentedPcmBuffer pcm16, int start, int count, int[] block) {
+        for (int i = 0; i < count; i += 1) {
+            block[i] = pcm16.sample(start + i);
+        }
+        return count;
+    }
+
+    // "fLaC" 마커 + STREAMINFO 한 블록. 프레임 크기와 MD5는 0(미상)으로 둔다.
+    private static void writeStreamHeader(BitWriter out, int sampleRate, long totalSamples) {
+        out.writeBits(0x664C6143L, 32);
+        out.writeBits(0x80, 8);
+        out.writeBits(34, 24);
+        out.writeBits(BLOCK_SIZE, 16);
+        out.writeBits(BLOCK_SIZE, 16);
+        out.writeBits(0, 24);
+        out.writeBits(0, 24);
+        writeFormat(out, sampleRate, totalSamples);
+        out.writeZeros(128);
+    }
+
+    private static void writeFormat(BitWriter out, int sampleRate, long totalSamples) {
+        out.writeBits(sampleRate, 20);
+        out.writeBits(0, 3);
+        out.writeBits(BITS_PER_SAMPLE - 1, 5);
+        out.writeBits(totalSamples >>> 32, 4);
+        out.writeBits(totalSamples, 32);
+    }
+
+    private static void writeFrame(BitWriter out, int[] samples, int start, int count, int frame, int[] residual) {
+        int frameStart = out.length();
+        writeFrameHeader(out, count, frame);
+        out.writeBits(crc(CRC8_TABLE, 8, out.bytes(), frameStart, out.length()), 8);
+        writeSubframe(out, samples, start, count, residual);
+        out.alignToByte();
+        out.writeBits(crc(CRC16_TABLE, 16, out.bytes(), frameStart, out.length()), 16);
+    }
+
+    // 고정 블록 크기 전략. 샘플레이트·비트 수는 STREAMINFO를 따르고, 마지막 짧은 블록만 크기를 직접 적는다.
+    private static void writeFrameHeader(BitWriter out, int count, int frame) {
+        boolean fullBlock = count == BLOCK_SIZE;
+        out.writeBits(0x3FFE, 14);
+        out.writeBits(0, 2);
+        out.writeBits(fullBlock ? 0b1100 : 0b0111, 4);
+        out.writeBits(0, 8);
+        out.writeBits(0b1000, 4);
+        writeUtf8Number(out, frame);
+        if (!fullBlock) {
+            out.writeBits(count - 1, 16);
+        }
+    }
+
+    private static void writeUtf8Number(BitWriter out, int value) {
+        if (value < 0x80) {
+            out.writeBits(value, 8);
+            return;
+        }
+        int extra = value < 0x800 ? 1 : value < 0x10000 ? 2 : value < 0x200000 ? 3 : value < 0x4000000 ? 4 : 5;
+        out.writeBits(((0xFF << (7 - extra)) & 0xFF) | (value >>> (6 * extra)), 8);
+        for (int shift = 6 * (extra - 1); shift >= 0; shift -= 6) {
+            out.writeBits(0x80 | ((value >>> shift) & 0x3F), 8);
+        }
+    }
+
+    private static void writeSubframe(BitWriter out, int[] samples, int start, int count, int[] residual) {
+        if (isConstant(samples, start, count)) {
+            out.writeBits(0, 8);
+            out.writeBits(samples[start], BITS_PER_SAMPLE);
+            return;
+        }
+        int order = count > MAX_FIXED_ORDER ? bestFixedOrder(samples, start, count) : -1;
+        if (order < 0 || !writeFixedSubframe(out, samples, start, count, order, residual)) {
+            writeVerbatimSubframe(out, samples, start, count);
+        }
+    }
+
+    private static boolean isConstant(int[] samples, int start, int count) {
+        for (int i = start + 1; i < start + count; i += 1) {
+            if (samples[i] != samples[start]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // 차분을 누적해 0~4차 고정 예측기의 잔차 절댓값 합을 한 번에 구한다.
+    private static int bestFixedOrder(int[] s, int start, int count) {
+        long[] totals = new long[MAX_FIXED_ORDER + 1];
+        for (int i = start + MAX_FIXED_ORDER; i < start + count; i += 1) {
+            int e1 = s[i] - s[i - 1];
+            int e2 = e1 - (s[i - 1] - s[i - 2]);
+            int e3 = e2 - (s[i - 1] - 2 * s[i - 2] + s[i - 3]);
+            int e4 = e3 - (s[i - 1] - 3 * s[i - 2] + 3 * s[i - 3] - s[i - 4]);
+            accumulate(totals, Math.abs(s[i]), Math.abs(e1), Math.abs(e2), Math.abs(e3), Math.abs(e4));
+        }
+        return indexOfMin(totals);
+    }
+
+    private static void accumulate(long[] totals, int e0, int e1, int e2, int e3, int e4) {
+        totals[0] += e0;
+        totals[1] += e1;
+        totals[2] += e2;
+        totals[3] += e3;
+        totals[4] += e4;
+    }
+
+    private static int indexOfMin(long[] values) {
+        int best = 0;
+        for (int i = 1; i < values.length; i += 1) {
+            if (values[i] < values[best]) {
+                best = i;
+            }
+        }
+        return best;
+    }
+
+    private static boolean writeFixedSubframe(BitWriter out, int[] samples, int start, int count, int order, int[] residual) {
+        int residualCount = count - order;
+        computeResidual(samples, start, count, order, residual);
+        int parameter = riceParameter(residual, residualCount);
+        long bits = 18L + (long) order * BITS_PER_SAMPLE + riceBits(residual, residualCount, parameter);
+        if (bits >= 8L + (long) count * BITS_PER_SAMPLE) {
+            return false;
+        }
+        writeFixedHeader(out, samples, start, order);
+        writeResidual(out, residual, residualCount, parameter);
+        return true;
+    }
+
+    private static void writeFixedHeader(BitWriter out, int[] samples, int start, int order) {
+        out.writeBits(0b00010000 | (order << 1), 8);
+        for (int i = 0; i < order; i += 1) {
+            out.writeBits(samples[start + i], BITS_PER_SAMPLE);
+        }
+    }
+
+    private static void computeResidual(int[] s, int start, int count, int order, int[] residual) {
+        for (int i = start + order, j = 0; i < start + count; i += 1, j += 1) {
+            residual[j] = switch (order) {
+                case 0 -> s[i];
+                case 1 -> s[i] - s[i - 1];
+                case 2 -> s[i] - 2 * s[i - 1] + s[i - 2];
+                case 3 -> s[i] - 3 * s[i - 1] + 3 * s[i - 2] - s[i - 3];
+                default -> s[i] - 4 * s[i - 1] + 6 * s[i - 2] - 4 * s[i - 3] + s[i - 4];
+            };
+        }
+    }
+
+    // 부호 접기(zigzag) 후 평균 크기에 맞는 Rice 파라미터를 고른다.
+    private static int riceParameter(int[] residual, int count) {
+        long sum = 0L;
+        for (int i = 0; i < count; i += 1) {
+            sum += zigzag(residual[i]);
+        }
+        int parameter = 0;
+        while (parameter < MAX_RICE_PARAMETER && ((long) count << (parameter + 1)) < sum) {
+            parameter += 1;
+        }
+        return parameter;
+    }
+
+    private static long riceBits(int[] residual, int count, int parameter) {
+        long bits = (long) count * (parameter + 1);
+        for (int i = 0; i < count; i += 1) {
+            bits += zigzag(residual[i]) >>> parameter;
+        }
+        return bits;
+    }
+
+    // 잔차 부호화 방식 0(4비트 파라미터), 파티션 차수 0.
+    private static void writeResidual(BitWriter out, int[] residual, int count, int parameter) {
+        out.writeBits(0, 6);
+        out.writeBits(parameter, 4);
+        for (int i = 0; i < count; i += 1) {
+            int folded = zigzag(residual[i]);
+            out.writeZeros(folded >>> parameter);
+            out.writeBits(1, 1);
+            out.writeBits(folded, parameter);
+        }
+    }
+
+    private static void writeVerbatimSubframe(BitWriter out, int[] samples, int start, int count) {
+        out.writeBits(0b00000010, 8);
+        for (int i = start; i < start + count; i += 1) {
+            out.writeBits(samples[i], BITS_PER_SAMPLE);
+        }
+    }
+
+    private static int zigzag(int value) {
+        return (value << 1) ^ (value >> 31);
+    }
+
+    private static int crc(int[] table, int width, byte[] bytes, int from, int to) {
+        int crc = 0;
+        int topShift = width - 8;
+        int mask = (1 << width) - 1;
+        for (int i = from; i < to; i += 1) {
+            crc = ((crc << 8) ^ table[((crc >>> topShift) ^ bytes[i]) & 0xFF]) & mask;
+        }
+        return crc;
+    }
+
+    private static int[] crcTable(int polynomial, int width) {
+        int[] table = new int[256];
+        int topBit = 1 << (width - 1);
+        int mask = (1 << width) - 1;
+        for (int value = 0; value < 256; value += 1) {
+            int crc = value << (width - 8);
+            for (int bit = 0; bit < 8; bit += 1) {
+                crc = ((crc & topBit) != 0 ? (crc << 1) ^ polynomial : crc << 1) & mask;
+            }
+            table[value] = crc;
+        }
+        return table;
+    }
+
+    private static final class BitWriter {
+        private byte[] bytes;
+        private int length;
+        private long accumulator;
+        private int pendingBits;
+
+        private BitWriter(int initialCapacity) {
+            this.bytes = new byte[Math.max(64, initialCapacity)];
+        }
+
+        // count는 32 이하. 값의 하위 count비트만 MSB부터 쓴다.
+        private void writeBits(long value, int count) {
+            if (count == 0) {
+                return;
+            }
+            accumulator = (accumulator << count) | (value & ((1L << count) - 1));
+            pendingBits += count;
+            while (pendingBits >= 8) {
+                pendingBits -= 8;
+                put((byte) (accumulator >>> pendingBits));
+            }
+        }
+
+        private void writeZeros(int count) {
+            for (int remaining = count; remaining > 0; remaining -= 32) {
+                writeBits(0, Math.min(32, remaining));
+            }
+        }
+
+        private void alignToByte() {
+            if (pendingBits > 0) {
+                writeBits(0, 8 - pendingBits);
+            }
+        }
+
+        private void put(byte value) {
+            if (length == bytes.length) {
+                bytes = Arrays.copyOf(bytes, bytes.length * 2);
+            }
+            bytes[length++] = value;
+        }
+
+        private int length() {
+            return length;
+        }
+
+        private byte[] bytes() {
+            return bytes;
+        }
+
+        private byte[] toByteArray() {
+            return Arrays.copyOf(bytes, length);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package me.go_gradually.omypic.application.voice.usecase;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 음성 세션에서 쓰는 PCM16(mono, little-endian) 변환 유틸리티.
+ * 청크 디코딩과 STT 업로드용 WAV 래핑을 담당한다.
+ * WAV는 헤더 44바이트를 먼저 쓰고 슬랩의 PCM을 바로 이어 모으므로, 업로드 본문 외의 중간 복사가 없다.
+ */
+final class Pcm16Audio {
+    static final int DEFAULT_SAMPLE_RATE = 16000;
+    private static final int WAV_HEADER_BYTES = 44;
+
+    private Pcm16Audio() {
+    }
+
+    static byte[] decodeBase64(String base64Pcm16) {
+        try {
+            return Base64.getDecoder().decode(base64Pcm16);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid base64 audio chunk", e);
+        }
+    }
+
+    static byte[] toWav(SegmentedPcmBuffer pcm16, int sampleRate) {
+        int safeRate = sampleRate > 0 ? sampleRate : DEFAULT_SAMPLE_RATE;
+        int dataSize = pcm16.length();
+        byte[] wav = new byte[WAV_HEADER_BYTES + dataSize];
+        writeWavHeader(ByteBuffer.wrap(wav).order(ByteOrder.LITTLE_ENDIAN), safeRate, dataSize);
+        pcm16.copyTo(wav, WAV_HEADER_BYTES);
+        return wav;
+    }
+
+    private static void writeWavHeader(ByteBuffer buffer, int sampleRate, int dataSize) {
+        writeRiffHeader(buffer, dataSize);
+        writeFmtChunk(buffer, sampleRate);
+        writeDataChunk(buffer, dataSize);
+    }
+
+    private static void writeRiffHeader(ByteBuffer buffer, int dataSize) {
+        buffer.put("RIFF".getBytes(StandardCharsets.US_ASCII));
+        buffer.putInt(36 + dataSize);
+        buffer.put("WAVE".getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private static void writeFmtChunk(ByteBuffer buffer, int sampleRate) {
+        buffer.put("fmt ".getBytes(StandardCharsets.US_ASCII));
+        buffer.putInt(16);
+        buffer.putShort((short) 1);
+        buffer.putShort((short) 1);
+        buffer.putInt(sampleRate);
+        buffer.putInt(sampleRate * 2);
+        buffer.putShort((short) 2);
+        buffer.putShort((short) 16);
+    }
+
+    private static void writeDataChunk(ByteBuffer buffer, int dataSize) {
+        buffer.put("data".getBytes(StandardCharsets.US_ASCII));
+        buffer.putInt(dataSize);
+    }
+}
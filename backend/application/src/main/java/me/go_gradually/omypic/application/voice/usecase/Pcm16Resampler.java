@@ -0,0 +1,67 @@
+package me.go_gradually.omypic.application.voice.usecase;
+
+/**
+ * STT 업로드 전에 높은 샘플레이트의 PCM16(mono)을 16kHz로 내린다.
+ * Blackman 윈도우 sinc 저역통과 필터로 보간해 에일리어싱을 막고, 커널은 미리 표로 만들어 둔다.
+ * 목표 이하의 샘플레이트는 올리지 않고 같은 버퍼를 그대로 돌려준다. 새로 만든 버퍼는 호출자가 release한다.
+ */
+final class Pcm16Resampler {
+    static final int STT_SAMPLE_RATE = 16000;
+    private static final int ZERO_CROSSINGS = 8;
+    private static final int TABLE_STEPS = 512;
+    private static final double CUTOFF_MARGIN = 0.92;
+    private static final float[] KERNEL = buildKernel();
+
+    private Pcm16Resampler() {
+    }
+
+    static int targetRate(int sourceRate) {
+        return sourceRate > STT_SAMPLE_RATE ? STT_SAMPLE_RATE : sourceRate;
+    }
+
+    static SegmentedPcmBuffer toSttRate(SegmentedPcmBuffer pcm16, int sourceRate) {
+        int targetRate = targetRate(sourceRate);
+        return targetRate == sourceRate ? pcm16 : resample(pcm16, sourceRate, targetRate);
+    }
+
+    private static SegmentedPcmBuffer resample(SegmentedPcmBuffer pcm16, int sourceRate, int targetRate) {
+        int inputSamples = pcm16.sampleCount();
+        int outputSamples = (int) ((long) inputSamples * targetRate / sourceRate);
+        double step = (double) sourceRate / targetRate;
+        double cutoff = CUTOFF_MARGIN / step;
+        SegmentedPcmBuffer out = new SegmentedPcmBuffer(PcmSlabPool.SHARED);
+        for (int i = 0; i < outputSamples; i += 1) {
+            out.writeSample(clamp(filterAt(pcm16, inputSamples, i * step, cutoff)));
+        }
+        return out;
+    }
+
+    private static double filterAt(SegmentedPcmBuffer pcm16, int inputSamples, double center, double cutoff) {
+        double radius = ZERO_CROSSINGS / cutoff;
+        int first = Math.max(0, (int) Math.ceil(center - radius));
+        int last = Math.min(inputSamples - 1, (int) Math.floor(center + radius));
+        double scale = cutoff * TABLE_STEPS;
+        double sum = 0.0;
+        for (int n = first; n <= last; n += 1) {
+            int index = Math.min(KERNEL.length - 1, (int) (Math.abs(n - center) * scale));
+            sum += pcm16.sample(n) * KERNEL[index];
+        }
+        return sum * cutoff;
+    }
+
+    private static int clamp(double value) {
+        return (int) Math.max(Short.MIN_VALUE, Math.min(Short.MAX_VALUE, Math.round(value)));
+    }
+
+    // 한쪽 날개만 저장한다. x = index / TABLE_STEPS (영점 교차 단위).
+    private static float[] buildKernel() {
+        float[] kernel = new float[ZERO_CROSSINGS * TABLE_STEPS + 1];
+        for (int i = 0; i < kernel.length; i += 1) {
+            double x = (double) i / TABLE_STEPS;
+            double sinc = i == 0 ? 1.0 : Math.sin(Math.PI * x) / (Math.PI * x);
+            double phase = Math.PI * x / ZERO_CROSSINGS;
+            kernel[i] = (float) (sinc * (0.42 + 0.5 * Math.cos(phase) + 0.08 * Math.cos(2 * phase)));
+        }
+        return kernel;
+    }
+}
@@ -0,0 +1,48 @@
+package me.go_gradually.omypic.application.voice.usecase;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 음성 세션들이 함께 빌려 쓰는 고정 크기 PCM 슬랩 풀.
+ * turn마다 수 MB짜리 버퍼를 새로 잡는 대신 슬랩을 돌려 쓰고, 보관 개수를 넘는 반납분은 GC에 맡긴다.
+ */
+final class PcmSlabPool {
+    static final int SLAB_SHIFT = 16;
+    static final int SLAB_BYTES = 1 << SLAB_SHIFT;
+    // 16kHz 기준 2분 30초 turn 두 개 남짓(약 8MB)까지만 쥐고 있는다.
+    static final PcmSlabPool SHARED = new PcmSlabPool(128);
+
+    private final Queue<byte[]> free = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pooled = new AtomicInteger();
+    private final int maxPooled;
+
+    PcmSlabPool(int maxPooled) {
+        this.maxPooled = Math.max(0, maxPooled);
+    }
+
+    byte[] acquire() {
+        byte[] slab = free.poll();
+        if (slab == null) {
+            return new byte[SLAB_BYTES];
+        }
+        pooled.decrementAndGet();
+        return slab;
+    }
+
+    void release(byte[] slab) {
+        if (slab == null || slab.length != SLAB_BYTES) {
+            return;
+        }
+        if (pooled.incrementAndGet() > maxPooled) {
+            pooled.decrementAndGet();
+            return;
+        }
+        free.offer(slab);
+    }
+
+    int pooledCount() {
+        return pooled.get();
+    }
+}
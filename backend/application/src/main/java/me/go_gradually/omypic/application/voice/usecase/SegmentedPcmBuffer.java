@@ -0,0 +1,137 @@
+package me.go_gradually.omypic.application.voice.usecase;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 풀에서 빌린 슬랩을 이어 붙인 PCM16 버퍼. 커질 때 기존 데이터를 옮기지 않고 슬랩만 덧붙인다.
+ * 항상 샘플 경계(짝수 바이트)로만 쓰고 자르므로 한 샘플이 두 슬랩에 걸치지 않는다.
+ * 동기화하지 않는다. 한 스레드가 채운 뒤에는 읽기 전용으로 넘기고, 다 쓴 쪽이 {@link #release()}한다.
+ */
+final class SegmentedPcmBuffer {
+    private static final int SLAB_MASK = PcmSlabPool.SLAB_BYTES - 1;
+
+    private final PcmSlabPool pool;
+    private final List<byte[]> slabs;
+    private int head;
+    private int length;
+
+    SegmentedPcmBuffer(PcmSlabPool pool) {
+        this(pool, new ArrayList<>(), 0, 0);
+    }
+
+    private SegmentedPcmBuffer(PcmSlabPool pool, List<byte[]> slabs, int head, int length) {
+        this.pool = pool;
+        this.slabs = slabs;
+        this.head = head;
+        this.length = length;
+    }
+
+    static SegmentedPcmBuffer copyOf(byte[] pcm16) {
+        SegmentedPcmBuffer buffer = new SegmentedPcmBuffer(PcmSlabPool.SHARED);
+        buffer.write(pcm16, 0, pcm16.length & ~1);
+        return buffer;
+    }
+
+    int length() {
+        return length;
+    }
+
+    int sampleCount() {
+        return length / 2;
+    }
+
+    void write(byte[] source, int offset, int count) {
+        for (int written = 0; written < count; ) {
+            int position = head + length;
+            byte[] slab = slabFor(position);
+            int chunk = Math.min(count - written, PcmSlabPool.SLAB_BYTES - (position & SLAB_MASK));
+            System.arraycopy(source, offset + written, slab, position & SLAB_MASK, chunk);
+            written += chunk;
+            length += chunk;
+        }
+    }
+
+    void writeSample(int sample) {
+        int position = head + length;
+        byte[] slab = slabFor(position);
+        slab[position & SLAB_MASK] = (byte) sample;
+        slab[(position & SLAB_MASK) + 1] = (byte) (sample >> 8);
+        length += 2;
+    }
+
+    short sample(int index) {
+        int position = head + index * 2;
+        byte[] slab = slabs.get(position >>> PcmSlabPool.SLAB_SHIFT);
+        int offset = position & SLAB_MASK;
+        return (short) ((slab[offset] & 0xFF) | (slab[offset + 1] << 8));
+    }
+
+    // 슬랩 단위로 target에 모아 쓴다. 업로드 본문을 만들 때 유일하게 일어나는 복사다.
+    void copyTo(byte[] target, int targetOffset) {
+        for (int copied = 0; copied < length; ) {
+            int position = head + copied;
+            int chunk = Math.min(length - copied, PcmSlabPool.SLAB_BYTES - (position & SLAB_MASK));
+            byte[] slab = slabs.get(position >>> PcmSlabPool.SLAB_SHIFT);
+            System.arraycopy(slab, position & SLAB_MASK, target, targetOffset + copied, chunk);
+            copied += chunk;
+        }
+    }
+
+    byte[] toByteArray() {
+        byte[] bytes = new byte[length];
+        copyTo(bytes, 0);
+        return bytes;
+    }
+
+    // 앞쪽 count바이트를 버리고, 통째로 비게 된 슬랩은 바로 풀에 돌려준다.
+    void dropLeading(int count) {
+        int drop = Math.min(Math.max(0, count), length);
+        head += drop;
+        length -= drop;
+        while (head >= PcmSlabPool.SLAB_BYTES) {
+            pool.release(slabs.remove(0));
+            head -= PcmSlabPool.SLAB_BYTES;
+        }
+    }
+
+    // [from, to) 구간을 새 슬랩에 복사한다. 이 버퍼는 계속 쓸 수 있다.
+    SegmentedPcmBuffer copyRange(int from, int to) {
+        SegmentedPcmBuffer copy = new SegmentedPcmBuffer(pool);
+        for (int position = head + from; position < head + to; ) {
+            int chunk = Math.min(head + to - position, PcmSlabPool.SLAB_BYTES - (position & SLAB_MASK));
+            copy.write(slabs.get(position >>> PcmSlabPool.SLAB_SHIFT), position & SLAB_MASK, chunk);
+            position += chunk;
+        }
+        return copy;
+    }
+
+    // [from, to) 구간의 슬랩을 복사 없이 새 버퍼로 넘기고, 나머지 슬랩은 풀에 돌려준 뒤 이 버퍼를 비운다.
+    SegmentedPcmBuffer detach(int from, int to) {
+        int start = head + from;
+        int firstSlab = start >>> PcmSlabPool.SLAB_SHIFT;
+        int endSlab = to > from ? ((head + to - 1) >>> PcmSlabPool.SLAB_SHIFT) + 1 : firstSlab;
+        List<byte[]> kept = new ArrayList<>(slabs.subList(firstSlab, endSlab));
+        slabs.subList(firstSlab, endSlab).clear();
+        release();
+        return new SegmentedPcmBuffer(pool, kept, start & SLAB_MASK, to - from);
+    }
+
+    // 슬랩을 모두 풀에 돌려준다. 빈 버퍼로 다시 쓸 수 있다.
+    void release() {
+        for (byte[] slab : slabs) {
+            pool.release(slab);
+        }
+        slabs.clear();
+        head = 0;
+        length = 0;
+    }
+
+    private byte[] slabFor(int position) {
+        int index = position >>> PcmSlabPool.SLAB_SHIFT;
+        while (slabs.size() <= index) {
+            slabs.add(pool.acquire());
+        }
+        return slabs.get(index);
+    }
+}
@@ -0,0 +1,60 @@
+package me.go_gradually.omypic.application.voice.usecase;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiConsumer;
+
+/**
+ * 멈춘 음성 세션 컨텍스트를 멈춘 순서대로 쌓아 두는 큐. 멈춘 시각은 넣는 순서대로 늘어나므로
+ * 만료와 개수 상한 모두 앞에서부터 꺼내기만 하면 되고, 전체 세션 맵을 훑거나 정렬하지 않는다.
+ * 동시에 멈춘 세션과 주기적 정리가 같은 항목을 두고 다투지 않도록 큐를 고치는 연산은 큐 단위로 동기화한다.
+ * 꺼낸 항목은 잠금 밖에서 evictor에 넘기므로, evictor가 다시 큐를 건드려도 막히지 않는다.
+ */
+final class StoppedContextQueue<C> {
+    private final ArrayDeque<Entry<C>> entries = new ArrayDeque<>();
+
+    synchronized void add(String voiceSessionId, C context, long stoppedAtEpochMs) {
+        entries.addLast(new Entry<>(voiceSessionId, context, stoppedAtEpochMs));
+    }
+
+    // 남은 개수가 maxCount를 넘는 만큼 가장 먼저 멈춘 것부터 내보낸다.
+    void evictOverflow(int maxCount, BiConsumer<String, C> evictor) {
+        notifyEvicted(pollOverflow(maxCount), evictor);
+    }
+
+    // 보존 기간이 지난 앞쪽 항목을 내보내고, 아직 남아 있어야 하는 첫 항목에서 멈춘다.
+    void evictExpired(long nowEpochMs, long retentionMs, BiConsumer<String, C> evictor) {
+        notifyEvicted(pollExpired(nowEpochMs, retentionMs), evictor);
+    }
+
+    synchronized int size() {
+        return entries.size();
+    }
+
+    private synchronized List<Entry<C>> pollOverflow(int maxCount) {
+        List<Entry<C>> evicted = new ArrayList<>();
+        while (entries.size() > Math.max(0, maxCount)) {
+            evicted.add(entries.pollFirst());
+        }
+        return evicted;
+    }
+
+    private synchronized List<Entry<C>> pollExpired(long nowEpochMs, long retentionMs) {
+        List<Entry<C>> evicted = new ArrayList<>();
+        while (!entries.isEmpty() && nowEpochMs - entries.peekFirst().stoppedAtEpochMs() >= retentionMs) {
+            evicted.add(entries.pollFirst());
+        }
+        return evicted;
+    }
+
+    // evictor는 세션 맵 정리나 저장소 삭제처럼 오래 걸릴 수 있어, 큐 잠금을 놓은 뒤에 부른다.
+    private void notifyEvicted(List<Entry<C>> evicted, BiConsumer<String, C> evictor) {
+        for (Entry<C> entry : evicted) {
+            evictor.accept(entry.voiceSessionId(), entry.context());
+        }
+    }
+
+    private record Entry<C>(String voiceSessionId, C context, long stoppedAtEpochMs) {
+    }
+}
@@ -0,0 +1,21 @@
+package me.go_gradually.omypic.application.voice.usecase;
+
+/**
+ * STT 업로드 직전에 PCM16(mono) 발화를 업로드 파일 포맷으로 바꾸는 단계.
+ * 포맷 이름으로 구현을 고르며, 비어 있거나 모르는 값이면 무손실 압축인 FLAC을 쓴다.
+ */
+interface SttAudioEncoder {
+    String WAV = "wav";
+
+    EncodedAudio encode(SegmentedPcmBuffer pcm16, int sampleRate);
+
+    static SttAudioEncoder forFormat(String format) {
+        if (WAV.equalsIgnoreCase(format == null ? "" : format.trim())) {
+            return (pcm16, sampleRate) -> new EncodedAudio(Pcm16Audio.toWav(pcm16, sampleRate), "audio.wav");
+        }
+        return new FlacAudioEncoder();
+    }
+
+    record EncodedAudio(byte[] bytes, String fileName) {
+    }
+}
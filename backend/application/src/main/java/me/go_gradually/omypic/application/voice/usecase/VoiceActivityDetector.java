@@ -0,0 +1,175 @@
+package me.go_gradually.omypic.application.voice.usecase;
+
+/**
+ * PCM16(mono, little-endian) 스트림을 20ms 프레임으로 나눠 에너지와 영교차율로 발화 구간을 판정한다.
+ * 프레임 상태는 청크 경계를 넘어 유지되며, 샘플 루프는 byte[]에서 short를 직접 읽어 추가 할당이 없다.
+ * 위치 값은 모두 마지막 reset 이후 소비한 샘플 수 기준이다.
+ * 발화 중 짧은 쉼(pause)은 끝점보다 먼저 알려, 발화가 끝나기 전에 앞 구간을 미리 전사할 수 있게 한다.
+ */
+final class VoiceActivityDetector {
+    static final int FRAME_MS = 20;
+    private static final int MIN_SPEECH_FRAMES = 2;
+    private static final double MAX_VOICED_ZERO_CROSSING_RATE = 0.35;
+    private static final double LOUD_FRAME_ENERGY_FACTOR = 9.0;
+    private static final int MAX_UTTERANCE_MS = 150_000;
+    private static final int PAUSE_MS = 300;
+    private static final double FULL_SCALE = 32768.0;
+
+    private final int frameSamples;
+    private final int maxVoicedCrossings;
+    private final double speechEnergyFloor;
+    private final double loudEnergyFloor;
+    private final int endpointSilenceFrames;
+    private final int pauseFrames;
+    private final long maxUtteranceSamples;
+
+    private long frameEnergy;
+    private int frameCrossings;
+    private int frameFill;
+    private int previousSample;
+    private long position;
+    private int voicedRun;
+    private int silentRun;
+    private long speechStart = -1L;
+    private long speechEnd = -1L;
+    private boolean endpoint;
+    private boolean pause;
+    private boolean endpointing = true;
+
+    VoiceActivityDetector(int sampleRate, double threshold, int silenceDurationMs) {
+        double amplitudeFloor = threshold * FULL_SCALE;
+        this.frameSamples = Math.max(1, sampleRate * FRAME_MS / 1000);
+        this.maxVoicedCrossings = (int) (frameSamples * MAX_VOICED_ZERO_CROSSING_RATE);
+        this.speechEnergyFloor = amplitudeFloor * amplitudeFloor;
+        this.loudEnergyFloor = speechEnergyFloor * LOUD_FRAME_ENERGY_FACTOR;
+        this.endpointSilenceFrames = Math.max(1, silenceDurationMs / FRAME_MS);
+        this.pauseFrames = Math.max(1, Math.min(PAUSE_MS, silenceDurationMs / 2) / FRAME_MS);
+        this.maxUtteranceSamples = (long) sampleRate * MAX_UTTERANCE_MS / 1000;
+    }
+
+    /**
+     * 최대 length 바이트를 소비하고 실제로 소비한 바이트 수를 돌려준다.
+     * 끝점이나 쉼이 잡히면 해당 프레임 직후에서 멈추므로, 호출자는 처리 뒤 나머지를 다시 넣어야 한다.
+     */
+    int feed(byte[] pcm16, int offset, int length) {
+        int end = offset + (length & ~1);
+        int index = offset;
+        while (index < end && !endpoint && !pause) {
+            accumulate((short) ((pcm16[index] & 0xFF) | (pcm16[index + 1] << 8)));
+            index += 2;
+        }
+        return index - offset;
+    }
+
+    void setEndpointing(boolean endpointing) {
+        this.endpointing = endpointing;
+    }
+
+    boolean isEndpoint() {
+        return endpoint;
+    }
+
+    boolean isPause() {
+        return pause;
+    }
+
+    void clearPause() {
+        pause = false;
+    }
+
+    boolean hasSpeech() {
+        return speechStart >= 0L;
+    }
+
+    boolean isIdle() {
+        return speechStart < 0L && voicedRun == 0;
+    }
+
+    long speechStartSample() {
+        return speechStart;
+    }
+
+    long speechEndSample() {
+        return speechEnd;
+    }
+
+    long position() {
+        return position;
+    }
+
+    int pendingFrameSamples() {
+        return frameFill;
+    }
+
+    // 유휴 상태에서 버퍼 앞부분을 버렸을 때 위치 기준을 함께 당긴다.
+    void discardLeading(long samples) {
+        position -= samples;
+    }
+
+    void reset() {
+        frameEnergy = 0L;
+        frameCrossings = 0;
+        frameFill = 0;
+        position = 0L;
+        voicedRun = 0;
+        silentRun = 0;
+        speechStart = -1L;
+        speechEnd = -1L;
+        endpoint = false;
+        pause = false;
+    }
+
+    private void accumulate(int sample) {
+        frameEnergy += (long) sample * sample;
+        if ((sample ^ previousSample) < 0) {
+            frameCrossings += 1;
+        }
+        previousSample = sample;
+        position += 1;
+        if (++frameFill == frameSamples) {
+            closeFrame();
+        }
+    }
+
+    private void closeFrame() {
+        boolean voiced = isVoiced((double) frameEnergy / frameSamples, frameCrossings);
+        frameEnergy = 0L;
+        frameCrossings = 0;
+        frameFill = 0;
+        if (voiced) {
+            onVoicedFrame();
+        } else {
+            onSilentFrame();
+        }
+    }
+
+    // 무성 마찰음 같은 고주파 잡음은 영교차율로 거르되, 충분히 큰 프레임은 발화로 본다.
+    private boolean isVoiced(double meanEnergy, int crossings) {
+        if (meanEnergy < speechEnergyFloor) {
+            return false;
+        }
+        return crossings <= maxVoicedCrossings || meanEnergy >= loudEnergyFloor;
+    }
+
+    private void onVoicedFrame() {
+        silentRun = 0;
+        voicedRun += 1;
+        if (speechStart < 0L && voicedRun >= MIN_SPEECH_FRAMES) {
+            speechStart = position - (long) voicedRun * frameSamples;
+        }
+        if (speechStart >= 0L) {
+            speechEnd = position;
+            endpoint = endpointing && position - speechStart >= maxUtteranceSamples;
+        }
+    }
+
+    private void onSilentFrame() {
+        voicedRun = 0;
+        if (speechStart < 0L) {
+            return;
+        }
+        silentRun += 1;
+        endpoint = endpointing && silentRun >= endpointSilenceFrames;
+        pause = endpointing && !endpoint && silentRun == pauseFrames;
+    }
+}
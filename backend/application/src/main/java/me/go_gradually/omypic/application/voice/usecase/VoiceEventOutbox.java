@@ -0,0 +1,148 @@
+package me.go_gradually.omypic.application.voice.usecase;
+
+import me.go_gradually.omypic.application.shared.port.AsyncExecutor;
+import me.go_gradually.omypic.application.shared.port.MetricsPort;
+import me.go_gradually.omypic.application.voice.model.VoiceEventSink;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Locale;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * 싱크 하나의 송신 대기열. emit은 큐에 넣기만 하고, 실제 네트워크 쓰기는 AsyncExecutor에서 싱크마다 하나씩 도는 drain이 맡는다.
+ * 그래서 느린 클라이언트가 다른 싱크나 turn 처리 스레드를 붙잡지 않는다.
+ * 큐가 가득 차면 정책에 따라 싱크를 끊거나(DISCONNECT, 클라이언트는 sinceEventId로 재연결) 가장 오래된 이벤트를 버린다(DROP_OLDEST).
+ */
+final class VoiceEventOutbox {
+    private final VoiceEventSink sink;
+    private final int capacity;
+    private final OverflowPolicy overflowPolicy;
+    private final AsyncExecutor executor;
+    private final MetricsPort metrics;
+    private final ArrayDeque<Pending> queue = new ArrayDeque<>();
+    private boolean draining;
+    private boolean closed;
+
+    VoiceEventOutbox(VoiceEventSink sink,
+                     int capacity,
+                     OverflowPolicy overflowPolicy,
+                     AsyncExecutor executor,
+                     MetricsPort metrics) {
+        this.sink = sink;
+        this.capacity = Math.max(1, capacity);
+        this.overflowPolicy = overflowPolicy;
+        this.executor = executor;
+        this.metrics = metrics;
+    }
+
+    // 새 이벤트를 넣는다. 싱크가 이미 끊겼거나 이번 넘침으로 끊기면 false.
+    boolean offer(VoiceEventReplayLog.VoiceEvent event) {
+        synchronized (queue) {
+            if (closed || (queue.size() >= capacity && !makeRoom())) {
+                return false;
+            }
+            queue.addLast(new Pending(event, System.nanoTime()));
+        }
+        scheduleDrain();
+        return true;
+    }
+
+    // 재연결 재전송분은 replay 로그가 이미 크기를 제한하므로 용량 검사 없이 넣는다.
+    void offerReplay(VoiceEventReplayLog.VoiceEvent event) {
+        synchronized (queue) {
+            if (!closed) {
+                queue.addLast(new Pending(event, System.nanoTime()));
+            }
+        }
+        scheduleDrain();
+    }
+
+    void close() {
+        synchronized (queue) {
+            closed = true;
+            queue.clear();
+        }
+    }
+
+    boolean isClosed() {
+        synchronized (queue) {
+            return closed;
+        }
+    }
+
+    int pendingCount() {
+        synchronized (queue) {
+            return queue.size();
+        }
+    }
+
+    private boolean makeRoom() {
+        metrics.incrementVoiceEventDropped(overflowPolicy.metricTag());
+        if (overflowPolicy == OverflowPolicy.DROP_OLDEST) {
+            queue.pollFirst();
+            return true;
+        }
+        closed = true;
+        queue.clear();
+        executor.execute(sink::disconnect);
+        return false;
+    }
+
+    private void scheduleDrain() {
+        synchronized (queue) {
+            if (draining || closed || queue.isEmpty()) {
+                return;
+            }
+            draining = true;
+        }
+        try {
+            executor.execute(this::drain);
+        } catch (RejectedExecutionException e) {
+            close();
+        }
+    }
+
+    private void drain() {
+        for (Pending next = poll(); next != null; next = poll()) {
+            if (!deliver(sink, next.event())) {
+                close();
+                return;
+            }
+            metrics.recordVoiceEventDeliveryLag(Duration.ofNanos(System.nanoTime() - next.enqueuedAtNanos()));
+        }
+    }
+
+    private Pending poll() {
+        synchronized (queue) {
+            Pending next = closed ? null : queue.pollFirst();
+            draining = next != null;
+            return next;
+        }
+    }
+
+    static boolean deliver(VoiceEventSink sink, VoiceEventReplayLog.VoiceEvent event) {
+        if (event.json() == null) {
+            return sink.send(event.event(), event.payload());
+        }
+        return sink.sendSerialized(event.event(), event.payload(), event.json());
+    }
+
+    enum OverflowPolicy {
+        DISCONNECT,
+        DROP_OLDEST;
+
+        // 비어 있거나 모르는 값이면 재연결로 빈틈 없이 복구되는 DISCONNECT를 쓴다.
+        static OverflowPolicy from(String value) {
+            String normalized = value == null ? "" : value.trim().replace('-', '_').toUpperCase(Locale.ROOT);
+            return "DROP_OLDEST".equals(normalized) ? DROP_OLDEST : DISCONNECT;
+        }
+
+        private String metricTag() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    private record Pending(VoiceEventReplayLog.VoiceEvent event, long enqueuedAtNanos) {
+    }
+}
@@ -0,0 +1,122 @@
+package me.go_gradually.omypic.application.voice.usecase;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import me.go_gradually.omypic.application.voice.model.VoiceSessionState;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.function.Predicate;
+import java.util.logging.Logger;
+
+/**
+ * eventId를 칸 번호로 쓰는 고정 용량 링 버퍼. 재연결한 싱크는 sinceEventId 다음 칸부터 바로 이어 받는다.
+ * 이벤트는 처음 보낼 때 만든 JSON 바이트와 함께 보관해 재전송할 때 다시 직렬화하지 않는다.
+ * 개수 상한이나 바이트 예산을 넘으면 오래된 이벤트부터 밀어내되, 가장 최근 이벤트 하나는 남긴다.
+ * eventId는 1부터 빈틈없이 늘어나야 하며, 호출자가 동기화를 책임진다.
+ */
+final class VoiceEventReplayLog {
+    private static final Logger log = Logger.getLogger(VoiceEventReplayLog.class.getName());
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final ObjectWriter JSON_WRITER = OBJECT_MAPPER.writer();
+    private static final ObjectReader JSON_READER = OBJECT_MAPPER.readerFor(Map.class);
+
+    private final VoiceEvent[] slots;
+    private final long byteBudget;
+    private long firstEventId = 1L;
+    private long nextEventId = 1L;
+    private long retainedBytes;
+
+    VoiceEventReplayLog(int capacity, long byteBudget) {
+        this.slots = new VoiceEvent[Math.max(1, capacity)];
+        this.byteBudget = Math.max(1L, byteBudget);
+    }
+
+    void append(VoiceEvent event) {
+        if (event.eventId() != nextEventId) {
+            throw new IllegalStateException("Expected eventId " + nextEventId + " but got " + event.eventId());
+        }
+        if (size() == slots.length) {
+            evictOldest();
+        }
+        slots[slot(nextEventId)] = event;
+        nextEventId += 1;
+        retainedBytes += event.sizeBytes();
+        while (retainedBytes > byteBudget && size() > 1) {
+            evictOldest();
+        }
+    }
+
+    // sinceEventId 다음 이벤트부터 consumer가 false를 돌려줄 때까지 보낸다. 이미 밀려난 구간은 건너뛴다.
+    boolean replayAfter(long sinceEventId, Predicate<VoiceEvent> consumer) {
+        for (long eventId = Math.max(firstEventId, sinceEventId + 1L); eventId < nextEventId; eventId += 1L) {
+            if (!consumer.test(slots[slot(eventId)])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    long oldestEventId() {
+        return size() == 0 ? 0L : firstEventId;
+    }
+
+    int size() {
+        return (int) (nextEventId - firstEventId);
+    }
+
+    long retainedBytes() {
+        return retainedBytes;
+    }
+
+    // 저장소에서 읽은 이벤트. 직렬화된 JSON을 그대로 쓰지 못하는 싱크를 위해 payload도 되살린다.
+    static VoiceEvent restore(VoiceSessionState.Event stored) {
+        byte[] json = stored.json().getBytes(StandardCharsets.UTF_8);
+        return new VoiceEvent(stored.eventId(), stored.event(), readPayload(stored.event(), json), json);
+    }
+
+    private static Object readPayload(String event, byte[] json) {
+        try {
+            return JSON_READER.readValue(json);
+        } catch (IOException e) {
+            log.fine(() -> "stored voice event is not a JSON object event=" + event);
+            return Map.of();
+        }
+    }
+
+    private void evictOldest() {
+        int index = slot(firstEventId);
+        retainedBytes -= slots[index].sizeBytes();
+        slots[index] = null;
+        firstEventId += 1L;
+    }
+
+    private int slot(long eventId) {
+        return (int) (eventId % slots.length);
+    }
+
+    /**
+     * json은 payload를 한 번 직렬화한 결과다. 직렬화할 수 없는 payload면 null이고, 싱크는 payload를 직접 보낸다.
+     */
+    record VoiceEvent(long eventId, String event, Object payload, byte[] json) {
+        static VoiceEvent serialize(long eventId, String event, Object payload) {
+            return new VoiceEvent(eventId, event, payload, toJson(event, payload));
+        }
+
+        private static byte[] toJson(String event, Object payload) {
+            try {
+                return JSON_WRITER.writeValueAsBytes(payload);
+            } catch (JsonProcessingException e) {
+                log.fine(() -> "voice event is not serializable, sending payload as-is event=" + event);
+                return null;
+            }
+        }
+
+        int sizeBytes() {
+            return json == null ? 0 : json.length;
+        }
+    }
+}
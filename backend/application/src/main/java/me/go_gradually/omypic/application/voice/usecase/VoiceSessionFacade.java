@@ -13,9 +13,11 @@ import me.go_gradually.omypic.application.stt.usecase.SttUseCase;
 import me.go_gradually.omypic.application.voice.model.VoiceAudioChunkCommand;
 import me.go_gradually.omypic.application.voice.model.VoiceEventSink;
 import me.go_gradually.omypic.application.voice.model.VoiceSessionOpenCommand;
+import me.go_gradually.omypic.application.voice.model.VoiceSessionState;
 import me.go_gradually.omypic.application.voice.model.VoiceSessionStopCommand;
 import me.go_gradually.omypic.application.voice.policy.VoicePolicy;
 import me.go_gradually.omypic.application.voice.port.TtsGateway;
+import me.go_gradually.omypic.application.voice.port.VoiceSessionStateStore;
 import me.go_gradually.omypic.domain.feedback.CorrectionDetail;
 import me.go_gradually.omypic.domain.feedback.Corrections;
 import me.go_gradually.omypic.domain.feedback.Feedback;
@@ -29,36 +31,39 @@ import me.go_gradually.omypic.domain.session.SessionState;
 import me.go_gradually.omypic.domain.session.SessionStopReason;
 import me.go_gradually.omypic.domain.session.TurnBatchingPolicy;
 
-import java.io.ByteArrayOutputStream;
-import java.nio.ByteBuffer;
-import java.nio.ByteOrder;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Base64;
-import java.util.Comparator;
 import java.util.Deque;
-import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
+import java.util.StringJoiner;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentLinkedDeque;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
 import java.util.function.LongSupplier;
 import java.util.logging.Logger;
 
 final class VoiceSessionFacade {
     private static final Logger log = Logger.getLogger(VoiceSessionFacade.class.getName());
     private static final String FEEDBACK_PROVIDER = "openai";
+    private static final String OWNER_LOST_STOP_REASON = "owner_lost";
     private static final int DEFAULT_SAMPLE_RATE = 16000;
     private static final int MAX_RULEBOOK_DOCUMENTS_PER_TURN = 2;
     private static final int DEFAULT_EVENT_REPLAY_BUFFER_LIMIT = 256;
+    private static final long DEFAULT_EVENT_REPLAY_MAX_BYTES = 2L * 1024L * 1024L;
+    private static final int DEFAULT_SINK_QUEUE_CAPACITY = 64;
     private static final long DEFAULT_RECOVERY_RETENTION_MS = 600000L;
     private static final int DEFAULT_STOPPED_CONTEXT_MAX = 1000;
+    private static final long CHUNK_STATE_PERSIST_INTERVAL_MS = 1000L;
     private final SttUseCase sttUseCase;
     private final FeedbackUseCase feedbackUseCase;
     private final SessionUseCase sessionUseCase;
@@ -67,9 +72,11 @@ final class VoiceSessionFacade {
     private final AsyncExecutor asyncExecutor;
     private final VoicePolicy voicePolicy;
     private final MetricsPort metrics;
+    private final VoiceSessionStateRecorder stateRecorder;
     private final int eventReplayBufferLimit;
     private final LongSupplier nowMillisSupplier;
     private final Map<String, RuntimeContext> contextByVoiceSessionId = new ConcurrentHashMap<>();
+    private final StoppedContextQueue<RuntimeContext> stoppedContexts = new StoppedContextQueue<>();
 
     public VoiceSessionFacade(SttUseCase sttUseCase,
                                FeedbackUseCase feedbackUseCase,
@@ -78,7 +85,8 @@ final class VoiceSessionFacade {
                                TtsGateway ttsGateway,
                                AsyncExecutor asyncExecutor,
                                VoicePolicy voicePolicy,
-                               MetricsPort metrics) {
+                               MetricsPort metrics,
+                               VoiceSessionStateStore stateStore) {
         this(
                 sttUseCase,
                 feedbackUseCase,
@@ -88,6 +96,7 @@ final class VoiceSessionFacade {
                 asyncExecutor,
                 voicePolicy,
                 metrics,
+                stateStore,
                 DEFAULT_EVENT_REPLAY_BUFFER_LIMIT,
                 System::currentTimeMillis
         );
@@ -101,6 +110,7 @@ final class VoiceSessionFacade {
                         AsyncExecutor asyncExecutor,
                         VoicePolicy voicePolicy,
                         MetricsPort metrics,
+                        VoiceSessionStateStore stateStore,
                         int eventReplayBufferLimit) {
         this(
                 sttUseCase,
@@ -111,6 +121,7 @@ final class VoiceSessionFacade {
                 asyncExecutor,
                 voicePolicy,
                 metrics,
+                stateStore,
                 eventReplayBufferLimit,
                 System::currentTimeMillis
         );
@@ -124,6 +135,7 @@ final class VoiceSessionFacade {
                         AsyncExecutor asyncExecutor,
                         VoicePolicy voicePolicy,
                         MetricsPort metrics,
+                        VoiceSessionStateStore stateStore,
                         int eventReplayBufferLimit,
                         LongSupplier nowMillisSupplier) {
         this.sttUseCase = sttUseCase;
@@ -135,15 +147,16 @@ final class VoiceSessionFacade {
         this.voicePolicy = voicePolicy;
         this.metrics = metrics;
         this.eventReplayBufferLimit = Math.max(1, eventReplayBufferLimit);
+        this.stateRecorder = new VoiceSessionStateRecorder(stateStore, asyncExecutor, this.eventReplayBufferLimit);
         this.nowMillisSupplier = nowMillisSupplier == null ? System::currentTimeMillis : nowMillisSupplier;
     }
 
     public String open(VoiceSessionOpenCommand command) {
-        purgeStoppedContexts();
         validateOpenCommand(command);
         sessionUseCase.getOrCreate(command.getSessionId());
         RuntimeContext context = createRuntimeContext(command);
         contextByVoiceSessionId.put(context.voiceSessionId, context);
+        context.persistState();
         return context.voiceSessionId;
     }
 
@@ -160,17 +173,39 @@ final class VoiceSessionFacade {
                 command.getSessionId(),
                 command.getApiKey(),
                 RuntimeSettings.resolve(command, voicePolicy),
-                eventReplayBufferLimit
+                new VoiceTurnSegmenter(voicePolicy.getVadSettings(), DEFAULT_SAMPLE_RATE),
+                new VoiceEventReplayLog(eventReplayBufferLimit, eventReplayMaxBytes()),
+                this::createOutbox,
+                stateRecorder, nowMillisSupplier
         );
     }
 
+    private VoiceEventOutbox createOutbox(VoiceEventSink sink) {
+        int capacity = voicePolicy.voiceSinkQueueCapacity();
+        return new VoiceEventOutbox(
+                sink,
+                capacity > 0 ? capacity : DEFAULT_SINK_QUEUE_CAPACITY,
+                VoiceEventOutbox.OverflowPolicy.from(voicePolicy.voiceSlowSinkPolicy()),
+                asyncExecutor,
+                metrics
+        );
+    }
+
+    private long eventReplayMaxBytes() {
+        long maxBytes = voicePolicy.voiceEventReplayMaxBytes();
+        return maxBytes > 0L ? maxBytes : DEFAULT_EVENT_REPLAY_MAX_BYTES;
+    }
+
     public void registerSink(String voiceSessionId, VoiceEventSink sink) {
         registerSink(voiceSessionId, sink, null);
     }
 
     public void registerSink(String voiceSessionId, VoiceEventSink sink, Long sinceEventId) {
-        purgeStoppedContexts();
-        RuntimeContext context = requireContext(voiceSessionId);
+        RuntimeContext context = findLiveContext(voiceSessionId);
+        if (context == null) {
+            replayStoredEvents(requireStoredState(voiceSessionId), sink, sinceEventId);
+            return;
+        }
         context.addSink(sink, sinceEventId);
         if (!context.markInitialized()) {
             return;
@@ -179,7 +214,6 @@ final class VoiceSessionFacade {
     }
 
     public void unregisterSink(String voiceSessionId, VoiceEventSink sink) {
-        purgeStoppedContexts();
         RuntimeContext context = contextByVoiceSessionId.get(voiceSessionId);
         if (context == null) {
             return;
@@ -188,14 +222,44 @@ final class VoiceSessionFacade {
     }
 
     public RecoverySnapshot recover(String voiceSessionId, Long lastSeenEventId) {
-        purgeStoppedContexts();
-        RuntimeContext context = requireContext(voiceSessionId);
         long safeLastSeen = lastSeenEventId == null ? 0L : Math.max(0L, lastSeenEventId);
+        RuntimeContext context = findLiveContext(voiceSessionId);
+        if (context == null) {
+            return snapshotFromStoredState(requireStoredState(voiceSessionId), safeLastSeen);
+        }
         return context.snapshotForRecovery(safeLastSeen);
     }
 
+    // 이 프로세스가 소유하지 않은 세션(재시작 전 세션이나 다른 인스턴스의 세션)은 저장된 상태로 복구 정보를 만든다.
+    // 오디오 버퍼와 turn은 소유 프로세스에만 있어 여기서는 이어 갈 수 없으므로, 멈추지 않은 채 남은 세션도 owner_lost로 끝났다고 알린다.
+    // 그래야 소유 프로세스가 죽은 세션에서 클라이언트가 재전송과 재연결을 끝없이 되풀이하지 않는다.
+    private static RecoverySnapshot snapshotFromStoredState(VoiceSessionState state, long lastSeenEventId) {
+        ReplayWindow window = ReplayWindow.of(state.oldestEventId(), lastSeenEventId);
+        String stopReason = state.stopped() ? state.stopReason() : OWNER_LOST_STOP_REASON;
+        return new RecoverySnapshot(state.sessionId(), state.voiceSessionId(), false, true,
+                stopReason, state.currentTurnId(), toRecoveryQuestion(state.currentQuestion()), false, false,
+                state.lastAcceptedChunkSequence(), state.latestEventId(), window.replayFromEventId(), window.gapDetected());
+    }
+
+    private static RecoveryQuestion toRecoveryQuestion(VoiceSessionState.Question question) {
+        if (question == null) {
+            return null;
+        }
+        return new RecoveryQuestion(question.id(), question.text(), question.group(), question.groupId(), question.questionType());
+    }
+
+    // 실시간 스트림은 세션을 가진 프로세스만 보낼 수 있으므로, 저장된 이벤트만 보내고 연결을 닫아 클라이언트가 다시 붙게 한다.
+    private static void replayStoredEvents(VoiceSessionState state, VoiceEventSink sink, Long sinceEventId) {
+        long since = sinceEventId == null ? 0L : Math.max(0L, sinceEventId);
+        for (VoiceSessionState.Event event : state.events()) {
+            if (event.eventId() > since && !VoiceEventOutbox.deliver(sink, VoiceEventReplayLog.restore(event))) {
+                return;
+            }
+        }
+        sink.disconnect();
+    }
+
     public void appendAudio(VoiceAudioChunkCommand command) {
-        purgeStoppedContexts();
         validateAudioCommand(command);
         RuntimeContext context = requireContext(command.getVoiceSessionId());
         if (context.isInactive()) {
@@ -204,17 +268,30 @@ final class VoiceSessionFacade {
         if (!context.acceptChunkSequence(command.getSequence())) {
             return;
         }
-        byte[] pcm16Bytes = decodePcm16(command.getPcm16Base64());
-        if (pcm16Bytes.length == 0) {
+        Pcm16Chunk chunk = decodeChunk(command);
+        if (chunk.length() == 0) {
             return;
         }
-        int sampleRate = command.getSampleRate() == null ? DEFAULT_SAMPLE_RATE : command.getSampleRate();
-        context.appendAudio(pcm16Bytes, sampleRate);
+        bufferAudio(context, command, chunk);
         flushTurn(context);
     }
 
+    // 컨트롤러가 본문에서 바로 디코딩해 넘긴 PCM이 있으면 복사 없이 쓰고, 없으면 base64 문자열을 디코딩한다.
+    private static Pcm16Chunk decodeChunk(VoiceAudioChunkCommand command) {
+        if (command.getPcm16() != null) {
+            return new Pcm16Chunk(command.getPcm16(), command.getPcm16Length());
+        }
+        byte[] pcm16 = Pcm16Audio.decodeBase64(command.getPcm16Base64());
+        return new Pcm16Chunk(pcm16, pcm16.length);
+    }
+
+    private void bufferAudio(RuntimeContext context, VoiceAudioChunkCommand command, Pcm16Chunk chunk) {
+        int sampleRate = command.getSampleRate() == null ? DEFAULT_SAMPLE_RATE : command.getSampleRate();
+        boolean endOfTurn = !Boolean.FALSE.equals(command.getEndOfTurn());
+        context.appendAudio(chunk, sampleRate, endOfTurn, segment -> speculate(context, segment));
+    }
+
     public void stop(VoiceSessionStopCommand command) {
-        purgeStoppedContexts();
         if (command == null || isBlank(command.getVoiceSessionId())) {
             throw new IllegalArgumentException("voiceSessionId is required");
         }
@@ -225,29 +302,61 @@ final class VoiceSessionFacade {
         stopInternal(context, command.isForced(), normalizeStopReason(command.getReason(), "user_stop"));
     }
 
+    public void reapStoppedContexts() {
+        stoppedContexts.evictExpired(nowMillisSupplier.getAsLong(), recoveryRetentionMs(), this::evictContext);
+    }
+
     private void validateAudioCommand(VoiceAudioChunkCommand command) {
         if (command == null || isBlank(command.getVoiceSessionId())) {
             throw new IllegalArgumentException("voiceSessionId is required");
         }
-        if (isBlank(command.getPcm16Base64())) {
+        if (command.getPcm16() == null && isBlank(command.getPcm16Base64())) {
             throw new IllegalArgumentException("pcm16Base64 is required");
         }
     }
 
     private RuntimeContext requireContext(String voiceSessionId) {
-        RuntimeContext context = contextByVoiceSessionId.get(voiceSessionId);
+        RuntimeContext context = findLiveContext(voiceSessionId);
         if (context == null) {
-            throw new IllegalArgumentException("Unknown voice session: " + voiceSessionId);
+            throw unknownSession(voiceSessionId);
         }
         return context;
     }
 
-    private byte[] decodePcm16(String base64Pcm16) {
-        try {
-            return Base64.getDecoder().decode(base64Pcm16);
-        } catch (IllegalArgumentException e) {
-            throw new IllegalArgumentException("Invalid base64 audio chunk", e);
+    // 정리 주기 사이에 만료된 컨텍스트도 요청 경로에서 바로 알 수 없는 세션으로 취급한다.
+    private RuntimeContext findLiveContext(String voiceSessionId) {
+        RuntimeContext context = contextByVoiceSessionId.get(voiceSessionId);
+        if (context == null || !context.isStoppedExpired(nowMillisSupplier.getAsLong(), recoveryRetentionMs())) {
+            return context;
         }
+        evictContext(voiceSessionId, context);
+        return null;
+    }
+
+    private VoiceSessionState requireStoredState(String voiceSessionId) {
+        VoiceSessionState state = stateRecorder.find(voiceSessionId).orElse(null);
+        if (state == null || isStoredStateExpired(state)) {
+            throw unknownSession(voiceSessionId);
+        }
+        return state;
+    }
+
+    private boolean isStoredStateExpired(VoiceSessionState state) {
+        if (!state.stopped() || nowMillisSupplier.getAsLong() - state.stoppedAtEpochMs() < recoveryRetentionMs()) {
+            return false;
+        }
+        stateRecorder.delete(state.voiceSessionId());
+        return true;
+    }
+
+    private void evictContext(String voiceSessionId, RuntimeContext context) {
+        if (contextByVoiceSessionId.remove(voiceSessionId, context)) {
+            stateRecorder.delete(voiceSessionId);
+        }
+    }
+
+    private static IllegalArgumentException unknownSession(String voiceSessionId) {
+        return new IllegalArgumentException("Unknown voice session: " + voiceSessionId);
     }
 
     private void initializeSession(RuntimeContext context) {
@@ -312,7 +421,7 @@ final class VoiceSessionFacade {
             return;
         }
         AudioSnapshot snapshot = context.consumeAudioSnapshot();
-        if (snapshot == null || snapshot.pcm16().length == 0 || snapshot.question() == null) {
+        if (snapshot == null || snapshot.question() == null) {
             completeTurnProcessing(context);
             return;
         }
@@ -332,6 +441,10 @@ final class VoiceSessionFacade {
     }
 
     private void processTurnPipeline(RuntimeContext context, AudioSnapshot snapshot, long turnId, Instant startedAt) {
+        if (!snapshot.hasSpeech() && context.settings.skipNoSpeechTurns()) {
+            emitSttSkipped(context, turnId, "no_speech", "음성이 감지되지 않았습니다.");
+            return;
+        }
         String transcript = transcribe(snapshot, context);
         if (emitEmptyTranscriptIfNeeded(context, turnId, transcript)) {
             return;
@@ -345,13 +458,44 @@ final class VoiceSessionFacade {
         if (!isBlank(transcript)) {
             return false;
         }
+        emitSttSkipped(context, turnId, "empty_transcript", "음성이 인식되지 않았습니다.");
+        return true;
+    }
+
+    private void emitSttSkipped(RuntimeContext context, long turnId, String reason, String message) {
         context.emit("stt.skipped", Map.of(
                 "sessionId", context.sessionId,
                 "turnId", turnId,
-                "reason", "empty_transcript"
+                "reason", reason
+        ));
+        context.emit("session.error", errorPayload(context.sessionId, turnId, message));
+    }
+
+    // 발화 도중 쉼에서 잘린 구간을 미리 전사해, 끝점 이후에는 꼬리 구간만 기다리게 한다.
+    private SpeculativeSegment speculate(RuntimeContext context, VoiceTurnSegmenter.Utterance segment) {
+        long turnId = context.currentTurnId();
+        CompletableFuture<String> transcript = CompletableFuture.supplyAsync(
+                () -> transcribeSpeculatively(context, segment, turnId), asyncExecutor::execute);
+        return new SpeculativeSegment(segment.pcm16(), segment.sampleRate(), transcript);
+    }
+
+    // stt.partial은 전사 작업이 끝나기 전에 보낸다. turn 처리는 이 작업의 완료를 기다린 뒤 stt.final을 보내므로 순서가 뒤바뀌지 않는다.
+    private String transcribeSpeculatively(RuntimeContext context, VoiceTurnSegmenter.Utterance segment, long turnId) {
+        String text = transcribePcm(context, segment.pcm16(), segment.sampleRate());
+        emitPartialTranscript(context, turnId, segment.segmentIndex(), text);
+        return text;
+    }
+
+    private void emitPartialTranscript(RuntimeContext context, long turnId, int segmentIndex, String text) {
+        if (isBlank(text)) {
+            return;
+        }
+        context.emit("stt.partial", Map.of(
+                "sessionId", context.sessionId,
+                "turnId", turnId,
+                "segment", segmentIndex,
+                "text", text.trim()
         ));
-        context.emit("session.error", errorPayload(context.sessionId, turnId, "음성이 인식되지 않았습니다."));
-        return true;
     }
 
     private void emitFinalTranscript(RuntimeContext context, long turnId, String transcript) {
@@ -537,7 +681,12 @@ final class VoiceSessionFacade {
 
     private Feedback generateFeedback(RuntimeContext context, TurnInput input) {
         FeedbackCommand command = feedbackCommand(context, input.answerText());
-        FeedbackUseCase.PrefetchedTurnPrompt prefetch = context.consumePrefetchedTurnPrompt(input.questionId());
+        FeedbackUseCase.PrefetchedTurnPrompt prefetch = feedbackUseCase.findPrefetchedTurnPrompt(
+                input.questionId(),
+                input.questionText(),
+                input.questionGroup(),
+                context.settings.feedbackLanguage()
+        );
         if (prefetch != null) {
             return feedbackUseCase.generateFeedbackForTurnWithPrefetch(
                     context.apiKey,
@@ -574,14 +723,13 @@ final class VoiceSessionFacade {
             return;
         }
         try {
-            FeedbackUseCase.PrefetchedTurnPrompt prefetch = feedbackUseCase.prefetchTurnPrompt(
+            feedbackUseCase.prefetchTurnPrompt(
                     target.questionId(),
                     target.questionText(),
                     target.questionGroup(),
                     target.feedbackLanguage(),
                     MAX_RULEBOOK_DOCUMENTS_PER_TURN
             );
-            context.storePrefetchedTurnPrompt(prefetch);
         } catch (Exception e) {
             log.fine(() -> "feedback prefetch skipped sessionId="
                     + context.sessionId
@@ -612,56 +760,68 @@ final class VoiceSessionFacade {
         );
     }
 
+    // 턴 단위 STT 대기 시간: 끝점 이후 부분 전사 대기 + 꼬리 구간 전사.
     private String transcribe(AudioSnapshot snapshot, RuntimeContext context) {
-        byte[] wav = toWav(snapshot.pcm16(), snapshot.sampleRate());
-        SttCommand command = new SttCommand();
-        command.setApiKey(context.apiKey);
-        command.setModel(context.settings.sttModel());
-        command.setFileBytes(wav);
-        command.setTranslate(false);
-        command.setSessionId(context.sessionId);
-        return sttUseCase.transcribe(command);
-    }
-
-    private byte[] toWav(byte[] pcm16, int sampleRate) {
-        int safeRate = sampleRate > 0 ? sampleRate : DEFAULT_SAMPLE_RATE;
-        int dataSize = pcm16.length;
-        ByteBuffer buffer = wavBuffer(dataSize);
-        writeWavHeader(buffer, safeRate, dataSize);
-        buffer.put(pcm16);
-        return buffer.array();
+        Instant startedAt = Instant.now();
+        try {
+            String transcript = joinTranscripts(snapshot, context);
+            metrics.recordVoiceTurnSttLatency(Duration.between(startedAt, Instant.now()));
+            return transcript;
+        } finally {
+            snapshot.releaseAudio();
+        }
     }
 
-    private ByteBuffer wavBuffer(int dataSize) {
-        return ByteBuffer.allocate(44 + dataSize).order(ByteOrder.LITTLE_ENDIAN);
+    private String joinTranscripts(AudioSnapshot snapshot, RuntimeContext context) {
+        StringJoiner transcript = new StringJoiner(" ");
+        for (SpeculativeSegment segment : snapshot.partials()) {
+            appendTranscript(transcript, awaitSpeculativeTranscript(context, segment));
+        }
+        if (snapshot.speechDetected()) {
+            appendTranscript(transcript, transcribePcm(context, snapshot.pcm16(), snapshot.sampleRate()));
+        }
+        return transcript.toString();
     }
 
-    private void writeWavHeader(ByteBuffer buffer, int sampleRate, int dataSize) {
-        writeRiffHeader(buffer, dataSize);
-        writeFmtChunk(buffer, sampleRate);
-        writeDataChunk(buffer, dataSize);
+    private String awaitSpeculativeTranscript(RuntimeContext context, SpeculativeSegment segment) {
+        try {
+            return segment.transcript().join();
+        } catch (CompletionException e) {
+            log.fine(() -> "speculative stt failed, retrying segment sessionId=" + context.sessionId);
+            return transcribePcm(context, segment.pcm16(), segment.sampleRate());
+        }
     }
 
-    private void writeRiffHeader(ByteBuffer buffer, int dataSize) {
-        buffer.put("RIFF".getBytes());
-        buffer.putInt(36 + dataSize);
-        buffer.put("WAVE".getBytes());
+    private void appendTranscript(StringJoiner transcript, String text) {
+        if (!isBlank(text)) {
+            transcript.add(text.trim());
+        }
     }
 
-    private void writeFmtChunk(ByteBuffer buffer, int sampleRate) {
-        buffer.put("fmt ".getBytes());
-        buffer.putInt(16);
-        buffer.putShort((short) 1);
-        buffer.putShort((short) 1);
-        buffer.putInt(sampleRate);
-        buffer.putInt(sampleRate * 2);
-        buffer.putShort((short) 2);
-        buffer.putShort((short) 16);
+    // 16kHz 초과 입력은 내려 받고, 설정된 포맷(기본 FLAC)으로 압축해 업로드 용량을 줄인다.
+    private String transcribePcm(RuntimeContext context, SegmentedPcmBuffer pcm16, int sampleRate) {
+        SttAudioEncoder.EncodedAudio audio = encodeForStt(context, pcm16, sampleRate);
+        metrics.recordSttUploadBytes(audio.bytes().length);
+        SttCommand command = new SttCommand();
+        command.setApiKey(context.apiKey);
+        command.setModel(context.settings.sttModel());
+        command.setFileBytes(audio.bytes());
+        command.setFileName(audio.fileName());
+        command.setTranslate(false);
+        command.setSessionId(context.sessionId);
+        return sttUseCase.transcribe(command);
     }
 
-    private void writeDataChunk(ByteBuffer buffer, int dataSize) {
-        buffer.put("data".getBytes());
-        buffer.putInt(dataSize);
+    private SttAudioEncoder.EncodedAudio encodeForStt(RuntimeContext context, SegmentedPcmBuffer pcm16, int sampleRate) {
+        SegmentedPcmBuffer resampled = Pcm16Resampler.toSttRate(pcm16, sampleRate);
+        try {
+            return SttAudioEncoder.forFormat(context.settings.sttAudioFormat())
+                    .encode(resampled, Pcm16Resampler.targetRate(sampleRate));
+        } finally {
+            if (resampled != pcm16) {
+                resampled.release();
+            }
+        }
     }
 
     private boolean isContinuousGroupCompleted(TurnInput turnInput, NextQuestion nextQuestion, boolean exhausted) {
@@ -927,7 +1087,7 @@ final class VoiceSessionFacade {
             return;
         }
         String stopReason = normalizeStopReason(reason, forced ? "user_stop" : SessionStopReason.QUESTION_EXHAUSTED.code());
-        context.markStopped(stopReason, nowMillisSupplier.getAsLong());
+        retainStopped(context, stopReason);
         context.emit("session.stopped", Map.of(
                 "sessionId", context.sessionId,
                 "voiceSessionId", context.voiceSessionId,
@@ -936,48 +1096,22 @@ final class VoiceSessionFacade {
         ));
     }
 
-    private void purgeStoppedContexts() {
-        long now = nowMillisSupplier.getAsLong();
-        long retentionMs = voicePolicy.voiceRecoveryRetentionMs();
-        if (retentionMs <= 0L) {
-            retentionMs = DEFAULT_RECOVERY_RETENTION_MS;
-        }
-        int stoppedContextMax = voicePolicy.voiceStoppedContextMax();
-        if (stoppedContextMax <= 0) {
-            stoppedContextMax = DEFAULT_STOPPED_CONTEXT_MAX;
-        }
+    // 재연결 복구용으로 보존 기간 동안 남겨 두되, 개수 상한을 넘으면 가장 먼저 멈춘 것부터 바로 내보낸다.
+    private void retainStopped(RuntimeContext context, String stopReason) {
+        long stoppedAt = nowMillisSupplier.getAsLong();
+        context.markStopped(stopReason, stoppedAt);
+        stoppedContexts.add(context.voiceSessionId, context, stoppedAt);
+        stoppedContexts.evictOverflow(stoppedContextMax(), this::evictContext);
+    }
 
-        List<Map.Entry<String, RuntimeContext>> retainedStoppedEntries = new ArrayList<>();
-        for (Map.Entry<String, RuntimeContext> entry : contextByVoiceSessionId.entrySet()) {
-            RuntimeContext context = entry.getValue();
-            if (context == null || !context.isInactive()) {
-                continue;
-            }
-            if (context.isStoppedExpired(now, retentionMs)) {
-                contextByVoiceSessionId.remove(entry.getKey(), context);
-                continue;
-            }
-            retainedStoppedEntries.add(entry);
-        }
+    private long recoveryRetentionMs() {
+        long retentionMs = voicePolicy.voiceRecoveryRetentionMs();
+        return retentionMs > 0L ? retentionMs : DEFAULT_RECOVERY_RETENTION_MS;
+    }
 
-        if (retainedStoppedEntries.isEmpty()) {
-            return;
-        }
-        if (stoppedContextMax <= 0) {
-            for (Map.Entry<String, RuntimeContext> entry : retainedStoppedEntries) {
-                contextByVoiceSessionId.remove(entry.getKey(), entry.getValue());
-            }
-            return;
-        }
-        if (retainedStoppedEntries.size() <= stoppedContextMax) {
-            return;
-        }
-        retainedStoppedEntries.sort(Comparator.comparingLong(entry -> entry.getValue().stoppedAtEpochMs()));
-        int removeCount = retainedStoppedEntries.size() - stoppedContextMax;
-        for (int i = 0; i < removeCount; i += 1) {
-            Map.Entry<String, RuntimeContext> entry = retainedStoppedEntries.get(i);
-            contextByVoiceSessionId.remove(entry.getKey(), entry.getValue());
-        }
+    private int stoppedContextMax() {
+        int stoppedContextMax = voicePolicy.voiceStoppedContextMax();
+        return stoppedContextMax > 0 ? stoppedContextMax : DEFAULT_STOPPED_CONTEXT_MAX;
     }
 
     private String normalizeStopReason(String reason, String fallback) {
@@ -986,7 +1120,7 @@ final class VoiceSessionFacade {
 
     private void completeTurnProcessing(RuntimeContext context) {
         context.finishTurnProcessing();
-        if (context.hasBufferedAudio()) {
+        if (context.hasReadyUtterance()) {
             flushTurn(context);
         }
     }
@@ -1011,14 +1145,18 @@ final class VoiceSessionFacade {
                                    String feedbackModel,
                                    String feedbackLanguage,
                                    String ttsModel,
-                                   String ttsVoice) {
+                                   String ttsVoice,
+                                   String sttAudioFormat,
+                                   boolean skipNoSpeechTurns) {
         private static RuntimeSettings resolve(VoiceSessionOpenCommand command, VoicePolicy policy) {
             return new RuntimeSettings(
                     firstNonBlank(command.getSttModel(), policy.voiceSttModel()),
                     firstNonBlank(command.getFeedbackModel(), policy.voiceFeedbackModel()),
                     firstNonBlank(command.getFeedbackLanguage(), policy.voiceFeedbackLanguage()),
                     firstNonBlank(command.getTtsModel(), policy.voiceTtsModel()),
-                    firstNonBlank(command.getTtsVoice(), policy.voiceTtsVoice())
+                    firstNonBlank(command.getTtsVoice(), policy.voiceTtsVoice()),
+                    policy.voiceSttAudioFormat(),
+                    policy.voiceSkipNoSpeechTurns()
             );
         }
     }
@@ -1048,9 +1186,47 @@ final class VoiceSessionFacade {
                                     String groupId,
                                     String group,
                                     String questionType) {
+        private VoiceSessionState.Question toStoredQuestion() {
+            return new VoiceSessionState.Question(questionId, text, group, groupId, questionType);
+        }
+    }
+
+    // 가장 오래 남은 이벤트 바로 앞까지만 되감을 수 있다. 그보다 앞을 요청하면 빈틈이 생긴다.
+    private record ReplayWindow(long replayFromEventId, boolean gapDetected) {
+        private static ReplayWindow of(long oldestEventId, long lastSeenEventId) {
+            if (oldestEventId <= 0L) {
+                return new ReplayWindow(lastSeenEventId, false);
+            }
+            long minimumRewindPoint = oldestEventId - 1L;
+            return new ReplayWindow(Math.max(lastSeenEventId, minimumRewindPoint), lastSeenEventId < minimumRewindPoint);
+        }
     }
 
-    private record AudioSnapshot(byte[] pcm16, int sampleRate, long turnId, QuestionSnapshot question) {
+    private record AudioSnapshot(SegmentedPcmBuffer pcm16,
+                                 int sampleRate,
+                                 boolean speechDetected,
+                                 List<SpeculativeSegment> partials,
+                                 long turnId,
+                                 QuestionSnapshot question) {
+        private boolean hasSpeech() {
+            return speechDetected || !partials.isEmpty();
+        }
+
+        // 아직 도는 추측 전사가 읽고 있을 수 있는 슬랩은 풀에 돌려주지 않고 GC에 맡긴다.
+        private void releaseAudio() {
+            pcm16.release();
+            for (SpeculativeSegment segment : partials) {
+                if (segment.transcript().isDone()) {
+                    segment.pcm16().release();
+                }
+            }
+        }
+    }
+
+    private record Pcm16Chunk(byte[] bytes, int length) {
+    }
+
+    private record SpeculativeSegment(SegmentedPcmBuffer pcm16, int sampleRate, CompletableFuture<String> transcript) {
     }
 
     private record PrefetchTarget(String questionId,
@@ -1059,9 +1235,6 @@ final class VoiceSessionFacade {
                                   String feedbackLanguage) {
     }
 
-    private record VoiceEventRecord(long eventId, String event, Object payload) {
-    }
-
     public record RecoveryQuestion(String id,
                                    String text,
                                    String group,
@@ -1085,16 +1258,16 @@ final class VoiceSessionFacade {
     }
 
     private static final class RuntimeContext {
-        private static final int PREFETCH_CACHE_LIMIT = 2;
         private final String voiceSessionId;
         private final String sessionId;
         private final String apiKey;
         private final RuntimeSettings settings;
-        private final int eventReplayBufferLimit;
-        private final Set<VoiceEventSink> sinks = ConcurrentHashMap.newKeySet();
+        private final Map<VoiceEventSink, VoiceEventOutbox> outboxes = new ConcurrentHashMap<>();
         private final Deque<TurnInput> continuousTurns = new ConcurrentLinkedDeque<>();
-        private final Deque<VoiceEventRecord> replayEvents = new ConcurrentLinkedDeque<>();
-        private final LinkedHashMap<String, FeedbackUseCase.PrefetchedTurnPrompt> prefetchByQuestionId = new LinkedHashMap<>();
+        private final VoiceEventReplayLog replayLog;
+        private final Function<VoiceEventSink, VoiceEventOutbox> outboxFactory;
+        private final VoiceSessionStateRecorder stateRecorder;
+        private final LongSupplier nowMillisSupplier;
         private final Object eventLock = new Object();
         private final AtomicBoolean initialized = new AtomicBoolean(false);
         private final AtomicBoolean closed = new AtomicBoolean(false);
@@ -1103,59 +1276,64 @@ final class VoiceSessionFacade {
         private final AtomicLong ttsSequence = new AtomicLong(0L);
         private final AtomicLong eventIdSequence = new AtomicLong(0L);
         private final Object audioLock = new Object();
-        private final ByteArrayOutputStream pcmBuffer = new ByteArrayOutputStream();
-        private int sampleRate = DEFAULT_SAMPLE_RATE;
+        private final VoiceTurnSegmenter segmenter;
+        private final Deque<SpeculativeSegment> speculativeSegments = new ArrayDeque<>();
         private volatile String stopReason = "";
         private volatile long stoppedAtEpochMs;
         private Long lastAcceptedChunkSequence;
         private NextQuestion currentQuestion;
         private long currentTurnId;
+        private volatile long statePersistedAtMs;
 
         private RuntimeContext(String voiceSessionId,
                                String sessionId,
                                String apiKey,
                                RuntimeSettings settings,
-                               int eventReplayBufferLimit) {
+                               VoiceTurnSegmenter segmenter,
+                               VoiceEventReplayLog replayLog,
+                               Function<VoiceEventSink, VoiceEventOutbox> outboxFactory,
+                               VoiceSessionStateRecorder stateRecorder,
+                               LongSupplier nowMillisSupplier) {
             this.voiceSessionId = voiceSessionId;
             this.sessionId = sessionId;
             this.apiKey = apiKey;
             this.settings = settings;
-            this.eventReplayBufferLimit = Math.max(1, eventReplayBufferLimit);
+            this.segmenter = segmenter;
+            this.replayLog = replayLog;
+            this.outboxFactory = outboxFactory;
+            this.stateRecorder = stateRecorder;
+            this.nowMillisSupplier = nowMillisSupplier;
         }
 
         private void addSink(VoiceEventSink sink, Long sinceEventId) {
             if (sink != null) {
+                VoiceEventOutbox outbox = outboxFactory.apply(sink);
                 synchronized (eventLock) {
-                    if (sinceEventId != null && !replayEvents(sink, sinceEventId)) {
-                        return;
-                    }
-                    sinks.add(sink);
+                    replayEvents(outbox, sinceEventId);
+                    outboxes.put(sink, outbox);
                 }
             }
         }
 
         private void removeSink(VoiceEventSink sink) {
-            if (sink != null) {
-                sinks.remove(sink);
+            VoiceEventOutbox outbox = sink == null ? null : outboxes.remove(sink);
+            if (outbox != null) {
+                outbox.close();
             }
         }
 
         private void emit(String event, Object payload) {
             synchronized (eventLock) {
-                VoiceEventRecord record = createEventRecord(event, payload);
-                replayEvents.addLast(record);
-                trimReplayEvents();
-                for (VoiceEventSink sink : sinks) {
-                    if (!sink.send(record.event(), record.payload())) {
-                        sinks.remove(sink);
-                    }
-                }
+                VoiceEventReplayLog.VoiceEvent record = createEventRecord(event, payload);
+                replayLog.append(record);
+                stateRecorder.appendEvent(voiceSessionId, record, replayLog.size());
+                outboxes.values().removeIf(outbox -> !outbox.offer(record));
             }
         }
 
-        private VoiceEventRecord createEventRecord(String event, Object payload) {
+        private VoiceEventReplayLog.VoiceEvent createEventRecord(String event, Object payload) {
             long eventId = eventIdSequence.incrementAndGet();
-            return new VoiceEventRecord(eventId, event, appendEventId(payload, eventId));
+            return VoiceEventReplayLog.VoiceEvent.serialize(eventId, event, appendEventId(payload, eventId));
         }
 
         private Object appendEventId(Object payload, long eventId) {
@@ -1173,23 +1351,13 @@ final class VoiceSessionFacade {
             return wrapped;
         }
 
-        private void trimReplayEvents() {
-            while (replayEvents.size() > eventReplayBufferLimit) {
-                replayEvents.pollFirst();
-            }
-        }
-
-        private boolean replayEvents(VoiceEventSink sink, Long sinceEventId) {
-            long since = sinceEventId == null ? 0L : Math.max(0L, sinceEventId);
-            for (VoiceEventRecord record : replayEvents) {
-                if (record.eventId() <= since) {
-                    continue;
-                }
-                if (!sink.send(record.event(), record.payload())) {
-                    return false;
-                }
+        private void replayEvents(VoiceEventOutbox outbox, Long sinceEventId) {
+            if (sinceEventId != null) {
+                replayLog.replayAfter(Math.max(0L, sinceEventId), record -> {
+                    outbox.offerReplay(record);
+                    return true;
+                });
             }
-            return true;
         }
 
         private boolean markInitialized() {
@@ -1207,6 +1375,7 @@ final class VoiceSessionFacade {
         private void markStopped(String stopReason, long stoppedAtEpochMs) {
             this.stopReason = stopReason == null ? "" : stopReason;
             this.stoppedAtEpochMs = stoppedAtEpochMs;
+            persistState();
         }
 
         private boolean isStoppedExpired(long nowEpochMs, long retentionMs) {
@@ -1223,10 +1392,6 @@ final class VoiceSessionFacade {
             return nowEpochMs - stoppedAt >= retentionMs;
         }
 
-        private long stoppedAtEpochMs() {
-            return stoppedAtEpochMs <= 0L ? Long.MAX_VALUE : stoppedAtEpochMs;
-        }
-
         private boolean startTurnProcessing() {
             return turnProcessing.compareAndSet(false, true);
         }
@@ -1235,13 +1400,15 @@ final class VoiceSessionFacade {
             turnProcessing.set(false);
         }
 
-        private void appendAudio(byte[] pcm16, int sampleRate) {
+        private void appendAudio(Pcm16Chunk chunk,
+                                 int sampleRate,
+                                 boolean endOfTurn,
+                                 Function<VoiceTurnSegmenter.Utterance, SpeculativeSegment> speculate) {
             synchronized (audioLock) {
-                if (pcm16.length > 0) {
-                    pcmBuffer.write(pcm16, 0, pcm16.length);
-                }
-                if (sampleRate > 0) {
-                    this.sampleRate = sampleRate;
+                segmenter.append(chunk.bytes(), chunk.length(), sampleRate, endOfTurn);
+                VoiceTurnSegmenter.Utterance partial;
+                while ((partial = segmenter.pollPartial()) != null) {
+                    speculativeSegments.addLast(speculate.apply(partial));
                 }
             }
         }
@@ -1255,23 +1422,49 @@ final class VoiceSessionFacade {
                     return false;
                 }
                 lastAcceptedChunkSequence = sequence;
-                return true;
+            }
+            persistChunkStateIfDue();
+            return true;
+        }
+
+        // 청크마다 상태를 덮어쓰지 않고 간격마다 한 번만 남긴다. 빠진 구간은 turn 경계와 stop에서 채워진다.
+        private void persistChunkStateIfDue() {
+            if (nowMillisSupplier.getAsLong() - statePersistedAtMs >= CHUNK_STATE_PERSIST_INTERVAL_MS) {
+                persistState();
             }
         }
 
         private AudioSnapshot consumeAudioSnapshot() {
+            AudioSnapshot snapshot = pollAudioSnapshot();
+            if (snapshot != null) {
+                persistState();
+            }
+            return snapshot;
+        }
+
+        private AudioSnapshot pollAudioSnapshot() {
             synchronized (audioLock) {
-                byte[] pcm16 = pcmBuffer.toByteArray();
-                pcmBuffer.reset();
-                int resolvedRate = sampleRate > 0 ? sampleRate : DEFAULT_SAMPLE_RATE;
-                QuestionSnapshot question = snapshotQuestion();
-                return new AudioSnapshot(pcm16, resolvedRate, currentTurnId, question);
+                VoiceTurnSegmenter.Utterance utterance = segmenter.poll();
+                if (utterance == null) {
+                    return null;
+                }
+                List<SpeculativeSegment> partials = pollSpeculativeSegments(utterance.segmentIndex());
+                return new AudioSnapshot(utterance.pcm16(), utterance.sampleRate(), utterance.speechDetected(),
+                        partials, currentTurnId, snapshotQuestion());
             }
         }
 
-        private boolean hasBufferedAudio() {
+        private List<SpeculativeSegment> pollSpeculativeSegments(int count) {
+            List<SpeculativeSegment> partials = new ArrayList<>(count);
+            for (int i = 0; i < count && !speculativeSegments.isEmpty(); i += 1) {
+                partials.add(speculativeSegments.pollFirst());
+            }
+            return partials;
+        }
+
+        private boolean hasReadyUtterance() {
             synchronized (audioLock) {
-                return pcmBuffer.size() > 0;
+                return segmenter.hasReadyUtterance();
             }
         }
 
@@ -1288,12 +1481,27 @@ final class VoiceSessionFacade {
                 this.currentQuestion = question;
                 this.currentTurnId = turnId;
             }
+            persistState();
         }
 
         private void clearCurrentQuestion() {
             synchronized (audioLock) {
                 this.currentQuestion = null;
-                this.prefetchByQuestionId.clear();
+            }
+            persistState();
+        }
+
+        private void persistState() {
+            statePersistedAtMs = nowMillisSupplier.getAsLong();
+            stateRecorder.save(toState());
+        }
+
+        private VoiceSessionState toState() {
+            synchronized (audioLock) {
+                QuestionSnapshot question = snapshotQuestion();
+                return new VoiceSessionState(voiceSessionId, sessionId, isInactive(), stopReason, stoppedAtEpochMs,
+                        currentTurnId, question == null ? null : question.toStoredQuestion(),
+                        lastAcceptedChunkSequence, eventIdSequence.get(), List.of());
             }
         }
 
@@ -1318,42 +1526,6 @@ final class VoiceSessionFacade {
             continuousTurns.add(turn);
         }
 
-        private void storePrefetchedTurnPrompt(FeedbackUseCase.PrefetchedTurnPrompt prefetch) {
-            if (prefetch == null || prefetch.questionId() == null || prefetch.questionId().isBlank()) {
-                return;
-            }
-            synchronized (audioLock) {
-                if (currentQuestion == null || currentQuestion.isSkipped()) {
-                    return;
-                }
-                if (!prefetch.questionId().equals(currentQuestion.getQuestionId())) {
-                    return;
-                }
-                prefetchByQuestionId.put(prefetch.questionId(), prefetch);
-                trimPrefetchCache();
-            }
-        }
-
-        private FeedbackUseCase.PrefetchedTurnPrompt consumePrefetchedTurnPrompt(String questionId) {
-            if (questionId == null || questionId.isBlank()) {
-                return null;
-            }
-            synchronized (audioLock) {
-                return prefetchByQuestionId.remove(questionId);
-            }
-        }
-
-        private void trimPrefetchCache() {
-            if (prefetchByQuestionId.size() <= PREFETCH_CACHE_LIMIT) {
-                return;
-            }
-            Iterator<String> keys = prefetchByQuestionId.keySet().iterator();
-            while (prefetchByQuestionId.size() > PREFETCH_CACHE_LIMIT && keys.hasNext()) {
-                keys.next();
-                keys.remove();
-            }
-        }
-
         private List<TurnInput> pollAllContinuousTurns() {
             List<TurnInput> turns = new ArrayList<>();
             while (true) {
@@ -1374,23 +1546,17 @@ final class VoiceSessionFacade {
             synchronized (audioLock) {
                 question = snapshotQuestion();
                 turnId = currentTurnId;
-                bufferedAudio = pcmBuffer.size() > 0;
+                bufferedAudio = segmenter.hasPendingSpeech();
                 acceptedChunkSequence = lastAcceptedChunkSequence;
             }
 
             long oldestEventId;
             long latestEventId;
             synchronized (eventLock) {
-                oldestEventId = replayEvents.isEmpty() ? 0L : replayEvents.peekFirst().eventId();
+                oldestEventId = replayLog.oldestEventId();
                 latestEventId = eventIdSequence.get();
             }
-            long replayFromEventId = safeLastSeenEventId;
-            boolean gapDetected = false;
-            if (oldestEventId > 0L) {
-                long minimumRewindPoint = oldestEventId - 1L;
-                replayFromEventId = Math.max(safeLastSeenEventId, minimumRewindPoint);
-                gapDetected = safeLastSeenEventId < minimumRewindPoint;
-            }
+            ReplayWindow window = ReplayWindow.of(oldestEventId, safeLastSeenEventId);
 
             return new RecoverySnapshot(
                     sessionId,
@@ -1404,8 +1570,8 @@ final class VoiceSessionFacade {
                     bufferedAudio,
                     acceptedChunkSequence,
                     latestEventId,
-                    replayFromEventId,
-                    gapDetected
+                    window.replayFromEventId(),
+                    window.gapDetected()
             );
         }
 
@@ -0,0 +1,180 @@
+package me.go_gradually.omypic.application.voice.usecase;
+
+import me.go_gradually.omypic.application.shared.port.AsyncExecutor;
+import me.go_gradually.omypic.application.voice.model.VoiceSessionState;
+import me.go_gradually.omypic.application.voice.port.VoiceSessionStateStore;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+/**
+ * 음성 세션 상태를 VoiceSessionStateStore에 옮겨 적는다.
+ * 호출한 스레드는 세션별 대기 묶음에 넣기만 하고, 실제 저장은 AsyncExecutor에서 세션마다 하나씩 도는 drain이 순서대로 맡는다.
+ * 상태는 마지막 것만 남기고 이벤트는 모아서 한 번에 쓰므로, turn 스레드가 저장소 왕복을 기다리지 않는다.
+ * 저장소 장애가 진행 중인 세션을 멈추지 않도록 실패는 로그만 남기고 넘어가며, 그동안의 recover는 프로세스 안 상태에 기댄다.
+ */
+final class VoiceSessionStateRecorder {
+    private static final Logger log = Logger.getLogger(VoiceSessionStateRecorder.class.getName());
+    private final VoiceSessionStateStore store;
+    private final AsyncExecutor executor;
+    private final int maxEvents;
+    private final boolean storesEvents;
+    private final Map<String, PendingWrites> pendingBySession = new ConcurrentHashMap<>();
+
+    VoiceSessionStateRecorder(VoiceSessionStateStore store, AsyncExecutor executor, int maxEvents) {
+        this.store = store;
+        this.executor = executor;
+        this.maxEvents = Math.max(1, maxEvents);
+        this.storesEvents = store.sharesEventsAcrossInstances();
+    }
+
+    void save(VoiceSessionState state) {
+        enqueue(state.voiceSessionId(), pending -> pending.state = state);
+    }
+
+    // 직렬화하지 못한 이벤트는 다른 인스턴스에서 재전송할 수 없으므로 남기지 않는다.
+    // retainedCount는 replay 로그가 개수·바이트 상한을 적용하고 남긴 이벤트 수라, 저장 쪽 창도 같은 바이트 예산을 따른다.
+    void appendEvent(String voiceSessionId, VoiceEventReplayLog.VoiceEvent event, int retainedCount) {
+        if (!storesEvents || event.json() == null) {
+            return;
+        }
+        String json = new String(event.json(), StandardCharsets.UTF_8);
+        VoiceSessionState.Event stored = new VoiceSessionState.Event(event.eventId(), event.event(), json);
+        int keepCount = Math.max(1, Math.min(maxEvents, retainedCount));
+        enqueue(voiceSessionId, pending -> pending.addEvent(stored, keepCount));
+    }
+
+    void delete(String voiceSessionId) {
+        enqueue(voiceSessionId, PendingWrites::markDeleted);
+    }
+
+    Optional<VoiceSessionState> find(String voiceSessionId) {
+        try {
+            return store.find(voiceSessionId);
+        } catch (RuntimeException e) {
+            warn("find", voiceSessionId, e);
+            return Optional.empty();
+        }
+    }
+
+    // drain이 막 비우고 맵에서 빠진 묶음을 잡았다면 새 묶음을 다시 얻는다.
+    private void enqueue(String voiceSessionId, Consumer<PendingWrites> change) {
+        PendingWrites pending;
+        do {
+            pending = pendingBySession.computeIfAbsent(voiceSessionId, PendingWrites::new);
+        } while (!pending.offer(change));
+        if (pending.claimDrain()) {
+            scheduleDrain(pending);
+        }
+    }
+
+    private void scheduleDrain(PendingWrites pending) {
+        try {
+            executor.execute(() -> drain(pending));
+        } catch (RejectedExecutionException e) {
+            drain(pending);
+        }
+    }
+
+    private void drain(PendingWrites pending) {
+        for (Batch batch = pending.take(); batch != null; batch = pending.take()) {
+            write(pending.voiceSessionId, batch);
+        }
+    }
+
+    // 삭제 뒤에 들어온 상태만 묶음에 남으므로 삭제 → 상태 → 이벤트 순서로 쓴다. 이벤트 append는 문서가 있어야 하므로 상태가 먼저다.
+    private void write(String voiceSessionId, Batch batch) {
+        if (batch.deleted()) {
+            run("delete", voiceSessionId, () -> store.delete(voiceSessionId));
+        }
+        if (batch.state() != null) {
+            run("save", voiceSessionId, () -> store.save(batch.state()));
+        }
+        if (!batch.events().isEmpty()) {
+            run("appendEvents", voiceSessionId, () -> store.appendEvents(voiceSessionId, batch.events(), batch.keepCount()));
+        }
+    }
+
+    private void run(String operation, String voiceSessionId, Runnable action) {
+        try {
+            action.run();
+        } catch (RuntimeException e) {
+            warn(operation, voiceSessionId, e);
+        }
+    }
+
+    private void warn(String operation, String voiceSessionId, RuntimeException e) {
+        log.warning(() -> "voice session state " + operation + " failed voiceSessionId="
+                + voiceSessionId
+                + " reason="
+                + e.getMessage());
+    }
+
+    private record Batch(boolean deleted, VoiceSessionState state, List<VoiceSessionState.Event> events, int keepCount) {
+    }
+
+    private final class PendingWrites {
+        private final String voiceSessionId;
+        private final List<VoiceSessionState.Event> events = new ArrayList<>();
+        private VoiceSessionState state;
+        private int keepCount;
+        private boolean deleted;
+        private boolean draining;
+        private boolean retired;
+
+        private PendingWrites(String voiceSessionId) {
+            this.voiceSessionId = voiceSessionId;
+        }
+
+        private synchronized boolean offer(Consumer<PendingWrites> change) {
+            if (!retired) {
+                change.accept(this);
+            }
+            return !retired;
+        }
+
+        private synchronized boolean claimDrain() {
+            if (draining || retired) {
+                return false;
+            }
+            draining = true;
+            return true;
+        }
+
+        // 비어 있으면 맵에서 빠지고, 이후 요청은 새 묶음과 새 drain으로 이어진다.
+        private synchronized Batch take() {
+            if (!deleted && state == null && events.isEmpty()) {
+                retired = true;
+                pendingBySession.remove(voiceSessionId, this);
+                return null;
+            }
+            Batch batch = new Batch(deleted, state, List.copyOf(events), keepCount);
+            deleted = false;
+            state = null;
+            events.clear();
+            return batch;
+        }
+
+        // 저장소가 느려 쌓이더라도 어차피 잘려 나갈 앞부분은 들고 있지 않는다.
+        private void addEvent(VoiceSessionState.Event event, int keepCount) {
+            events.add(event);
+            this.keepCount = keepCount;
+            while (events.size() > keepCount) {
+                events.remove(0);
+            }
+        }
+
+        private void markDeleted() {
+            deleted = true;
+            state = null;
+            events.clear();
+        }
+    }
+}
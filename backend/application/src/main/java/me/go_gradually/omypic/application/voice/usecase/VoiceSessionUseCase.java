@@ -12,6 +12,7 @@ import me.go_gradually.omypic.application.voice.model.VoiceSessionOpenCommand;
 import me.go_gradually.omypic.application.voice.model.VoiceSessionStopCommand;
 import me.go_gradually.omypic.application.voice.policy.VoicePolicy;
 import me.go_gradually.omypic.application.voice.port.TtsGateway;
+import me.go_gradually.omypic.application.voice.port.VoiceSessionStateStore;
 
 import java.util.function.LongSupplier;
 
@@ -25,7 +26,8 @@ public class VoiceSessionUseCase {
                                TtsGateway ttsGateway,
                                AsyncExecutor asyncExecutor,
                                VoicePolicy voicePolicy,
-                               MetricsPort metrics) {
+                               MetricsPort metrics,
+                               VoiceSessionStateStore stateStore) {
         this.facade = new VoiceSessionFacade(
                 sttUseCase,
                 feedbackUseCase,
@@ -34,7 +36,8 @@ public class VoiceSessionUseCase {
                 ttsGateway,
                 asyncExecutor,
                 voicePolicy,
-                metrics
+                metrics,
+                stateStore
         );
     }
 
@@ -46,6 +49,7 @@ public class VoiceSessionUseCase {
                         AsyncExecutor asyncExecutor,
                         VoicePolicy voicePolicy,
                         MetricsPort metrics,
+                        VoiceSessionStateStore stateStore,
                         int eventReplayBufferLimit) {
         this.facade = new VoiceSessionFacade(
                 sttUseCase,
@@ -56,6 +60,7 @@ public class VoiceSessionUseCase {
                 asyncExecutor,
                 voicePolicy,
                 metrics,
+                stateStore,
                 eventReplayBufferLimit
         );
     }
@@ -68,6 +73,7 @@ public class VoiceSessionUseCase {
                         AsyncExecutor asyncExecutor,
                         VoicePolicy voicePolicy,
                         MetricsPort metrics,
+                        VoiceSessionStateStore stateStore,
                         int eventReplayBufferLimit,
                         LongSupplier nowMillisSupplier) {
         this.facade = new VoiceSessionFacade(
@@ -79,6 +85,7 @@ public class VoiceSessionUseCase {
                 asyncExecutor,
                 voicePolicy,
                 metrics,
+                stateStore,
                 eventReplayBufferLimit,
                 nowMillisSupplier
         );
@@ -112,6 +119,10 @@ public class VoiceSessionUseCase {
         facade.stop(command);
     }
 
+    public void reapStoppedContexts() {
+        facade.reapStoppedContexts();
+    }
+
     private RecoverySnapshot toRecoverySnapshot(VoiceSessionFacade.RecoverySnapshot snapshot) {
         return new RecoverySnapshot(
                 snapshot.sessionId(),
@@ -0,0 +1,195 @@
+package me.go_gradually.omypic.application.voice.usecase;
+
+import me.go_gradually.omypic.application.stt.model.VadSettings;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * 세션별 PCM 버퍼와 VAD를 묶어 수신 오디오를 발화 단위로 자른다.
+ * 끝점이 잡힌 발화는 앞뒤 무음을 패딩만 남기고 잘라 대기열에 넣고, 끝점 이후 오디오는 다음 발화로 이어서 판정한다.
+ * 스트리밍 중 쉼이 잡히면 그때까지의 구간을 부분 세그먼트로 먼저 내보내고, 발화가 끝나면 마지막 꼬리 구간만 남긴다.
+ * 버퍼는 풀링된 슬랩으로 이뤄지며, 끝점에서 잘린 발화는 복사 없이 슬랩째 넘긴다. 받은 쪽이 다 쓰고 release한다.
+ * 호출자가 동기화를 책임진다.
+ */
+final class VoiceTurnSegmenter {
+    static final VadSettings DEFAULT_SETTINGS = new VadSettings(300, 800, 0.015);
+    private static final int TRAILING_PADDING_MS = 200;
+    private static final int MIN_PARTIAL_MS = 2000;
+
+    private final VadSettings settings;
+    private final Deque<Utterance> ready = new ArrayDeque<>();
+    private final Deque<Utterance> partials = new ArrayDeque<>();
+    private VoiceActivityDetector detector;
+    private final SegmentedPcmBuffer buffer;
+    private int sampleRate;
+    private boolean utteranceSinceForcedEnd;
+    private int segmentStart = -1;
+    private long partialSpeechEnd = -1L;
+    private int partialCount;
+
+    VoiceTurnSegmenter(VadSettings settings, int sampleRate) {
+        this(settings, sampleRate, PcmSlabPool.SHARED);
+    }
+
+    VoiceTurnSegmenter(VadSettings settings, int sampleRate, PcmSlabPool pool) {
+        this.settings = resolve(settings);
+        this.buffer = new SegmentedPcmBuffer(pool);
+        this.sampleRate = sampleRate;
+        this.detector = newDetector(sampleRate);
+    }
+
+    /**
+     * endOfTurn이면 청크 내부의 쉼으로는 자르지 않고, 청크 끝에서 발화를 닫으며 앞뒤 무음만 다듬는다.
+     * 그렇지 않으면 VAD가 끝점을 정할 때까지 버퍼에 이어 붙인다.
+     */
+    void append(byte[] pcm16, int sampleRate, boolean endOfTurn) {
+        append(pcm16, pcm16.length, sampleRate, endOfTurn);
+    }
+
+    void append(byte[] pcm16, int length, int sampleRate, boolean endOfTurn) {
+        switchSampleRate(sampleRate);
+        detector.setEndpointing(!endOfTurn);
+        int offset = 0;
+        while (offset + 1 < length) {
+            offset += consume(pcm16, offset, length);
+        }
+        if (endOfTurn) {
+            closeTurn();
+        } else {
+            dropIdleSilence();
+        }
+    }
+
+    Utterance poll() {
+        return ready.pollFirst();
+    }
+
+    Utterance pollPartial() {
+        return partials.pollFirst();
+    }
+
+    boolean hasReadyUtterance() {
+        return !ready.isEmpty();
+    }
+
+    boolean hasPendingSpeech() {
+        return !ready.isEmpty() || detector.hasSpeech();
+    }
+
+    private int consume(byte[] pcm16, int offset, int length) {
+        int consumed = detector.feed(pcm16, offset, length - offset);
+        buffer.write(pcm16, offset, consumed);
+        if (detector.isEndpoint()) {
+            cutUtterance();
+        } else if (detector.isPause()) {
+            cutPartial();
+        }
+        return consumed;
+    }
+
+    // 발화를 못 찾은 turn은 문턱값보다 작게 말했을 수도 있으므로 오디오를 자르지 않고 그대로 넘긴다.
+    private void closeTurn() {
+        if (detector.hasSpeech()) {
+            cutUtterance();
+        } else if (!utteranceSinceForcedEnd) {
+            ready.addLast(new Utterance(buffer.detach(0, buffer.length()), sampleRate, false, 0));
+        }
+        utteranceSinceForcedEnd = false;
+        restart();
+    }
+
+    // 이미 부분 세그먼트로 나간 구간은 빼고, 그 뒤에 발화가 있었을 때만 꼬리 오디오를 싣는다.
+    private void cutUtterance() {
+        int end = speechEndWithPadding();
+        int start = Math.min(utteranceStart(), end);
+        boolean tailSpeech = detector.speechEndSample() > partialSpeechEnd;
+        SegmentedPcmBuffer tail = buffer.detach(start, tailSpeech ? end : start);
+        ready.addLast(new Utterance(tail, sampleRate, tailSpeech, partialCount));
+        utteranceSinceForcedEnd = true;
+        restart();
+    }
+
+    private void cutPartial() {
+        detector.clearPause();
+        int start = utteranceStart();
+        int end = speechEndWithPadding();
+        if (end - start < paddingBytes(MIN_PARTIAL_MS)) {
+            return;
+        }
+        partials.addLast(new Utterance(buffer.copyRange(start, end), sampleRate, true, partialCount));
+        partialCount += 1;
+        segmentStart = end;
+        partialSpeechEnd = detector.speechEndSample();
+    }
+
+    private int utteranceStart() {
+        if (segmentStart >= 0) {
+            return segmentStart;
+        }
+        return Math.max(0, toBytes(detector.speechStartSample()) - paddingBytes(settings.prefixPaddingMs()));
+    }
+
+    private int speechEndWithPadding() {
+        return Math.min(buffer.length(), toBytes(detector.speechEndSample()) + paddingBytes(TRAILING_PADDING_MS));
+    }
+
+    // 발화가 없는 동안에는 프리픽스 패딩과 미완성 프레임만 남기고 오래된 무음을 버린다.
+    private void dropIdleSilence() {
+        if (!detector.isIdle()) {
+            return;
+        }
+        int keep = paddingBytes(settings.prefixPaddingMs()) + toBytes(detector.pendingFrameSamples());
+        int drop = (buffer.length() - keep) & ~1;
+        if (drop <= 0) {
+            return;
+        }
+        buffer.dropLeading(drop);
+        detector.discardLeading(drop / 2);
+    }
+
+    private void switchSampleRate(int requestedRate) {
+        if (requestedRate <= 0 || requestedRate == sampleRate) {
+            return;
+        }
+        if (detector.hasSpeech()) {
+            cutUtterance();
+        }
+        sampleRate = requestedRate;
+        detector = newDetector(requestedRate);
+        buffer.release();
+    }
+
+    private void restart() {
+        buffer.release();
+        segmentStart = -1;
+        partialSpeechEnd = -1L;
+        partialCount = 0;
+        detector.reset();
+    }
+
+    private VoiceActivityDetector newDetector(int rate) {
+        return new VoiceActivityDetector(rate, settings.threshold(), settings.silenceDurationMs());
+    }
+
+    private int paddingBytes(int millis) {
+        return toBytes((long) sampleRate * Math.max(0, millis) / 1000);
+    }
+
+    private static int toBytes(long samples) {
+        return (int) Math.max(0L, samples) * 2;
+    }
+
+    private static VadSettings resolve(VadSettings settings) {
+        if (settings == null || settings.threshold() <= 0.0 || settings.silenceDurationMs() <= 0) {
+            return DEFAULT_SETTINGS;
+        }
+        return settings;
+    }
+
+    /**
+     * segmentIndex는 부분 세그먼트면 발화 안에서의 순번이고, 발화 끝이면 앞서 나간 부분 세그먼트 수다.
+     */
+    record Utterance(SegmentedPcmBuffer pcm16, int sampleRate, boolean speechDetected, int segmentIndex) {
+    }
+}
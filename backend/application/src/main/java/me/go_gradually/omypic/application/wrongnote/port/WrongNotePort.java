@@ -3,6 +3,7 @@ package me.go_gradually.omypic.application.wrongnote.port;
 import me.go_gradually.omypic.domain.wrongnote.WrongNote;
 import me.go_gradually.omypic.domain.wrongnote.WrongNoteId;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -16,4 +17,12 @@ public interface WrongNotePort {
     void deleteById(WrongNoteId id);
 
     void deleteAll();
+
+    default List<WrongNote> saveAll(Collection<WrongNote> notes) {
+        return notes.stream().map(this::save).toList();
+    }
+
+    default void deleteAllById(Collection<WrongNoteId> ids) {
+        ids.forEach(this::deleteById);
+    }
 }
@@ -1,5 +1,6 @@
 package me.go_gradually.omypic.application.datatransfer.usecase;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
@@ -43,7 +44,10 @@ import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -128,6 +132,24 @@ class DataTransferUseCaseTest {
         assertArrayEquals("# rules".getBytes(StandardCharsets.UTF_8), zipEntries.get("files/rulebooks/r1_rules.md"));
     }
 
+    @Test
+    void exportZip_readsSharedRulebookFileOnceAndReusesItsEntry() throws Exception {
+        Rulebook first = Rulebook.rehydrate(RulebookId.of("r1"), "rules.md", "/tmp/same.md",
+                RulebookScope.MAIN, null, true, FIXED_TIME, FIXED_TIME);
+        Rulebook copy = Rulebook.rehydrate(RulebookId.of("r2"), "rules-copy.md", "/tmp/same.md",
+                RulebookScope.MAIN, null, false, FIXED_TIME, FIXED_TIME);
+        when(rulebookPort.findAll()).thenReturn(List.of(first, copy));
+        when(rulebookFileStore.readBytes("/tmp/same.md")).thenReturn("# rules".getBytes(StandardCharsets.UTF_8));
+
+        Map<String, byte[]> zipEntries = unzipEntries(useCase.exportZip());
+        JsonNode rulebooks = objectMapper.readTree(zipEntries.get("data/rulebooks.json"));
+
+        verify(rulebookFileStore, times(1)).readBytes("/tmp/same.md");
+        assertEquals(false, zipEntries.containsKey("files/rulebooks/r2_rules-copy.md"));
+        assertEquals("files/rulebooks/r1_rules.md", rulebooks.get(0).get("fileEntry").asText());
+        assertEquals("files/rulebooks/r1_rules.md", rulebooks.get(1).get("fileEntry").asText());
+    }
+
     @Test
     void importZip_replacesAllDataAndReindexes() throws Exception {
         when(rulebookFileStore.store(eq("rules.md"), any(byte[].class))).thenReturn(new StoredRulebookFile("/tmp/new-rules.md"));
@@ -149,9 +171,12 @@ class DataTransferUseCaseTest {
         verify(wrongNoteRecentQueuePort).clearGlobalQueue();
         verify(rulebookFileStore).clearAll();
         verify(rulebookIndexPort).reset();
-        verify(questionGroupPort).save(any(QuestionGroupAggregate.class));
-        verify(rulebookPort).save(any(Rulebook.class));
-        verify(wrongNotePort).save(any(WrongNote.class));
+        verify(questionGroupPort).saveAll(argThat(groups -> groups.size() == 1));
+        ArgumentCaptor<List<Rulebook>> rulebookCaptor = ArgumentCaptor.forClass(List.class);
+        verify(rulebookPort).saveAll(rulebookCaptor.capture());
+        assertEquals("/tmp/new-rules.md", rulebookCaptor.getValue().get(0).getPath());
+        verify(wrongNotePort).saveAll(argThat(notes -> notes.size() == 1));
+        verify(rulebookPort, never()).save(any(Rulebook.class));
         verify(wrongNoteRecentQueuePort).saveGlobalQueue(List.of("pattern"));
 
         ArgumentCaptor<byte[]> fileCaptor = ArgumentCaptor.forClass(byte[].class);
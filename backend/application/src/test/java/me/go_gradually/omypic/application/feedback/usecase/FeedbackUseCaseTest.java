@@ -18,6 +18,7 @@ import me.go_gradually.omypic.domain.feedback.Recommendations;
 import me.go_gradually.omypic.domain.question.QuestionGroup;
 import me.go_gradually.omypic.domain.rulebook.RulebookContext;
 import me.go_gradually.omypic.domain.rulebook.RulebookId;
+import me.go_gradually.omypic.domain.session.ConversationRebasePolicy;
 import me.go_gradually.omypic.domain.session.ModeType;
 import me.go_gradually.omypic.domain.session.SessionId;
 import me.go_gradually.omypic.domain.session.SessionState;
@@ -224,11 +225,9 @@ class FeedbackUseCaseTest {
         assertTrue(firstSystemPrompt.contains("\"filler\": {\"term\": \"string\", \"usage\": \"string\"}"));
         assertTrue(firstSystemPrompt.contains("recommendations.term/usage는 \"추가 제안\" 전용이다"));
         assertTrue(firstSystemPrompt.contains("기존 표현을 제거하라는 피드백은 recommendation에 절대 포함하지 마라"));
-        assertTrue(systemPrompts.stream().anyMatch(prompt -> prompt.contains("중요 규칙(절대 준수):")));
-        assertTrue(systemPrompts.stream().anyMatch(prompt -> prompt.contains("금지 표현 예시: \"remove\", \"eliminate\"")));
-        List<String> userPrompts = userPromptCaptor.getAllValues();
-        assertTrue(userPrompts.stream().anyMatch(prompt -> prompt.contains("출력 점검 체크리스트:")));
-        assertTrue(userPrompts.stream().anyMatch(prompt -> prompt.contains("usage가 \"문장에 어떻게 덧붙일지\"를 설명하는가?")));
+        String firstUserPrompt = userPromptCaptor.getAllValues().get(0);
+        assertTrue(firstUserPrompt.contains("# 추천 표현 제약"));
+        assertTrue(firstUserPrompt.contains("\"remove\", \"eliminate\""));
     }
 
     @Test
@@ -261,7 +260,7 @@ class FeedbackUseCaseTest {
         FeedbackResult result = useCase.generateFeedback("key", command("s5-retry", "openai", "en", "answer"));
 
         assertTrue(result.isGenerated());
-        verify(openAiClient, times(3)).generate(anyString(), anyString(), anyString(), anyString(), any(), any());
+        verify(openAiClient, times(2)).generate(anyString(), anyString(), anyString(), anyString(), any(), any());
         verify(openAiClient, times(1)).bootstrap(anyString(), anyString(), anyString(), any());
         verify(metrics, never()).incrementFeedbackError();
     }
@@ -306,16 +305,51 @@ class FeedbackUseCaseTest {
         }
 
         ArgumentCaptor<LlmConversationState> captor = ArgumentCaptor.forClass(LlmConversationState.class);
-        verify(openAiClient, times(14)).generate(anyString(), anyString(), anyString(), anyString(), captor.capture(), any());
+        verify(openAiClient, times(7)).generate(anyString(), anyString(), anyString(), anyString(), captor.capture(), any());
         verify(openAiClient, never()).bootstrap(anyString(), anyString(), anyString(), any());
+        verify(openAiClient, never()).generateRecommendations(anyString(), anyString(), anyString(), anyString());
         List<LlmConversationState> values = captor.getAllValues();
         assertEquals("", values.get(0).conversationId());
-        assertEquals("", values.get(1).conversationId());
-        assertEquals("conv-1", values.get(2).conversationId());
-        assertEquals("conv-1", values.get(10).conversationId());
-        assertEquals("", values.get(11).conversationId());
-        assertEquals("", values.get(12).conversationId());
-        assertEquals("", values.get(13).conversationId());
+        assertEquals("conv-1", values.get(1).conversationId());
+        assertEquals("conv-1", values.get(5).conversationId());
+        assertEquals("", values.get(6).conversationId());
+    }
+
+    @Test
+    void generateFeedback_rebasesConversationWhenInputTokenBudgetIsCrossed() throws Exception {
+        stubDefaultFeedbackPolicy();
+        FeedbackUseCase budgetedUseCase = new FeedbackUseCase(
+                List.of(openAiClient),
+                rulebookUseCase,
+                feedbackPolicy,
+                metrics,
+                sessionStore,
+                wrongNoteUseCase,
+                new ConversationRebasePolicy(10, 4000L, 0L, 1)
+        );
+        SessionState state = new SessionState(SessionId.of("s-budget"));
+        when(sessionStore.getOrCreate(SessionId.of("s-budget"))).thenReturn(state);
+        when(rulebookUseCase.searchContexts(anyString())).thenReturn(List.of());
+        when(openAiClient.generate(anyString(), anyString(), anyString(), anyString(), any(), any()))
+                .thenAnswer((Answer<LlmGenerateResult>) invocation -> {
+                    LlmConversationState previous = invocation.getArgument(4);
+                    int nextTurnCount = previous.turnCountSinceRebase() + 1;
+                    return new LlmGenerateResult(
+                            successResult().feedback(),
+                            List.of(),
+                            new LlmConversationState("conv-1", "resp-" + nextTurnCount, nextTurnCount),
+                            "summary",
+                            5000L
+                    );
+                });
+
+        for (int i = 0; i < 3; i += 1) {
+            budgetedUseCase.generateFeedback("key", command("s-budget", "openai", "en", "answer-" + i));
+        }
+
+        assertEquals(1, state.conversationState().turnCountSinceRebase());
+        assertEquals(2, state.buildPromptContext().recentTurns().size());
+        verify(metrics, times(1)).incrementConversationRebase("INPUT_TOKEN_BUDGET");
     }
 
     @Test
@@ -393,6 +427,55 @@ class FeedbackUseCaseTest {
         verify(wrongNoteUseCase).addFeedback(any(Feedback.class));
     }
 
+    @Test
+    void prefetchTurnPrompt_reusesPromptAcrossCallersUntilRulebookIndexChanges() {
+        when(rulebookUseCase.indexVersion()).thenReturn(1L, 1L, 2L);
+        when(rulebookUseCase.searchContextsForTurn(QuestionGroup.of("A"), "Question text", 2))
+                .thenReturn(List.of(RulebookContext.of(RulebookId.of("r1"), "a.md", "group A rules")));
+
+        FeedbackUseCase.PrefetchedTurnPrompt first = useCase.prefetchTurnPrompt("q-1", "Question text", QuestionGroup.of("A"), "en", 2);
+        FeedbackUseCase.PrefetchedTurnPrompt second = useCase.prefetchTurnPrompt("q-1", "Question text", QuestionGroup.of("A"), "en", 2);
+        FeedbackUseCase.PrefetchedTurnPrompt rebuilt = useCase.prefetchTurnPrompt("q-1", "Question text", QuestionGroup.of("A"), "en", 2);
+
+        assertSame(first, second);
+        assertNotSame(first, rebuilt);
+        verify(rulebookUseCase, times(2)).searchContextsForTurn(QuestionGroup.of("A"), "Question text", 2);
+        verify(metrics, never()).incrementTurnPromptCache(anyString());
+    }
+
+    @Test
+    void findPrefetchedTurnPrompt_missesAfterQuestionEditAndRecordsTurnLookups() {
+        when(rulebookUseCase.indexVersion()).thenReturn(1L);
+        when(rulebookUseCase.searchContextsForTurn(QuestionGroup.of("A"), "Question text", 2))
+                .thenReturn(List.of(RulebookContext.of(RulebookId.of("r1"), "a.md", "group A rules")));
+        FeedbackUseCase.PrefetchedTurnPrompt prefetch = useCase.prefetchTurnPrompt("q-1", "Question text", QuestionGroup.of("A"), "en", 2);
+
+        assertSame(prefetch, useCase.findPrefetchedTurnPrompt("q-1", "Question text", QuestionGroup.of("A"), "en"));
+        assertNull(useCase.findPrefetchedTurnPrompt("q-1", "Edited question", QuestionGroup.of("A"), "en"));
+        assertNull(useCase.findPrefetchedTurnPrompt("q-1", "Question text", QuestionGroup.of("B"), "en"));
+
+        verify(metrics).incrementTurnPromptCache("hit");
+        verify(metrics, times(2)).incrementTurnPromptCache("miss");
+    }
+
+    @Test
+    void generateFeedback_skipsRecommendationRepairWhenFirstResultIsClean() throws Exception {
+        stubDefaultFeedbackPolicy();
+        SessionState state = new SessionState(SessionId.of("s-clean"));
+        state.appendLlmRecommendationTerms("actually", "vivid", "clearly", 5);
+        when(sessionStore.getOrCreate(SessionId.of("s-clean"))).thenReturn(state);
+        when(rulebookUseCase.searchContexts(anyString())).thenReturn(List.of());
+        when(openAiClient.generate(anyString(), anyString(), anyString(), anyString(), any(), any()))
+                .thenReturn(successResult());
+
+        FeedbackResult result = useCase.generateFeedback("key", command("s-clean", "openai", "en", "answer"));
+
+        assertTrue(result.isGenerated());
+        verify(openAiClient, times(1)).generate(anyString(), anyString(), anyString(), contains("Filler: actually"), any(), any());
+        verify(openAiClient, never()).generateRecommendations(anyString(), anyString(), anyString(), anyString());
+        verify(metrics, never()).incrementRecommendationRepairAttempt();
+    }
+
     @Test
     void generateFeedback_recommendationRepairTracksDuplicateWhenItCannotImprove() throws Exception {
         stubDefaultFeedbackPolicy();
@@ -401,20 +484,78 @@ class FeedbackUseCaseTest {
         when(sessionStore.getOrCreate(SessionId.of("s-duplicate"))).thenReturn(state);
         when(rulebookUseCase.searchContexts(anyString())).thenReturn(List.of());
         when(openAiClient.generate(anyString(), anyString(), anyString(), anyString(), any(), any()))
-                .thenReturn(successResult())
-                .thenReturn(successResult())
                 .thenReturn(successResult());
+        when(openAiClient.generateRecommendations(anyString(), anyString(), anyString(), anyString()))
+                .thenReturn(successResult().feedback().getRecommendations());
 
         FeedbackResult result = useCase.generateFeedback("key", command("s-duplicate", "openai", "en", "answer"));
 
         assertTrue(result.isGenerated());
-        verify(openAiClient, times(3)).generate(anyString(), anyString(), anyString(), anyString(), any(), any());
+        ArgumentCaptor<String> systemPromptCaptor = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<String> userPromptCaptor = ArgumentCaptor.forClass(String.class);
+        verify(openAiClient, times(1)).generate(anyString(), anyString(), anyString(), anyString(), any(), any());
+        verify(openAiClient, times(1)).generateRecommendations(anyString(), anyString(), systemPromptCaptor.capture(), userPromptCaptor.capture());
+        assertTrue(systemPromptCaptor.getValue().contains("중요 규칙(절대 준수):"));
+        assertTrue(systemPromptCaptor.getValue().contains("금지 표현 예시: \"remove\", \"eliminate\""));
+        assertTrue(userPromptCaptor.getValue().contains("출력 점검 체크리스트:"));
+        assertFalse(userPromptCaptor.getValue().contains("룰북 문서"));
         verify(metrics).incrementRecommendationRepairAttempt();
         verify(metrics).incrementRecommendationDuplicateDetected();
         verify(metrics, never()).incrementRecommendationRepairSuccess();
         verify(metrics, never()).incrementRecommendationMinimalFallback();
     }
 
+    @Test
+    void generateFeedback_recommendationRepairReplacesOnlyDuplicatedSlots() throws Exception {
+        stubDefaultFeedbackPolicy();
+        SessionState state = new SessionState(SessionId.of("s-repair"));
+        state.appendLlmRecommendationTerms("well", "vivid", "clearly", 5);
+        when(sessionStore.getOrCreate(SessionId.of("s-repair"))).thenReturn(state);
+        when(rulebookUseCase.searchContexts(anyString())).thenReturn(List.of());
+        when(openAiClient.generate(anyString(), anyString(), anyString(), anyString(), any(), any()))
+                .thenReturn(successResult());
+        when(openAiClient.generateRecommendations(anyString(), anyString(), anyString(), anyString()))
+                .thenReturn(new Recommendations(
+                        new RecommendationDetail("Actually", "Use it to soften the opening."),
+                        new RecommendationDetail("cozy", "Use it for the place."),
+                        new RecommendationDetail("honestly", "Use it for a personal view.")
+                ));
+
+        FeedbackResult result = useCase.generateFeedback("key", command("s-repair", "openai", "en", "answer"));
+
+        Recommendations recommendations = result.getFeedback().getRecommendations();
+        assertEquals("Actually", recommendations.filler().term());
+        assertEquals("impressive", recommendations.adjective().term());
+        assertEquals("definitely", recommendations.adverb().term());
+        verify(metrics).incrementRecommendationRepairAttempt();
+        verify(metrics).incrementRecommendationRepairSuccess();
+        verify(metrics, never()).incrementRecommendationDuplicateDetected();
+    }
+
+    @Test
+    void generateFeedback_normalizesRepairedRecommendationsLikeFirstResponse() throws Exception {
+        stubDefaultFeedbackPolicy();
+        SessionState state = new SessionState(SessionId.of("s-repair-normalize"));
+        state.appendLlmRecommendationTerms("well", "vivid", "clearly", 5);
+        when(sessionStore.getOrCreate(SessionId.of("s-repair-normalize"))).thenReturn(state);
+        when(rulebookUseCase.searchContexts(anyString())).thenReturn(List.of());
+        when(openAiClient.generate(anyString(), anyString(), anyString(), anyString(), any(), any()))
+                .thenReturn(successResult());
+        when(openAiClient.generateRecommendations(anyString(), anyString(), anyString(), anyString()))
+                .thenReturn(new Recommendations(
+                        new RecommendationDetail("Actually - Use it to soften the opening.", ""),
+                        new RecommendationDetail("", ""),
+                        new RecommendationDetail("", "")
+                ));
+
+        FeedbackResult result = useCase.generateFeedback("key", command("s-repair-normalize", "openai", "en", "answer"));
+
+        RecommendationDetail filler = result.getFeedback().getRecommendations().filler();
+        assertEquals("Actually", filler.term());
+        assertEquals("Use it to soften the opening.", filler.usage());
+        verify(metrics).incrementRecommendationRepairSuccess();
+    }
+
     @Test
     void generateFeedback_appliesMinimalRecommendationFallbackWhenRepairFails() throws Exception {
         stubDefaultFeedbackPolicy();
@@ -426,8 +567,8 @@ class FeedbackUseCaseTest {
                         new RecommendationDetail("", ""),
                         new RecommendationDetail("", ""),
                         new RecommendationDetail("", "")
-                ))
-                .thenThrow(new IllegalStateException("candidate failed"))
+                ));
+        when(openAiClient.generateRecommendations(anyString(), anyString(), anyString(), anyString()))
                 .thenThrow(new IllegalStateException("repair failed"));
 
         FeedbackResult result = useCase.generateFeedback("key", command("s-minimal", "openai", "en", "answer text"));
@@ -439,7 +580,8 @@ class FeedbackUseCaseTest {
         assertFalse(result.getFeedback().getRecommendations().adjective().usage().isBlank());
         assertTrue(result.getFeedback().getRecommendations().adverb().term().isBlank());
         assertFalse(result.getFeedback().getRecommendations().adverb().usage().isBlank());
-        verify(openAiClient, times(3)).generate(anyString(), anyString(), anyString(), anyString(), any(), any());
+        verify(openAiClient, times(1)).generate(anyString(), anyString(), anyString(), anyString(), any(), any());
+        verify(openAiClient, times(1)).generateRecommendations(anyString(), anyString(), anyString(), anyString());
         verify(metrics).incrementRecommendationRepairAttempt();
         verify(metrics).incrementRecommendationMinimalFallback();
     }
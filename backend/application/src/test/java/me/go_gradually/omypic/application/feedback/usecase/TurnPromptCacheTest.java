@@ -0,0 +1,86 @@
+package me.go_gradually.omypic.application.feedback.usecase;
+
+import me.go_gradually.omypic.application.shared.port.MetricsPort;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+class TurnPromptCacheTest {
+
+    private final AtomicLong now = new AtomicLong(1_000L);
+    private final MetricsPort metrics = mock(MetricsPort.class);
+    private final TurnPromptCache cache = new TurnPromptCache(metrics, now::get);
+
+    @Test
+    void find_returnsPromptOnlyForSameLanguageAndIndexVersion() {
+        FeedbackUseCase.PrefetchedTurnPrompt prompt = prompt("q-1", "ko");
+        cache.put(key("q-1", "ko"), prompt, 3L, 8);
+
+        assertSame(prompt, cache.find(key("q-1", "ko"), 3L, 60_000L));
+        assertNull(cache.find(key("q-1", "en"), 3L, 60_000L));
+        assertNull(cache.find(key("q-1", "ko"), 4L, 60_000L));
+        assertNull(cache.find(key("q-1", "ko"), 3L, 60_000L));
+    }
+
+    @Test
+    void find_missesAfterQuestionTextOrGroupChanges() {
+        cache.put(key("q-1", "ko"), prompt("q-1", "ko"), 1L, 8);
+
+        assertNull(cache.find(new TurnPromptCache.Key("q-1", "edited question", "A", "ko"), 1L, 60_000L));
+        assertNull(cache.find(new TurnPromptCache.Key("q-1", "question", "B", "ko"), 1L, 60_000L));
+        assertEquals("q-1", cache.find(key("q-1", "ko"), 1L, 60_000L).questionId());
+    }
+
+    @Test
+    void peek_doesNotRecordTurnLookupMetrics() {
+        cache.put(key("q-1", "ko"), prompt("q-1", "ko"), 1L, 8);
+
+        cache.peek(key("q-1", "ko"), 1L, 60_000L);
+        cache.peek(key("q-2", "ko"), 1L, 60_000L);
+        verifyNoInteractions(metrics);
+
+        cache.find(key("q-1", "ko"), 1L, 60_000L);
+        verify(metrics).incrementTurnPromptCache(TurnPromptCache.HIT);
+    }
+
+    @Test
+    void find_treatsEntryOlderThanTtlAsStale() {
+        cache.put(key("q-1", "ko"), prompt("q-1", "ko"), 1L, 8);
+
+        now.addAndGet(60_000L);
+
+        assertNull(cache.find(key("q-1", "ko"), 1L, 60_000L));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void put_evictsOldVersionsThenOldestEntriesOverLimit() {
+        cache.put(key("q-old", "ko"), prompt("q-old", "ko"), 1L, 2);
+        now.incrementAndGet();
+        cache.put(key("q-1", "ko"), prompt("q-1", "ko"), 2L, 2);
+        now.incrementAndGet();
+        cache.put(key("q-2", "ko"), prompt("q-2", "ko"), 2L, 2);
+        now.incrementAndGet();
+        cache.put(key("q-3", "ko"), prompt("q-3", "ko"), 2L, 2);
+
+        assertEquals(2, cache.size());
+        assertNull(cache.find(key("q-1", "ko"), 2L, 60_000L));
+        assertEquals("q-3", cache.find(key("q-3", "ko"), 2L, 60_000L).questionId());
+    }
+
+    private TurnPromptCache.Key key(String questionId, String language) {
+        return new TurnPromptCache.Key(questionId, "question", "A", language);
+    }
+
+    private FeedbackUseCase.PrefetchedTurnPrompt prompt(String questionId, String language) {
+        return new FeedbackUseCase.PrefetchedTurnPrompt(questionId, "question", List.of(), language, "system");
+    }
+}
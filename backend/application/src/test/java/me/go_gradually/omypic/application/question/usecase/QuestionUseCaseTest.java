@@ -19,6 +19,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.Instant;
 import java.util.List;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -55,9 +56,7 @@ class QuestionUseCaseTest {
 
     @Test
     void listTagStats_returnsSortedCounts() {
-        QuestionGroupAggregate g1 = group("g1", "A", List.of("travel", "habit"), List.of(item("q1", "Q1", "habit")));
-        QuestionGroupAggregate g2 = group("g2", "B", List.of("travel"), List.of(item("q2", "Q2", "compare")));
-        when(repository.findAll()).thenReturn(List.of(g1, g2));
+        when(repository.findAllTags()).thenReturn(List.of(Set.of("travel", "habit"), Set.of("travel")));
 
         List<QuestionTagStat> stats = useCase.listTagStats();
 
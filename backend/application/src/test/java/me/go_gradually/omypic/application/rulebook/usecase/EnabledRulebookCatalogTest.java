@@ -0,0 +1,134 @@
+package me.go_gradually.omypic.application.rulebook.usecase;
+
+import me.go_gradually.omypic.application.rulebook.port.RulebookPort;
+import me.go_gradually.omypic.domain.question.QuestionGroup;
+import me.go_gradually.omypic.domain.rulebook.Rulebook;
+import me.go_gradually.omypic.domain.rulebook.RulebookId;
+import me.go_gradually.omypic.domain.rulebook.RulebookScope;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class EnabledRulebookCatalogTest {
+
+    @Mock
+    private RulebookPort repository;
+
+    @Test
+    void current_partitionsRulebooksByScopeAndQuestionGroup() {
+        when(repository.findAllEnabled()).thenReturn(List.of(
+                rulebook("main", RulebookScope.MAIN, null, true),
+                rulebook("q-a", RulebookScope.QUESTION, "A", true),
+                rulebook("q-b", RulebookScope.QUESTION, "B", true)
+        ));
+        EnabledRulebookCatalog catalog = new EnabledRulebookCatalog(repository);
+
+        EnabledRulebookSnapshot snapshot = catalog.current();
+
+        assertEquals(Set.of(id("main"), id("q-a"), id("q-b")), snapshot.enabledIds());
+        assertEquals(Set.of(id("main")), snapshot.mainIds());
+        assertEquals(Set.of(id("q-a")), snapshot.questionIds(QuestionGroup.of("A")));
+        assertTrue(snapshot.questionIds(QuestionGroup.of("C")).isEmpty());
+        assertTrue(snapshot.questionIds(null).isEmpty());
+        assertSame(snapshot, catalog.current());
+        verify(repository, times(1)).findAllEnabled();
+    }
+
+    @Test
+    void refreshAndInvalidate_bumpVersionAndRebuildSnapshot() {
+        when(repository.findAllEnabled())
+                .thenReturn(List.of(rulebook("main", RulebookScope.MAIN, null, true)))
+                .thenReturn(List.of())
+                .thenReturn(List.of(rulebook("q-a", RulebookScope.QUESTION, "A", true)));
+        EnabledRulebookCatalog catalog = new EnabledRulebookCatalog(repository);
+        long initial = catalog.current().version();
+
+        catalog.refresh();
+        assertTrue(catalog.current().isEmpty());
+        assertEquals(initial + 1, catalog.version());
+
+        catalog.invalidate();
+        assertEquals(initial + 2, catalog.version());
+        assertEquals(Set.of(id("q-a")), catalog.current().questionIds(QuestionGroup.of("A")));
+        assertEquals(initial + 2, catalog.current().version());
+        verify(repository, times(3)).findAllEnabled();
+    }
+
+    @Test
+    void reloadIfChanged_bumpsVersionOnlyWhenAnotherInstanceChangedRulebooks() {
+        when(repository.findAllEnabled())
+                .thenReturn(List.of(rulebook("main", RulebookScope.MAIN, null, true)))
+                .thenReturn(List.of(rulebook("main", RulebookScope.MAIN, null, true)))
+                .thenReturn(List.of(rulebook("q-a", RulebookScope.QUESTION, "A", true)));
+        EnabledRulebookCatalog catalog = new EnabledRulebookCatalog(repository);
+        catalog.reloadIfChanged();
+        EnabledRulebookSnapshot initial = catalog.current();
+
+        catalog.reloadIfChanged();
+        assertSame(initial, catalog.current());
+        assertEquals(initial.version(), catalog.version());
+
+        catalog.reloadIfChanged();
+        assertEquals(Set.of(id("q-a")), catalog.current().questionIds(QuestionGroup.of("A")));
+        assertEquals(initial.version() + 1, catalog.version());
+        verify(repository, times(3)).findAllEnabled();
+    }
+
+    @Test
+    void currentAndVersion_neverReadRepositoryOnceSnapshotIsLoaded() {
+        when(repository.findAllEnabled()).thenReturn(List.of(rulebook("main", RulebookScope.MAIN, null, true)));
+        EnabledRulebookCatalog catalog = new EnabledRulebookCatalog(repository);
+        catalog.reloadIfChanged();
+
+        for (int i = 0; i < 100; i++) {
+            catalog.current();
+            catalog.version();
+        }
+
+        verify(repository, times(1)).findAllEnabled();
+    }
+
+    @Test
+    void invalidate_keepsPreviousSnapshotWhenReloadFails() {
+        when(repository.findAllEnabled())
+                .thenReturn(List.of(rulebook("main", RulebookScope.MAIN, null, true)))
+                .thenThrow(new IllegalStateException("mongo down"));
+        EnabledRulebookCatalog catalog = new EnabledRulebookCatalog(repository);
+        EnabledRulebookSnapshot initial = catalog.current();
+
+        catalog.invalidate();
+
+        assertSame(initial, catalog.current());
+        verify(repository, times(2)).findAllEnabled();
+    }
+
+    private Rulebook rulebook(String id, RulebookScope scope, String group, boolean enabled) {
+        return Rulebook.rehydrate(
+                id(id),
+                id + ".md",
+                "/tmp/" + id + ".md",
+                scope,
+                QuestionGroup.fromNullable(group),
+                enabled,
+                Instant.parse("2026-01-01T00:00:00Z"),
+                Instant.parse("2026-01-01T00:00:00Z")
+        );
+    }
+
+    private RulebookId id(String value) {
+        return RulebookId.of(value);
+    }
+}
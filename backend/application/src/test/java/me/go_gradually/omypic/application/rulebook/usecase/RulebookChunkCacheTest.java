@@ -0,0 +1,66 @@
+package me.go_gradually.omypic.application.rulebook.usecase;
+
+import me.go_gradually.omypic.application.rulebook.port.RulebookFileStore;
+import me.go_gradually.omypic.domain.rulebook.RulebookChunk;
+import me.go_gradually.omypic.domain.rulebook.RulebookId;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RulebookChunkCacheTest {
+
+    @Mock
+    private RulebookFileStore fileStore;
+
+    @Test
+    void chunksOf_readsAndSplitsOncePerRulebookAndPath() throws IOException {
+        when(fileStore.readText("/rulebooks/abc.md")).thenReturn("# Strategy\nUse examples.");
+        RulebookChunkCache cache = new RulebookChunkCache(fileStore, null);
+
+        List<RulebookChunk> first = cache.chunksOf(RulebookId.of("r1"), "/rulebooks/abc.md");
+        List<RulebookChunk> second = cache.chunksOf(RulebookId.of("r1"), "/rulebooks/abc.md");
+
+        assertSame(first, second);
+        assertEquals(List.of("Strategy"), first.get(0).headingPath());
+        verify(fileStore, times(1)).readText("/rulebooks/abc.md");
+    }
+
+    @Test
+    void chunksOf_rereadsWhenStoredPathChanges() throws IOException {
+        when(fileStore.readText("/rulebooks/abc.md")).thenReturn("old");
+        when(fileStore.readText("/rulebooks/def.md")).thenReturn("new");
+        RulebookChunkCache cache = new RulebookChunkCache(fileStore, null);
+
+        cache.chunksOf(RulebookId.of("r1"), "/rulebooks/abc.md");
+        List<RulebookChunk> updated = cache.chunksOf(RulebookId.of("r1"), "/rulebooks/def.md");
+
+        assertEquals("new", updated.get(0).text());
+    }
+
+    @Test
+    void chunksOf_evictsLeastRecentlyUsedEntriesBeyondCapacity() throws IOException {
+        when(fileStore.readText("/rulebooks/keep.md")).thenReturn("keep");
+        RulebookChunkCache cache = new RulebookChunkCache(fileStore, null);
+
+        cache.chunksOf(RulebookId.of("r0"), "/rulebooks/keep.md");
+        for (int i = 1; i <= 40; i++) {
+            String path = "/rulebooks/" + i + ".md";
+            when(fileStore.readText(path)).thenReturn("text " + i);
+            cache.chunksOf(RulebookId.of("r" + i), path);
+        }
+        cache.chunksOf(RulebookId.of("r0"), "/rulebooks/keep.md");
+
+        verify(fileStore, times(2)).readText("/rulebooks/keep.md");
+    }
+}
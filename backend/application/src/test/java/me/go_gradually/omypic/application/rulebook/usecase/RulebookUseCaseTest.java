@@ -8,6 +8,7 @@ import me.go_gradually.omypic.application.rulebook.port.RulebookPort;
 import me.go_gradually.omypic.application.shared.port.MetricsPort;
 import me.go_gradually.omypic.domain.question.QuestionGroup;
 import me.go_gradually.omypic.domain.rulebook.Rulebook;
+import me.go_gradually.omypic.domain.rulebook.RulebookChunk;
 import me.go_gradually.omypic.domain.rulebook.RulebookContext;
 import me.go_gradually.omypic.domain.rulebook.RulebookId;
 import me.go_gradually.omypic.domain.rulebook.RulebookScope;
@@ -83,25 +84,38 @@ class RulebookUseCaseTest {
         verify(fileStore).readText("/tmp/rulebook.md");
 
         @SuppressWarnings("unchecked")
-        ArgumentCaptor<List<String>> chunksCaptor = ArgumentCaptor.forClass(List.class);
+        ArgumentCaptor<List<RulebookChunk>> chunksCaptor = ArgumentCaptor.forClass(List.class);
         verify(indexPort).indexRulebookChunks(eq(saved.getId()), eq("rulebook.md"), chunksCaptor.capture());
         assertTrue(chunksCaptor.getValue().size() >= 1);
         verify(metrics).recordRulebookUploadLatency(any());
     }
 
+    @Test
+    void rebuildIndexIfOutdated_reindexesStoredRulebookFilesAndSkipsUnreadableOnes() throws IOException {
+        Rulebook readable = rulebook("r1", "/tmp/r1.md");
+        Rulebook missing = rulebook("r2", "/tmp/r2.md");
+        when(indexPort.resetIfOutdated()).thenReturn(true);
+        when(repository.findAll()).thenReturn(List.of(missing, readable));
+        when(fileStore.readText("/tmp/r2.md")).thenThrow(new IOException("missing"));
+        when(fileStore.readText("/tmp/r1.md")).thenReturn("# Rules\nhello");
+
+        assertTrue(useCase.rebuildIndexIfOutdated());
+
+        verify(indexPort).indexRulebookChunks(eq(RulebookId.of("r1")), eq("rulebook.md"), anyList());
+        verify(indexPort, never()).indexRulebookChunks(eq(RulebookId.of("r2")), anyString(), anyList());
+    }
+
+    @Test
+    void rebuildIndexIfOutdated_leavesCurrentIndexAlone() throws IOException {
+        assertFalse(useCase.rebuildIndexIfOutdated());
+
+        verify(repository, never()).findAll();
+        verify(indexPort, never()).indexRulebookChunks(any(), anyString(), anyList());
+    }
+
     @Test
     void searchContexts_returnsEmpty_whenNoEnabledRulebooks() {
-        Rulebook disabled = Rulebook.rehydrate(
-                RulebookId.of("r1"),
-                "rulebook.md",
-                "/tmp/rulebook.md",
-                RulebookScope.MAIN,
-                null,
-                false,
-                Instant.parse("2026-01-01T00:00:00Z"),
-                Instant.parse("2026-01-01T00:00:00Z")
-        );
-        when(repository.findAll()).thenReturn(List.of(disabled));
+        when(repository.findAllEnabled()).thenReturn(List.of());
 
         List<RulebookContext> contexts = useCase.searchContexts("grammar");
 
@@ -121,7 +135,7 @@ class RulebookUseCaseTest {
                 Instant.parse("2026-01-01T00:00:00Z"),
                 Instant.parse("2026-01-01T00:00:00Z")
         );
-        when(repository.findAll()).thenReturn(List.of(enabled));
+        when(repository.findAllEnabled()).thenReturn(List.of(enabled));
         when(ragPolicy.getMaxContextChunks()).thenReturn(3);
         when(indexPort.search(eq("grammar"), eq(3), anySet())).thenThrow(new IOException("index error"));
 
@@ -190,13 +204,12 @@ class RulebookUseCaseTest {
                 Instant.parse("2026-01-01T00:00:00Z"),
                 Instant.parse("2026-01-01T00:00:00Z")
         );
-        when(repository.findAll()).thenReturn(List.of(main, questionA, questionB));
-        when(indexPort.search(eq("answer"), eq(1), eq(Set.of(RulebookId.of("r-main")))))
-                .thenReturn(List.of(RulebookContext.of(RulebookId.of("r-main"), "main.md", "main ctx")));
-        when(indexPort.search(eq("answer"), eq(1), eq(Set.of(RulebookId.of("r-q-a")))))
-                .thenReturn(List.of(RulebookContext.of(RulebookId.of("r-q-a"), "q-a.md", "group A ctx")));
+        when(repository.findAllEnabled()).thenReturn(List.of(main, questionA, questionB));
         when(indexPort.search(eq("answer"), eq(2), eq(Set.of(RulebookId.of("r-main")))))
-                .thenReturn(List.of(RulebookContext.of(RulebookId.of("r-main"), "main.md", "main ctx")));
+                .thenReturn(List.of(
+                        RulebookContext.of(RulebookId.of("r-main"), "main.md", "main ctx"),
+                        RulebookContext.of(RulebookId.of("r-main"), "main.md", "main ctx 2")
+                ));
         when(indexPort.search(eq("answer"), eq(2), eq(Set.of(RulebookId.of("r-q-a")))))
                 .thenReturn(List.of(RulebookContext.of(RulebookId.of("r-q-a"), "q-a.md", "group A ctx")));
 
@@ -205,5 +218,76 @@ class RulebookUseCaseTest {
         assertEquals(2, contexts.size());
         assertEquals("r-main", contexts.get(0).rulebookId().value());
         assertEquals("r-q-a", contexts.get(1).rulebookId().value());
+        verify(indexPort, times(2)).search(eq("answer"), eq(2), anySet());
+    }
+
+    @Test
+    void searchContextsForTurn_fillsRemainingSlotsFromMainWhenQuestionRulebookIsShort() throws IOException {
+        Rulebook main = Rulebook.rehydrate(
+                RulebookId.of("r-main"),
+                "main.md",
+                "/tmp/main.md",
+                RulebookScope.MAIN,
+                null,
+                true,
+                Instant.parse("2026-01-01T00:00:00Z"),
+                Instant.parse("2026-01-01T00:00:00Z")
+        );
+        when(repository.findAllEnabled()).thenReturn(List.of(main));
+        when(indexPort.search(eq("answer"), eq(3), eq(Set.of(RulebookId.of("r-main")))))
+                .thenReturn(List.of(
+                        RulebookContext.of(RulebookId.of("r-main"), "main.md", "first"),
+                        RulebookContext.of(RulebookId.of("r-main"), "main.md", "second")
+                ));
+
+        List<RulebookContext> contexts = useCase.searchContextsForTurn(QuestionGroup.of("A"), "answer", 3);
+
+        assertEquals(List.of("first", "second"), contexts.stream().map(RulebookContext::text).toList());
+        verify(indexPort, times(1)).search(anyString(), anyInt(), anySet());
+    }
+
+    @Test
+    void searchContextsForTurn_readsRepositoryOnlyWhenRulebooksChange() throws IOException {
+        Rulebook main = Rulebook.rehydrate(
+                RulebookId.of("r-main"),
+                "main.md",
+                "/tmp/main.md",
+                RulebookScope.MAIN,
+                null,
+                true,
+                Instant.parse("2026-01-01T00:00:00Z"),
+                Instant.parse("2026-01-01T00:00:00Z")
+        );
+        when(repository.findAllEnabled()).thenReturn(List.of(main));
+        when(repository.findById(RulebookId.of("r-main"))).thenReturn(Optional.of(main));
+        when(repository.save(any(Rulebook.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(indexPort.search(eq("answer"), eq(2), eq(Set.of(RulebookId.of("r-main")))))
+                .thenReturn(List.of(RulebookContext.of(RulebookId.of("r-main"), "main.md", "main ctx")));
+
+        useCase.searchContextsForTurn(QuestionGroup.of("A"), "answer", 2);
+        useCase.searchContextsForTurn(QuestionGroup.of("B"), "answer", 2);
+        verify(repository, times(1)).findAllEnabled();
+
+        long versionBeforeToggle = useCase.indexVersion();
+        useCase.toggle("r-main", false);
+        List<RulebookContext> contexts = useCase.searchContextsForTurn(QuestionGroup.of("A"), "answer", 2);
+
+        assertTrue(contexts.isEmpty());
+        assertTrue(useCase.indexVersion() > versionBeforeToggle);
+        verify(repository, times(2)).findAllEnabled();
+        verify(indexPort, times(2)).search(anyString(), anyInt(), anySet());
+    }
+
+    private Rulebook rulebook(String id, String path) {
+        return Rulebook.rehydrate(
+                RulebookId.of(id),
+                "rulebook.md",
+                path,
+                RulebookScope.MAIN,
+                null,
+                true,
+                Instant.parse("2026-01-01T00:00:00Z"),
+                Instant.parse("2026-01-01T00:00:00Z")
+        );
     }
 }
@@ -19,8 +19,10 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.Instant;
 import java.util.List;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anySet;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -44,7 +46,8 @@ class SessionUseCaseTest {
     void updateMode_clampsContinuousBatchSizeBetweenOneAndTen() {
         SessionState state = new SessionState(SessionId.of("s1"));
         when(sessionStore.getOrCreate(SessionId.of("s1"))).thenReturn(state);
-        when(questionGroupPort.findAll()).thenReturn(List.of(group("g1", List.of("travel"), true)));
+        when(questionGroupPort.findAllTags()).thenReturn(List.of(Set.of("travel")));
+        when(questionGroupPort.findIdsWithQuestionsByAnyTag(Set.of("travel"))).thenReturn(List.of(QuestionGroupId.of("g1")));
 
         ModeUpdateCommand upper = command("s1", ModeType.CONTINUOUS, 100, List.of("travel"));
         useCase.updateMode(upper);
@@ -59,15 +62,17 @@ class SessionUseCaseTest {
     void updateMode_configuresCandidateGroupsForSelectedTags() {
         SessionState state = new SessionState(SessionId.of("s2"));
         when(sessionStore.getOrCreate(SessionId.of("s2"))).thenReturn(state);
+        when(questionGroupPort.findAllTags()).thenCallRealMethod();
+        when(questionGroupPort.findIdsWithQuestionsByAnyTag(anySet())).thenCallRealMethod();
         when(questionGroupPort.findAll()).thenReturn(List.of(
-                group("g1", List.of("travel"), true),
+                group("g1", List.of("Travel"), true),
                 group("g2", List.of("habit"), true),
                 group("g3", List.of("travel"), false)
         ));
 
         SessionState updated = useCase.updateMode(command("s2", ModeType.IMMEDIATE, null, List.of(" travel ")));
 
-        assertEquals(java.util.Set.of("travel"), updated.getSelectedGroupTags());
+        assertEquals(Set.of("travel"), updated.getSelectedGroupTags());
         assertEquals(1, updated.getCandidateGroupOrder().size());
         assertEquals("g1", updated.getCandidateGroupOrder().get(0));
     }
@@ -83,14 +88,14 @@ class SessionUseCaseTest {
         );
 
         assertEquals(List.of(), error.getInvalidTags());
-        verify(questionGroupPort, never()).findAll();
+        verify(questionGroupPort, never()).findAllTags();
     }
 
     @Test
     void updateMode_throwsWhenUnknownTagsAreIncluded() {
         SessionState state = new SessionState(SessionId.of("s4"));
         when(sessionStore.getOrCreate(SessionId.of("s4"))).thenReturn(state);
-        when(questionGroupPort.findAll()).thenReturn(List.of(group("g1", List.of("travel"), true)));
+        when(questionGroupPort.findAllTags()).thenReturn(List.of(Set.of("travel")));
 
         InvalidGroupTagsException error = assertThrows(
                 InvalidGroupTagsException.class,
@@ -98,6 +103,7 @@ class SessionUseCaseTest {
         );
 
         assertEquals(List.of("unknown"), error.getInvalidTags());
+        verify(questionGroupPort, never()).findIdsWithQuestionsByAnyTag(anySet());
     }
 
     @Test
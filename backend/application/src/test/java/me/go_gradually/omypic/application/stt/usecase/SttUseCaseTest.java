@@ -32,6 +32,7 @@ class SttUseCaseTest {
     private static SttCommand commandWithBytes(int size) {
         SttCommand command = new SttCommand();
         command.setFileBytes(new byte[size]);
+        command.setFileName("audio.flac");
         command.setModel("gpt-4o-mini-transcribe");
         command.setApiKey("key");
         command.setTranslate(false);
@@ -47,7 +48,7 @@ class SttUseCaseTest {
     @Test
     void transcribe_retriesAndSucceedsWithinRetryLimit() throws Exception {
         stubPolicy(100L, 2);
-        when(sttGateway.transcribe(any(), anyString(), anyString(), anyBoolean(), eq(vadSettings)))
+        when(sttGateway.transcribe(any(), any(), anyString(), anyString(), anyBoolean(), eq(vadSettings)))
                 .thenThrow(new RuntimeException("temporary-1"))
                 .thenThrow(new RuntimeException("temporary-2"))
                 .thenReturn("final-text");
@@ -55,7 +56,7 @@ class SttUseCaseTest {
         String result = useCase.transcribe(commandWithBytes(10));
 
         assertEquals("final-text", result);
-        verify(sttGateway, times(3)).transcribe(any(), eq("gpt-4o-mini-transcribe"), eq("key"), eq(false), eq(vadSettings));
+        verify(sttGateway, times(3)).transcribe(any(), eq("audio.flac"), eq("gpt-4o-mini-transcribe"), eq("key"), eq(false), eq(vadSettings));
         verify(metrics).incrementSttRequest();
         verify(metrics).recordSttLatency(any());
         verify(metrics, never()).incrementSttError();
@@ -64,12 +65,12 @@ class SttUseCaseTest {
     @Test
     void transcribe_throwsAndIncrementsError_whenRetriesExhausted() throws Exception {
         stubPolicy(100L, 2);
-        when(sttGateway.transcribe(any(), anyString(), anyString(), anyBoolean(), eq(vadSettings)))
+        when(sttGateway.transcribe(any(), any(), anyString(), anyString(), anyBoolean(), eq(vadSettings)))
                 .thenThrow(new RuntimeException("always-fail"));
 
         assertThrows(IllegalStateException.class, () -> useCase.transcribe(commandWithBytes(10)));
 
-        verify(sttGateway, times(3)).transcribe(any(), anyString(), anyString(), anyBoolean(), eq(vadSettings));
+        verify(sttGateway, times(3)).transcribe(any(), any(), anyString(), anyString(), anyBoolean(), eq(vadSettings));
         verify(metrics).incrementSttRequest();
         verify(metrics, never()).recordSttLatency(any());
         verify(metrics).incrementSttError();
@@ -86,35 +87,35 @@ class SttUseCaseTest {
         assertThrows(IllegalArgumentException.class, () -> useCase.transcribe(nullFile));
         assertThrows(IllegalArgumentException.class, () -> useCase.transcribe(tooLarge));
 
-        verify(sttGateway, never()).transcribe(any(), anyString(), anyString(), anyBoolean(), any());
+        verify(sttGateway, never()).transcribe(any(), any(), anyString(), anyString(), anyBoolean(), any());
         verify(metrics, never()).incrementSttRequest();
     }
 
     @Test
-    void transcribe_passesModelApiKeyTranslateAndVadToGateway() throws Exception {
+    void transcribe_passesFileNameModelApiKeyTranslateAndVadToGateway() throws Exception {
         stubPolicy(100L, 2);
         SttCommand command = commandWithBytes(5);
         command.setModel("whisper-1");
         command.setApiKey("secret");
         command.setTranslate(true);
-        when(sttGateway.transcribe(command.getFileBytes(), "whisper-1", "secret", true, vadSettings)).thenReturn("ok");
+        when(sttGateway.transcribe(command.getFileBytes(), "audio.flac", "whisper-1", "secret", true, vadSettings)).thenReturn("ok");
 
         String result = useCase.transcribe(command);
 
         assertEquals("ok", result);
         verify(metrics).incrementSttRequest();
-        verify(sttGateway).transcribe(command.getFileBytes(), "whisper-1", "secret", true, vadSettings);
+        verify(sttGateway).transcribe(command.getFileBytes(), "audio.flac", "whisper-1", "secret", true, vadSettings);
     }
 
     @Test
     void transcribe_withRetryMaxZero_attemptsOnlyOnce() throws Exception {
         stubPolicy(100L, 0);
-        when(sttGateway.transcribe(any(), anyString(), anyString(), anyBoolean(), eq(vadSettings)))
+        when(sttGateway.transcribe(any(), any(), anyString(), anyString(), anyBoolean(), eq(vadSettings)))
                 .thenThrow(new RuntimeException("fail-fast"));
 
         assertThrows(IllegalStateException.class, () -> useCase.transcribe(commandWithBytes(5)));
 
-        verify(sttGateway, times(1)).transcribe(any(), anyString(), anyString(), anyBoolean(), eq(vadSettings));
+        verify(sttGateway, times(1)).transcribe(any(), any(), anyString(), anyString(), anyBoolean(), eq(vadSettings));
         verify(metrics).incrementSttRequest();
         verify(metrics).incrementSttError();
     }
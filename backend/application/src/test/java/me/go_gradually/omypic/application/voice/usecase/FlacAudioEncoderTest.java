@@ -0,0 +1,190 @@
+package me.go_gradually.omypic.application.voice.usecase;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FlacAudioEncoderTest {
+
+    private static final int RATE = 16000;
+
+    @Test
+    void encode_roundTripsToneAcrossMultipleBlocks() {
+        byte[] pcm16 = tone(RATE * 3 / 2);
+
+        SttAudioEncoder.EncodedAudio encoded = new FlacAudioEncoder().encode(SegmentedPcmBuffer.copyOf(pcm16), RATE);
+
+        assertEquals("audio.flac", encoded.fileName());
+        assertArrayEquals(pcm16, decode(encoded.bytes(), RATE));
+    }
+
+    @Test
+    void encode_roundTripsSilenceAndNoise() {
+        byte[] pcm16 = concat(new byte[5000 * 2], noise(4500));
+
+        assertArrayEquals(pcm16, decode(new FlacAudioEncoder().encode(SegmentedPcmBuffer.copyOf(pcm16), RATE).bytes(), RATE));
+    }
+
+    @Test
+    void encode_compressesToneBelowWavSize() {
+        byte[] pcm16 = tone(RATE * 5);
+
+        byte[] flac = new FlacAudioEncoder().encode(SegmentedPcmBuffer.copyOf(pcm16), RATE).bytes();
+
+        assertTrue(flac.length * 2 < Pcm16Audio.toWav(SegmentedPcmBuffer.copyOf(pcm16), RATE).length);
+    }
+
+    @Test
+    void forFormat_selectsWavOnlyWhenRequested() {
+        SegmentedPcmBuffer pcm16 = SegmentedPcmBuffer.copyOf(tone(1000));
+
+        assertEquals("audio.wav", SttAudioEncoder.forFormat(" WAV ").encode(pcm16, RATE).fileName());
+        assertEquals("audio.flac", SttAudioEncoder.forFormat(null).encode(pcm16, RATE).fileName());
+        assertEquals("audio.flac", SttAudioEncoder.forFormat("opus").encode(pcm16, RATE).fileName());
+    }
+
+    private static byte[] tone(int samples) {
+        byte[] pcm16 = new byte[samples * 2];
+        for (int i = 0; i < samples; i += 1) {
+            writeSample(pcm16, i, (int) (Math.sin(2 * Math.PI * 220 * i / RATE) * 8000));
+        }
+        return pcm16;
+    }
+
+    private static byte[] noise(int samples) {
+        SplittableRandom random = new SplittableRandom(7L);
+        byte[] pcm16 = new byte[samples * 2];
+        for (int i = 0; i < samples; i += 1) {
+            writeSample(pcm16, i, random.nextInt(Short.MIN_VALUE, Short.MAX_VALUE + 1));
+        }
+        return pcm16;
+    }
+
+    private static void writeSample(byte[] pcm16, int index, int sample) {
+        pcm16[index * 2] = (byte) sample;
+        pcm16[index * 2 + 1] = (byte) (sample >> 8);
+    }
+
+    private static byte[] concat(byte[] first, byte[] second) {
+        byte[] joined = new byte[first.length + second.length];
+        System.arraycopy(first, 0, joined, 0, first.length);
+        System.arraycopy(second, 0, joined, first.length, second.length);
+        return joined;
+    }
+
+    // 인코더가 쓰는 부분집합(mono, 16bit, constant/verbatim/fixed, Rice 파티션 0)만 읽는 검증용 디코더.
+    private static byte[] decode(byte[] flac, int expectedRate) {
+        BitReader in = new BitReader(flac);
+        assertEquals(0x664C6143L, in.read(32));
+        assertEquals(0x80, in.read(8));
+        assertEquals(34, in.read(24));
+        in.read(16 + 16 + 24 + 24);
+        assertEquals(expectedRate, in.read(20));
+        in.read(3 + 5);
+        int total = (int) in.read(36);
+        in.read(128);
+        byte[] pcm16 = new byte[total * 2];
+        int written = 0;
+        while (written < total) {
+            written = decodeFrame(in, pcm16, written);
+        }
+        assertEquals(flac.length, in.position() / 8);
+        return pcm16;
+    }
+
+    private static int decodeFrame(BitReader in, byte[] pcm16, int offset) {
+        assertEquals(0x3FFE, in.read(14));
+        in.read(2);
+        int sizeCode = (int) in.read(4);
+        in.read(8 + 4);
+        in.readUtf8();
+        int count = sizeCode == 0b1100 ? 4096 : (int) in.read(16) + 1;
+        in.read(8);
+        int[] samples = decodeSubframe(in, count);
+        in.align();
+        in.read(16);
+        for (int i = 0; i < count; i += 1) {
+            writeSample(pcm16, offset + i, samples[i]);
+        }
+        return offset + count;
+    }
+
+    private static int[] decodeSubframe(BitReader in, int count) {
+        int type = (int) in.read(8) >> 1;
+        int[] samples = new int[count];
+        if (type == 0) {
+            java.util.Arrays.fill(samples, in.readSigned(16));
+        } else if (type == 1) {
+            for (int i = 0; i < count; i += 1) {
+                samples[i] = in.readSigned(16);
+            }
+        } else {
+            decodeFixed(in, samples, type & 0x07);
+        }
+        return samples;
+    }
+
+    private static void decodeFixed(BitReader in, int[] s, int order) {
+        for (int i = 0; i < order; i += 1) {
+            s[i] = in.readSigned(16);
+        }
+        assertEquals(0, in.read(6));
+        int parameter = (int) in.read(4);
+        for (int i = order; i < s.length; i += 1) {
+            int quotient = 0;
+            while (in.read(1) == 0) {
+                quotient += 1;
+            }
+            int folded = (quotient << parameter) | (int) in.read(parameter);
+            int residual = (folded >>> 1) ^ -(folded & 1);
+            s[i] = residual + switch (order) {
+                case 0 -> 0;
+                case 1 -> s[i - 1];
+                case 2 -> 2 * s[i - 1] - s[i - 2];
+                case 3 -> 3 * s[i - 1] - 3 * s[i - 2] + s[i - 3];
+                default -> 4 * s[i - 1] - 6 * s[i - 2] + 4 * s[i - 3] - s[i - 4];
+            };
+        }
+    }
+
+    private static final class BitReader {
+        private final byte[] bytes;
+        private long position;
+
+        private BitReader(byte[] bytes) {
+            this.bytes = bytes;
+        }
+
+        private long read(int count) {
+            long value = 0L;
+            for (int i = 0; i < count; i += 1, position += 1) {
+                int bit = (bytes[(int) (position >>> 3)] >>> (7 - (position & 7))) & 1;
+                value = (value << 1) | bit;
+            }
+            return value;
+        }
+
+        private int readSigned(int count) {
+            long value = read(count);
+            return (int) (value << (64 - count) >> (64 - count));
+        }
+
+        private void readUtf8() {
+            int first = (int) read(8);
+            int extra = Integer.numberOfLeadingZeros(~first << 24);
+            read(extra > 1 ? (extra - 1) * 8 : 0);
+        }
+
+        private void align() {
+            position = (position + 7) & ~7L;
+        }
+
+        private long position() {
+            return position;
+        }
+    }
+}
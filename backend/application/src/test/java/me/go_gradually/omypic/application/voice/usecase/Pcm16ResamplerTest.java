@@ -0,0 +1,61 @@
+package me.go_gradually.omypic.application.voice.usecase;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class Pcm16ResamplerTest {
+
+    @Test
+    void toSttRate_downsamples48kToOneThirdOfSamples() {
+        SegmentedPcmBuffer pcm16 = tone(48000, 440, 48000);
+
+        SegmentedPcmBuffer resampled = Pcm16Resampler.toSttRate(pcm16, 48000);
+
+        assertEquals(16000, Pcm16Resampler.targetRate(48000));
+        assertEquals(pcm16.length() / 3, resampled.length());
+    }
+
+    @Test
+    void toSttRate_keepsPassbandToneAmplitude() {
+        SegmentedPcmBuffer resampled = Pcm16Resampler.toSttRate(tone(48000, 440, 48000), 48000);
+
+        int peak = peak(resampled, 200, resampled.sampleCount() - 200);
+        assertTrue(peak > 7600 && peak < 8400, "peak=" + peak);
+    }
+
+    @Test
+    void toSttRate_suppressesToneAboveNewNyquist() {
+        SegmentedPcmBuffer resampled = Pcm16Resampler.toSttRate(tone(48000, 12000, 48000), 48000);
+
+        assertTrue(peak(resampled, 200, resampled.sampleCount() - 200) < 400);
+    }
+
+    @Test
+    void toSttRate_leavesRatesAtOrBelowTargetUntouched() {
+        SegmentedPcmBuffer pcm16 = tone(16000, 440, 1600);
+
+        assertSame(pcm16, Pcm16Resampler.toSttRate(pcm16, 16000));
+        assertEquals(8000, Pcm16Resampler.targetRate(8000));
+    }
+
+    private static SegmentedPcmBuffer tone(int rate, int frequency, int samples) {
+        byte[] pcm16 = new byte[samples * 2];
+        for (int i = 0; i < samples; i += 1) {
+            int sample = (int) Math.round(Math.sin(2 * Math.PI * frequency * i / rate) * 8000);
+            pcm16[i * 2] = (byte) sample;
+            pcm16[i * 2 + 1] = (byte) (sample >> 8);
+        }
+        return SegmentedPcmBuffer.copyOf(pcm16);
+    }
+
+    private static int peak(SegmentedPcmBuffer pcm16, int from, int to) {
+        int peak = 0;
+        for (int i = from; i < to; i += 1) {
+            peak = Math.max(peak, Math.abs(pcm16.sample(i)));
+        }
+        return peak;
+    }
+}
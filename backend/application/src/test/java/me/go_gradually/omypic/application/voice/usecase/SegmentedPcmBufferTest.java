@@ -0,0 +1,93 @@
+package me.go_gradually.omypic.application.voice.usecase;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SegmentedPcmBufferTest {
+
+    private static final int SLAB = PcmSlabPool.SLAB_BYTES;
+
+    @Test
+    void write_spansSlabsWithoutLosingOrder() {
+        SegmentedPcmBuffer buffer = new SegmentedPcmBuffer(new PcmSlabPool(8));
+        byte[] first = ramp(SLAB - 6, 0);
+        byte[] second = ramp(SLAB + 100, first.length);
+
+        buffer.write(first, 0, first.length);
+        buffer.write(second, 0, second.length);
+
+        assertArrayEquals(concat(first, second), buffer.toByteArray());
+        assertEquals((short) ((first[SLAB - 8] & 0xFF) | (first[SLAB - 7] << 8)), buffer.sample(SLAB / 2 - 4));
+    }
+
+    @Test
+    void dropLeading_returnsEmptiedSlabsToPool() {
+        PcmSlabPool pool = new PcmSlabPool(8);
+        SegmentedPcmBuffer buffer = new SegmentedPcmBuffer(pool);
+        byte[] pcm16 = ramp(SLAB * 3, 0);
+        buffer.write(pcm16, 0, pcm16.length);
+
+        buffer.dropLeading(SLAB * 2 + 10);
+
+        assertEquals(2, pool.pooledCount());
+        assertArrayEquals(Arrays.copyOfRange(pcm16, SLAB * 2 + 10, pcm16.length), buffer.toByteArray());
+    }
+
+    @Test
+    void detach_movesSlabsAndReleasesTheRest() {
+        PcmSlabPool pool = new PcmSlabPool(8);
+        SegmentedPcmBuffer buffer = new SegmentedPcmBuffer(pool);
+        byte[] pcm16 = ramp(SLAB * 4, 0);
+        buffer.write(pcm16, 0, pcm16.length);
+
+        SegmentedPcmBuffer detached = buffer.detach(SLAB + 20, SLAB * 2 + 40);
+
+        assertEquals(0, buffer.length());
+        assertEquals(2, pool.pooledCount());
+        assertArrayEquals(Arrays.copyOfRange(pcm16, SLAB + 20, SLAB * 2 + 40), detached.toByteArray());
+        detached.release();
+        assertEquals(4, pool.pooledCount());
+    }
+
+    @Test
+    void copyRange_isIndependentOfSource() {
+        SegmentedPcmBuffer buffer = new SegmentedPcmBuffer(new PcmSlabPool(8));
+        byte[] pcm16 = ramp(SLAB + 200, 0);
+        buffer.write(pcm16, 0, pcm16.length);
+
+        SegmentedPcmBuffer copy = buffer.copyRange(SLAB - 100, SLAB + 100);
+        buffer.release();
+
+        assertArrayEquals(Arrays.copyOfRange(pcm16, SLAB - 100, SLAB + 100), copy.toByteArray());
+    }
+
+    @Test
+    void release_keepsOnlyUpToPoolLimit() {
+        PcmSlabPool pool = new PcmSlabPool(1);
+        SegmentedPcmBuffer buffer = new SegmentedPcmBuffer(pool);
+        buffer.write(new byte[SLAB * 3], 0, SLAB * 3);
+
+        buffer.release();
+
+        assertEquals(1, pool.pooledCount());
+        assertEquals(0, buffer.length());
+    }
+
+    private static byte[] ramp(int length, int seed) {
+        byte[] bytes = new byte[length];
+        for (int i = 0; i < length; i += 1) {
+            bytes[i] = (byte) (seed + i * 7);
+        }
+        return bytes;
+    }
+
+    private static byte[] concat(byte[] first, byte[] second) {
+        byte[] joined = Arrays.copyOf(first, first.length + second.length);
+        System.arraycopy(second, 0, joined, first.length, second.length);
+        return joined;
+    }
+}
@@ -0,0 +1,76 @@
+package me.go_gradually.omypic.application.voice.usecase;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class StoppedContextQueueTest {
+
+    @Test
+    void evictExpired_removesOnlyEntriesPastRetentionInStopOrder() {
+        StoppedContextQueue<String> queue = new StoppedContextQueue<>();
+        queue.add("v1", "c1", 1_000L);
+        queue.add("v2", "c2", 2_000L);
+        queue.add("v3", "c3", 3_000L);
+        List<String> evicted = new ArrayList<>();
+
+        queue.evictExpired(4_500L, 2_500L, (id, context) -> evicted.add(id + ":" + context));
+
+        assertEquals(List.of("v1:c1", "v2:c2"), evicted);
+        assertEquals(1, queue.size());
+    }
+
+    @Test
+    void evictOverflow_removesOldestBeyondMaxCount() {
+        StoppedContextQueue<String> queue = new StoppedContextQueue<>();
+        queue.add("v1", "c1", 1L);
+        queue.add("v2", "c2", 2L);
+        queue.add("v3", "c3", 3L);
+        List<String> evicted = new ArrayList<>();
+
+        queue.evictOverflow(2, (id, context) -> evicted.add(id));
+        queue.evictOverflow(2, (id, context) -> evicted.add(id));
+
+        assertEquals(List.of("v1"), evicted);
+        assertEquals(2, queue.size());
+    }
+
+    @Test
+    void evictOverflow_callsEvictorWithoutHoldingQueueLock() {
+        StoppedContextQueue<String> queue = new StoppedContextQueue<>();
+        queue.add("v1", "c1", 1L);
+        queue.add("v2", "c2", 2L);
+        List<Boolean> otherThreadFinished = new ArrayList<>();
+
+        queue.evictOverflow(0, (id, context) -> otherThreadFinished.add(runsWhileEvicting(() -> queue.add("v3", "c3", 3L))));
+
+        assertEquals(List.of(true, true), otherThreadFinished);
+        assertEquals(2, queue.size());
+    }
+
+    @Test
+    void evictExpired_keepsEverythingBeforeRetention() {
+        StoppedContextQueue<String> queue = new StoppedContextQueue<>();
+        queue.add("v1", "c1", 1_000L);
+        List<String> evicted = new ArrayList<>();
+
+        queue.evictExpired(1_999L, 1_000L, (id, context) -> evicted.add(id));
+
+        assertEquals(List.of(), evicted);
+        assertEquals(1, queue.size());
+    }
+
+    private static boolean runsWhileEvicting(Runnable action) {
+        Thread other = new Thread(action);
+        other.start();
+        try {
+            other.join(1_000L);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return !other.isAlive();
+    }
+}
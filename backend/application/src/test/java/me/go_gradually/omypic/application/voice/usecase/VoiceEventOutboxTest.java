@@ -0,0 +1,121 @@
+package me.go_gradually.omypic.application.voice.usecase;
+
+import me.go_gradually.omypic.application.shared.port.MetricsPort;
+import me.go_gradually.omypic.application.voice.model.VoiceEventSink;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+class VoiceEventOutboxTest {
+
+    private final ArrayDeque<Runnable> tasks = new ArrayDeque<>();
+    private final List<Long> delivered = new ArrayList<>();
+    private final AtomicInteger disconnects = new AtomicInteger();
+
+    @Test
+    void offer_doesNotWriteOnCallerThreadAndDrainsInOrder() {
+        VoiceEventOutbox outbox = outbox(8, VoiceEventOutbox.OverflowPolicy.DISCONNECT, true);
+
+        assertTrue(outbox.offer(event(1L)));
+        assertTrue(outbox.offer(event(2L)));
+        assertEquals(List.of(), delivered);
+        assertEquals(1, tasks.size());
+
+        runTasks();
+        assertEquals(List.of(1L, 2L), delivered);
+        assertEquals(0, outbox.pendingCount());
+    }
+
+    @Test
+    void offer_disconnectsSlowSinkWhenQueueIsFull() {
+        VoiceEventOutbox outbox = outbox(2, VoiceEventOutbox.OverflowPolicy.DISCONNECT, true);
+        outbox.offer(event(1L));
+        outbox.offer(event(2L));
+
+        assertFalse(outbox.offer(event(3L)));
+        runTasks();
+
+        assertTrue(outbox.isClosed());
+        assertEquals(1, disconnects.get());
+        assertEquals(List.of(), delivered);
+    }
+
+    @Test
+    void offer_dropsOldestWhenPolicyAllowsGaps() {
+        VoiceEventOutbox outbox = outbox(2, VoiceEventOutbox.OverflowPolicy.DROP_OLDEST, true);
+        outbox.offer(event(1L));
+        outbox.offer(event(2L));
+
+        assertTrue(outbox.offer(event(3L)));
+        runTasks();
+
+        assertEquals(List.of(2L, 3L), delivered);
+        assertEquals(0, disconnects.get());
+    }
+
+    @Test
+    void offerReplay_ignoresCapacity() {
+        VoiceEventOutbox outbox = outbox(1, VoiceEventOutbox.OverflowPolicy.DISCONNECT, true);
+        outbox.offerReplay(event(1L));
+        outbox.offerReplay(event(2L));
+        outbox.offerReplay(event(3L));
+
+        runTasks();
+        assertEquals(List.of(1L, 2L, 3L), delivered);
+        assertFalse(outbox.isClosed());
+    }
+
+    @Test
+    void drain_closesOutboxWhenSinkFails() {
+        VoiceEventOutbox outbox = outbox(8, VoiceEventOutbox.OverflowPolicy.DISCONNECT, false);
+        outbox.offer(event(1L));
+        outbox.offer(event(2L));
+
+        runTasks();
+        assertTrue(outbox.isClosed());
+        assertFalse(outbox.offer(event(3L)));
+        assertEquals(List.of(1L), delivered);
+    }
+
+    @Test
+    void overflowPolicy_defaultsToDisconnect() {
+        assertEquals(VoiceEventOutbox.OverflowPolicy.DROP_OLDEST, VoiceEventOutbox.OverflowPolicy.from("drop-oldest"));
+        assertEquals(VoiceEventOutbox.OverflowPolicy.DISCONNECT, VoiceEventOutbox.OverflowPolicy.from(null));
+        assertEquals(VoiceEventOutbox.OverflowPolicy.DISCONNECT, VoiceEventOutbox.OverflowPolicy.from("unknown"));
+    }
+
+    private VoiceEventOutbox outbox(int capacity, VoiceEventOutbox.OverflowPolicy policy, boolean sinkAccepts) {
+        VoiceEventSink sink = new VoiceEventSink() {
+            @Override
+            public boolean send(String event, Object payload) {
+                delivered.add(((Number) ((Map<?, ?>) payload).get("eventId")).longValue());
+                return sinkAccepts;
+            }
+
+            @Override
+            public void disconnect() {
+                disconnects.incrementAndGet();
+            }
+        };
+        return new VoiceEventOutbox(sink, capacity, policy, tasks::addLast, mock(MetricsPort.class));
+    }
+
+    private void runTasks() {
+        while (!tasks.isEmpty()) {
+            tasks.pollFirst().run();
+        }
+    }
+
+    private static VoiceEventReplayLog.VoiceEvent event(long eventId) {
+        return new VoiceEventReplayLog.VoiceEvent(eventId, "test", Map.of("eventId", eventId), null);
+    }
+}
@@ -0,0 +1,83 @@
+package me.go_gradually.omypic.application.voice.usecase;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+class VoiceEventReplayLogTest {
+
+    @Test
+    void append_evictsOldestWhenCapacityIsFull() {
+        VoiceEventReplayLog log = new VoiceEventReplayLog(3, 1_000_000L);
+        appendEvents(log, 5);
+
+        assertEquals(3, log.size());
+        assertEquals(3L, log.oldestEventId());
+        assertEquals(List.of(3L, 4L, 5L), replayedIds(log, 0L));
+    }
+
+    @Test
+    void append_evictsOldestWhenByteBudgetIsExceededButKeepsNewest() {
+        VoiceEventReplayLog log = new VoiceEventReplayLog(16, 10L);
+        log.append(event(1L, "aaaaaa"));
+        log.append(event(2L, "bbbbbb"));
+
+        assertEquals(List.of(2L), replayedIds(log, 0L));
+        assertEquals(6L, log.retainedBytes());
+
+        log.append(event(3L, "cccccccccccccccccccc"));
+        assertEquals(List.of(3L), replayedIds(log, 0L));
+    }
+
+    @Test
+    void replayAfter_startsRightAfterSinceEventId() {
+        VoiceEventReplayLog log = new VoiceEventReplayLog(8, 1_000_000L);
+        appendEvents(log, 6);
+
+        assertEquals(List.of(5L, 6L), replayedIds(log, 4L));
+        assertEquals(List.of(), replayedIds(log, 6L));
+        assertEquals(List.of(), replayedIds(log, 99L));
+    }
+
+    @Test
+    void replayAfter_stopsWhenConsumerFails() {
+        VoiceEventReplayLog log = new VoiceEventReplayLog(8, 1_000_000L);
+        appendEvents(log, 4);
+        List<Long> delivered = new ArrayList<>();
+
+        boolean completed = log.replayAfter(0L, event -> delivered.add(event.eventId()) && event.eventId() < 2L);
+
+        assertFalse(completed);
+        assertEquals(List.of(1L, 2L), delivered);
+    }
+
+    @Test
+    void serialize_keepsJsonBytesOfPayload() {
+        VoiceEventReplayLog.VoiceEvent event = VoiceEventReplayLog.VoiceEvent.serialize(1L, "stt.final", Map.of("text", "안녕"));
+
+        assertEquals("{\"text\":\"안녕\"}", new String(event.json(), StandardCharsets.UTF_8));
+        assertEquals(event.json().length, event.sizeBytes());
+    }
+
+    private static void appendEvents(VoiceEventReplayLog log, int count) {
+        for (long eventId = 1L; eventId <= count; eventId += 1L) {
+            log.append(event(eventId, "x"));
+        }
+    }
+
+    private static VoiceEventReplayLog.VoiceEvent event(long eventId, String json) {
+        return new VoiceEventReplayLog.VoiceEvent(eventId, "test", Map.of(), json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static List<Long> replayedIds(VoiceEventReplayLog log, long since) {
+        List<Long> ids = new ArrayList<>();
+        log.replayAfter(since, event -> ids.add(event.eventId()));
+        return ids;
+    }
+}
@@ -0,0 +1,133 @@
+package me.go_gradually.omypic.application.voice.usecase;
+
+import me.go_gradually.omypic.application.voice.model.VoiceSessionState;
+import me.go_gradually.omypic.application.voice.port.VoiceSessionStateStore;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class VoiceSessionStateRecorderTest {
+
+    private final ArrayDeque<Runnable> tasks = new ArrayDeque<>();
+
+    @Test
+    void writesOffCallerThreadAndCoalescesStateAndEvents() {
+        VoiceSessionStateStore store = sharedStore();
+        VoiceSessionStateRecorder recorder = new VoiceSessionStateRecorder(store, tasks::addLast, 256);
+
+        recorder.save(state(1L));
+        recorder.appendEvent("v1", event(1L), 1);
+        recorder.appendEvent("v1", event(2L), 2);
+        recorder.save(state(2L));
+        verify(store, never()).save(any());
+        assertEquals(1, tasks.size());
+
+        runTasks();
+        InOrder order = inOrder(store);
+        order.verify(store).save(state(2L));
+        order.verify(store).appendEvents("v1", List.of(stored(1L), stored(2L)), 2);
+    }
+
+    @Test
+    void appendEvent_keepsOnlyReplayLogWindow() {
+        VoiceSessionStateStore store = sharedStore();
+        VoiceSessionStateRecorder recorder = new VoiceSessionStateRecorder(store, tasks::addLast, 256);
+
+        recorder.appendEvent("v1", event(1L), 1);
+        recorder.appendEvent("v1", event(2L), 2);
+        recorder.appendEvent("v1", event(3L), 1);
+        runTasks();
+
+        verify(store).appendEvents("v1", List.of(stored(3L)), 1);
+    }
+
+    @Test
+    void appendEvent_skipsStoreThatDoesNotShareEvents() {
+        VoiceSessionStateStore store = mock(VoiceSessionStateStore.class);
+        when(store.sharesEventsAcrossInstances()).thenReturn(false);
+        VoiceSessionStateRecorder recorder = new VoiceSessionStateRecorder(store, tasks::addLast, 256);
+
+        recorder.appendEvent("v1", event(1L), 1);
+        runTasks();
+
+        verify(store, never()).appendEvents(anyString(), any(), anyInt());
+        verify(store, never()).appendEvent(anyString(), any(), anyInt());
+    }
+
+    @Test
+    void delete_dropsPendingWritesAndLaterWritesStartNewDrain() {
+        VoiceSessionStateStore store = sharedStore();
+        VoiceSessionStateRecorder recorder = new VoiceSessionStateRecorder(store, tasks::addLast, 256);
+
+        recorder.save(state(1L));
+        recorder.delete("v1");
+        runTasks();
+        recorder.save(state(3L));
+        runTasks();
+
+        InOrder order = inOrder(store);
+        order.verify(store).delete("v1");
+        order.verify(store).save(state(3L));
+        verify(store, never()).save(state(1L));
+    }
+
+    @Test
+    void storeFailureIsLoggedAndDoesNotStopLaterWrites() {
+        VoiceSessionStateStore store = sharedStore();
+        doThrow(new IllegalStateException("down")).when(store).save(state(1L));
+        VoiceSessionStateRecorder recorder = new VoiceSessionStateRecorder(store, Runnable::run, 256);
+
+        recorder.save(state(1L));
+        recorder.save(state(2L));
+
+        verify(store).save(state(2L));
+    }
+
+    @Test
+    void find_returnsEmptyWhenStoreFails() {
+        VoiceSessionStateStore store = sharedStore();
+        when(store.find("v1")).thenThrow(new IllegalStateException("down"));
+        VoiceSessionStateRecorder recorder = new VoiceSessionStateRecorder(store, tasks::addLast, 256);
+
+        assertEquals(Optional.empty(), recorder.find("v1"));
+    }
+
+    private VoiceSessionStateStore sharedStore() {
+        VoiceSessionStateStore store = mock(VoiceSessionStateStore.class);
+        when(store.sharesEventsAcrossInstances()).thenReturn(true);
+        return store;
+    }
+
+    private void runTasks() {
+        while (!tasks.isEmpty()) {
+            tasks.pollFirst().run();
+        }
+    }
+
+    private static VoiceSessionState state(long latestEventId) {
+        return new VoiceSessionState("v1", "s1", false, null, 0L, 1L, null, null, latestEventId, List.of());
+    }
+
+    private static VoiceEventReplayLog.VoiceEvent event(long eventId) {
+        return VoiceEventReplayLog.VoiceEvent.serialize(eventId, "test", Map.of("eventId", eventId));
+    }
+
+    private static VoiceSessionState.Event stored(long eventId) {
+        return new VoiceSessionState.Event(eventId, "test", "{\"eventId\":" + eventId + "}");
+    }
+}
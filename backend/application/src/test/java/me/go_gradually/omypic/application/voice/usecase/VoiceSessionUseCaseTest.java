@@ -8,13 +8,16 @@ import me.go_gradually.omypic.application.session.usecase.SessionUseCase;
 import me.go_gradually.omypic.application.shared.port.AsyncExecutor;
 import me.go_gradually.omypic.application.shared.port.MetricsPort;
 import me.go_gradually.omypic.application.stt.model.SttCommand;
+import me.go_gradually.omypic.application.stt.model.VadSettings;
 import me.go_gradually.omypic.application.stt.usecase.SttUseCase;
 import me.go_gradually.omypic.application.voice.model.VoiceAudioChunkCommand;
 import me.go_gradually.omypic.application.voice.model.VoiceEventSink;
 import me.go_gradually.omypic.application.voice.model.VoiceSessionOpenCommand;
+import me.go_gradually.omypic.application.voice.model.VoiceSessionState;
 import me.go_gradually.omypic.application.voice.model.VoiceSessionStopCommand;
 import me.go_gradually.omypic.application.voice.policy.VoicePolicy;
 import me.go_gradually.omypic.application.voice.port.TtsGateway;
+import me.go_gradually.omypic.application.voice.port.VoiceSessionStateStore;
 import me.go_gradually.omypic.domain.feedback.Feedback;
 import me.go_gradually.omypic.domain.session.ModeType;
 import me.go_gradually.omypic.domain.session.SessionId;
@@ -22,6 +25,7 @@ import me.go_gradually.omypic.domain.session.SessionState;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -30,17 +34,20 @@ import java.util.Base64;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Predicate;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.lenient;
@@ -68,6 +75,8 @@ class VoiceSessionUseCaseTest {
     private VoicePolicy voicePolicy;
     @Mock
     private MetricsPort metrics;
+    @Mock
+    private VoiceSessionStateStore stateStore;
 
     private VoiceSessionUseCase useCase;
 
@@ -81,7 +90,8 @@ class VoiceSessionUseCaseTest {
                 ttsGateway,
                 asyncExecutor,
                 voicePolicy,
-                metrics
+                metrics,
+                stateStore
         );
 
         when(voicePolicy.voiceSttModel()).thenReturn("gpt-4o-mini-transcribe");
@@ -189,10 +199,10 @@ class VoiceSessionUseCaseTest {
                 question("q-1", "question-1", "g-1", "travel"),
                 question("q-2", "question-2", "g-2", "hobby")
         );
-        when(feedbackUseCase.prefetchTurnPrompt(anyString(), anyString(), any(), anyString(), anyInt()))
+        when(feedbackUseCase.findPrefetchedTurnPrompt(anyString(), anyString(), any(), anyString()))
                 .thenAnswer(invocation -> new FeedbackUseCase.PrefetchedTurnPrompt(
                         invocation.getArgument(0),
-                        invocation.getArgument(1),
+                        "question-1",
                         List.of(),
                         "ko",
                         "prefetched-system-prompt"
@@ -211,6 +221,8 @@ class VoiceSessionUseCaseTest {
         events.clear();
         useCase.appendAudio(audioChunk(voiceSessionId));
 
+        verify(feedbackUseCase).prefetchTurnPrompt(eq("q-1"), eq("question-1"), any(), anyString(), eq(2));
+        verify(feedbackUseCase).findPrefetchedTurnPrompt(eq("q-1"), eq("question-1"), any(), anyString());
         verify(feedbackUseCase).generateFeedbackForTurnWithPrefetch(
                 anyString(),
                 any(FeedbackCommand.class),
@@ -284,6 +296,150 @@ class VoiceSessionUseCaseTest {
         verify(sttUseCase, times(1)).transcribe(any(SttCommand.class));
     }
 
+    @Test
+    void appendAudio_persistsChunkSequenceAtMostOncePerInterval() {
+        AtomicLong now = new AtomicLong(1_000L);
+        VoiceSessionUseCase clockedUseCase = new VoiceSessionUseCase(
+                sttUseCase,
+                feedbackUseCase,
+                sessionUseCase,
+                questionUseCase,
+                ttsGateway,
+                asyncExecutor,
+                voicePolicy,
+                metrics,
+                stateStore,
+                256,
+                now::get
+        );
+        when(sessionUseCase.getOrCreate("s1")).thenReturn(new SessionState(SessionId.of("s1")));
+        String voiceSessionId = clockedUseCase.open(openCommand("s1"));
+
+        for (long sequence = 1L; sequence <= 5L; sequence += 1L) {
+            clockedUseCase.appendAudio(audioChunk(voiceSessionId, sequence, tonePcm16(20), false));
+        }
+        now.addAndGet(1_000L);
+        clockedUseCase.appendAudio(audioChunk(voiceSessionId, 6L, tonePcm16(20), false));
+
+        ArgumentCaptor<VoiceSessionState> saved = ArgumentCaptor.forClass(VoiceSessionState.class);
+        verify(stateStore, times(2)).save(saved.capture());
+        assertNull(saved.getAllValues().get(0).lastAcceptedChunkSequence());
+        assertEquals(6L, saved.getAllValues().get(1).lastAcceptedChunkSequence());
+    }
+
+    @Test
+    void appendAudio_streamingFramesEndpointOnSilenceAndTrimPadding() throws Exception {
+        SessionState state = new SessionState(SessionId.of("s1"));
+        state.applyModeUpdate(ModeType.IMMEDIATE, null);
+        when(sessionUseCase.getOrCreate("s1")).thenReturn(state);
+        when(questionUseCase.nextQuestion("s1")).thenReturn(
+                question("q-1", "question-1", "g-1", "travel"),
+                question("q-2", "question-2", "g-2", "hobby")
+        );
+        when(voicePolicy.getVadSettings()).thenReturn(new VadSettings(300, 800, 0.015));
+        when(voicePolicy.voiceSttAudioFormat()).thenReturn("wav");
+
+        String voiceSessionId = useCase.open(openCommand("s1"));
+        useCase.registerSink(voiceSessionId, capture(new ArrayList<>()));
+        long sequence = 1L;
+        for (byte[] frame : List.of(new byte[32_000], tonePcm16(600), new byte[32_000])) {
+            useCase.appendAudio(audioChunk(voiceSessionId, sequence++, frame, false));
+        }
+
+        ArgumentCaptor<SttCommand> captor = ArgumentCaptor.forClass(SttCommand.class);
+        verify(sttUseCase, times(1)).transcribe(captor.capture());
+        assertEquals(44 + (300 + 600 + 200) * 32, captor.getValue().getFileBytes().length);
+        assertEquals("audio.wav", captor.getValue().getFileName());
+    }
+
+    @Test
+    void appendAudio_readsOnlyDeclaredLengthOfPreDecodedPcm() throws Exception {
+        SessionState state = new SessionState(SessionId.of("s1"));
+        state.applyModeUpdate(ModeType.IMMEDIATE, null);
+        when(sessionUseCase.getOrCreate("s1")).thenReturn(state);
+        when(questionUseCase.nextQuestion("s1")).thenReturn(
+                question("q-1", "question-1", "g-1", "travel"),
+                question("q-2", "question-2", "g-2", "hobby")
+        );
+        when(voicePolicy.voiceSttAudioFormat()).thenReturn("wav");
+        byte[] scratch = new byte[64_000];
+        byte[] tone = tonePcm16(600);
+        System.arraycopy(tone, 0, scratch, 0, tone.length);
+        System.arraycopy(tone, 0, scratch, tone.length, tone.length);
+
+        String voiceSessionId = useCase.open(openCommand("s1"));
+        useCase.registerSink(voiceSessionId, capture(new ArrayList<>()));
+        VoiceAudioChunkCommand command = audioChunk(voiceSessionId, 1L, new byte[0], true);
+        command.setPcm16Base64(null);
+        command.setPcm16(scratch, tone.length);
+        useCase.appendAudio(command);
+
+        ArgumentCaptor<SttCommand> captor = ArgumentCaptor.forClass(SttCommand.class);
+        verify(sttUseCase, times(1)).transcribe(captor.capture());
+        assertEquals(44 + 600 * 32, captor.getValue().getFileBytes().length);
+    }
+
+    @Test
+    void appendAudio_transcribesPausedSegmentEarlyAndJoinsTailTranscript() throws Exception {
+        SessionState state = new SessionState(SessionId.of("s1"));
+        state.applyModeUpdate(ModeType.IMMEDIATE, null);
+        when(sessionUseCase.getOrCreate("s1")).thenReturn(state);
+        when(questionUseCase.nextQuestion("s1")).thenReturn(
+                question("q-1", "question-1", "g-1", "travel"),
+                question("q-2", "question-2", "g-2", "hobby")
+        );
+
+        String voiceSessionId = useCase.open(openCommand("s1"));
+        List<EventRecord> events = new ArrayList<>();
+        useCase.registerSink(voiceSessionId, capture(events));
+        long sequence = 1L;
+        for (byte[] frame : List.of(tonePcm16(2500), new byte[12_800], tonePcm16(1000), new byte[32_000])) {
+            useCase.appendAudio(audioChunk(voiceSessionId, sequence++, frame, false));
+        }
+
+        verify(sttUseCase, times(2)).transcribe(any(SttCommand.class));
+        int partialIndex = firstIndex(events, event -> "stt.partial".equals(event.type()));
+        int finalIndex = firstIndex(events, event -> "stt.final".equals(event.type()));
+        assertTrue(partialIndex >= 0);
+        assertTrue(partialIndex < finalIndex);
+        assertEquals("answer text answer text", events.get(finalIndex).payload().get("text"));
+    }
+
+    @Test
+    void appendAudio_transcribesQuietEndOfTurnChunkByDefault() throws Exception {
+        SessionState state = new SessionState(SessionId.of("s1"));
+        state.applyModeUpdate(ModeType.IMMEDIATE, null);
+        when(sessionUseCase.getOrCreate("s1")).thenReturn(state);
+        when(questionUseCase.nextQuestion("s1")).thenReturn(question("q-1", "question-1", "g-1", "travel"));
+
+        String voiceSessionId = useCase.open(openCommand("s1"));
+        List<EventRecord> events = new ArrayList<>();
+        useCase.registerSink(voiceSessionId, capture(events));
+        useCase.appendAudio(audioChunk(voiceSessionId, 1L, tonePcm16(1000, 300), true));
+
+        verify(sttUseCase).transcribe(any(SttCommand.class));
+        assertEquals(-1, firstIndex(events, event -> "stt.skipped".equals(event.type())));
+    }
+
+    @Test
+    void appendAudio_skipsSttWhenEndOfTurnChunkHasNoSpeechAndSkipEnabled() throws Exception {
+        SessionState state = new SessionState(SessionId.of("s1"));
+        state.applyModeUpdate(ModeType.IMMEDIATE, null);
+        when(sessionUseCase.getOrCreate("s1")).thenReturn(state);
+        when(questionUseCase.nextQuestion("s1")).thenReturn(question("q-1", "question-1", "g-1", "travel"));
+        when(voicePolicy.voiceSkipNoSpeechTurns()).thenReturn(true);
+
+        String voiceSessionId = useCase.open(openCommand("s1"));
+        List<EventRecord> events = new ArrayList<>();
+        useCase.registerSink(voiceSessionId, capture(events));
+        useCase.appendAudio(audioChunk(voiceSessionId, 1L, new byte[32_000], true));
+
+        verify(sttUseCase, never()).transcribe(any(SttCommand.class));
+        int skippedIndex = firstIndex(events, event -> "stt.skipped".equals(event.type()));
+        assertTrue(skippedIndex >= 0);
+        assertEquals("no_speech", events.get(skippedIndex).payload().get("reason"));
+    }
+
     @Test
     void initializeSession_stopsWhenBootstrapFails() throws Exception {
         SessionState state = new SessionState(SessionId.of("s1"));
@@ -374,6 +530,7 @@ class VoiceSessionUseCaseTest {
                 asyncExecutor,
                 voicePolicy,
                 metrics,
+                stateStore,
                 4
         );
 
@@ -403,7 +560,7 @@ class VoiceSessionUseCaseTest {
     }
 
     @Test
-    void purgeStoppedContexts_removesExpiredSessionAfterTtl() {
+    void recover_treatsStoppedSessionAsUnknownAfterTtlWithoutReaperRun() {
         AtomicLong now = new AtomicLong(1_000L);
         VoiceSessionUseCase ttlUseCase = new VoiceSessionUseCase(
                 sttUseCase,
@@ -414,13 +571,13 @@ class VoiceSessionUseCaseTest {
                 asyncExecutor,
                 voicePolicy,
                 metrics,
+                stateStore,
                 256,
                 now::get
         );
         when(voicePolicy.voiceRecoveryRetentionMs()).thenReturn(600_000L);
         when(voicePolicy.voiceStoppedContextMax()).thenReturn(1000);
         when(sessionUseCase.getOrCreate("s-ttl")).thenReturn(new SessionState(SessionId.of("s-ttl")));
-        when(sessionUseCase.getOrCreate("s-trigger")).thenReturn(new SessionState(SessionId.of("s-trigger")));
 
         String targetVoiceSessionId = ttlUseCase.open(openCommand("s-ttl"));
         ttlUseCase.stop(stopCommand(targetVoiceSessionId));
@@ -429,7 +586,6 @@ class VoiceSessionUseCaseTest {
         assertTrue(beforeExpiry.stopped());
 
         now.addAndGet(600_001L);
-        ttlUseCase.open(openCommand("s-trigger"));
 
         IllegalArgumentException error = assertThrows(
                 IllegalArgumentException.class,
@@ -439,7 +595,56 @@ class VoiceSessionUseCaseTest {
     }
 
     @Test
-    void purgeStoppedContexts_enforcesStoppedContextLimitWithoutRemovingActive() {
+    void recover_reportsOwnerLostForUnstoppedStoredSessionNotOwnedByThisProcess() {
+        VoiceSessionState stored = new VoiceSessionState("voice-remote", "s-remote", false, null, 0L, 3L,
+                new VoiceSessionState.Question("q-2", "question-2", "hobby", "g-2", "hobby"), 5L, 12L,
+                List.of(new VoiceSessionState.Event(9L, "question.prompt", "{\"eventId\":9}"),
+                        new VoiceSessionState.Event(12L, "turn.processed", "{\"eventId\":12}")));
+        when(stateStore.find("voice-remote")).thenReturn(Optional.of(stored));
+
+        VoiceSessionUseCase.RecoverySnapshot snapshot = useCase.recover("voice-remote", 4L);
+
+        assertFalse(snapshot.active());
+        assertTrue(snapshot.stopped());
+        assertEquals("owner_lost", snapshot.stopReason());
+        assertEquals("s-remote", snapshot.sessionId());
+        assertEquals(12L, snapshot.latestEventId());
+        assertEquals(8L, snapshot.replayFromEventId());
+        assertTrue(snapshot.gapDetected());
+        assertEquals(5L, snapshot.lastAcceptedChunkSequence());
+        assertEquals("q-2", snapshot.currentQuestion().id());
+    }
+
+    @Test
+    void recover_keepsStopReasonOfStoppedStoredSession() {
+        VoiceSessionState stored = new VoiceSessionState("voice-remote", "s-remote", true, "user_stop", 1_000L, 2L,
+                null, 5L, 12L, List.of());
+        when(stateStore.find("voice-remote")).thenReturn(Optional.of(stored));
+
+        VoiceSessionUseCase.RecoverySnapshot snapshot = useCase.recover("voice-remote", 12L);
+
+        assertFalse(snapshot.active());
+        assertTrue(snapshot.stopped());
+        assertEquals("user_stop", snapshot.stopReason());
+    }
+
+    @Test
+    void registerSink_replaysStoredEventsWhenSessionIsNotOwnedByThisProcess() {
+        VoiceSessionState stored = new VoiceSessionState("voice-remote", "s-remote", false, null, 0L, 1L, null, 1L, 12L,
+                List.of(new VoiceSessionState.Event(9L, "question.prompt", "{\"eventId\":9}"),
+                        new VoiceSessionState.Event(12L, "turn.processed", "{\"eventId\":12}")));
+        when(stateStore.find("voice-remote")).thenReturn(Optional.of(stored));
+        List<EventRecord> replayed = new ArrayList<>();
+
+        useCase.registerSink("voice-remote", capture(replayed), 9L);
+
+        assertEquals(1, replayed.size());
+        assertEquals("turn.processed", replayed.get(0).type());
+        assertEquals(12L, eventId(replayed.get(0).payload()));
+    }
+
+    @Test
+    void stop_enforcesStoppedContextLimitWithoutRemovingActive() {
         AtomicLong now = new AtomicLong(10_000L);
         VoiceSessionUseCase limitedUseCase = new VoiceSessionUseCase(
                 sttUseCase,
@@ -450,6 +655,7 @@ class VoiceSessionUseCaseTest {
                 asyncExecutor,
                 voicePolicy,
                 metrics,
+                stateStore,
                 256,
                 now::get
         );
@@ -495,14 +701,34 @@ class VoiceSessionUseCaseTest {
     }
 
     private VoiceAudioChunkCommand audioChunk(String voiceSessionId, Long sequence) {
+        return audioChunk(voiceSessionId, sequence, tonePcm16(300), null);
+    }
+
+    private VoiceAudioChunkCommand audioChunk(String voiceSessionId, Long sequence, byte[] pcm16, Boolean endOfTurn) {
         VoiceAudioChunkCommand command = new VoiceAudioChunkCommand();
         command.setVoiceSessionId(voiceSessionId);
-        command.setPcm16Base64(Base64.getEncoder().encodeToString(new byte[]{0, 1, 2, 3}));
+        command.setPcm16Base64(Base64.getEncoder().encodeToString(pcm16));
         command.setSampleRate(16000);
         command.setSequence(sequence);
+        command.setEndOfTurn(endOfTurn);
         return command;
     }
 
+    private byte[] tonePcm16(int millis) {
+        return tonePcm16(millis, 8000);
+    }
+
+    private byte[] tonePcm16(int millis, int amplitude) {
+        int samples = 16 * millis;
+        byte[] pcm16 = new byte[samples * 2];
+        for (int i = 0; i < samples; i += 1) {
+            short sample = (short) (Math.sin(2 * Math.PI * 220 * i / 16000.0) * amplitude);
+            pcm16[i * 2] = (byte) sample;
+            pcm16[i * 2 + 1] = (byte) (sample >> 8);
+        }
+        return pcm16;
+    }
+
     private VoiceSessionStopCommand stopCommand(String voiceSessionId) {
         VoiceSessionStopCommand command = new VoiceSessionStopCommand();
         command.setVoiceSessionId(voiceSessionId);
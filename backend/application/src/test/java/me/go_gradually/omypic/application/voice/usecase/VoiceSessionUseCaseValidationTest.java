@@ -9,6 +9,7 @@ import me.go_gradually.omypic.application.stt.usecase.SttUseCase;
 import me.go_gradually.omypic.application.voice.model.VoiceSessionOpenCommand;
 import me.go_gradually.omypic.application.voice.policy.VoicePolicy;
 import me.go_gradually.omypic.application.voice.port.TtsGateway;
+import me.go_gradually.omypic.application.voice.port.VoiceSessionStateStore;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
@@ -35,6 +36,8 @@ class VoiceSessionUseCaseValidationTest {
     private VoicePolicy voicePolicy;
     @Mock
     private MetricsPort metrics;
+    @Mock
+    private VoiceSessionStateStore stateStore;
 
     @Test
     void open_throws_whenFeedbackModelIsUnsupported() {
@@ -46,7 +49,8 @@ class VoiceSessionUseCaseValidationTest {
                 ttsGateway,
                 asyncExecutor,
                 voicePolicy,
-                metrics
+                metrics,
+                stateStore
         );
         VoiceSessionOpenCommand command = new VoiceSessionOpenCommand();
         command.setSessionId("s1");
@@ -0,0 +1,136 @@
+package me.go_gradually.omypic.application.voice.usecase;
+
+import me.go_gradually.omypic.application.stt.model.VadSettings;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class VoiceTurnSegmenterTest {
+
+    private static final int RATE = 16000;
+    private static final int BYTES_PER_MS = RATE * 2 / 1000;
+
+    @Test
+    void append_endOfTurnTrimsLeadingAndTrailingSilenceToPadding() {
+        VoiceTurnSegmenter segmenter = new VoiceTurnSegmenter(new VadSettings(300, 800, 0.015), RATE);
+
+        segmenter.append(concat(silence(2000), tone(1000), silence(3000)), RATE, true);
+
+        VoiceTurnSegmenter.Utterance utterance = segmenter.poll();
+        assertTrue(utterance.speechDetected());
+        assertEquals((300 + 1000 + 200) * BYTES_PER_MS, utterance.pcm16().length());
+        assertNull(segmenter.poll());
+    }
+
+    @Test
+    void append_endOfTurnKeepsPausesInsideSingleUtterance() {
+        VoiceTurnSegmenter segmenter = new VoiceTurnSegmenter(new VadSettings(300, 800, 0.015), RATE);
+
+        segmenter.append(concat(tone(400), silence(1500), tone(400)), RATE, true);
+
+        assertEquals((400 + 1500 + 400) * BYTES_PER_MS, segmenter.poll().pcm16().length());
+        assertFalse(segmenter.hasReadyUtterance());
+    }
+
+    @Test
+    void append_streamingFramesSplitUtterancesOnSilence() {
+        VoiceTurnSegmenter segmenter = new VoiceTurnSegmenter(new VadSettings(0, 500, 0.015), RATE);
+        byte[] stream = concat(tone(400), silence(600), tone(400), silence(600));
+
+        for (int offset = 0; offset < stream.length; offset += 10 * BYTES_PER_MS) {
+            segmenter.append(slice(stream, offset, 10 * BYTES_PER_MS), RATE, false);
+        }
+
+        assertEquals((400 + 200) * BYTES_PER_MS, segmenter.poll().pcm16().length());
+        assertEquals((400 + 200) * BYTES_PER_MS, segmenter.poll().pcm16().length());
+        assertFalse(segmenter.hasPendingSpeech());
+    }
+
+    @Test
+    void append_streamingPauseEmitsPartialSegmentAndLeavesOnlyTail() {
+        VoiceTurnSegmenter segmenter = new VoiceTurnSegmenter(new VadSettings(0, 800, 0.015), RATE);
+        byte[] stream = concat(tone(2500), silence(400), tone(1000), silence(1000));
+
+        for (int offset = 0; offset < stream.length; offset += 20 * BYTES_PER_MS) {
+            segmenter.append(slice(stream, offset, 20 * BYTES_PER_MS), RATE, false);
+        }
+
+        VoiceTurnSegmenter.Utterance partial = segmenter.pollPartial();
+        assertEquals(0, partial.segmentIndex());
+        assertEquals((2500 + 200) * BYTES_PER_MS, partial.pcm16().length());
+        assertNull(segmenter.pollPartial());
+        VoiceTurnSegmenter.Utterance tail = segmenter.poll();
+        assertTrue(tail.speechDetected());
+        assertEquals(1, tail.segmentIndex());
+        assertEquals((200 + 1000 + 200) * BYTES_PER_MS, tail.pcm16().length());
+    }
+
+    @Test
+    void append_endOfTurnAfterStreamedUtteranceDoesNotReportNoSpeech() {
+        VoiceTurnSegmenter segmenter = new VoiceTurnSegmenter(new VadSettings(300, 500, 0.015), RATE);
+
+        segmenter.append(concat(tone(400), silence(600)), RATE, false);
+        segmenter.append(silence(100), RATE, true);
+
+        assertTrue(segmenter.poll().speechDetected());
+        assertNull(segmenter.poll());
+    }
+
+    @Test
+    void append_reportsNoSpeechForSilentTurnButKeepsItsAudio() {
+        VoiceTurnSegmenter segmenter = new VoiceTurnSegmenter(null, RATE);
+        byte[] turn = concat(silence(500), alternatingNoise(500));
+
+        segmenter.append(turn, RATE, true);
+
+        VoiceTurnSegmenter.Utterance utterance = segmenter.poll();
+        assertFalse(utterance.speechDetected());
+        assertEquals(turn.length, utterance.pcm16().length());
+    }
+
+    private static byte[] tone(int millis) {
+        int samples = RATE * millis / 1000;
+        byte[] pcm16 = new byte[samples * 2];
+        for (int i = 0; i < samples; i += 1) {
+            writeSample(pcm16, i, (short) (Math.sin(2 * Math.PI * 220 * i / RATE) * 8000));
+        }
+        return pcm16;
+    }
+
+    private static byte[] alternatingNoise(int millis) {
+        int samples = RATE * millis / 1000;
+        byte[] pcm16 = new byte[samples * 2];
+        for (int i = 0; i < samples; i += 1) {
+            writeSample(pcm16, i, (short) (i % 2 == 0 ? 1000 : -1000));
+        }
+        return pcm16;
+    }
+
+    private static byte[] silence(int millis) {
+        return new byte[millis * BYTES_PER_MS];
+    }
+
+    private static void writeSample(byte[] pcm16, int index, short sample) {
+        pcm16[index * 2] = (byte) sample;
+        pcm16[index * 2 + 1] = (byte) (sample >> 8);
+    }
+
+    private static byte[] slice(byte[] source, int offset, int length) {
+        byte[] slice = new byte[Math.min(length, source.length - offset)];
+        System.arraycopy(source, offset, slice, 0, slice.length);
+        return slice;
+    }
+
+    private static byte[] concat(byte[]... parts) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (byte[] part : parts) {
+            out.writeBytes(part);
+        }
+        return out.toByteArray();
+    }
+}
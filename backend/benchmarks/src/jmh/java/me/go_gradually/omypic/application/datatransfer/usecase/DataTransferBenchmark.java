@@ -0,0 +1,119 @@
+package me.go_gradually.omypic.application.datatransfer.usecase;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import me.go_gradually.omypic.application.datatransfer.model.DataTransferImportResult;
+import me.go_gradually.omypic.benchmarks.support.InMemoryDataStores;
+import me.go_gradually.omypic.benchmarks.support.SyntheticText;
+import me.go_gradually.omypic.domain.question.QuestionGroupAggregate;
+import me.go_gradually.omypic.domain.question.QuestionGroupId;
+import me.go_gradually.omypic.domain.question.QuestionItem;
+import me.go_gradually.omypic.domain.question.QuestionItemId;
+import me.go_gradually.omypic.domain.rulebook.Rulebook;
+import me.go_gradually.omypic.domain.rulebook.RulebookId;
+import me.go_gradually.omypic.domain.rulebook.RulebookScope;
+import me.go_gradually.omypic.domain.wrongnote.WrongNote;
+import me.go_gradually.omypic.domain.wrongnote.WrongNoteId;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * in-memory 포트 위에서 ZIP 내보내기/가져오기 비용을 측정한다.
+ * 가져오기는 별도 저장소에 반복 적용하므로 매 호출이 같은 크기의 전체 교체가 된다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class DataTransferBenchmark {
+    private static final Instant SEEDED_AT = Instant.parse("2026-01-01T00:00:00Z");
+
+    @Param({"20", "200"})
+    public int questionGroupCount;
+
+    @Param({"10"})
+    public int rulebookCount;
+
+    private DataTransferUseCase exporter;
+    private DataTransferUseCase importer;
+    private byte[] exportedZip;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        ObjectMapper objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        InMemoryDataStores source = seededStores();
+        exporter = useCase(source, objectMapper);
+        importer = useCase(new InMemoryDataStores(), objectMapper);
+        exportedZip = exporter.exportZip();
+    }
+
+    @Benchmark
+    public byte[] exportZip() throws IOException {
+        return exporter.exportZip();
+    }
+
+    @Benchmark
+    public DataTransferImportResult importZip() throws IOException {
+        return importer.importZip(exportedZip);
+    }
+
+    private DataTransferUseCase useCase(InMemoryDataStores stores, ObjectMapper objectMapper) {
+        return new DataTransferUseCase(
+                stores.questionGroups,
+                stores.rulebooks,
+                stores.wrongNotes,
+                stores.wrongNoteQueue,
+                stores.rulebookFiles,
+                stores.index,
+                objectMapper
+        );
+    }
+
+    private InMemoryDataStores seededStores() {
+        InMemoryDataStores stores = new InMemoryDataStores();
+        for (int i = 0; i < questionGroupCount; i++) {
+            stores.questionGroups.save(questionGroup(i));
+        }
+        for (int i = 0; i < rulebookCount; i++) {
+            String path = "mem://seed/rulebook-" + i + ".md";
+            String text = String.join("\n\n", SyntheticText.sentences(i, 300, 20));
+            stores.rulebookFiles.put(path, text.getBytes(StandardCharsets.UTF_8));
+            stores.rulebooks.save(Rulebook.rehydrate(RulebookId.of("rb-" + i), "rulebook-" + i + ".md", path,
+                    RulebookScope.MAIN, null, true, SEEDED_AT, SEEDED_AT));
+        }
+        List<String> queue = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            String pattern = "Grammar: pattern " + i;
+            stores.wrongNotes.save(WrongNote.rehydrate(WrongNoteId.of("wn-" + i), pattern, i + 1, "summary " + i, SEEDED_AT));
+            queue.add(pattern);
+        }
+        stores.wrongNoteQueue.saveGlobalQueue(queue);
+        return stores;
+    }
+
+    private QuestionGroupAggregate questionGroup(int index) {
+        List<QuestionItem> items = new ArrayList<>();
+        List<String> texts = SyntheticText.sentences(1000L + index, 3, 14);
+        for (int i = 0; i < texts.size(); i++) {
+            items.add(QuestionItem.rehydrate(QuestionItemId.of("q-" + index + "-" + i), texts.get(i), "DESCRIPTION"));
+        }
+        return QuestionGroupAggregate.rehydrate(QuestionGroupId.of("g-" + index), "Group " + index,
+                List.of("travel", "habit"), items, SEEDED_AT, SEEDED_AT);
+    }
+}
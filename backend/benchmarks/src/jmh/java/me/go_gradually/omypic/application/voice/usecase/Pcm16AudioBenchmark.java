@@ -0,0 +1,87 @@
+package me.go_gradually.omypic.application.voice.usecase;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Base64;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class Pcm16AudioBenchmark {
+    private static final int BYTES_PER_SECOND = Pcm16Audio.DEFAULT_SAMPLE_RATE * 2;
+
+    // 클라이언트 청크 길이(ms). 250ms가 현재 프론트엔드 기본값에 가깝다.
+    @Param({"250", "1000"})
+    public int chunkMillis;
+
+    // STT로 넘기는 한 턴의 오디오 길이(초).
+    @Param({"10", "60"})
+    public int turnSeconds;
+
+    private String chunkBase64;
+    private byte[] chunkPcm16;
+    private SegmentedPcmBuffer turnPcm16;
+    private SegmentedPcmBuffer turnPcm16At48k;
+    private final SttAudioEncoder flacEncoder = new FlacAudioEncoder();
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42L);
+        byte[] chunk = new byte[BYTES_PER_SECOND * chunkMillis / 1000];
+        random.nextBytes(chunk);
+        chunkBase64 = Base64.getEncoder().encodeToString(chunk);
+        chunkPcm16 = chunk;
+        turnPcm16 = randomPcm(random, BYTES_PER_SECOND * turnSeconds);
+        turnPcm16At48k = randomPcm(random, BYTES_PER_SECOND * 3 * turnSeconds);
+    }
+
+    private static SegmentedPcmBuffer randomPcm(SplittableRandom random, int length) {
+        byte[] pcm16 = new byte[length];
+        random.nextBytes(pcm16);
+        return SegmentedPcmBuffer.copyOf(pcm16);
+    }
+
+    @Benchmark
+    public byte[] decodeChunk() {
+        return Pcm16Audio.decodeBase64(chunkBase64);
+    }
+
+    @Benchmark
+    public byte[] wrapTurnAsWav() {
+        return Pcm16Audio.toWav(turnPcm16, Pcm16Audio.DEFAULT_SAMPLE_RATE);
+    }
+
+    @Benchmark
+    public byte[] encodeTurnAsFlac() {
+        return flacEncoder.encode(turnPcm16, Pcm16Audio.DEFAULT_SAMPLE_RATE).bytes();
+    }
+
+    @Benchmark
+    public int downsample48kTurn() {
+        SegmentedPcmBuffer resampled = Pcm16Resampler.toSttRate(turnPcm16At48k, 48000);
+        int length = resampled.length();
+        resampled.release();
+        return length;
+    }
+
+    // 한 turn 분량을 청크 단위로 슬랩 버퍼에 쌓았다가 돌려준다. 풀이 데워지면 연산당 할당이 거의 없어야 한다.
+    @Benchmark
+    public int bufferTurnInPooledSlabs() {
+        SegmentedPcmBuffer buffer = new SegmentedPcmBuffer(PcmSlabPool.SHARED);
+        for (int written = 0; written < turnPcm16.length(); written += chunkPcm16.length) {
+            buffer.write(chunkPcm16, 0, chunkPcm16.length);
+        }
+        int length = buffer.length();
+        buffer.release();
+        return length;
+    }
+}
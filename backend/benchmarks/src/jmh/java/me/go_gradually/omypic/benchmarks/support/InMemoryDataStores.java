@@ -0,0 +1,211 @@
+package me.go_gradually.omypic.benchmarks.support;
+
+import me.go_gradually.omypic.application.question.port.QuestionGroupPort;
+import me.go_gradually.omypic.application.rulebook.model.StoredRulebookFile;
+import me.go_gradually.omypic.application.rulebook.port.RulebookFileStore;
+import me.go_gradually.omypic.application.rulebook.port.RulebookIndexPort;
+import me.go_gradually.omypic.application.rulebook.port.RulebookPort;
+import me.go_gradually.omypic.application.wrongnote.port.WrongNotePort;
+import me.go_gradually.omypic.application.wrongnote.port.WrongNoteRecentQueuePort;
+import me.go_gradually.omypic.domain.question.QuestionGroupAggregate;
+import me.go_gradually.omypic.domain.question.QuestionGroupId;
+import me.go_gradually.omypic.domain.rulebook.Rulebook;
+import me.go_gradually.omypic.domain.rulebook.RulebookChunk;
+import me.go_gradually.omypic.domain.rulebook.RulebookContext;
+import me.go_gradually.omypic.domain.rulebook.RulebookId;
+import me.go_gradually.omypic.domain.wrongnote.WrongNote;
+import me.go_gradually.omypic.domain.wrongnote.WrongNoteId;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Mongo/파일 저장소 대신 쓰는 in-memory 포트 묶음.
+ * DataTransferUseCase처럼 여러 포트를 함께 쓰는 유스케이스를 오프라인으로 측정할 때 사용한다.
+ */
+public final class InMemoryDataStores {
+    public final QuestionGroups questionGroups = new QuestionGroups();
+    public final Rulebooks rulebooks = new Rulebooks();
+    public final WrongNotes wrongNotes = new WrongNotes();
+    public final WrongNoteQueue wrongNoteQueue = new WrongNoteQueue();
+    public final RulebookFiles rulebookFiles = new RulebookFiles();
+    public final CountingIndex index = new CountingIndex();
+
+    public static final class QuestionGroups implements QuestionGroupPort {
+        private final Map<QuestionGroupId, QuestionGroupAggregate> store = new LinkedHashMap<>();
+
+        @Override
+        public List<QuestionGroupAggregate> findAll() {
+            return new ArrayList<>(store.values());
+        }
+
+        @Override
+        public List<QuestionGroupAggregate> findAllById(Collection<QuestionGroupId> ids) {
+            return ids.stream().map(store::get).filter(group -> group != null).toList();
+        }
+
+        @Override
+        public Optional<QuestionGroupAggregate> findById(QuestionGroupId id) {
+            return Optional.ofNullable(store.get(id));
+        }
+
+        @Override
+        public QuestionGroupAggregate save(QuestionGroupAggregate group) {
+            store.put(group.getId(), group);
+            return group;
+        }
+
+        @Override
+        public void deleteById(QuestionGroupId id) {
+            store.remove(id);
+        }
+
+        @Override
+        public void deleteAll() {
+            store.clear();
+        }
+    }
+
+    public static final class Rulebooks implements RulebookPort {
+        private final Map<RulebookId, Rulebook> store = new LinkedHashMap<>();
+
+        @Override
+        public List<Rulebook> findAll() {
+            return new ArrayList<>(store.values());
+        }
+
+        @Override
+        public Optional<Rulebook> findById(RulebookId id) {
+            return Optional.ofNullable(store.get(id));
+        }
+
+        @Override
+        public Rulebook save(Rulebook rulebook) {
+            store.put(rulebook.getId(), rulebook);
+            return rulebook;
+        }
+
+        @Override
+        public void deleteById(RulebookId id) {
+            store.remove(id);
+        }
+
+        @Override
+        public void deleteAll() {
+            store.clear();
+        }
+    }
+
+    public static final class WrongNotes implements WrongNotePort {
+        private final Map<WrongNoteId, WrongNote> store = new LinkedHashMap<>();
+
+        @Override
+        public List<WrongNote> findAll() {
+            return new ArrayList<>(store.values());
+        }
+
+        @Override
+        public Optional<WrongNote> findByPattern(String pattern) {
+            return store.values().stream().filter(note -> note.getPattern().equals(pattern)).findFirst();
+        }
+
+        @Override
+        public WrongNote save(WrongNote note) {
+            store.put(note.getId(), note);
+            return note;
+        }
+
+        @Override
+        public void deleteById(WrongNoteId id) {
+            store.remove(id);
+        }
+
+        @Override
+        public void deleteAll() {
+            store.clear();
+        }
+    }
+
+    public static final class WrongNoteQueue implements WrongNoteRecentQueuePort {
+        private List<String> patterns = List.of();
+
+        @Override
+        public List<String> loadGlobalQueue() {
+            return patterns;
+        }
+
+        @Override
+        public void saveGlobalQueue(List<String> patterns) {
+            this.patterns = List.copyOf(patterns);
+        }
+
+        @Override
+        public void clearGlobalQueue() {
+            patterns = List.of();
+        }
+    }
+
+    public static final class RulebookFiles implements RulebookFileStore {
+        private final Map<String, byte[]> files = new LinkedHashMap<>();
+
+        public void put(String path, byte[] bytes) {
+            files.put(path, bytes);
+        }
+
+        @Override
+        public StoredRulebookFile store(String filename, byte[] bytes) {
+            String path = "mem://" + files.size() + "/" + filename;
+            files.put(path, bytes);
+            return new StoredRulebookFile(path);
+        }
+
+        @Override
+        public String readText(String path) {
+            return new String(readBytes(path), StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public byte[] readBytes(String path) {
+            byte[] bytes = files.get(path);
+            if (bytes == null) {
+                throw new IllegalArgumentException("Unknown rulebook file: " + path);
+            }
+            return bytes;
+        }
+
+        @Override
+        public void clearAll() {
+            files.clear();
+        }
+    }
+
+    // 인덱싱 비용은 Lucene 벤치마크에서 따로 측정하므로 여기서는 청크 수만 센다.
+    public static final class CountingIndex implements RulebookIndexPort {
+        private long indexedChunks;
+
+        public long indexedChunks() {
+            return indexedChunks;
+        }
+
+        @Override
+        public void indexRulebookChunks(RulebookId rulebookId, String filename, List<RulebookChunk> chunks) {
+            indexedChunks += chunks.size();
+        }
+
+        @Override
+        public List<RulebookContext> search(String query, int topK, Set<RulebookId> enabledRulebookIds) {
+            return List.of();
+        }
+
+        @Override
+        public void reset() {
+            indexedChunks = 0L;
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package me.go_gradually.omypic.benchmarks.support;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * 벤치마크 입력용 결정적(seed 고정) 텍스트 생성기.
+ */
+public final class SyntheticText {
+    private static final String[] WORDS = {
+            "travel", "weekend", "habit", "cafe", "park", "memorable", "honestly", "actually",
+            "describe", "compare", "experience", "neighborhood", "usually", "definitely", "vivid",
+            "answer", "strategy", "filler", "detail", "reason", "example", "past", "present",
+            "friend", "family", "music", "movie", "exercise", "home", "room", "city", "weather"
+    };
+
+    private SyntheticText() {
+    }
+
+    public static String sentence(SplittableRandom random, int words) {
+        StringBuilder builder = new StringBuilder(words * 8);
+        for (int i = 0; i < words; i++) {
+            if (i > 0) {
+                builder.append(' ');
+            }
+            builder.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return builder.append('.').toString();
+    }
+
+    public static List<String> sentences(long seed, int count, int wordsPerSentence) {
+        SplittableRandom random = new SplittableRandom(seed);
+        List<String> sentences = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            sentences.add(sentence(random, wordsPerSentence));
+        }
+        return sentences;
+    }
+
+    public static List<String> vocabulary() {
+        return List.of(WORDS);
+    }
+}
@@ -0,0 +1,67 @@
+package me.go_gradually.omypic.domain.feedback;
+
+import me.go_gradually.omypic.benchmarks.support.SyntheticText;
+import me.go_gradually.omypic.domain.rulebook.RulebookContext;
+import me.go_gradually.omypic.domain.rulebook.RulebookId;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FeedbackNormalizationBenchmark {
+    private final FeedbackConstraints constraints = new FeedbackConstraints(255, 0.8, 1.2);
+    private Feedback structured;
+    private Feedback legacyPoints;
+    private String answer;
+    private List<RulebookContext> contexts;
+
+    @Setup
+    public void setUp() {
+        answer = String.join(" ", SyntheticText.sentences(7L, 8, 12));
+        contexts = List.of(
+                RulebookContext.of(RulebookId.of("r1"), "main.md", SyntheticText.sentences(1L, 1, 40).get(0)),
+                RulebookContext.of(RulebookId.of("r2"), "group.md", SyntheticText.sentences(2L, 1, 40).get(0))
+        );
+        structured = Feedback.of(
+                "Overall the answer is clear. Add one more reason. Keep the tense consistent.",
+                new Corrections(
+                        new CorrectionDetail("Tense drifts between past and present", "Stay in past tense"),
+                        new CorrectionDetail("Vocabulary is repetitive", "Use a more specific verb"),
+                        new CorrectionDetail("Reason is missing", "Add a because clause")
+                ),
+                new Recommendations(
+                        new RecommendationDetail("Well", "Use it to open the answer naturally."),
+                        new RecommendationDetail("memorable", "Use it to describe the trip."),
+                        new RecommendationDetail("definitely", "Use it to stress confidence.")
+                ),
+                answer,
+                List.of("[main.md] evidence one", "[group.md] evidence two")
+        );
+        legacyPoints = Feedback.of(
+                "summary only",
+                List.of("Grammar: tense - use past", "Expression: vague - be specific", "Filler: Well - opening"),
+                List.of("Adjective: vivid - detail", "Adverb: honestly - opinion"),
+                "short",
+                List.of()
+        );
+    }
+
+    @Benchmark
+    public Feedback normalizeStructured() {
+        return structured.normalized(constraints, answer, FeedbackLanguage.of("en"), contexts);
+    }
+
+    @Benchmark
+    public Feedback normalizeLegacyPoints() {
+        return legacyPoints.normalized(constraints, answer, FeedbackLanguage.of("ko"), contexts);
+    }
+}
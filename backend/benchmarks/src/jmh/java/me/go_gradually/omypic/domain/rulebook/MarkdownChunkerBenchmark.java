@@ -0,0 +1,55 @@
+package me.go_gradually.omypic.domain.rulebook;
+
+import me.go_gradually.omypic.benchmarks.support.SyntheticText;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 제목·목록·문단·코드 블록이 섞인 합성 룰북을 조각으로 나누는 비용을 측정한다.
+ * sections 하나가 1.2KB 안팎이므로 2000이면 2MB를 넘는 큰 룰북이다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MarkdownChunkerBenchmark {
+    @Param({"50", "2000"})
+    public int sections;
+
+    private final MarkdownChunker chunker = MarkdownChunker.withDefaults();
+    private String markdown;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42L);
+        StringBuilder builder = new StringBuilder(sections * 1300);
+        for (int i = 0; i < sections; i++) {
+            appendSection(builder, random, i);
+        }
+        markdown = builder.toString();
+    }
+
+    private static void appendSection(StringBuilder builder, SplittableRandom random, int index) {
+        builder.append(index % 5 == 0 ? "# Part " : "## Section ").append(index).append("\n\n");
+        builder.append(SyntheticText.sentence(random, 60)).append('\n');
+        builder.append(SyntheticText.sentence(random, 40)).append("\n\n");
+        for (int item = 0; item < 4; item++) {
+            builder.append("- ").append(SyntheticText.sentence(random, 12)).append('\n');
+        }
+        builder.append("\n```\n# sample answer\n").append(SyntheticText.sentence(random, 20)).append("\n```\n\n");
+    }
+
+    @Benchmark
+    public List<RulebookChunk> split() {
+        return chunker.split(markdown);
+    }
+}
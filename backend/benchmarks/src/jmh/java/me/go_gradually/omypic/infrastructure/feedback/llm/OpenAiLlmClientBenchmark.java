@@ -0,0 +1,92 @@
+package me.go_gradually.omypic.infrastructure.feedback.llm;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import me.go_gradually.omypic.application.feedback.port.LlmGenerateResult;
+import me.go_gradually.omypic.domain.session.LlmConversationState;
+import me.go_gradually.omypic.domain.session.LlmPromptContext;
+import me.go_gradually.omypic.infrastructure.shared.config.AppProperties;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로컬 MockWebServer를 OpenAI 대역으로 두고 generate() 한 번의 클라이언트 측 비용을 측정한다.
+ * 네트워크 지연 없이 요청 직렬화, WebClient 왕복, 응답 파싱, 구조화 출력 바인딩만 남는다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class OpenAiLlmClientBenchmark {
+    private MockWebServer server;
+    private OpenAiLlmClient client;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        String body = cannedResponseBody();
+        server = new MockWebServer();
+        server.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) {
+                return new MockResponse().setHeader("Content-Type", "application/json").setBody(body);
+            }
+        });
+        server.start();
+        AppProperties properties = new AppProperties();
+        properties.getIntegrations().getOpenai().setBaseUrl(server.url("/").toString());
+        properties.getIntegrations().getOpenai().setResponsesEnabled(true);
+        client = new OpenAiLlmClient(properties);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        server.shutdown();
+    }
+
+    @Benchmark
+    public LlmGenerateResult generate() throws Exception {
+        return client.generate(
+                "bench-key",
+                "gpt-4o-mini",
+                "You are an OPIc speaking coach.",
+                "Question: Describe your last trip.\nAnswer: I went to Busan with my family last summer.",
+                LlmConversationState.empty(),
+                LlmPromptContext.empty()
+        );
+    }
+
+    private String cannedResponseBody() throws IOException {
+        String structured = """
+                {
+                  "summary":"Clear answer with a small tense issue.",
+                  "corrections":{
+                    "grammar":{"issue":"Tense drifts","fix":"Stay in past tense"},
+                    "expression":{"issue":"Repetitive verbs","fix":"Use specific verbs"},
+                    "logic":{"issue":"Reason is missing","fix":"Add a because clause"}
+                  },
+                  "recommendations":{
+                    "filler":{"term":"Well","usage":"Open naturally"},
+                    "adjective":{"term":"memorable","usage":"Describe the trip"},
+                    "adverb":{"term":"definitely","usage":"Stress confidence"}
+                  },
+                  "exampleAnswer":"Well, last summer I went to Busan with my family.",
+                  "rulebookEvidence":[]
+                }
+                """;
+        return """
+                {"id":"resp-bench","conversation":"conv-bench","output_text":%s,"usage":{"input_tokens":900}}
+                """.formatted(new ObjectMapper().writeValueAsString(structured));
+    }
+}
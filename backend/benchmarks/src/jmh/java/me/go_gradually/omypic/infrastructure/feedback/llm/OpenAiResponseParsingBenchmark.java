@@ -0,0 +1,107 @@
+package me.go_gradually.omypic.infrastructure.feedback.llm;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.ai.converter.BeanOutputConverter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Responses API 응답 한 건을 처리하는 파싱 경로 비교.
+ * {@code tree*}/{@code converterPerCall}은 스트리밍 파서 도입 전 방식(JsonNode 트리 + 호출마다 BeanOutputConverter 생성),
+ * {@code streaming*}/{@code cachedReader}는 현재 OpenAiLlmClient 경로다. 응답당 할당량은 {@code -prof gc}로 비교한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class OpenAiResponseParsingBenchmark {
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final OpenAiResponsesEnvelopeReader envelopeReader = new OpenAiResponsesEnvelopeReader(objectMapper.getFactory());
+    private final ObjectReader feedbackReader = objectMapper.readerFor(OpenAiLlmClient.StructuredFeedbackResponse.class)
+            .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+    private String responseBody;
+    private String structuredOutput;
+
+    @Setup
+    public void setUp() throws IOException {
+        structuredOutput = """
+                {
+                  "summary":"Overall clear answer. Add one reason. Keep the tense consistent.",
+                  "corrections":{
+                    "grammar":{"issue":"Tense drifts between past and present","fix":"Stay in past tense"},
+                    "expression":{"issue":"Vocabulary is repetitive","fix":"Use a more specific verb"},
+                    "logic":{"issue":"Reason is missing","fix":"Add a because clause"}
+                  },
+                  "recommendations":{
+                    "filler":{"term":"Well","usage":"Open the answer naturally"},
+                    "adjective":{"term":"memorable","usage":"Describe the trip"},
+                    "adverb":{"term":"definitely","usage":"Stress confidence"}
+                  },
+                  "exampleAnswer":"Well, last summer I went to Busan with my family and it was definitely memorable.",
+                  "rulebookEvidence":["[main.md] Use past tense for past experiences"]
+                }
+                """;
+        responseBody = """
+                {
+                  "id":"resp-bench",
+                  "object":"response",
+                  "model":"gpt-4o-mini",
+                  "conversation":{"id":"conv-bench","object":"conversation"},
+                  "output":[
+                    {"type":"reasoning","summary":[]},
+                    {"type":"message","role":"assistant","content":[
+                      {"type":"output_text","annotations":[],"text":%s}
+                    ]}
+                  ],
+                  "usage":{"input_tokens":2048,"input_tokens_details":{"cached_tokens":1024},"output_tokens":320}
+                }
+                """.formatted(objectMapper.writeValueAsString(structuredOutput));
+    }
+
+    @Benchmark
+    public String treeEnvelope() throws IOException {
+        JsonNode root = objectMapper.readTree(responseBody);
+        List<String> fragments = new ArrayList<>();
+        for (JsonNode item : root.path("output")) {
+            for (JsonNode part : item.path("content")) {
+                String text = part.path("text").asText("").trim();
+                if (!text.isBlank()) {
+                    fragments.add(text);
+                }
+            }
+        }
+        root.path("conversation").path("id").asText("");
+        root.path("usage").path("input_tokens").asLong(0L);
+        return String.join("\n", fragments);
+    }
+
+    @Benchmark
+    public String streamingEnvelope() throws IOException {
+        return envelopeReader.read(responseBody).outputText();
+    }
+
+    @Benchmark
+    public OpenAiLlmClient.StructuredFeedbackResponse converterPerCall() {
+        BeanOutputConverter<OpenAiLlmClient.StructuredFeedbackResponse> converter =
+                new BeanOutputConverter<>(OpenAiLlmClient.StructuredFeedbackResponse.class);
+        converter.getFormat();
+        return converter.convert(structuredOutput);
+    }
+
+    @Benchmark
+    public OpenAiLlmClient.StructuredFeedbackResponse cachedReader() throws IOException {
+        return feedbackReader.readValue(structuredOutput);
+    }
+}
@@ -0,0 +1,99 @@
+package me.go_gradually.omypic.infrastructure.rulebook.rag;
+
+import me.go_gradually.omypic.benchmarks.support.BenchmarkFiles;
+import me.go_gradually.omypic.benchmarks.support.SyntheticText;
+import me.go_gradually.omypic.infrastructure.shared.config.AppProperties;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 임베딩 어댑터 비용. {@code distinctSentences}가 FastText 임베딩 캐시(1000개)보다 크면
+ * 매 호출이 캐시 미스가 되어 토크나이즈와 벡터 합산 비용이 그대로 드러난다.
+ * {@code answerWords}=300은 turn 질의로 들어오는 긴 답변 전문에 해당한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EmbeddingBenchmark {
+    private static final int DIMENSION = 300;
+
+    @Param({"16", "5000"})
+    public int distinctSentences;
+
+    @Param({"24", "300"})
+    public int answerWords;
+
+    private Path dataDir;
+    private LocalHashEmbeddingAdapter hashEmbedding;
+    private FastTextEmbeddingAdapter fastTextEmbedding;
+    private List<String> sentences;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        dataDir = BenchmarkFiles.createTempDir("omypic-embedding-bench");
+        Path modelPath = writeSyntheticModel(dataDir.resolve("model.vec"));
+        AppProperties properties = new AppProperties();
+        AppProperties.Rag rag = properties.getRag();
+        rag.setEmbeddingDim(DIMENSION);
+        rag.setModelPath(modelPath.toString());
+        rag.setModelSha256(BenchmarkFiles.sha256(Files.readAllBytes(modelPath)));
+        rag.setAllowHashFallback(false);
+        hashEmbedding = new LocalHashEmbeddingAdapter(properties);
+        fastTextEmbedding = new FastTextEmbeddingAdapter(properties, dataDir::toString);
+        sentences = SyntheticText.sentences(11L, distinctSentences, answerWords);
+        fastTextEmbedding.warmUp().join();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        BenchmarkFiles.deleteRecursively(dataDir);
+    }
+
+    @Benchmark
+    public float[] hashEmbed() {
+        return hashEmbedding.embed(nextSentence());
+    }
+
+    @Benchmark
+    public float[] fastTextEmbed() {
+        return fastTextEmbedding.embed(nextSentence());
+    }
+
+    private String nextSentence() {
+        String sentence = sentences.get(cursor);
+        cursor = (cursor + 1) % sentences.size();
+        return sentence;
+    }
+
+    private Path writeSyntheticModel(Path path) throws IOException {
+        List<String> vocabulary = SyntheticText.vocabulary();
+        SplittableRandom random = new SplittableRandom(3L);
+        StringBuilder builder = new StringBuilder();
+        builder.append(vocabulary.size()).append(' ').append(DIMENSION).append('\n');
+        for (String word : vocabulary) {
+            builder.append(word);
+            for (int i = 0; i < DIMENSION; i++) {
+                builder.append(' ').append((float) (random.nextDouble() * 2.0 - 1.0));
+            }
+            builder.append('\n');
+        }
+        return Files.writeString(path, builder.toString(), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,76 @@
+package me.go_gradually.omypic.infrastructure.rulebook.rag;
+
+import me.go_gradually.omypic.benchmarks.support.BenchmarkFiles;
+import me.go_gradually.omypic.benchmarks.support.SyntheticText;
+import me.go_gradually.omypic.domain.rulebook.RulebookChunk;
+import me.go_gradually.omypic.domain.rulebook.RulebookContext;
+import me.go_gradually.omypic.domain.rulebook.RulebookId;
+import me.go_gradually.omypic.infrastructure.shared.config.AppProperties;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 합성 룰북을 임시 디렉터리에 색인한 뒤 RAG 검색 지연을 측정한다.
+ * 임베딩은 외부 모델 파일 없이 재현되도록 해시 임베딩을 쓴다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class LuceneRulebookSearchBenchmark {
+    private static final int CHUNKS_PER_RULEBOOK = 200;
+
+    @Param({"5", "50"})
+    public int rulebookCount;
+
+    @Param({"4"})
+    public int topK;
+
+    private Path dataDir;
+    private LuceneRulebookIndexAdapter index;
+    private Set<RulebookId> enabledRulebookIds;
+    private List<String> queries;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        dataDir = BenchmarkFiles.createTempDir("omypic-lucene-bench");
+        AppProperties properties = new AppProperties();
+        index = new LuceneRulebookIndexAdapter(dataDir::toString, new LocalHashEmbeddingAdapter(properties));
+        enabledRulebookIds = new LinkedHashSet<>();
+        for (int i = 0; i < rulebookCount; i++) {
+            RulebookId id = RulebookId.of("rulebook-" + i);
+            index.indexRulebookChunks(id, "rulebook-" + i + ".md", SyntheticText.sentences(i, CHUNKS_PER_RULEBOOK, 40).stream()
+                    .map(RulebookChunk::of)
+                    .toList());
+            enabledRulebookIds.add(id);
+        }
+        queries = SyntheticText.sentences(97L, 64, 30);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        BenchmarkFiles.deleteRecursively(dataDir);
+    }
+
+    @Benchmark
+    public List<RulebookContext> search() throws IOException {
+        String query = queries.get(cursor);
+        cursor = (cursor + 1) % queries.size();
+        return index.search(query, topK, enabledRulebookIds);
+    }
+}
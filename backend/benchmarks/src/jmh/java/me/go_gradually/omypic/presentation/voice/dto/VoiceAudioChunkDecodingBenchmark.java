@@ -0,0 +1,67 @@
+package me.go_gradually.omypic.presentation.voice.dto;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * audio-chunks 요청 본문 하나를 PCM 바이트로 바꾸는 경로 비교.
+ * {@code stringThenDecode}는 이전 방식(pcm16Base64를 String으로 바인딩한 뒤 Base64 디코딩),
+ * {@code streamingDecode}는 현재 VoiceAudioChunkRequest 경로다. 청크당 할당 바이트는 {@code gc.alloc.rate.norm}으로 본다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class VoiceAudioChunkDecodingBenchmark {
+    private static final int BYTES_PER_SECOND = 16000 * 2;
+
+    @Param({"250", "1000", "5000"})
+    public int chunkMillis;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ObjectReader streamingReader = objectMapper.readerFor(VoiceAudioChunkRequest.class);
+    private final ObjectReader legacyReader = objectMapper.readerFor(LegacyChunkRequest.class);
+    private byte[] body;
+
+    @Setup
+    public void setUp() {
+        byte[] pcm16 = new byte[BYTES_PER_SECOND * chunkMillis / 1000];
+        new SplittableRandom(42L).nextBytes(pcm16);
+        String json = "{\"pcm16Base64\":\"" + Base64.getEncoder().encodeToString(pcm16)
+                + "\",\"sampleRate\":16000,\"sequence\":7,\"endOfTurn\":false}";
+        body = json.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public int stringThenDecode() throws IOException {
+        LegacyChunkRequest request = legacyReader.readValue(new ByteArrayInputStream(body));
+        return Base64.getDecoder().decode(request.pcm16Base64).length;
+    }
+
+    @Benchmark
+    public int streamingDecode() throws IOException {
+        VoiceAudioChunkRequest request = streamingReader.readValue(new ByteArrayInputStream(body));
+        return request.getPcm16Base64().getLength();
+    }
+
+    public static class LegacyChunkRequest {
+        public String pcm16Base64;
+        public Integer sampleRate;
+        public Long sequence;
+        public Boolean endOfTurn;
+    }
+}
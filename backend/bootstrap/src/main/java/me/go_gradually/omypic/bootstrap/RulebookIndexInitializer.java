@@ -0,0 +1,33 @@
+package me.go_gradually.omypic.bootstrap;
+
+import me.go_gradually.omypic.application.rulebook.usecase.RulebookUseCase;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.logging.Logger;
+
+/**
+ * 기동 시 룰북 색인 구조가 옛 버전이면 비우고 저장된 룰북 파일로 다시 채운다.
+ * 실패해도 기동은 이어 가며, 다음 업로드 때 같은 확인을 다시 한다.
+ */
+@Component
+public class RulebookIndexInitializer {
+    private static final Logger log = Logger.getLogger(RulebookIndexInitializer.class.getName());
+
+    private final RulebookUseCase rulebookUseCase;
+
+    public RulebookIndexInitializer(RulebookUseCase rulebookUseCase) {
+        this.rulebookUseCase = rulebookUseCase;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOutdatedIndex() {
+        try {
+            rulebookUseCase.rebuildIndexIfOutdated();
+        } catch (IOException | RuntimeException e) {
+            log.warning("Rulebook index rebuild failed; will retry on next upload. reason=" + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package me.go_gradually.omypic.bootstrap;
+
+import me.go_gradually.omypic.application.rulebook.usecase.EnabledRulebookCatalog;
+import me.go_gradually.omypic.application.voice.usecase.VoiceSessionUseCase;
+import me.go_gradually.omypic.infrastructure.shared.config.AppProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+
+import java.time.Duration;
+
+@Configuration
+@EnableScheduling
+public class SchedulingConfig implements SchedulingConfigurer {
+    private static final long DEFAULT_VOICE_REAPER_INTERVAL_MS = 30000L;
+    private static final long DEFAULT_ENABLED_RULEBOOK_RELOAD_INTERVAL_MS = 5000L;
+    private final VoiceSessionUseCase voiceSessionUseCase;
+    private final EnabledRulebookCatalog enabledRulebookCatalog;
+    private final AppProperties properties;
+
+    public SchedulingConfig(VoiceSessionUseCase voiceSessionUseCase,
+                            EnabledRulebookCatalog enabledRulebookCatalog,
+                            AppProperties properties) {
+        this.voiceSessionUseCase = voiceSessionUseCase;
+        this.enabledRulebookCatalog = enabledRulebookCatalog;
+        this.properties = properties;
+    }
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar registrar) {
+        registrar.addFixedDelayTask(voiceSessionUseCase::reapStoppedContexts,
+                interval(properties.getVoice().getReaperIntervalMs(), DEFAULT_VOICE_REAPER_INTERVAL_MS));
+        // 다른 인스턴스의 룰북 변경은 여기서만 저장소를 읽어 따라잡는다. 턴 경로는 스냅샷만 읽는다.
+        registrar.addFixedDelayTask(enabledRulebookCatalog::reloadIfChanged,
+                interval(properties.getEnabledRulebookCacheTtlMs(), DEFAULT_ENABLED_RULEBOOK_RELOAD_INTERVAL_MS));
+    }
+
+    private Duration interval(long intervalMs, long defaultIntervalMs) {
+        return Duration.ofMillis(intervalMs > 0L ? intervalMs : defaultIntervalMs);
+    }
+}
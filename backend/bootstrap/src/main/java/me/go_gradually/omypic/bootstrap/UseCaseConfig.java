@@ -13,6 +13,8 @@ import me.go_gradually.omypic.application.rulebook.policy.RagPolicy;
 import me.go_gradually.omypic.application.rulebook.port.RulebookFileStore;
 import me.go_gradually.omypic.application.rulebook.port.RulebookIndexPort;
 import me.go_gradually.omypic.application.rulebook.port.RulebookPort;
+import me.go_gradually.omypic.application.rulebook.usecase.EnabledRulebookCatalog;
+import me.go_gradually.omypic.application.rulebook.usecase.RulebookChunkCache;
 import me.go_gradually.omypic.application.rulebook.usecase.RulebookUseCase;
 import me.go_gradually.omypic.application.session.port.SessionStorePort;
 import me.go_gradually.omypic.application.session.usecase.SessionUseCase;
@@ -23,10 +25,12 @@ import me.go_gradually.omypic.application.stt.port.SttGateway;
 import me.go_gradually.omypic.application.stt.usecase.SttUseCase;
 import me.go_gradually.omypic.application.voice.policy.VoicePolicy;
 import me.go_gradually.omypic.application.voice.port.TtsGateway;
+import me.go_gradually.omypic.application.voice.port.VoiceSessionStateStore;
 import me.go_gradually.omypic.application.voice.usecase.VoiceSessionUseCase;
 import me.go_gradually.omypic.application.wrongnote.port.WrongNotePort;
 import me.go_gradually.omypic.application.wrongnote.port.WrongNoteRecentQueuePort;
 import me.go_gradually.omypic.application.wrongnote.usecase.WrongNoteUseCase;
+import me.go_gradually.omypic.domain.session.ConversationRebasePolicy;
 import me.go_gradually.omypic.infrastructure.shared.config.AppProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -60,13 +64,26 @@ public class UseCaseConfig {
         return new SessionUseCase(sessionStore, questionGroupPort);
     }
 
+    @Bean
+    public RulebookChunkCache rulebookChunkCache(RulebookFileStore rulebookFileStore, RagPolicy ragPolicy) {
+        return new RulebookChunkCache(rulebookFileStore, ragPolicy);
+    }
+
+    @Bean
+    public EnabledRulebookCatalog enabledRulebookCatalog(RulebookPort rulebookPort) {
+        return new EnabledRulebookCatalog(rulebookPort);
+    }
+
     @Bean
     public RulebookUseCase rulebookUseCase(RulebookPort rulebookPort,
                                            RulebookIndexPort rulebookIndexPort,
                                            RulebookFileStore rulebookFileStore,
                                            RagPolicy ragPolicy,
-                                           MetricsPort metricsPort) {
-        return new RulebookUseCase(rulebookPort, rulebookIndexPort, rulebookFileStore, ragPolicy, metricsPort);
+                                           MetricsPort metricsPort,
+                                           RulebookChunkCache rulebookChunkCache,
+                                           EnabledRulebookCatalog enabledRulebookCatalog) {
+        return new RulebookUseCase(rulebookPort, rulebookIndexPort, rulebookFileStore, ragPolicy, metricsPort,
+                rulebookChunkCache, enabledRulebookCatalog);
     }
 
     @Bean
@@ -91,7 +108,16 @@ public class UseCaseConfig {
                 metricsPort,
                 sessionStore,
                 wrongNoteUseCase,
-                properties.getIntegrations().getOpenai().getConversationRebaseTurns()
+                conversationRebasePolicy(properties.getIntegrations().getOpenai())
+        );
+    }
+
+    private ConversationRebasePolicy conversationRebasePolicy(AppProperties.OpenAi openai) {
+        return new ConversationRebasePolicy(
+                openai.getConversationRebaseTurns(),
+                openai.getConversationRebaseInputTokens(),
+                openai.getConversationRebaseLatencyMs(),
+                openai.getConversationRebaseCarryTurns()
         );
     }
 
@@ -110,7 +136,8 @@ public class UseCaseConfig {
                                                    TtsGateway ttsGateway,
                                                    AsyncExecutor asyncExecutor,
                                                    VoicePolicy voicePolicy,
-                                                   MetricsPort metricsPort) {
+                                                   MetricsPort metricsPort,
+                                                   VoiceSessionStateStore voiceSessionStateStore) {
         return new VoiceSessionUseCase(
                 sttUseCase,
                 feedbackUseCase,
@@ -119,7 +146,8 @@ public class UseCaseConfig {
                 ttsGateway,
                 asyncExecutor,
                 voicePolicy,
-                metricsPort
+                metricsPort,
+                voiceSessionStateStore
         );
     }
 
@@ -135,7 +163,9 @@ public class UseCaseConfig {
                                                    WrongNoteRecentQueuePort wrongNoteRecentQueuePort,
                                                    RulebookFileStore rulebookFileStore,
                                                    RulebookIndexPort rulebookIndexPort,
-                                                   ObjectMapper objectMapper) {
+                                                   ObjectMapper objectMapper,
+                                                   RulebookChunkCache rulebookChunkCache,
+                                                   EnabledRulebookCatalog enabledRulebookCatalog) {
         return new DataTransferUseCase(
                 questionGroupPort,
                 rulebookPort,
@@ -143,7 +173,9 @@ public class UseCaseConfig {
                 wrongNoteRecentQueuePort,
                 rulebookFileStore,
                 rulebookIndexPort,
-                objectMapper
+                objectMapper,
+                rulebookChunkCache,
+                enabledRulebookCatalog
         );
     }
 }
@@ -387,7 +387,7 @@ public final class Feedback {
     private List<String> fallbackEvidence(List<RulebookContext> contexts) {
         return contexts.stream()
                 .limit(1)
-                .map(ctx -> "[" + ctx.filename() + "] " + TextUtils.trimToLength(ctx.text(), 200))
+                .map(ctx -> "[" + ctx.source() + "] " + TextUtils.trimToLength(ctx.text(), 200))
                 .collect(Collectors.toList());
     }
 
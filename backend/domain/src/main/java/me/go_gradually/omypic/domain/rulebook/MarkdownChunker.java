@@ -0,0 +1,257 @@
+package me.go_gradually.omypic.domain.rulebook;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * 마크다운 룰북을 제목·목록·문단 경계에서 잘라 색인용 조각으로 만든다.
+ * 텍스트를 줄 단위로 한 번만 훑으며 정규식을 쓰지 않는다. 조각은 제목을 넘지 않고, 같은 절 안에서는
+ * 앞 조각의 마지막 블록을 overlap 길이만큼 다음 조각 앞에 다시 붙인다. 목표 길이보다 긴 블록만 공백 위치에서 자른다.
+ */
+public final class MarkdownChunker {
+    public static final int DEFAULT_TARGET_CHARS = 800;
+    public static final int DEFAULT_OVERLAP_CHARS = 120;
+    private static final int MAX_HEADING_LEVEL = 6;
+    private static final String BLOCK_SEPARATOR = "\n\n";
+
+    private final int targetChars;
+    private final int overlapChars;
+
+    private MarkdownChunker(int targetChars, int overlapChars) {
+        this.targetChars = targetChars;
+        this.overlapChars = overlapChars;
+    }
+
+    // 0 이하 값은 기본값으로, overlap은 목표 길이의 절반을 넘지 않게 맞춘다.
+    public static MarkdownChunker of(int targetChars, int overlapChars) {
+        int target = targetChars > 0 ? targetChars : DEFAULT_TARGET_CHARS;
+        int overlap = overlapChars >= 0 ? overlapChars : DEFAULT_OVERLAP_CHARS;
+        return new MarkdownChunker(target, Math.min(overlap, target / 2));
+    }
+
+    public static MarkdownChunker withDefaults() {
+        return of(DEFAULT_TARGET_CHARS, DEFAULT_OVERLAP_CHARS);
+    }
+
+    public List<RulebookChunk> split(String markdown) {
+        Pass pass = new Pass();
+        if (markdown == null || markdown.isBlank()) {
+            return pass.chunks;
+        }
+        for (int start = 0, end; start <= markdown.length(); start = end + 1) {
+            end = lineEnd(markdown, start);
+            pass.accept(stripCarriageReturn(markdown, start, end));
+        }
+        return pass.finish();
+    }
+
+    private static int lineEnd(String text, int from) {
+        int newline = text.indexOf('\n', from);
+        return newline < 0 ? text.length() : newline;
+    }
+
+    private static String stripCarriageReturn(String text, int start, int end) {
+        return end > start && text.charAt(end - 1) == '\r' ? text.substring(start, end - 1) : text.substring(start, end);
+    }
+
+    // "#"~"######" 다음에 공백(또는 줄 끝)이 와야 제목이다. 제목이 아니면 0.
+    private static int headingLevel(String line) {
+        int level = 0;
+        while (level < line.length() && line.charAt(level) == '#') {
+            level += 1;
+        }
+        if (level == 0 || level > MAX_HEADING_LEVEL) {
+            return 0;
+        }
+        return level == line.length() || line.charAt(level) == ' ' || line.charAt(level) == '\t' ? level : 0;
+    }
+
+    private static boolean isListItem(String line) {
+        int i = leadingSpaces(line);
+        if (i + 1 < line.length() && "-*+".indexOf(line.charAt(i)) >= 0 && line.charAt(i + 1) == ' ') {
+            return true;
+        }
+        int digits = i;
+        while (digits < line.length() && Character.isDigit(line.charAt(digits))) {
+            digits += 1;
+        }
+        return digits > i && digits + 1 < line.length() && ".)".indexOf(line.charAt(digits)) >= 0 && line.charAt(digits + 1) == ' ';
+    }
+
+    private static boolean isFence(String line) {
+        int i = leadingSpaces(line);
+        return line.startsWith("```", i) || line.startsWith("~~~", i);
+    }
+
+    private static int leadingSpaces(String line) {
+        int i = 0;
+        while (i < line.length() && line.charAt(i) == ' ') {
+            i += 1;
+        }
+        return i;
+    }
+
+    // 목표 길이 안쪽의 마지막 공백에서 자른다. 공백이 없으면 목표 길이에서 자르되 서로게이트 쌍은 나누지 않는다.
+    private static int cutPoint(String block, int limit) {
+        for (int i = limit; i > limit / 2; i -= 1) {
+            if (Character.isWhitespace(block.charAt(i))) {
+                return i;
+            }
+        }
+        return Character.isHighSurrogate(block.charAt(limit - 1)) ? limit - 1 : limit;
+    }
+
+    private final class Pass {
+        private final List<RulebookChunk> chunks = new ArrayList<>();
+        private final List<Heading> headings = new ArrayList<>();
+        private final Deque<String> blocks = new ArrayDeque<>();
+        private final StringBuilder block = new StringBuilder();
+        private int blockChars;
+        private int carriedBlocks;
+        private boolean inFence;
+
+        private void accept(String line) {
+            if (inFence || isFence(line)) {
+                acceptFenced(line);
+                return;
+            }
+            int level = headingLevel(line);
+            if (level > 0) {
+                acceptHeading(level, line.substring(level).trim());
+            } else if (line.isBlank() || isListItem(line)) {
+                flushBlock();
+            }
+            appendIfContent(level, line);
+        }
+
+        private void appendIfContent(int headingLevel, String line) {
+            if (headingLevel == 0 && !line.isBlank()) {
+                appendLine(line);
+            }
+        }
+
+        // 코드 블록은 안의 "#"나 빈 줄에 반응하지 않고 닫는 펜스까지 한 블록으로 둔다.
+        private void acceptFenced(String line) {
+            boolean opening = !inFence;
+            if (opening) {
+                flushBlock();
+            }
+            appendLine(line);
+            inFence = opening || !isFence(line);
+            if (!inFence) {
+                flushBlock();
+            }
+        }
+
+        private void acceptHeading(int level, String title) {
+            flushBlock();
+            emit(false);
+            while (!headings.isEmpty() && headings.get(headings.size() - 1).level() >= level) {
+                headings.remove(headings.size() - 1);
+            }
+            headings.add(new Heading(level, title));
+        }
+
+        private void appendLine(String line) {
+            if (block.length() > 0) {
+                block.append('\n');
+            }
+            block.append(line);
+        }
+
+        private void flushBlock() {
+            if (block.length() == 0) {
+                return;
+            }
+            String text = block.toString().strip();
+            block.setLength(0);
+            if (!text.isEmpty()) {
+                addBlock(text);
+            }
+        }
+
+        private void addBlock(String text) {
+            if (text.length() > targetChars) {
+                addOversizedBlock(text);
+                return;
+            }
+            if (!fits(text)) {
+                makeRoom(text);
+            }
+            blockChars += separatorChars(blocks.size()) + text.length();
+            blocks.addLast(text);
+        }
+
+        private void addOversizedBlock(String text) {
+            String rest = text;
+            while (rest.length() > targetChars) {
+                int cut = cutPoint(rest, targetChars);
+                addBlock(rest.substring(0, cut).strip());
+                rest = rest.substring(cut).strip();
+            }
+            if (!rest.isEmpty()) {
+                addBlock(rest);
+            }
+        }
+
+        private boolean fits(String text) {
+            return blocks.isEmpty() || blockChars + BLOCK_SEPARATOR.length() + text.length() <= targetChars;
+        }
+
+        // 새 블록이 있으면 조각을 내보내고, 넘겨받은 overlap과 새 블록이 함께 들어가지 않으면 overlap을 앞에서부터 버린다.
+        private void makeRoom(String text) {
+            if (blocks.size() > carriedBlocks) {
+                emit(true);
+            }
+            while (carriedBlocks > 0 && !fits(text)) {
+                blockChars -= blocks.removeFirst().length() + separatorChars(blocks.size());
+                carriedBlocks -= 1;
+            }
+        }
+
+        private int separatorChars(int existingBlocks) {
+            return existingBlocks == 0 ? 0 : BLOCK_SEPARATOR.length();
+        }
+
+        private void emit(boolean carryOverlap) {
+            if (blocks.size() > carriedBlocks) {
+                chunks.add(new RulebookChunk(String.join(BLOCK_SEPARATOR, blocks), headingTitles()));
+            }
+            List<String> carried = carryOverlap ? overlapTail() : List.of();
+            blocks.clear();
+            blocks.addAll(carried);
+            carriedBlocks = carried.size();
+            blockChars = carried.stream().mapToInt(String::length).sum() + BLOCK_SEPARATOR.length() * Math.max(0, carried.size() - 1);
+        }
+
+        // 뒤에서부터 overlap 길이 안에 들어가는 블록만 다음 조각으로 넘긴다. 마지막 블록 하나만으로도 넘치면 넘기지 않는다.
+        private List<String> overlapTail() {
+            ArrayDeque<String> tail = new ArrayDeque<>();
+            int chars = 0;
+            for (var it = blocks.descendingIterator(); it.hasNext() && tail.size() < blocks.size() - 1; ) {
+                String candidate = it.next();
+                chars += candidate.length() + separatorChars(tail.size());
+                if (chars > overlapChars) {
+                    break;
+                }
+                tail.addFirst(candidate);
+            }
+            return List.copyOf(tail);
+        }
+
+        private List<String> headingTitles() {
+            return headings.stream().map(Heading::title).filter(title -> !title.isEmpty()).toList();
+        }
+
+        private List<RulebookChunk> finish() {
+            flushBlock();
+            emit(false);
+            return chunks;
+        }
+    }
+
+    private record Heading(int level, String title) {
+    }
+}
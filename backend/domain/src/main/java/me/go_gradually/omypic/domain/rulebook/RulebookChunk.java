@@ -0,0 +1,21 @@
+package me.go_gradually.omypic.domain.rulebook;
+
+import java.util.List;
+
+/**
+ * 색인 단위가 되는 룰북 조각. headingPath는 조각이 속한 마크다운 제목을 바깥 제목부터 담는다.
+ */
+public record RulebookChunk(String text, List<String> headingPath) {
+    public RulebookChunk {
+        text = text == null ? "" : text;
+        headingPath = headingPath == null ? List.of() : List.copyOf(headingPath);
+    }
+
+    public static RulebookChunk of(String text) {
+        return new RulebookChunk(text, List.of());
+    }
+
+    public String headingLabel() {
+        return String.join(" > ", headingPath);
+    }
+}
@@ -1,16 +1,25 @@
 package me.go_gradually.omypic.domain.rulebook;
 
-public record RulebookContext(RulebookId rulebookId, String filename, String text) {
-    public RulebookContext(RulebookId rulebookId, String filename, String text) {
+public record RulebookContext(RulebookId rulebookId, String filename, String text, String headingPath) {
+    public RulebookContext {
         if (rulebookId == null) {
             throw new IllegalArgumentException("RulebookId is required");
         }
-        this.rulebookId = rulebookId;
-        this.filename = filename == null ? "" : filename;
-        this.text = text == null ? "" : text;
+        filename = filename == null ? "" : filename;
+        text = text == null ? "" : text;
+        headingPath = headingPath == null ? "" : headingPath;
+    }
+
+    public RulebookContext(RulebookId rulebookId, String filename, String text) {
+        this(rulebookId, filename, text, "");
     }
 
     public static RulebookContext of(RulebookId rulebookId, String filename, String text) {
         return new RulebookContext(rulebookId, filename, text);
     }
+
+    // 프롬프트에 붙이는 출처 표기. 제목 경로가 있으면 "파일 > 제목 > 소제목" 형태가 된다.
+    public String source() {
+        return headingPath.isEmpty() ? filename : filename + " > " + headingPath;
+    }
 }
@@ -0,0 +1,58 @@
+package me.go_gradually.omypic.domain.session;
+
+/**
+ * Responses API 대화 체인(previous_response_id)을 언제 새로 시작할지 결정하는 도메인 로직.
+ * 턴 수 상한 외에, 직전 턴의 입력 토큰 수와 LLM 지연 시간이 예산을 넘으면 rebase 한다.
+ * 예산 값이 0 이하이면 해당 기준은 비활성화된다.
+ */
+public record ConversationRebasePolicy(int maxTurns,
+                                       long inputTokenBudget,
+                                       long latencyBudgetMs,
+                                       int carryForwardTurns) {
+    private static final int MIN_TURNS_FOR_BUDGET_REBASE = 2;
+    private static final int DEFAULT_CARRY_FORWARD_TURNS = 2;
+
+    public ConversationRebasePolicy {
+        maxTurns = Math.max(1, maxTurns);
+        inputTokenBudget = Math.max(0L, inputTokenBudget);
+        latencyBudgetMs = Math.max(0L, latencyBudgetMs);
+        carryForwardTurns = Math.max(0, carryForwardTurns);
+    }
+
+    public static ConversationRebasePolicy turnsOnly(int maxTurns) {
+        return new ConversationRebasePolicy(maxTurns, 0L, 0L, DEFAULT_CARRY_FORWARD_TURNS);
+    }
+
+    public RebaseDecision decide(int turnCountSinceRebase, long lastInputTokens, long lastLatencyMs) {
+        if (turnCountSinceRebase >= maxTurns) {
+            return RebaseDecision.rebase(RebaseReason.TURN_LIMIT);
+        }
+        if (turnCountSinceRebase < MIN_TURNS_FOR_BUDGET_REBASE) {
+            return RebaseDecision.keep();
+        }
+        if (inputTokenBudget > 0L && lastInputTokens >= inputTokenBudget) {
+            return RebaseDecision.rebase(RebaseReason.INPUT_TOKEN_BUDGET);
+        }
+        if (latencyBudgetMs > 0L && lastLatencyMs >= latencyBudgetMs) {
+            return RebaseDecision.rebase(RebaseReason.LATENCY_BUDGET);
+        }
+        return RebaseDecision.keep();
+    }
+
+    public enum RebaseReason {
+        NONE,
+        TURN_LIMIT,
+        INPUT_TOKEN_BUDGET,
+        LATENCY_BUDGET
+    }
+
+    public record RebaseDecision(boolean rebase, RebaseReason reason) {
+        public static RebaseDecision keep() {
+            return new RebaseDecision(false, RebaseReason.NONE);
+        }
+
+        public static RebaseDecision rebase(RebaseReason reason) {
+            return new RebaseDecision(true, reason);
+        }
+    }
+}
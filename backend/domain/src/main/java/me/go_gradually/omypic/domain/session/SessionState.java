@@ -29,6 +29,8 @@ public class SessionState {
     private int completedGroupCountSinceLastFeedback = 0;
     private int currentGroupCursor = 0;
     private int llmTurnCountSinceRebase = 0;
+    private long llmLastInputTokens = 0L;
+    private long llmLastLatencyMs = 0L;
     private boolean llmBootstrapped = false;
     private FeedbackLanguage feedbackLanguage = FeedbackLanguage.of("ko");
     private String llmConversationId = "";
@@ -229,6 +231,35 @@ public class SessionState {
         return llmTurnCountSinceRebase >= Math.max(1, threshold);
     }
 
+    public ConversationRebasePolicy.RebaseDecision decideConversationRebase(ConversationRebasePolicy policy) {
+        if (policy == null) {
+            return ConversationRebasePolicy.RebaseDecision.keep();
+        }
+        return policy.decide(llmTurnCountSinceRebase, llmLastInputTokens, llmLastLatencyMs);
+    }
+
+    public void recordLlmTurnUsage(long inputTokens, long latencyMs) {
+        this.llmLastInputTokens = Math.max(0L, inputTokens);
+        this.llmLastLatencyMs = Math.max(0L, latencyMs);
+    }
+
+    public long getLlmLastInputTokens() {
+        return llmLastInputTokens;
+    }
+
+    public long getLlmLastLatencyMs() {
+        return llmLastLatencyMs;
+    }
+
+    public void rebaseConversation(boolean clearBootstrapFlag, int carryForwardTurns) {
+        resetConversationState(clearBootstrapFlag);
+        int keep = Math.max(0, carryForwardTurns);
+        while (llmRecentTurns.size() > keep) {
+            llmRecentTurns.removeFirst();
+        }
+        recordLlmTurnUsage(0L, 0L);
+    }
+
     public String currentCandidateGroupId() {
         if (currentGroupCursor < 0 || currentGroupCursor >= candidateGroupOrder.size()) {
             return null;
@@ -1,8 +1,5 @@
 package me.go_gradually.omypic.domain.shared.util;
 
-import java.util.ArrayList;
-import java.util.List;
-
 public final class TextUtils {
     private TextUtils() {
     }
@@ -16,18 +13,4 @@ public final class TextUtils {
         }
         return text.substring(0, Math.max(0, maxChars - 1)).trim();
     }
-
-    public static List<String> splitChunks(String text, int maxChunkSize) {
-        List<String> chunks = new ArrayList<>();
-        if (text == null || text.isBlank()) {
-            return chunks;
-        }
-        int index = 0;
-        while (index < text.length()) {
-            int end = Math.min(text.length(), index + maxChunkSize);
-            chunks.add(text.substring(index, end));
-            index = end;
-        }
-        return chunks;
-    }
 }
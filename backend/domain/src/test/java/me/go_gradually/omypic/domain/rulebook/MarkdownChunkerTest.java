@@ -0,0 +1,82 @@
+package me.go_gradually.omypic.domain.rulebook;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MarkdownChunkerTest {
+
+    @Test
+    void split_returnsEmptyForBlankText() {
+        assertTrue(MarkdownChunker.withDefaults().split("  \n ").isEmpty());
+        assertTrue(MarkdownChunker.withDefaults().split(null).isEmpty());
+    }
+
+    @Test
+    void split_keepsHeadingPathAsMetadataAndNeverCrossesHeadings() {
+        String markdown = "# Strategy\nintro line\n\n## Role Play\nask three questions\n\n# Closing\nwrap up\n";
+
+        List<RulebookChunk> chunks = MarkdownChunker.of(200, 0).split(markdown);
+
+        assertEquals(3, chunks.size());
+        assertEquals(new RulebookChunk("intro line", List.of("Strategy")), chunks.get(0));
+        assertEquals(new RulebookChunk("ask three questions", List.of("Strategy", "Role Play")), chunks.get(1));
+        assertEquals(new RulebookChunk("wrap up", List.of("Closing")), chunks.get(2));
+        assertEquals("Strategy > Role Play", chunks.get(1).headingLabel());
+    }
+
+    @Test
+    void split_cutsAtParagraphAndListBoundaries() {
+        String markdown = "first paragraph line\nstill first\n\nsecond paragraph\n- item one\n- item two";
+
+        List<RulebookChunk> chunks = MarkdownChunker.of(40, 0).split(markdown);
+
+        assertEquals(List.of(
+                "first paragraph line\nstill first",
+                "second paragraph\n\n- item one\n\n- item two"
+        ), chunks.stream().map(RulebookChunk::text).toList());
+    }
+
+    @Test
+    void split_carriesTrailingBlockIntoNextChunkWithinOverlap() {
+        String markdown = "aaaa aaaa\n\nbbbb\n\ncccc cccc";
+
+        List<RulebookChunk> chunks = MarkdownChunker.of(16, 6).split(markdown);
+
+        assertEquals(List.of("aaaa aaaa\n\nbbbb", "bbbb\n\ncccc cccc"), chunks.stream().map(RulebookChunk::text).toList());
+    }
+
+    @Test
+    void split_keepsFencedCodeTogetherAndIgnoresHashesInside() {
+        String markdown = "# Title\n```\n# not a heading\n\nstill code\n```\nafter";
+
+        List<RulebookChunk> chunks = MarkdownChunker.of(200, 0).split(markdown);
+
+        assertEquals(1, chunks.size());
+        assertEquals("```\n# not a heading\n\nstill code\n```\n\nafter", chunks.get(0).text());
+        assertEquals(List.of("Title"), chunks.get(0).headingPath());
+    }
+
+    @Test
+    void split_breaksOversizedBlockOnWhitespace() {
+        String markdown = "one two three four five six seven";
+
+        List<RulebookChunk> chunks = MarkdownChunker.of(10, 0).split(markdown);
+
+        chunks.forEach(chunk -> assertTrue(chunk.text().length() <= 10, chunk.text()));
+        assertEquals("one two three four five six seven",
+                String.join(" ", chunks.stream().map(RulebookChunk::text).toList()));
+    }
+
+    @Test
+    void split_treatsHashWithoutSpaceAsText() {
+        List<RulebookChunk> chunks = MarkdownChunker.of(200, 0).split("#hashtag line\r\nnext");
+
+        assertEquals(1, chunks.size());
+        assertEquals("#hashtag line\nnext", chunks.get(0).text());
+        assertTrue(chunks.get(0).headingPath().isEmpty());
+    }
+}
@@ -0,0 +1,62 @@
+package me.go_gradually.omypic.domain.session;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConversationRebasePolicyTest {
+
+    @Test
+    void decide_rebasesWhenTurnLimitReached() {
+        ConversationRebasePolicy policy = ConversationRebasePolicy.turnsOnly(3);
+
+        assertFalse(policy.decide(2, 100_000L, 100_000L).rebase());
+        ConversationRebasePolicy.RebaseDecision decision = policy.decide(3, 0L, 0L);
+
+        assertTrue(decision.rebase());
+        assertEquals(ConversationRebasePolicy.RebaseReason.TURN_LIMIT, decision.reason());
+    }
+
+    @Test
+    void decide_rebasesWhenInputTokenBudgetCrossed() {
+        ConversationRebasePolicy policy = new ConversationRebasePolicy(10, 4000L, 0L, 2);
+
+        assertFalse(policy.decide(3, 3999L, 0L).rebase());
+        ConversationRebasePolicy.RebaseDecision decision = policy.decide(3, 4000L, 0L);
+
+        assertTrue(decision.rebase());
+        assertEquals(ConversationRebasePolicy.RebaseReason.INPUT_TOKEN_BUDGET, decision.reason());
+    }
+
+    @Test
+    void decide_rebasesWhenLatencyBudgetCrossed() {
+        ConversationRebasePolicy policy = new ConversationRebasePolicy(10, 0L, 5000L, 2);
+
+        ConversationRebasePolicy.RebaseDecision decision = policy.decide(4, 0L, 6200L);
+
+        assertTrue(decision.rebase());
+        assertEquals(ConversationRebasePolicy.RebaseReason.LATENCY_BUDGET, decision.reason());
+    }
+
+    @Test
+    void decide_ignoresBudgetsRightAfterRebase() {
+        ConversationRebasePolicy policy = new ConversationRebasePolicy(10, 1000L, 1000L, 2);
+
+        ConversationRebasePolicy.RebaseDecision decision = policy.decide(1, 50_000L, 50_000L);
+
+        assertFalse(decision.rebase());
+        assertEquals(ConversationRebasePolicy.RebaseReason.NONE, decision.reason());
+    }
+
+    @Test
+    void constructor_clampsInvalidValues() {
+        ConversationRebasePolicy policy = new ConversationRebasePolicy(0, -1L, -1L, -3);
+
+        assertEquals(1, policy.maxTurns());
+        assertEquals(0L, policy.inputTokenBudget());
+        assertEquals(0L, policy.latencyBudgetMs());
+        assertEquals(0, policy.carryForwardTurns());
+    }
+}
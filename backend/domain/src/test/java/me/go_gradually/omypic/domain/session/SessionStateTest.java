@@ -83,6 +83,42 @@ class SessionStateTest {
         assertEquals("", state.conversationState().conversationId());
     }
 
+    @Test
+    void rebaseConversation_carriesForwardSummaryAndLastTurnsOnly() {
+        SessionState state = new SessionState(SessionId.of("session-4c"));
+        state.markLlmBootstrapped();
+        state.updateConversationState(new LlmConversationState("conv-1", "resp-3", 3));
+        state.setLlmSummary("running summary");
+        state.appendLlmTurn("q1", "a1", "s1", 6);
+        state.appendLlmTurn("q2", "a2", "s2", 6);
+        state.appendLlmTurn("q3", "a3", "s3", 6);
+        state.recordLlmTurnUsage(9000L, 7000L);
+
+        state.rebaseConversation(false, 1);
+
+        LlmPromptContext context = state.buildPromptContext();
+        assertEquals("running summary", context.summary());
+        assertEquals(1, context.recentTurns().size());
+        assertEquals("q3", context.recentTurns().get(0).question());
+        assertEquals("", state.conversationState().conversationId());
+        assertEquals(0L, state.getLlmLastInputTokens());
+        assertTrue(state.isLlmBootstrapped());
+    }
+
+    @Test
+    void decideConversationRebase_usesRecordedUsage() {
+        SessionState state = new SessionState(SessionId.of("session-4d"));
+        ConversationRebasePolicy policy = new ConversationRebasePolicy(6, 4000L, 0L, 2);
+        state.updateConversationState(new LlmConversationState("conv-1", "resp-2", 2));
+
+        state.recordLlmTurnUsage(1200L, 900L);
+        assertFalse(state.decideConversationRebase(policy).rebase());
+
+        state.recordLlmTurnUsage(4800L, 900L);
+        assertEquals(ConversationRebasePolicy.RebaseReason.INPUT_TOKEN_BUDGET,
+                state.decideConversationRebase(policy).reason());
+    }
+
     @Test
     void appendLlmTurn_keepsRecentWindow() {
         SessionState state = new SessionState(SessionId.of("session-5"));
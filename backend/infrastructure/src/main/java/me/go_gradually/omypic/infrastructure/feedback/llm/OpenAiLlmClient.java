@@ -1,7 +1,9 @@
 package me.go_gradually.omypic.infrastructure.feedback.llm;
 
+import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import me.go_gradually.omypic.application.feedback.port.LlmClient;
 import me.go_gradually.omypic.domain.session.LlmConversationState;
 import me.go_gradually.omypic.application.feedback.port.LlmGenerateResult;
@@ -18,6 +20,7 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -31,8 +34,17 @@ public class OpenAiLlmClient implements LlmClient {
     private static final String DEFAULT_CHAT_MODEL = "gpt-4o-mini";
     private static final String BOOTSTRAP_INPUT_TEXT = "Acknowledge the coaching strategy and wait for the next user answer.";
     private static final Logger log = Logger.getLogger(OpenAiLlmClient.class.getName());
+    private static final String CODE_FENCE = "```";
+    // 스키마 문자열은 요청마다 바뀌지 않으므로 클래스 로딩 시 한 번만 생성한다.
+    private static final String FEEDBACK_OUTPUT_FORMAT =
+            new BeanOutputConverter<>(StructuredFeedbackResponse.class).getFormat();
+    private static final String RECOMMENDATIONS_OUTPUT_FORMAT =
+            new BeanOutputConverter<>(StructuredFeedbackResponse.RecommendationsNode.class).getFormat();
 
     private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ObjectReader feedbackReader = structuredReader(StructuredFeedbackResponse.class);
+    private final ObjectReader recommendationsReader = structuredReader(StructuredFeedbackResponse.RecommendationsNode.class);
+    private final OpenAiResponsesEnvelopeReader envelopeReader = new OpenAiResponsesEnvelopeReader(objectMapper.getFactory());
     private final OpenAiModelParameterPolicyResolver modelParameterPolicyResolver = new OpenAiModelParameterPolicyResolver();
     private final OpenAiLlmLogFormatter logFormatter;
     private final WebClient webClient;
@@ -107,6 +119,21 @@ public class OpenAiLlmClient implements LlmClient {
         throw new IllegalStateException("OpenAI structured output failed without fallback context");
     }
 
+    @Override
+    public Recommendations generateRecommendations(String apiKey,
+                                                   String model,
+                                                   String systemPrompt,
+                                                   String userPrompt) {
+        String resolvedModel = resolveChatModel(model);
+        ResponseEnvelope envelope = requestContent(apiKey, resolvedModel, systemPrompt, userPrompt,
+                LlmPromptContext.empty(), RECOMMENDATIONS_OUTPUT_FORMAT, LlmConversationState.empty(), 1);
+        try {
+            return toRecommendations(readStructured(recommendationsReader, envelope.content()));
+        } catch (RuntimeException e) {
+            throw new IllegalStateException("Recommendation output conversion failed", e);
+        }
+    }
+
     private LlmGenerateResult structuredGenerate(String apiKey,
                                                  String model,
                                                  String systemPrompt,
@@ -114,19 +141,18 @@ public class OpenAiLlmClient implements LlmClient {
                                                  LlmConversationState conversationState,
                                                  LlmPromptContext promptContext,
                                                  int attempt) {
-        BeanOutputConverter<StructuredFeedbackResponse> converter = new BeanOutputConverter<>(StructuredFeedbackResponse.class);
         ResponseEnvelope envelope = requestContent(
                 apiKey,
                 model,
                 systemPrompt,
                 userPrompt,
                 promptContext,
-                converter.getFormat(),
+                FEEDBACK_OUTPUT_FORMAT,
                 conversationState,
                 attempt
         );
         try {
-            StructuredFeedbackResponse response = converter.convert(envelope.content());
+            StructuredFeedbackResponse response = readStructured(feedbackReader, envelope.content());
             Feedback feedback = Feedback.of(
                     safe(response.summary),
                     toCorrections(response.corrections),
@@ -138,13 +164,15 @@ public class OpenAiLlmClient implements LlmClient {
                     feedback,
                     List.of(),
                     envelope.conversationState(),
-                    safe(response.summary)
+                    safe(response.summary),
+                    envelope.inputTokens()
             );
         } catch (RuntimeException e) {
             throw new StructuredOutputException(
                     "Structured output conversion failed",
                     envelope.content(),
                     envelope.conversationState(),
+                    envelope.inputTokens(),
                     e
             );
         }
@@ -155,7 +183,13 @@ public class OpenAiLlmClient implements LlmClient {
         try {
             JsonNode root = objectMapper.readTree(extractJson(failure.raw()));
             Feedback feedback = parseFallbackFeedback(root);
-            return new LlmGenerateResult(feedback, reasons, failure.conversationState(), feedback.getSummary());
+            return new LlmGenerateResult(
+                    feedback,
+                    reasons,
+                    failure.conversationState(),
+                    feedback.getSummary(),
+                    failure.inputTokens()
+            );
         } catch (Exception parseFailure) {
             log.warning(() -> "openai.llm.fallback_parse failure reason=" + defaultMessage(parseFailure.getMessage()));
             Feedback feedback = Feedback.of("", List.of(), List.of(), "", List.of());
@@ -163,7 +197,8 @@ public class OpenAiLlmClient implements LlmClient {
                     feedback,
                     List.of("structured_output_conversion_failed", "fallback_parse_failed"),
                     failure.conversationState(),
-                    ""
+                    "",
+                    failure.inputTokens()
             );
         }
     }
@@ -308,15 +343,13 @@ public class OpenAiLlmClient implements LlmClient {
         }
 
         String responseBody = postJson(apiKey, "/v1/responses", payload);
-        JsonNode root = parseJson(responseBody);
-        String content = extractResponsesOutputText(root);
-        String conversationId = extractConversationId(root, conversationState);
-        String responseId = safe(root.path("id").asText(""));
+        OpenAiResponsesEnvelopeReader.Envelope parsed = readResponsesEnvelope(responseBody);
+        String conversationId = resolveConversationId(parsed, conversationState);
 
-        logSuccess(model, attempt, content, conversationId);
+        logSuccess(model, attempt, parsed.outputText(), conversationId);
         int turns = conversationState == null ? 0 : conversationState.turnCountSinceRebase();
-        LlmConversationState nextState = new LlmConversationState(conversationId, responseId, turns + 1);
-        return new ResponseEnvelope(content, nextState);
+        LlmConversationState nextState = new LlmConversationState(conversationId, parsed.responseId(), turns + 1);
+        return new ResponseEnvelope(parsed.outputText(), nextState, parsed.inputTokens());
     }
 
     private ResponseEnvelope requestViaLegacyChat(String apiKey,
@@ -346,7 +379,8 @@ public class OpenAiLlmClient implements LlmClient {
 
         logSuccess(model, attempt, content, conversationId);
         int turns = conversationState == null ? 0 : conversationState.turnCountSinceRebase();
-        return new ResponseEnvelope(content, new LlmConversationState(conversationId, responseId, turns + 1));
+        LlmConversationState nextState = new LlmConversationState(conversationId, responseId, turns + 1);
+        return new ResponseEnvelope(content, nextState, inputTokens(root.path("usage").path("prompt_tokens")));
     }
 
     private String postJson(String apiKey, String path, Map<String, Object> payload) {
@@ -457,62 +491,23 @@ public class OpenAiLlmClient implements LlmClient {
         return builder.toString();
     }
 
-    private String extractResponsesOutputText(JsonNode root) {
-        JsonNode outputText = root.path("output_text");
-        if (outputText.isTextual()) {
-            return safe(outputText.asText(""));
-        }
-        if (outputText.isArray()) {
-            List<String> lines = new ArrayList<>();
-            for (JsonNode node : outputText) {
-                String line = safe(node.asText(""));
-                if (!line.isBlank()) {
-                    lines.add(line);
-                }
-            }
-            if (!lines.isEmpty()) {
-                return String.join("\n", lines);
-            }
+    private OpenAiResponsesEnvelopeReader.Envelope readResponsesEnvelope(String body) {
+        try {
+            return envelopeReader.read(body);
+        } catch (IOException e) {
+            throw new IllegalStateException("OpenAI response parse failed", e);
         }
+    }
 
-        List<String> fragments = new ArrayList<>();
-        JsonNode output = root.path("output");
-        if (output.isArray()) {
-            for (JsonNode item : output) {
-                JsonNode content = item.path("content");
-                if (!content.isArray()) {
-                    continue;
-                }
-                for (JsonNode part : content) {
-                    String text = safe(part.path("text").asText(""));
-                    if (!text.isBlank()) {
-                        fragments.add(text);
-                    }
-                }
-            }
+    private String resolveConversationId(OpenAiResponsesEnvelopeReader.Envelope parsed, LlmConversationState fallback) {
+        if (!parsed.conversationId().isBlank()) {
+            return parsed.conversationId();
         }
-        return String.join("\n", fragments);
+        return fallback == null ? "" : safe(fallback.conversationId());
     }
 
-    private String extractConversationId(JsonNode root, LlmConversationState fallback) {
-        JsonNode conversation = root.path("conversation");
-        if (conversation.isTextual()) {
-            return safe(conversation.asText(""));
-        }
-        if (conversation.isObject()) {
-            String fromObject = safe(conversation.path("id").asText(""));
-            if (!fromObject.isBlank()) {
-                return fromObject;
-            }
-        }
-        String conversationId = safe(root.path("conversation_id").asText(""));
-        if (!conversationId.isBlank()) {
-            return conversationId;
-        }
-        if (fallback == null) {
-            return "";
-        }
-        return safe(fallback.conversationId());
+    private long inputTokens(JsonNode node) {
+        return node.isNumber() ? Math.max(0L, node.asLong(0L)) : 0L;
     }
 
     private JsonNode parseJson(String body) {
@@ -627,6 +622,28 @@ public class OpenAiLlmClient implements LlmClient {
         return values;
     }
 
+    private <T> T readStructured(ObjectReader reader, String content) {
+        try {
+            return reader.readValue(stripCodeFence(content));
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Structured output is not valid JSON", e);
+        }
+    }
+
+    private String stripCodeFence(String content) {
+        String trimmed = safe(content);
+        if (!trimmed.startsWith(CODE_FENCE) || !trimmed.endsWith(CODE_FENCE) || trimmed.length() < 6) {
+            return trimmed;
+        }
+        int bodyStart = trimmed.indexOf('\n');
+        int bodyEnd = trimmed.length() - CODE_FENCE.length();
+        return bodyStart < 0 || bodyStart >= bodyEnd ? "" : trimmed.substring(bodyStart + 1, bodyEnd).trim();
+    }
+
+    private ObjectReader structuredReader(Class<?> type) {
+        return objectMapper.readerFor(type).without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+    }
+
     private String extractJson(String raw) {
         if (raw == null || raw.isBlank()) {
             return "{}";
@@ -655,20 +672,23 @@ public class OpenAiLlmClient implements LlmClient {
         return message == null || message.isBlank() ? "unknown" : message;
     }
 
-    private record ResponseEnvelope(String content, LlmConversationState conversationState) {
+    private record ResponseEnvelope(String content, LlmConversationState conversationState, long inputTokens) {
     }
 
     private static final class StructuredOutputException extends RuntimeException {
         private final String raw;
         private final LlmConversationState conversationState;
+        private final long inputTokens;
 
         private StructuredOutputException(String message,
                                           String raw,
                                           LlmConversationState conversationState,
+                                          long inputTokens,
                                           Throwable cause) {
             super(message, cause);
             this.raw = raw == null ? "" : raw;
             this.conversationState = conversationState == null ? LlmConversationState.empty() : conversationState;
+            this.inputTokens = inputTokens;
         }
 
         private String raw() {
@@ -678,6 +698,10 @@ public class OpenAiLlmClient implements LlmClient {
         private LlmConversationState conversationState() {
             return conversationState;
         }
+
+        private long inputTokens() {
+            return inputTokens;
+        }
     }
 
     public static final class StructuredFeedbackResponse {
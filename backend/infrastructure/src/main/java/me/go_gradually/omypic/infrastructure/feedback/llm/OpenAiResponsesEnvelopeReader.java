@@ -0,0 +1,168 @@
+package me.go_gradually.omypic.infrastructure.feedback.llm;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Responses API 응답 본문에서 id/conversation/output_text/usage만 스트리밍으로 추출한다.
+ * 전체 JsonNode 트리를 만들지 않고, 필요 없는 필드는 skipChildren으로 건너뛴다.
+ */
+final class OpenAiResponsesEnvelopeReader {
+    private final JsonFactory jsonFactory;
+
+    OpenAiResponsesEnvelopeReader(JsonFactory jsonFactory) {
+        this.jsonFactory = jsonFactory;
+    }
+
+    Envelope read(String body) throws IOException {
+        try (JsonParser parser = jsonFactory.createParser(body == null ? "{}" : body)) {
+            Fields fields = new Fields();
+            if (parser.nextToken() == JsonToken.START_OBJECT) {
+                readRootFields(parser, fields);
+            }
+            return fields.toEnvelope();
+        }
+    }
+
+    private void readRootFields(JsonParser parser, Fields fields) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.currentName();
+            parser.nextToken();
+            readRootField(parser, name, fields);
+        }
+    }
+
+    private void readRootField(JsonParser parser, String name, Fields fields) throws IOException {
+        switch (name) {
+            case "id" -> fields.responseId = scalarText(parser);
+            case "conversation" -> fields.conversation = readConversation(parser);
+            case "conversation_id" -> fields.conversationIdField = scalarText(parser);
+            case "output_text" -> readOutputText(parser, fields);
+            case "output" -> readOutput(parser, fields.fragments);
+            case "usage" -> fields.inputTokens = readInputTokens(parser);
+            default -> parser.skipChildren();
+        }
+    }
+
+    private String readConversation(JsonParser parser) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            return scalarText(parser);
+        }
+        String[] id = new String[]{""};
+        readObjectField(parser, "id", () -> id[0] = scalarText(parser));
+        return id[0];
+    }
+
+    private void readOutputText(JsonParser parser, Fields fields) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_STRING) {
+            fields.outputText = parser.getText().trim();
+            return;
+        }
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return;
+        }
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            appendIfPresent(fields.outputTextLines, scalarText(parser));
+        }
+    }
+
+    private void readOutput(JsonParser parser, List<String> fragments) throws IOException {
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return;
+        }
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            readObjectField(parser, "content", () -> readContentParts(parser, fragments));
+        }
+    }
+
+    private void readContentParts(JsonParser parser, List<String> fragments) throws IOException {
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return;
+        }
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            readObjectField(parser, "text", () -> appendIfPresent(fragments, scalarText(parser)));
+        }
+    }
+
+    private long readInputTokens(JsonParser parser) throws IOException {
+        long[] tokens = new long[]{0L};
+        readObjectField(parser, "input_tokens", () -> {
+            if (parser.currentToken().isNumeric()) {
+                tokens[0] = Math.max(0L, parser.getLongValue());
+            }
+        });
+        return tokens[0];
+    }
+
+    // 현재 토큰이 객체일 때 지정한 필드만 handler로 넘기고, 나머지는 건너뛴다.
+    private void readObjectField(JsonParser parser, String fieldName, FieldHandler handler) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return;
+        }
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.currentName();
+            parser.nextToken();
+            if (fieldName.equals(name)) {
+                handler.handle();
+            }
+            parser.skipChildren();
+        }
+    }
+
+    private String scalarText(JsonParser parser) throws IOException {
+        if (parser.currentToken().isStructStart()) {
+            parser.skipChildren();
+            return "";
+        }
+        String value = parser.getValueAsString("");
+        return value == null ? "" : value.trim();
+    }
+
+    private void appendIfPresent(List<String> values, String value) {
+        if (!value.isBlank()) {
+            values.add(value);
+        }
+    }
+
+    @FunctionalInterface
+    private interface FieldHandler {
+        void handle() throws IOException;
+    }
+
+    record Envelope(String responseId, String conversationId, String outputText, long inputTokens) {
+    }
+
+    private static final class Fields {
+        private String responseId = "";
+        private String conversation = "";
+        private String conversationIdField = "";
+        private String outputText;
+        private final List<String> outputTextLines = new ArrayList<>();
+        private final List<String> fragments = new ArrayList<>();
+        private long inputTokens;
+
+        private Envelope toEnvelope() {
+            String conversationId = conversation.isBlank() ? conversationIdField : conversation;
+            return new Envelope(responseId, conversationId, resolveOutputText(), inputTokens);
+        }
+
+        private String resolveOutputText() {
+            if (outputText != null) {
+                return outputText;
+            }
+            if (!outputTextLines.isEmpty()) {
+                return String.join("\n", outputTextLines);
+            }
+            return String.join("\n", fragments);
+        }
+    }
+}
@@ -5,19 +5,32 @@ import me.go_gradually.omypic.domain.question.QuestionGroupAggregate;
 import me.go_gradually.omypic.domain.question.QuestionGroupId;
 import me.go_gradually.omypic.domain.question.QuestionItem;
 import me.go_gradually.omypic.domain.question.QuestionItemId;
+import me.go_gradually.omypic.infrastructure.shared.persistence.mongo.MongoBulkWrites;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Component;
 
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
 @Component
 public class QuestionGroupMongoAdapter implements QuestionGroupPort {
+    private static final Logger log = Logger.getLogger(QuestionGroupMongoAdapter.class.getName());
     private final QuestionGroupMongoRepository repository;
+    private final MongoOperations mongoOperations;
 
-    public QuestionGroupMongoAdapter(QuestionGroupMongoRepository repository) {
+    public QuestionGroupMongoAdapter(QuestionGroupMongoRepository repository, MongoOperations mongoOperations) {
         this.repository = repository;
+        this.mongoOperations = mongoOperations;
     }
 
     @Override
@@ -59,6 +72,62 @@ public class QuestionGroupMongoAdapter implements QuestionGroupPort {
         repository.deleteAll();
     }
 
+    @Override
+    public List<QuestionGroupAggregate> saveAll(Collection<QuestionGroupAggregate> groups) {
+        List<QuestionGroupDocument> documents = groups.stream().map(this::toDocument).toList();
+        MongoBulkWrites.replaceAllById(mongoOperations, QuestionGroupDocument.class, documents, QuestionGroupDocument::getId);
+        return documents.stream().map(this::toDomain).toList();
+    }
+
+    @Override
+    public void deleteAllById(Collection<QuestionGroupId> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        repository.deleteAllById(ids.stream().map(QuestionGroupId::value).toList());
+    }
+
+    // 집계를 거치지 않으므로 rehydrate와 같은 태그 정규화를 여기서 한다.
+    @Override
+    public List<Set<String>> findAllTags() {
+        return repository.findAllTags().stream()
+                .map(doc -> Set.copyOf(QuestionGroupAggregate.normalizeTags(doc.getTags())))
+                .toList();
+    }
+
+    @Override
+    public List<QuestionGroupId> findIdsWithQuestionsByAnyTag(Set<String> tags) {
+        Set<String> normalized = QuestionGroupAggregate.normalizeTags(tags);
+        if (normalized.isEmpty()) {
+            return List.of();
+        }
+        return repository.findIdsWithQuestionsByTagsIn(normalized).stream()
+                .map(doc -> QuestionGroupId.of(doc.getId()))
+                .toList();
+    }
+
+    /**
+     * 태그 조회는 저장된 tags에 정규화한 값을 $in으로 보내므로, 정규화 전에 들어간 태그(" Travel ", "HABIT")가 있으면 그 그룹은 후보에서 빠진다.
+     * 기동 시 그런 문서만 골라 정규화한 태그로 고쳐 쓴다. 새로 쓰는 문서는 집계를 거쳐 이미 정규화돼 있다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void normalizeStoredTags() {
+        List<QuestionGroupDocument> stale = repository.findAllTags().stream()
+                .filter(doc -> !storedTags(doc.getTags()).equals(doc.getTags()))
+                .toList();
+        if (stale.isEmpty()) {
+            return;
+        }
+        BulkOperations bulk = mongoOperations.bulkOps(BulkOperations.BulkMode.UNORDERED, QuestionGroupDocument.class);
+        stale.forEach(doc -> bulk.updateOne(Query.query(Criteria.where("_id").is(doc.getId())), Update.update("tags", storedTags(doc.getTags()))));
+        bulk.execute();
+        log.info(() -> "Normalized stored question group tags count=" + stale.size());
+    }
+
+    private static List<String> storedTags(Collection<String> tags) {
+        return QuestionGroupAggregate.normalizeTags(tags).stream().sorted().toList();
+    }
+
     private QuestionGroupAggregate toDomain(QuestionGroupDocument doc) {
         List<QuestionItemDocument> items = doc.getQuestions() == null ? List.of() : doc.getQuestions();
         List<QuestionItem> questions = items.stream().map(this::toDomainItem).collect(Collectors.toList());
@@ -75,7 +144,7 @@ public class QuestionGroupMongoAdapter implements QuestionGroupPort {
         QuestionGroupDocument doc = new QuestionGroupDocument();
         doc.setId(group.getId().value());
         doc.setName(group.getName());
-        doc.setTags(group.getTags().stream().sorted().toList());
+        doc.setTags(storedTags(group.getTags()));
         doc.setQuestions(group.getQuestions().stream()
                 .map(this::toDocumentItem)
                 .collect(Collectors.toList()));
@@ -1,6 +1,17 @@
 package me.go_gradually.omypic.infrastructure.question.persistence.mongo;
 
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
+
+import java.util.Collection;
+import java.util.List;
 
 public interface QuestionGroupMongoRepository extends MongoRepository<QuestionGroupDocument, String> {
+    // _id와 tags만 채운 문서
+    @Query(value = "{}", fields = "{ 'tags' : 1 }")
+    List<QuestionGroupDocument> findAllTags();
+
+    // _id만 채운 문서. tags 인덱스로 찾고 질문이 없는 그룹은 뺀다.
+    @Query(value = "{ 'tags' : { $in : ?0 }, 'questions.0' : { $exists : true } }", fields = "{ '_id' : 1 }")
+    List<QuestionGroupDocument> findIdsWithQuestionsByTagsIn(Collection<String> tags);
 }
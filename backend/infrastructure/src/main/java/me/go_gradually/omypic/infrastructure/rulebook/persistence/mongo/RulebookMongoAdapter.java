@@ -5,8 +5,11 @@ import me.go_gradually.omypic.domain.question.QuestionGroup;
 import me.go_gradually.omypic.domain.rulebook.Rulebook;
 import me.go_gradually.omypic.domain.rulebook.RulebookId;
 import me.go_gradually.omypic.domain.rulebook.RulebookScope;
+import me.go_gradually.omypic.infrastructure.shared.persistence.mongo.MongoBulkWrites;
+import org.springframework.data.mongodb.core.MongoOperations;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -14,9 +17,11 @@ import java.util.stream.Collectors;
 @Component
 public class RulebookMongoAdapter implements RulebookPort {
     private final RulebookMongoRepository repository;
+    private final MongoOperations mongoOperations;
 
-    public RulebookMongoAdapter(RulebookMongoRepository repository) {
+    public RulebookMongoAdapter(RulebookMongoRepository repository, MongoOperations mongoOperations) {
         this.repository = repository;
+        this.mongoOperations = mongoOperations;
     }
 
     @Override
@@ -47,6 +52,28 @@ public class RulebookMongoAdapter implements RulebookPort {
         repository.deleteAll();
     }
 
+    @Override
+    public List<Rulebook> saveAll(Collection<Rulebook> rulebooks) {
+        List<RulebookDocument> documents = rulebooks.stream().map(this::toDocument).toList();
+        MongoBulkWrites.replaceAllById(mongoOperations, RulebookDocument.class, documents, RulebookDocument::getId);
+        return documents.stream().map(this::toDomain).toList();
+    }
+
+    @Override
+    public void deleteAllById(Collection<RulebookId> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        repository.deleteAllById(ids.stream().map(RulebookId::value).toList());
+    }
+
+    @Override
+    public List<Rulebook> findAllEnabled() {
+        return repository.findByEnabledTrue().stream()
+                .map(this::toDomain)
+                .toList();
+    }
+
     private Rulebook toDomain(RulebookDocument doc) {
         return Rulebook.rehydrate(
                 RulebookId.of(doc.getId()),
@@ -2,5 +2,8 @@ package me.go_gradually.omypic.infrastructure.rulebook.persistence.mongo;
 
 import org.springframework.data.mongodb.repository.MongoRepository;
 
+import java.util.List;
+
 public interface RulebookMongoRepository extends MongoRepository<RulebookDocument, String> {
+    List<RulebookDocument> findByEnabledTrue();
 }
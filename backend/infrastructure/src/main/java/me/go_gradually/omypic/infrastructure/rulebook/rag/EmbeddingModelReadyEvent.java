@@ -0,0 +1,7 @@
+package me.go_gradually.omypic.infrastructure.rulebook.rag;
+
+/**
+ * 백그라운드 모델 로딩이 끝나 임베딩 공간이 확정됐음을 알린다. 색인은 이 이벤트를 받아 임시 벡터로 넣은 청크를 다시 임베딩한다.
+ */
+record EmbeddingModelReadyEvent(String provider, String modelVersion) {
+}
@@ -0,0 +1,53 @@
+package me.go_gradually.omypic.infrastructure.rulebook.rag;
+
+import java.util.function.IntPredicate;
+
+/**
+ * 임베딩 어댑터용 토크나이저. 텍스트를 코드 포인트 단위로 한 번만 훑으며 토큰을 소문자로 버퍼에 모아 넘긴다.
+ * 정규식이나 토큰별 문자열을 만들지 않고 호출마다 버퍼 하나만 재사용하므로, sink는 넘겨받은 토큰을 보관하면 안 된다.
+ */
+final class EmbeddingTokenizer {
+    private static final int INITIAL_TOKEN_CAPACITY = 32;
+
+    private EmbeddingTokenizer() {
+    }
+
+    @FunctionalInterface
+    interface TokenSink {
+        boolean accept(CharSequence token);
+    }
+
+    // 문자·숫자(\p{L}, \p{Nd}) 연속 구간을 토큰으로 본다. sink가 true를 돌려준 토큰 수를 반환한다.
+    static int words(CharSequence text, TokenSink sink) {
+        return scan(text, Character::isLetterOrDigit, sink);
+    }
+
+    // 공백으로만 나눈다. 구두점은 토큰에 남는다.
+    static int nonWhitespace(CharSequence text, TokenSink sink) {
+        return scan(text, codePoint -> !Character.isWhitespace(codePoint), sink);
+    }
+
+    private static int scan(CharSequence text, IntPredicate tokenChar, TokenSink sink) {
+        StringBuilder token = new StringBuilder(INITIAL_TOKEN_CAPACITY);
+        int accepted = 0;
+        for (int i = 0; i < text.length(); ) {
+            int codePoint = Character.codePointAt(text, i);
+            i += Character.charCount(codePoint);
+            if (tokenChar.test(codePoint)) {
+                token.appendCodePoint(Character.toLowerCase(codePoint));
+            } else {
+                accepted += flush(token, sink);
+            }
+        }
+        return accepted + flush(token, sink);
+    }
+
+    private static int flush(StringBuilder token, TokenSink sink) {
+        if (token.length() == 0) {
+            return 0;
+        }
+        boolean accepted = sink.accept(token);
+        token.setLength(0);
+        return accepted ? 1 : 0;
+    }
+}
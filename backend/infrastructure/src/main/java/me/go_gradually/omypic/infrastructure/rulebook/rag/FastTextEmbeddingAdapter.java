@@ -3,7 +3,11 @@ package me.go_gradually.omypic.infrastructure.rulebook.rag;
 import me.go_gradually.omypic.application.rulebook.port.EmbeddingPort;
 import me.go_gradually.omypic.application.shared.policy.DataDirProvider;
 import me.go_gradually.omypic.infrastructure.shared.config.AppProperties;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
 
 import java.io.BufferedReader;
@@ -18,14 +22,12 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
 import java.time.Duration;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.logging.Logger;
 import java.util.zip.GZIPInputStream;
 
@@ -36,44 +38,91 @@ public class FastTextEmbeddingAdapter implements EmbeddingPort {
     private static final String PROVIDER_NAME = "fasttext";
     private static final int EMBED_CACHE_MAX_ENTRIES = 1000;
 
+    enum ModelState {
+        LOADING, READY, FALLBACK, FAILED
+    }
+
     private final AppProperties.Rag rag;
     private final DataDirProvider dataDirProvider;
+    private final ApplicationEventPublisher events;
     private final LocalHashEmbeddingAdapter hashFallback;
     private final Map<String, float[]> embedCache;
     private final Object initLock = new Object();
 
-    private volatile Map<String, float[]> vectors;
+    // 로더 스레드가 subwords를 먼저 쓰고 vectors를 공개하므로, vectors를 읽은 쪽은 subwords도 본다.
+    private volatile Int8VectorTable vectors;
+    private volatile FastTextSubwordModel subwords;
     private volatile RuntimeException initFailure;
+    private CompletableFuture<Void> warmUp;
 
     public FastTextEmbeddingAdapter(AppProperties properties, DataDirProvider dataDirProvider) {
+        this(properties, dataDirProvider, event -> {
+        });
+    }
+
+    @Autowired
+    public FastTextEmbeddingAdapter(AppProperties properties,
+                                    DataDirProvider dataDirProvider,
+                                    ApplicationEventPublisher events) {
         this.rag = properties.getRag();
         this.dataDirProvider = dataDirProvider;
+        this.events = events;
         this.hashFallback = new LocalHashEmbeddingAdapter(properties);
         this.embedCache = createEmbedCache();
     }
 
+    /**
+     * 다운로드·SHA 검증·로딩은 수 분이 걸릴 수 있어 첫 요청이 아니라 기동 직후 전용 스레드에서 시작한다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        warmUp();
+    }
+
+    CompletableFuture<Void> warmUp() {
+        synchronized (initLock) {
+            if (warmUp == null) {
+                warmUp = CompletableFuture.runAsync(this::loadModel, FastTextEmbeddingAdapter::startLoaderThread);
+            }
+            return warmUp;
+        }
+    }
+
+    private static void startLoaderThread(Runnable task) {
+        Thread thread = new Thread(task, "omypic-fasttext-loader");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
     @Override
     public float[] embed(String text) {
         if (text == null || text.isBlank()) {
             return new float[dimension()];
         }
+        Int8VectorTable loaded = vectors;
+        if (loaded == null) {
+            return embedBeforeReady(text);
+        }
         String cacheKey = normalizeCacheKey(text);
         float[] cached = embedCache.get(cacheKey);
         if (cached != null) {
             return cached.clone();
         }
-        Map<String, float[]> loaded = ensureVectors();
-        float[] computed;
-        if (loaded == null) {
-            computed = hashFallback.embed(text);
-            embedCache.put(cacheKey, computed.clone());
-            return computed;
-        }
-        computed = embedFromModelOrFallback(text, loaded);
+        float[] computed = embedFromModelOrFallback(text, loaded);
         embedCache.put(cacheKey, computed.clone());
         return computed;
     }
 
+    // 로딩 중(또는 실패 후 대체 허용)에는 해시 벡터를 돌려준다. 모델 벡터와 섞이지 않도록 캐시에 넣지 않는다.
+    private float[] embedBeforeReady(String text) {
+        warmUp();
+        RuntimeException failure = initFailure;
+        if (failure != null && !rag.isAllowHashFallback()) {
+            throw failure;
+        }
+        return hashFallback.embed(text);
+    }
+
     private String normalizeCacheKey(String text) {
         return text.trim().toLowerCase(Locale.ROOT);
     }
@@ -87,7 +136,7 @@ public class FastTextEmbeddingAdapter implements EmbeddingPort {
         });
     }
 
-    private float[] embedFromModelOrFallback(String text, Map<String, float[]> loaded) {
+    private float[] embedFromModelOrFallback(String text, Int8VectorTable loaded) {
         float[] sum = new float[dimension()];
         int hits = accumulateHits(text, loaded, sum);
         if (hits > 0) {
@@ -100,64 +149,69 @@ public class FastTextEmbeddingAdapter implements EmbeddingPort {
         return sum;
     }
 
-    private int accumulateHits(String text, Map<String, float[]> loaded, float[] sum) {
-        int hits = 0;
-        for (String token : tokenize(text)) {
-            float[] vector = loaded.get(token);
-            if (vector == null) {
-                continue;
-            }
-            add(sum, vector);
-            hits++;
+    // 토큰을 문자열로 잘라내지 않고 토크나이저 버퍼 그대로 단어 표에서 찾는다.
+    // subword 모델이 있으면 단어 표에 없는 토큰(활용형 등)은 문자 n-gram 벡터로 합성해 더한다.
+    private int accumulateHits(String text, Int8VectorTable loaded, float[] sum) {
+        FastTextSubwordModel subwordModel = subwords;
+        if (subwordModel == null) {
+            return EmbeddingTokenizer.words(text, token -> loaded.addTo(token, sum));
         }
-        return hits;
+        FastTextSubwordModel.Composer composer = subwordModel.composer();
+        return EmbeddingTokenizer.words(text, token -> loaded.addTo(token, sum) || composer.addTo(token, sum));
     }
 
-    private String[] tokenize(String text) {
-        return text.toLowerCase(Locale.ROOT)
-                .replaceAll("[^\\p{L}\\p{Nd}]+", " ")
-                .trim()
-                .split("\\s+");
+    // 대체를 허용한 실패도 해시 벡터가 확정된 임베딩 공간이 되므로 준비 완료로 알린다.
+    private void loadModel() {
+        try {
+            vectors = loadModelVectors();
+        } catch (RuntimeException e) {
+            initFailure = e;
+            logInitializationFailure(e);
+        }
+        if (isReady()) {
+            events.publishEvent(new EmbeddingModelReadyEvent(provider(), modelVersion()));
+        }
     }
 
-    private void add(float[] target, float[] source) {
-        for (int i = 0; i < target.length; i++) {
-            target[i] += source[i];
-        }
+    private Int8VectorTable loadModelVectors() {
+        Path modelPath = ensureModelFile();
+        Int8VectorTable loaded = loadVectors(modelPath);
+        subwords = openSubwordModelOrSkip();
+        log.info(() -> "RAG fasttext model loaded path=" + modelPath + " vocab=" + loaded.size());
+        return loaded;
     }
 
-    private Map<String, float[]> ensureVectors() {
-        if (vectors != null) {
-            return vectors;
-        }
-        if (initFailure != null) {
-            return handleInitializationFailure(initFailure);
+    // .bin은 단어 표에 없는 토큰을 보완할 뿐이므로, 열지 못해도 이미 읽은 .vec 단어 표는 버리지 않고 subword 합성 없이 쓴다.
+    private FastTextSubwordModel openSubwordModelOrSkip() {
+        try {
+            return openSubwordModel();
+        } catch (RuntimeException e) {
+            log.warning("FastText subword model unavailable; continuing without subwords. reason=" + e.getMessage());
+            return null;
         }
-        synchronized (initLock) {
-            if (vectors != null) {
-                return vectors;
-            }
-            if (initFailure != null) {
-                return handleInitializationFailure(initFailure);
-            }
-            try {
-                Path modelPath = ensureModelFile();
-                vectors = loadVectors(modelPath);
-                log.info(() -> "RAG fasttext model loaded path=" + modelPath + " vocab=" + vectors.size());
-                return vectors;
-            } catch (RuntimeException e) {
-                initFailure = e;
-                return handleInitializationFailure(e);
-            }
+    }
+
+    // 단어 표(.vec)를 먼저 보고 없는 토큰만 .bin의 n-gram 버킷으로 합성하므로, .vec 어휘(model-max-vocab)는 작게 둬도 된다.
+    private FastTextSubwordModel openSubwordModel() {
+        if (!hasSubwordModel()) {
+            return null;
         }
+        Path path = Path.of(rag.getSubwordModelPath().trim());
+        FastTextSubwordModel model = FastTextSubwordModel.open(path, dimension());
+        log.info(() -> "RAG fasttext subword model mapped path=" + path);
+        return model;
+    }
+
+    private boolean hasSubwordModel() {
+        return rag.getSubwordModelPath() != null && !rag.getSubwordModelPath().isBlank();
     }
 
-    private Map<String, float[]> handleInitializationFailure(RuntimeException failure) {
+    private void logInitializationFailure(RuntimeException failure) {
         if (rag.isAllowHashFallback()) {
             log.warning("FastText model unavailable; using hash fallback. reason=" + failure.getMessage());
-            return null;
+        } else {
+            log.severe("FastText model unavailable; embedding is disabled. reason=" + failure.getMessage());
         }
-        throw failure;
     }
 
     private Path ensureModelFile() {
@@ -277,44 +331,13 @@ public class FastTextEmbeddingAdapter implements EmbeddingPort {
         if (expected == null || expected.isBlank()) {
             throw new IllegalStateException("omypic.rag.model-sha256 is required for fasttext provider");
         }
-        String actual = sha256(modelPath);
-        if (!expected.trim().equalsIgnoreCase(actual)) {
-            throw new IllegalStateException("FastText model sha256 mismatch for " + modelPath);
-        }
-    }
-
-    private String sha256(Path path) {
-        MessageDigest digest = sha256Digest();
-        byte[] buffer = new byte[8192];
-        try (InputStream in = Files.newInputStream(path)) {
-            int read;
-            while ((read = in.read(buffer)) >= 0) {
-                digest.update(buffer, 0, read);
-            }
-        } catch (IOException e) {
-            throw new IllegalStateException("Failed to read model file for checksum: " + path, e);
-        }
-        return toHex(digest.digest());
-    }
-
-    private MessageDigest sha256Digest() {
-        try {
-            return MessageDigest.getInstance("SHA-256");
-        } catch (NoSuchAlgorithmException e) {
-            throw new IllegalStateException("SHA-256 algorithm is unavailable", e);
-        }
-    }
-
-    private String toHex(byte[] hash) {
-        StringBuilder builder = new StringBuilder(hash.length * 2);
-        for (byte b : hash) {
-            builder.append(String.format("%02x", b));
+        if (ModelChecksumStamp.verify(modelPath, expected, Path.of(dataDirProvider.getDataDir(), "models"))) {
+            log.info(() -> "RAG fasttext model sha256 verified path=" + modelPath);
         }
-        return builder.toString();
     }
 
-    private Map<String, float[]> loadVectors(Path modelPath) {
-        Map<String, float[]> loaded = new HashMap<>();
+    private Int8VectorTable loadVectors(Path modelPath) {
+        Int8VectorTable loaded = new Int8VectorTable(dimension());
         int maxVocab = Math.max(1, rag.getModelMaxVocab());
         try (BufferedReader reader = openReader(modelPath)) {
             String firstLine = reader.readLine();
@@ -330,9 +353,10 @@ public class FastTextEmbeddingAdapter implements EmbeddingPort {
         } catch (IOException e) {
             throw new IllegalStateException("Failed to load FastText vectors from " + modelPath, e);
         }
-        if (loaded.isEmpty()) {
+        if (loaded.size() == 0) {
             throw new IllegalStateException("No vectors were loaded from model: " + modelPath);
         }
+        loaded.trimToSize();
         return loaded;
     }
 
@@ -376,14 +400,14 @@ public class FastTextEmbeddingAdapter implements EmbeddingPort {
         }
     }
 
-    private void readRemainingVectors(BufferedReader reader, Map<String, float[]> loaded, int maxVocab) throws IOException {
+    private void readRemainingVectors(BufferedReader reader, Int8VectorTable loaded, int maxVocab) throws IOException {
         String line;
         while ((line = reader.readLine()) != null && loaded.size() < maxVocab) {
             parseVectorLine(line, loaded);
         }
     }
 
-    private void parseVectorLine(String line, Map<String, float[]> loaded) {
+    private void parseVectorLine(String line, Int8VectorTable loaded) {
         String trimmed = line == null ? "" : line.trim();
         if (trimmed.isEmpty()) {
             return;
@@ -427,15 +451,46 @@ public class FastTextEmbeddingAdapter implements EmbeddingPort {
         return rag.getEmbeddingDim();
     }
 
+    // 모델이 올라오기 전에는 embed가 해시 벡터를 돌려주므로 색인 메타데이터도 해시 쪽을 가리켜야 한다.
     @Override
     public String provider() {
-        return PROVIDER_NAME;
+        return vectors == null ? hashFallback.provider() : PROVIDER_NAME;
     }
 
+    @Override
+    public boolean isReady() {
+        return vectors != null || (initFailure != null && rag.isAllowHashFallback());
+    }
+
+    ModelState state() {
+        if (vectors != null) {
+            return ModelState.READY;
+        }
+        if (initFailure == null) {
+            return ModelState.LOADING;
+        }
+        return rag.isAllowHashFallback() ? ModelState.FALLBACK : ModelState.FAILED;
+    }
+
+    int vocabularySize() {
+        Int8VectorTable loaded = vectors;
+        return loaded == null ? 0 : loaded.size();
+    }
+
+    RuntimeException failure() {
+        return initFailure;
+    }
+
+    // subword 합성을 켜고 끄면 같은 텍스트의 벡터가 달라지므로 색인 호환성 판단에 포함한다.
+    // 설정만 보지 않고 실제로 연 모델을 기준으로 해야, .bin을 못 열고 합성 없이 넣은 청크가 나중에 다시 임베딩된다.
     @Override
     public String modelVersion() {
-        return rag.getModelVersion() == null || rag.getModelVersion().isBlank()
+        if (vectors == null) {
+            return hashFallback.modelVersion();
+        }
+        String version = rag.getModelVersion() == null || rag.getModelVersion().isBlank()
                 ? "unknown-model"
                 : rag.getModelVersion().trim();
+        return subwords != null ? version + "+subword:" + Path.of(rag.getSubwordModelPath().trim()).getFileName() : version;
     }
 }
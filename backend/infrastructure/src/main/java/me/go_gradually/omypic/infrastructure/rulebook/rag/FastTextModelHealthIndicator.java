@@ -0,0 +1,41 @@
+package me.go_gradually.omypic.infrastructure.rulebook.rag;
+
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * /actuator/health의 fastTextModel 항목. 데스크톱 앱은 전체 상태가 2xx가 될 때까지 기동을 기다리므로,
+ * 로딩 중에는 전체 상태를 끌어내리지 않는 UNKNOWN으로 알린다.
+ * fallback 없이 로딩에 실패하면 임베딩을 쓸 수 없으므로 DOWN으로 알리고, 실패 원인은 details에 둔다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "omypic.rag", name = "provider", havingValue = "fasttext", matchIfMissing = true)
+public class FastTextModelHealthIndicator implements HealthIndicator {
+    private final FastTextEmbeddingAdapter adapter;
+
+    public FastTextModelHealthIndicator(FastTextEmbeddingAdapter adapter) {
+        this.adapter = adapter;
+    }
+
+    @Override
+    public Health health() {
+        FastTextEmbeddingAdapter.ModelState state = adapter.state();
+        Health.Builder builder = builderFor(state)
+                .withDetail("state", state.name())
+                .withDetail("provider", adapter.provider())
+                .withDetail("modelVersion", adapter.modelVersion())
+                .withDetail("vocab", adapter.vocabularySize());
+        RuntimeException failure = adapter.failure();
+        return failure == null ? builder.build() : builder.withDetail("reason", failure.getMessage()).withException(failure).build();
+    }
+
+    private static Health.Builder builderFor(FastTextEmbeddingAdapter.ModelState state) {
+        return switch (state) {
+            case READY, FALLBACK -> Health.up();
+            case FAILED -> Health.down();
+            case LOADING -> Health.unknown();
+        };
+    }
+}
@@ -0,0 +1,239 @@
+package me.go_gradually.omypic.infrastructure.rulebook.rag;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * FastText .bin(비양자화) 모델의 입력 행렬을 메모리 매핑해 어휘 밖 토큰의 벡터를 문자 n-gram으로 합성한다.
+ * 단어 사전은 건너뛰고 헤더 값(nwords, bucket, minn, maxn)만 읽으므로 수 GB 모델이어도 힙에는 거의 올라오지 않는다.
+ * n-gram은 fastText와 같이 "<토큰>"의 UTF-8 바이트를 문자 단위로 잘라 FNV-1a로 해시하고, 해시는 바이트를 넣을 때마다 이어 계산한다.
+ */
+final class FastTextSubwordModel {
+    private static final int MAGIC = 793712314;
+    private static final int SUPPORTED_VERSION = 12;
+    private static final int SKIPPED_ARGS_AFTER_DIM = 7;
+    private static final int FNV_OFFSET_BASIS = (int) 2166136261L;
+    private static final int FNV_PRIME = 16777619;
+
+    private final Header header;
+    private final ByteBuffer[] segments;
+    private final int rowsPerSegment;
+
+    private FastTextSubwordModel(Header header, ByteBuffer[] segments, int rowsPerSegment) {
+        this.header = header;
+        this.segments = segments;
+        this.rowsPerSegment = rowsPerSegment;
+    }
+
+    static FastTextSubwordModel open(Path path, int expectedDimension) {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer head = channel.map(FileChannel.MapMode.READ_ONLY, 0, Math.min(channel.size(), Integer.MAX_VALUE));
+            Header header = readHeader(head.order(ByteOrder.LITTLE_ENDIAN), expectedDimension, channel.size());
+            int rowsPerSegment = (int) (Integer.MAX_VALUE / header.rowBytes());
+            return new FastTextSubwordModel(header, mapRows(channel, header, rowsPerSegment), rowsPerSegment);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to open FastText subword model: " + path, e);
+        }
+    }
+
+    // 호출(embed) 하나가 composer 하나를 만들어 토큰마다 버퍼를 재사용한다.
+    Composer composer() {
+        return new Composer();
+    }
+
+    private static Header readHeader(ByteBuffer in, int expectedDimension, long fileSize) {
+        if (in.getInt() != MAGIC || in.getInt() != SUPPORTED_VERSION) {
+            throw new IllegalStateException("Unsupported FastText .bin format");
+        }
+        int dimension = in.getInt();
+        in.position(in.position() + Integer.BYTES * SKIPPED_ARGS_AFTER_DIM);
+        int bucket = in.getInt();
+        int minn = in.getInt();
+        int maxn = in.getInt();
+        in.position(in.position() + Integer.BYTES + Double.BYTES);
+        Header args = new Header(dimension, skipDictionary(in), bucket, minn, maxn, 0, 0);
+        return readMatrixHeader(in, args, expectedDimension, fileSize);
+    }
+
+    private static int skipDictionary(ByteBuffer in) {
+        int size = in.getInt();
+        int nwords = in.getInt();
+        in.position(in.position() + Integer.BYTES + Long.BYTES);
+        if (in.getLong() > 0) {
+            throw new IllegalStateException("Pruned FastText models are not supported");
+        }
+        for (int i = 0; i < size; i++) {
+            skipEntry(in);
+        }
+        return nwords;
+    }
+
+    // 단어(NUL 종료), 빈도(int64), 타입(int8)
+    private static void skipEntry(ByteBuffer in) {
+        while (in.get() != 0) {
+            // NUL까지 건너뛴다.
+        }
+        in.position(in.position() + Long.BYTES + Byte.BYTES);
+    }
+
+    private static Header readMatrixHeader(ByteBuffer in, Header args, int expectedDimension, long fileSize) {
+        if (in.get() != 0) {
+            throw new IllegalStateException("Quantized FastText models are not supported");
+        }
+        long rows = in.getLong();
+        long columns = in.getLong();
+        Header header = args.withMatrix(rows, in.position());
+        header.validate(expectedDimension, columns, fileSize);
+        return header;
+    }
+
+    private static ByteBuffer[] mapRows(FileChannel channel, Header header, int rowsPerSegment) throws IOException {
+        ByteBuffer[] mapped = new ByteBuffer[(int) ((header.rows() + rowsPerSegment - 1) / rowsPerSegment)];
+        for (int i = 0; i < mapped.length; i++) {
+            long firstRow = (long) i * rowsPerSegment;
+            long length = Math.min(rowsPerSegment, header.rows() - firstRow) * header.rowBytes();
+            long offset = header.matrixOffset() + firstRow * header.rowBytes();
+            mapped[i] = channel.map(FileChannel.MapMode.READ_ONLY, offset, length).order(ByteOrder.LITTLE_ENDIAN);
+        }
+        return mapped;
+    }
+
+    // 위치 지정 get만 쓰므로 여러 스레드가 같은 매핑을 동시에 읽어도 된다.
+    private void addRow(long row, float[] target) {
+        ByteBuffer segment = segments[(int) (row / rowsPerSegment)];
+        int base = (int) ((row % rowsPerSegment) * header.rowBytes());
+        for (int i = 0; i < target.length; i++) {
+            target[i] += segment.getFloat(base + i * Float.BYTES);
+        }
+    }
+
+    // fastText의 hash()는 바이트를 int8로 부호 확장한 뒤 XOR한다.
+    private static int fnv(int hash, byte value) {
+        return (hash ^ value) * FNV_PRIME;
+    }
+
+    private static boolean isContinuation(byte value) {
+        return (value & 0xC0) == 0x80;
+    }
+
+    final class Composer {
+        private final float[] composed = new float[header.dimension()];
+        private byte[] utf8 = new byte[64];
+
+        // 합성한 벡터를 단위 길이로 맞춰 sum에 더한다. n-gram이 하나도 없으면 false.
+        boolean addTo(CharSequence token, float[] sum) {
+            int length = encodeWrapped(token);
+            Arrays.fill(composed, 0f);
+            if (addNgrams(length) == 0 || !normalize(composed)) {
+                return false;
+            }
+            for (int i = 0; i < sum.length; i++) {
+                sum[i] += composed[i];
+            }
+            return true;
+        }
+
+        private int addNgrams(int length) {
+            int count = 0;
+            for (int start = 0; start < length; start++) {
+                if (!isContinuation(utf8[start])) {
+                    count += addNgramsFrom(start, length);
+                }
+            }
+            return count;
+        }
+
+        // start에서 시작하는 minn~maxn 글자 n-gram. 경계 기호 한 글자("<", ">")만 있는 n-gram은 뺀다.
+        private int addNgramsFrom(int start, int length) {
+            int hash = FNV_OFFSET_BASIS;
+            int count = 0;
+            for (int end = start, chars = 1; end < length && chars <= header.maxn(); chars++) {
+                hash = fnv(hash, utf8[end++]);
+                for (; end < length && isContinuation(utf8[end]); end++) {
+                    hash = fnv(hash, utf8[end]);
+                }
+                count += addNgram(hash, chars, start == 0 || end == length);
+            }
+            return count;
+        }
+
+        private int addNgram(int hash, int chars, boolean touchesBoundary) {
+            if (chars < header.minn() || (chars == 1 && touchesBoundary)) {
+                return 0;
+            }
+            addRow(header.nwords() + (long) Integer.remainderUnsigned(hash, header.bucket()), composed);
+            return 1;
+        }
+
+        // UTF-16 한 글자는 UTF-8로 3바이트를 넘지 않는다(서로게이트 쌍은 두 글자에 4바이트).
+        private int encodeWrapped(CharSequence token) {
+            if (utf8.length < token.length() * 3 + 2) {
+                utf8 = new byte[token.length() * 3 + 2];
+            }
+            int length = 0;
+            utf8[length++] = '<';
+            for (int i = 0; i < token.length(); ) {
+                int codePoint = Character.codePointAt(token, i);
+                i += Character.charCount(codePoint);
+                length = encode(codePoint, length);
+            }
+            utf8[length++] = '>';
+            return length;
+        }
+
+        private int encode(int codePoint, int at) {
+            if (codePoint < 0x80) {
+                utf8[at] = (byte) codePoint;
+                return at + 1;
+            }
+            int extra = codePoint < 0x800 ? 1 : codePoint < 0x10000 ? 2 : 3;
+            utf8[at] = (byte) ((0xFF00 >> (extra + 1)) | (codePoint >> (6 * extra)));
+            for (int i = 1; i <= extra; i++) {
+                utf8[at + i] = (byte) (0x80 | ((codePoint >> (6 * (extra - i))) & 0x3F));
+            }
+            return at + extra + 1;
+        }
+    }
+
+    private static boolean normalize(float[] vector) {
+        double sum = 0.0;
+        for (float v : vector) {
+            sum += v * v;
+        }
+        if (sum == 0.0) {
+            return false;
+        }
+        double norm = Math.sqrt(sum);
+        for (int i = 0; i < vector.length; i++) {
+            vector[i] = (float) (vector[i] / norm);
+        }
+        return true;
+    }
+
+    private record Header(int dimension, int nwords, int bucket, int minn, int maxn, long rows, long matrixOffset) {
+        private Header withMatrix(long matrixRows, long offset) {
+            return new Header(dimension, nwords, bucket, minn, maxn, matrixRows, offset);
+        }
+
+        private long rowBytes() {
+            return (long) dimension * Float.BYTES;
+        }
+
+        private void validate(int expectedDimension, long columns, long fileSize) {
+            if (dimension != expectedDimension || columns != dimension) {
+                throw new IllegalStateException("Subword model dimension mismatch. expected=" + expectedDimension + " actual=" + dimension);
+            }
+            if (bucket <= 0 || maxn <= 0 || rows < (long) nwords + bucket) {
+                throw new IllegalStateException("FastText model has no subword buckets");
+            }
+            if (fileSize < matrixOffset + rows * rowBytes()) {
+                throw new IllegalStateException("FastText model is truncated");
+            }
+        }
+    }
+}
@@ -5,9 +5,6 @@ import me.go_gradually.omypic.infrastructure.shared.config.AppProperties;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
-import java.nio.charset.StandardCharsets;
-import java.util.Locale;
-
 @Component
 @ConditionalOnProperty(prefix = "omypic.rag", name = "provider", havingValue = "hash")
 public class LocalHashEmbeddingAdapter implements EmbeddingPort {
@@ -23,23 +20,15 @@ public class LocalHashEmbeddingAdapter implements EmbeddingPort {
         if (text == null || text.isBlank()) {
             return vector;
         }
-        for (String token : tokenize(text)) {
-            addToken(vector, token);
-        }
+        EmbeddingTokenizer.nonWhitespace(text, token -> addToken(vector, token));
         normalize(vector);
         return vector;
     }
 
-    private String[] tokenize(String text) {
-        return text.toLowerCase(Locale.ROOT).split("\\s+");
-    }
-
-    private void addToken(float[] vector, String token) {
-        if (token.isBlank()) {
-            return;
-        }
+    private boolean addToken(float[] vector, CharSequence token) {
         int bucket = Math.floorMod(hash(token), dimension);
         vector[bucket] += 1.0f;
+        return true;
     }
 
     @Override
@@ -54,14 +43,16 @@ public class LocalHashEmbeddingAdapter implements EmbeddingPort {
 
     @Override
     public String modelVersion() {
-        return "local-hash-v1";
+        return "local-hash-v2";
     }
 
-    private int hash(String token) {
-        byte[] bytes = token.getBytes(StandardCharsets.UTF_8);
+    // v1은 토큰을 UTF-8 바이트로 바꿔 해시했다. 코드 포인트를 바로 해시하면서 한글 토큰의 버킷이 바뀌어 버전을 올렸다.
+    private int hash(CharSequence token) {
         int h = 0;
-        for (byte b : bytes) {
-            h = 31 * h + b;
+        for (int i = 0; i < token.length(); ) {
+            int codePoint = Character.codePointAt(token, i);
+            h = 31 * h + codePoint;
+            i += Character.charCount(codePoint);
         }
         return h;
     }
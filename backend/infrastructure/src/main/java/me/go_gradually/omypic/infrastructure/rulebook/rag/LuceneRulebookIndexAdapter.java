@@ -3,19 +3,37 @@ package me.go_gradually.omypic.infrastructure.rulebook.rag;
 import me.go_gradually.omypic.application.rulebook.port.EmbeddingPort;
 import me.go_gradually.omypic.application.rulebook.port.RulebookIndexPort;
 import me.go_gradually.omypic.application.shared.policy.DataDirProvider;
+import me.go_gradually.omypic.domain.rulebook.RulebookChunk;
 import me.go_gradually.omypic.domain.rulebook.RulebookContext;
 import me.go_gradually.omypic.domain.rulebook.RulebookId;
-import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.cjk.CJKAnalyzer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.codecs.Codec;
+import org.apache.lucene.codecs.KnnVectorsFormat;
+import org.apache.lucene.codecs.lucene99.Lucene99Codec;
+import org.apache.lucene.codecs.lucene99.Lucene99HnswScalarQuantizedVectorsFormat;
 import org.apache.lucene.document.*;
 import org.apache.lucene.index.DirectoryReader;
 import org.apache.lucene.index.IndexWriter;
 import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
 import org.apache.lucene.search.IndexSearcher;
-import org.apache.lucene.search.KnnVectorQuery;
+import org.apache.lucene.search.KnnFloatVectorQuery;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.Query;
 import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.TermInSetQuery;
+import org.apache.lucene.search.TermQuery;
 import org.apache.lucene.search.TopDocs;
 import org.apache.lucene.store.Directory;
 import org.apache.lucene.store.FSDirectory;
+import org.apache.lucene.util.BytesRef;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
@@ -25,19 +43,50 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Logger;
 
+/**
+ * 룰북 청크를 Lucene에 색인하고 BM25(본문)와 KNN(임베딩) 검색 결과를 RRF로 합쳐 돌려준다.
+ * 본문은 한글 bigram과 영문 단어로 분석해 "Role Play"처럼 임베딩 평균으로는 묻히는 전략 키워드도 찾는다.
+ * 사용 중인 룰북 필터는 두 쿼리 안에서 적용하므로 결과를 넉넉히 가져와 뒤에서 거르지 않는다.
+ * 청크가 속한 제목 경로는 별도 필드로 두고 임베딩 입력과 키워드 매칭에도 함께 쓴다.
+ * 임베딩은 스칼라 양자화(성분당 1바이트) HNSW 포맷으로 저장해 검색 때 float 대신 바이트 벡터를 읽고 비교한다.
+ * 메타데이터는 indexLock, IndexWriter 생성과 쓰기는 writerLock으로 지키며, 잠그는 순서는 항상 indexLock → writerLock이다.
+ * 필드 색인 옵션은 기존 색인 위에서 바꿀 수 없으므로, 구조가 바뀌면 schemaVersion을 올리고 색인을 비운 뒤 룰북 파일로 다시 채운다.
+ */
 @Component
 public class LuceneRulebookIndexAdapter implements RulebookIndexPort {
+    private static final Logger log = Logger.getLogger(LuceneRulebookIndexAdapter.class.getName());
     private static final String META_FILE = "index-meta.properties";
     private static final String META_PROVIDER = "provider";
     private static final String META_MODEL_VERSION = "modelVersion";
     private static final String META_DIMENSION = "dimension";
+    private static final String META_SCHEMA_VERSION = "schemaVersion";
+    // 1: 본문을 저장만 하던 색인(버전 키 없음), 2: 본문·제목 경로를 TextField로 색인
+    private static final String SCHEMA_VERSION = "2";
+    private static final String RULEBOOK_ID_FIELD = "rulebookId";
+    private static final String TEXT_FIELD = "text";
+    private static final String HEADING_FIELD = "headingPath";
+    private static final String EMBEDDING_FIELD = "embedding";
+    private static final String EMBEDDING_MODEL_FIELD = "embeddingModel";
+    // topK가 이 값 이하이면 순위 목록 깊이가 같아, 같은 질의의 top1은 top2의 첫 결과와 항상 같다.
+    private static final int MIN_FUSION_DEPTH = 10;
+    private static final int MAX_LEXICAL_TERMS = 256;
+    private static final Analyzer ANALYZER = new CJKAnalyzer();
+    private static final Codec QUANTIZED_VECTOR_CODEC = quantizedVectorCodec();
     private final Path indexPath;
     private final EmbeddingPort embeddingService;
     private final Object indexLock = new Object();
+    // 색인 디렉터리에는 IndexWriter를 하나만 열 수 있으므로 모든 쓰기가 이 잠금을 거친다.
+    private final Object writerLock = new Object();
+    private final AtomicBoolean reembedding = new AtomicBoolean(false);
+    // 메타데이터에 적힌(색인 벡터를 만든) 모델 표식. 메타데이터를 읽거나 쓸 때마다 갱신한다.
+    private volatile String indexedModel;
 
     public LuceneRulebookIndexAdapter(DataDirProvider dataDirProvider, EmbeddingPort embeddingService) {
         this.indexPath = Path.of(dataDirProvider.getDataDir(), "indexes", "rulebooks");
@@ -50,11 +99,13 @@ public class LuceneRulebookIndexAdapter implements RulebookIndexPort {
     }
 
     @Override
-    public void indexRulebookChunks(RulebookId rulebookId, String filename, List<String> chunks) throws IOException {
-        ensureIndexCompatibility();
-        try (IndexWriter writer = createWriter()) {
-            addChunks(writer, rulebookId, filename, chunks);
-            writer.commit();
+    public void indexRulebookChunks(RulebookId rulebookId, String filename, List<RulebookChunk> chunks) throws IOException {
+        ensureIndexCompatibility(true);
+        synchronized (writerLock) {
+            try (IndexWriter writer = createWriter()) {
+                addChunks(writer, rulebookId, filename, chunks);
+                writer.commit();
+            }
         }
     }
 
@@ -63,95 +114,299 @@ public class LuceneRulebookIndexAdapter implements RulebookIndexPort {
         if (enabledRulebookIds.isEmpty()) {
             return List.of();
         }
-        ensureIndexCompatibility();
+        ensureIndexCompatibility(false);
         Set<String> enabledIds = enabledRulebookIds.stream()
                 .map(RulebookId::value)
                 .collect(java.util.stream.Collectors.toSet());
-        float[] queryVector = embeddingService.embed(query);
-        return searchEnabledContexts(enabledIds, queryVector, topK);
+        return searchEnabledContexts(enabledIds, query, queryVector(query), topK);
+    }
+
+    // 재시작 뒤 모델을 읽는 동안에는 질의만 해시 벡터가 되고 색인에는 이전 모델 벡터가 남아 있다.
+    // 서로 다른 공간의 벡터를 비교하면 RRF에 잡음만 섞이므로, 모델이 색인과 다르면 벡터 검색을 건너뛰고 키워드 결과만 쓴다.
+    private float[] queryVector(String query) {
+        if (!modelStamp().equals(indexedModel)) {
+            return null;
+        }
+        return embeddingService.embed(query);
+    }
+
+    @Override
+    public boolean resetIfOutdated() throws IOException {
+        synchronized (indexLock) {
+            if (sameSchema(readMetadata())) {
+                return false;
+            }
+            boolean hadIndex = indexExists();
+            clearIndex();
+            writeMetadata(expectedMetadata());
+            log.info(() -> "Rulebook index schema set to " + SCHEMA_VERSION + " rebuildNeeded=" + hadIndex);
+            return hadIndex;
+        }
     }
 
     @Override
     public void reset() throws IOException {
         synchronized (indexLock) {
-            resetIndexDirectory();
+            clearIndex();
             writeMetadata(expectedMetadata());
         }
     }
 
     private IndexWriter createWriter() throws IOException {
         Directory directory = FSDirectory.open(indexPath);
-        IndexWriterConfig config = new IndexWriterConfig(new StandardAnalyzer());
+        IndexWriterConfig config = new IndexWriterConfig(ANALYZER);
         config.setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND);
+        config.setCodec(QUANTIZED_VECTOR_CODEC);
         return new IndexWriter(directory, config);
     }
 
-    private void addChunks(IndexWriter writer, RulebookId rulebookId, String filename, List<String> chunks) throws IOException {
-        for (String chunk : chunks) {
-            writer.addDocument(toDocument(rulebookId, filename, chunk));
+    // 포맷 이름은 세그먼트마다 기록되므로 읽을 때는 기본 코덱으로 충분하다.
+    // 양자화 전에 만든 float 세그먼트도 그대로 읽히고, 병합될 때 이 포맷으로 다시 쓰인다.
+    private static Codec quantizedVectorCodec() {
+        KnnVectorsFormat quantized = new Lucene99HnswScalarQuantizedVectorsFormat();
+        return new Lucene99Codec() {
+            @Override
+            public KnnVectorsFormat getKnnVectorsFormatForField(String field) {
+                return EMBEDDING_FIELD.equals(field) ? quantized : super.getKnnVectorsFormatForField(field);
+            }
+        };
+    }
+
+    /**
+     * 임베딩 모델이 백그라운드 로딩을 마치면 첫 검색을 기다리지 않고 바로 임시 벡터로 넣은 청크를 다시 임베딩한다.
+     */
+    @EventListener(EmbeddingModelReadyEvent.class)
+    public void onEmbeddingModelReady() {
+        try {
+            ensureIndexCompatibility(false);
+        } catch (IOException | RuntimeException e) {
+            log.warning("Rulebook re-embedding failed; will retry on next index access. reason=" + e.getMessage());
         }
     }
 
-    private Document toDocument(RulebookId rulebookId, String filename, String chunk) {
+    // 같은 룰북을 두 번 넣어도(재구성과 업로드가 겹칠 때) 청크가 중복되지 않도록 룰북 단위로 바꿔 넣는다.
+    private void addChunks(IndexWriter writer, RulebookId rulebookId, String filename, List<RulebookChunk> chunks) throws IOException {
+        List<Document> documents = new ArrayList<>(chunks.size());
+        for (RulebookChunk chunk : chunks) {
+            documents.add(toDocument(rulebookId.value(), filename, chunk.text(), chunk.headingLabel()));
+        }
+        writer.updateDocuments(new Term(RULEBOOK_ID_FIELD, rulebookId.value()), documents);
+    }
+
+    // 모델 표식은 embed보다 먼저 읽는다. 그사이 모델이 바뀌면 표식이 옛 모델을 가리켜 다음 재임베딩 대상이 될 뿐 잘못 남지 않는다.
+    private Document toDocument(String rulebookId, String filename, String text, String headingLabel) {
+        String model = modelStamp();
         Document doc = new Document();
-        doc.add(new StringField("rulebookId", rulebookId.value(), Field.Store.YES));
+        doc.add(new StringField(RULEBOOK_ID_FIELD, rulebookId, Field.Store.YES));
         doc.add(new StringField("filename", filename, Field.Store.YES));
-        doc.add(new StoredField("text", chunk));
-        doc.add(new KnnVectorField("embedding", embeddingService.embed(chunk)));
+        doc.add(new TextField(TEXT_FIELD, text, Field.Store.YES));
+        doc.add(new TextField(HEADING_FIELD, headingLabel, Field.Store.YES));
+        doc.add(new StringField(EMBEDDING_MODEL_FIELD, model, Field.Store.NO));
+        doc.add(new KnnFloatVectorField(EMBEDDING_FIELD, embeddingService.embed(embeddingInput(headingLabel, text))));
         return doc;
     }
 
-    private List<RulebookContext> searchEnabledContexts(Set<String> enabledIds, float[] queryVector, int topK) throws IOException {
+    // 본문만으로는 어느 절의 내용인지 드러나지 않는 짧은 조각이 많아 제목 경로를 앞에 붙여 임베딩한다.
+    private static String embeddingInput(String headingLabel, String text) {
+        return headingLabel.isEmpty() ? text : headingLabel + "\n" + text;
+    }
+
+    private String modelStamp() {
+        return embeddingService.provider() + ":" + embeddingService.modelVersion();
+    }
+
+    private List<RulebookContext> searchEnabledContexts(Set<String> enabledIds,
+                                                        String query,
+                                                        float[] queryVector,
+                                                        int topK) throws IOException {
         Directory directory = FSDirectory.open(indexPath);
         if (!DirectoryReader.indexExists(directory)) {
             return List.of();
         }
         try (DirectoryReader reader = DirectoryReader.open(directory)) {
-            return collectSearchResults(reader, enabledIds, queryVector, topK);
+            return collectSearchResults(new IndexSearcher(reader), enabledIds, query, queryVector, topK);
         }
     }
 
-    private List<RulebookContext> collectSearchResults(DirectoryReader reader,
+    private List<RulebookContext> collectSearchResults(IndexSearcher searcher,
                                                        Set<String> enabledIds,
+                                                       String query,
                                                        float[] queryVector,
                                                        int topK) throws IOException {
-        IndexSearcher searcher = new IndexSearcher(reader);
-        TopDocs topDocs = searcher.search(new KnnVectorQuery("embedding", queryVector, topK * 3), topK * 3);
-        return toRulebookContexts(searcher, topDocs.scoreDocs, enabledIds, topK);
-    }
-
-    private List<RulebookContext> toRulebookContexts(IndexSearcher searcher,
-                                                     ScoreDoc[] scoreDocs,
-                                                     Set<String> enabledIds,
-                                                     int topK) throws IOException {
-        List<RulebookContext> results = new ArrayList<>();
-        for (ScoreDoc scoreDoc : scoreDocs) {
-            if (appendIfEnabled(results, searcher.doc(scoreDoc.doc), enabledIds) && results.size() >= topK) {
-                return results;
+        Query filter = enabledFilter(enabledIds);
+        int depth = Math.max(topK, MIN_FUSION_DEPTH);
+        ScoreDoc[] vectorHits = queryVector == null
+                ? new ScoreDoc[0]
+                : searcher.search(new KnnFloatVectorQuery(EMBEDDING_FIELD, queryVector, depth, filter), depth).scoreDocs;
+        ScoreDoc[] lexicalHits = lexicalHits(searcher, query, filter, depth);
+        return toRulebookContexts(searcher, ReciprocalRankFusion.fuse(topK, vectorHits, lexicalHits));
+    }
+
+    private static Query enabledFilter(Set<String> enabledIds) {
+        List<BytesRef> terms = enabledIds.stream().map(BytesRef::new).toList();
+        return new TermInSetQuery(RULEBOOK_ID_FIELD, terms);
+    }
+
+    // 분석 후 남는 토큰이 없으면(기호뿐인 질의 등) 벡터 결과만 쓴다.
+    private static ScoreDoc[] lexicalHits(IndexSearcher searcher, String query, Query filter, int depth) throws IOException {
+        Set<String> terms = analyzeTerms(query);
+        if (terms.isEmpty()) {
+            return new ScoreDoc[0];
+        }
+        return searcher.search(lexicalQuery(terms, filter), depth).scoreDocs;
+    }
+
+    private static Query lexicalQuery(Set<String> terms, Query filter) {
+        BooleanQuery.Builder builder = new BooleanQuery.Builder().setMinimumNumberShouldMatch(1);
+        for (String term : terms) {
+            builder.add(new TermQuery(new Term(TEXT_FIELD, term)), BooleanClause.Occur.SHOULD);
+            builder.add(new TermQuery(new Term(HEADING_FIELD, term)), BooleanClause.Occur.SHOULD);
+        }
+        builder.add(filter, BooleanClause.Occur.FILTER);
+        return builder.build();
+    }
+
+    // turn 질의에는 답변 전문이 들어오므로, 중복을 빼고 앞쪽 토큰만 써서 절 개수 상한(1024)을 넘지 않게 한다.
+    // 토큰마다 본문·제목 두 절을 만들므로 MAX_LEXICAL_TERMS * 2 + 필터 1개가 상한 안에 들어와야 한다.
+    private static Set<String> analyzeTerms(String query) throws IOException {
+        Set<String> terms = new LinkedHashSet<>();
+        try (TokenStream stream = ANALYZER.tokenStream(TEXT_FIELD, query == null ? "" : query)) {
+            CharTermAttribute term = stream.addAttribute(CharTermAttribute.class);
+            stream.reset();
+            while (terms.size() < MAX_LEXICAL_TERMS && stream.incrementToken()) {
+                terms.add(term.toString());
             }
+            stream.end();
+        }
+        return terms;
+    }
+
+    private List<RulebookContext> toRulebookContexts(IndexSearcher searcher, List<Integer> docIds) throws IOException {
+        List<RulebookContext> results = new ArrayList<>(docIds.size());
+        for (int docId : docIds) {
+            Document doc = searcher.doc(docId);
+            RulebookId rulebookId = RulebookId.of(doc.get(RULEBOOK_ID_FIELD));
+            results.add(new RulebookContext(rulebookId, doc.get("filename"), doc.get(TEXT_FIELD), doc.get(HEADING_FIELD)));
         }
         return results;
     }
 
-    private boolean appendIfEnabled(List<RulebookContext> results, Document doc, Set<String> enabledIds) {
-        String rulebookId = doc.get("rulebookId");
-        if (!enabledIds.contains(rulebookId)) {
-            return false;
+    // 재임베딩은 메타데이터 잠금 밖에서 돌리므로 그동안의 검색은 기다리지 않고 옛 벡터가 섞인 색인을 그대로 읽는다.
+    private void ensureIndexCompatibility(boolean writing) throws IOException {
+        if (reconcileMetadata(writing)) {
+            reembedStaleRulebooks();
         }
-        results.add(new RulebookContext(RulebookId.of(rulebookId), doc.get("filename"), doc.get("text")));
-        return true;
     }
 
-    private void ensureIndexCompatibility() throws IOException {
+    private boolean reconcileMetadata(boolean writing) throws IOException {
         synchronized (indexLock) {
             Properties expected = expectedMetadata();
             Properties current = readMetadata();
-            if (isCompatible(current, expected)) {
-                return;
+            indexedModel = modelStampOf(current);
+            return !isCompatible(current, expected) && reconcile(current, expected, writing);
+        }
+    }
+
+    // 차원이 다르면 벡터를 섞을 수 없어 색인을 비운다. 차원이 같으면 저장된 본문으로 다시 임베딩해야 함을 알리되(true),
+    // 모델이 아직 로딩 중이면 미루고 쓰기 요청일 때만 메타데이터를 임시 모델로 바꿔 나중에 재임베딩 대상임을 남긴다.
+    // 구조가 옛 버전이면 같은 색인에 다시 쓸 수 없으므로 손대지 않고 resetIfOutdated에 따른 재구성에 맡긴다.
+    private boolean reconcile(Properties current, Properties expected, boolean writing) throws IOException {
+        if (!current.isEmpty() && !sameSchema(current)) {
+            return false;
+        }
+        if (!sameDimension(current, expected)) {
+            clearIndex();
+        } else if (embeddingService.isReady()) {
+            return true;
+        } else if (!writing) {
+            return false;
+        }
+        writeMetadata(expected);
+        return false;
+    }
+
+    private static boolean sameSchema(Properties current) {
+        return SCHEMA_VERSION.equals(current.getProperty(META_SCHEMA_VERSION));
+    }
+
+    private boolean sameDimension(Properties current, Properties expected) {
+        return expected.getProperty(META_DIMENSION).equals(current.getProperty(META_DIMENSION));
+    }
+
+    // 이미 다른 스레드가 돌리고 있으면 그쪽에 맡기고 바로 돌아간다.
+    private void reembedStaleRulebooks() throws IOException {
+        if (!reembedding.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            reembedAll(modelStamp());
+        } finally {
+            reembedding.set(false);
+        }
+    }
+
+    // 현재 모델 표식이 없는 청크가 하나라도 있는 룰북을 룰북 단위로 다시 넣고 바로 커밋한다.
+    // 중간에 멈춰도 끝난 룰북은 표식이 맞으므로 다음 번에는 남은 룰북만 다시 임베딩한다.
+    private void reembedAll(String model) throws IOException {
+        for (String rulebookId : staleRulebookIds(model)) {
+            reembedRulebook(rulebookId);
+        }
+        synchronized (indexLock) {
+            if (model.equals(modelStamp())) {
+                writeMetadata(expectedMetadata());
+            }
+        }
+        log.info(() -> "Rulebook index re-embedded model=" + model);
+    }
+
+    // writer는 룰북 하나를 다시 넣는 동안만 잡으므로, 그사이 들어온 업로드는 다음 룰북 차례 전에 끼어들 수 있다.
+    private void reembedRulebook(String rulebookId) throws IOException {
+        synchronized (writerLock) {
+            try (IndexWriter writer = createWriter()) {
+                writer.updateDocuments(new Term(RULEBOOK_ID_FIELD, rulebookId), reembedded(writer, rulebookId));
+                writer.commit();
+            }
+        }
+    }
+
+    // 커밋된 세그먼트만 읽으므로 writer를 잡지 않는다.
+    private Set<String> staleRulebookIds(String model) throws IOException {
+        Directory directory = FSDirectory.open(indexPath);
+        if (!DirectoryReader.indexExists(directory)) {
+            return Set.of();
+        }
+        try (DirectoryReader reader = DirectoryReader.open(directory)) {
+            return rulebookIdsMatching(new IndexSearcher(reader), staleQuery(model), Math.max(1, reader.maxDoc()));
+        }
+    }
+
+    private static Query staleQuery(String model) {
+        return new BooleanQuery.Builder()
+                .add(new MatchAllDocsQuery(), BooleanClause.Occur.FILTER)
+                .add(new TermQuery(new Term(EMBEDDING_MODEL_FIELD, model)), BooleanClause.Occur.MUST_NOT)
+                .build();
+    }
+
+    private static Set<String> rulebookIdsMatching(IndexSearcher searcher, Query query, int limit) throws IOException {
+        Set<String> ids = new LinkedHashSet<>();
+        for (ScoreDoc hit : searcher.search(query, limit).scoreDocs) {
+            ids.add(searcher.storedFields().document(hit.doc).get(RULEBOOK_ID_FIELD));
+        }
+        return ids;
+    }
+
+    private List<Document> reembedded(IndexWriter writer, String rulebookId) throws IOException {
+        List<Document> documents = new ArrayList<>();
+        try (DirectoryReader reader = DirectoryReader.open(writer)) {
+            IndexSearcher searcher = new IndexSearcher(reader);
+            TopDocs hits = searcher.search(new TermQuery(new Term(RULEBOOK_ID_FIELD, rulebookId)), Math.max(1, reader.maxDoc()), Sort.INDEXORDER);
+            for (ScoreDoc hit : hits.scoreDocs) {
+                Document stored = searcher.storedFields().document(hit.doc);
+                String heading = stored.get(HEADING_FIELD) == null ? "" : stored.get(HEADING_FIELD);
+                documents.add(toDocument(rulebookId, stored.get("filename"), stored.get(TEXT_FIELD), heading));
             }
-            resetIndexDirectory();
-            writeMetadata(expected);
         }
+        return documents;
     }
 
     private Properties expectedMetadata() {
@@ -159,6 +414,7 @@ public class LuceneRulebookIndexAdapter implements RulebookIndexPort {
         props.setProperty(META_PROVIDER, embeddingService.provider());
         props.setProperty(META_MODEL_VERSION, embeddingService.modelVersion());
         props.setProperty(META_DIMENSION, String.valueOf(embeddingService.dimension()));
+        props.setProperty(META_SCHEMA_VERSION, SCHEMA_VERSION);
         return props;
     }
 
@@ -175,7 +431,7 @@ public class LuceneRulebookIndexAdapter implements RulebookIndexPort {
     }
 
     private boolean isCompatible(Properties current, Properties expected) {
-        if (current.isEmpty()) {
+        if (current.isEmpty() || !sameSchema(current)) {
             return false;
         }
         return expected.getProperty(META_PROVIDER).equals(current.getProperty(META_PROVIDER))
@@ -183,11 +439,28 @@ public class LuceneRulebookIndexAdapter implements RulebookIndexPort {
                 && expected.getProperty(META_DIMENSION).equals(current.getProperty(META_DIMENSION));
     }
 
+    private boolean indexExists() throws IOException {
+        try (Directory directory = FSDirectory.open(indexPath)) {
+            return DirectoryReader.indexExists(directory);
+        }
+    }
+
     private void writeMetadata(Properties props) throws IOException {
         Path metaPath = indexPath.resolve(META_FILE);
         try (OutputStream out = Files.newOutputStream(metaPath)) {
             props.store(out, "Rulebook index metadata");
         }
+        indexedModel = modelStampOf(props);
+    }
+
+    private static String modelStampOf(Properties props) {
+        return props.getProperty(META_PROVIDER) + ":" + props.getProperty(META_MODEL_VERSION);
+    }
+
+    private void clearIndex() throws IOException {
+        synchronized (writerLock) {
+            resetIndexDirectory();
+        }
     }
 
     private void resetIndexDirectory() throws IOException {
@@ -0,0 +1,138 @@
+package me.go_gradually.omypic.infrastructure.rulebook.rag;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Properties;
+
+/**
+ * 모델 파일의 SHA-256 검증 결과를 모델 옆 "&lt;파일명&gt;.sha256-stamp"에 크기·수정 시각·파일 키(inode)와 함께 남긴다.
+ * 세 값이 그대로면 파일이 바뀌지 않은 것으로 보고 수 GB 전체 해시를 건너뛴다. 다운로드는 임시 파일을 옮겨 오므로 교체되면 inode가 달라진다.
+ * 앱 번들 안의 모델처럼 옆에 쓸 수 없으면 데이터 디렉터리(fallbackDir)에 같은 이름으로 남긴다.
+ */
+final class ModelChecksumStamp {
+    private static final String STAMP_SUFFIX = ".sha256-stamp";
+    private static final int HASH_BUFFER_BYTES = 1 << 20;
+
+    private ModelChecksumStamp() {
+    }
+
+    // 일치하면 통과, 다르면 IllegalStateException. 전체 해시를 계산했으면 true.
+    static boolean verify(Path model, String expectedSha256, Path fallbackDir) {
+        String expected = expectedSha256.trim().toLowerCase(Locale.ROOT);
+        Properties attributes = attributes(model);
+        List<Path> stamps = stampPaths(model, fallbackDir);
+        if (stamps.stream().anyMatch(stamp -> attributes.equals(readStamp(stamp, expected)))) {
+            return false;
+        }
+        if (!expected.equals(sha256(model))) {
+            throw new IllegalStateException("FastText model sha256 mismatch for " + model);
+        }
+        writeFirstWritable(stamps, attributes, expected);
+        return true;
+    }
+
+    static List<Path> stampPaths(Path model, Path fallbackDir) {
+        Path sibling = model.resolveSibling(model.getFileName() + STAMP_SUFFIX);
+        Path fallback = fallbackDir.resolve(sibling.getFileName());
+        return sibling.toAbsolutePath().equals(fallback.toAbsolutePath()) ? List.of(sibling) : List.of(sibling, fallback);
+    }
+
+    private static Properties attributes(Path model) {
+        try {
+            BasicFileAttributes attrs = Files.readAttributes(model, BasicFileAttributes.class);
+            Properties props = new Properties();
+            props.setProperty("size", String.valueOf(attrs.size()));
+            props.setProperty("lastModified", String.valueOf(attrs.lastModifiedTime().toMillis()));
+            props.setProperty("fileKey", String.valueOf(attrs.fileKey()));
+            return props;
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to read model attributes: " + model, e);
+        }
+    }
+
+    // 기대 해시까지 같아야 쓴다. 설정한 해시가 바뀌면 파일이 같아도 다시 검증한다.
+    private static Properties readStamp(Path stamp, String expected) {
+        Properties props = new Properties();
+        try (InputStream in = Files.newInputStream(stamp)) {
+            props.load(in);
+        } catch (IOException e) {
+            return null;
+        }
+        return Objects.equals(props.remove("sha256"), expected) ? props : null;
+    }
+
+    private static void writeFirstWritable(List<Path> stamps, Properties attributes, String sha256) {
+        for (Path stamp : stamps) {
+            if (writeStamp(stamp, attributes, sha256)) {
+                return;
+            }
+        }
+    }
+
+    // 스탬프를 못 남겨도 검증은 끝났으므로 다음 기동에 다시 해시할 뿐 실패로 보지 않는다.
+    private static boolean writeStamp(Path stamp, Properties attributes, String sha256) {
+        Path temp = stamp.resolveSibling(stamp.getFileName() + ".part");
+        try {
+            store(attributes, sha256, temp);
+            Files.move(temp, stamp, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            return true;
+        } catch (IOException e) {
+            deleteQuietly(temp);
+            return false;
+        }
+    }
+
+    private static void store(Properties attributes, String sha256, Path path) throws IOException {
+        Properties props = new Properties();
+        props.putAll(attributes);
+        props.setProperty("sha256", sha256);
+        Files.createDirectories(path.getParent());
+        try (OutputStream out = Files.newOutputStream(path)) {
+            props.store(out, "Verified model checksum");
+        }
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException ignored) {
+        }
+    }
+
+    // 1MiB direct 버퍼로 읽어 힙 복사 없이 다이제스트에 넘긴다.
+    static String sha256(Path path) {
+        MessageDigest digest = sha256Digest();
+        ByteBuffer buffer = ByteBuffer.allocateDirect(HASH_BUFFER_BYTES);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            while (channel.read(buffer) >= 0) {
+                digest.update(buffer.flip());
+                buffer.clear();
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to read model file for checksum: " + path, e);
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static MessageDigest sha256Digest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 algorithm is unavailable", e);
+        }
+    }
+}
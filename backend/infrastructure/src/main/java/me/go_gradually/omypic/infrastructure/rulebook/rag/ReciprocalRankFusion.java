@@ -0,0 +1,35 @@
+package me.go_gradually.omypic.infrastructure.rulebook.rag;
+
+import org.apache.lucene.search.ScoreDoc;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 점수 척도가 다른 순위 목록(BM25, 벡터 유사도)을 순위만으로 합친다. 문서 점수는 목록마다 1 / (k + 순위)의 합이다.
+ * 동점이면 먼저 넘긴 목록에서 먼저 나온 문서가 앞선다.
+ */
+final class ReciprocalRankFusion {
+    static final int DEFAULT_RANK_CONSTANT = 60;
+
+    private ReciprocalRankFusion() {
+    }
+
+    static List<Integer> fuse(int limit, ScoreDoc[]... rankings) {
+        Map<Integer, Double> scores = new LinkedHashMap<>();
+        for (ScoreDoc[] ranking : rankings) {
+            for (int rank = 0; rank < ranking.length; rank += 1) {
+                scores.merge(ranking[rank].doc, 1.0 / (DEFAULT_RANK_CONSTANT + rank + 1), Double::sum);
+            }
+        }
+        List<Map.Entry<Integer, Double>> ordered = new ArrayList<>(scores.entrySet());
+        ordered.sort(Map.Entry.<Integer, Double>comparingByValue(Comparator.reverseOrder()));
+        return ordered.stream()
+                .limit(Math.max(0, limit))
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+}
@@ -6,13 +6,28 @@ import me.go_gradually.omypic.application.shared.policy.DataDirProvider;
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
 import java.util.Comparator;
+import java.util.HexFormat;
 
+/**
+ * 룰북 원본을 내용의 SHA-256 이름("&lt;해시&gt;.md")으로 저장한다. 같은 내용은 한 파일만 남고, 경로 자체가 내용 버전이 된다.
+ * 저장된 파일은 다시 쓰지 않으므로 경로가 같으면 내용도 같다고 보고 조각 캐시 키로 쓴다.
+ * 이전 방식("&lt;시각&gt;_&lt;파일명&gt;")으로 저장된 경로도 그대로 읽는다.
+ */
 @Component
 public class FileSystemRulebookStore implements RulebookFileStore {
+    private static final String EXTENSION = ".md";
+
     private final DataDirProvider dataDirProvider;
 
     public FileSystemRulebookStore(DataDirProvider dataDirProvider) {
@@ -21,27 +36,47 @@ public class FileSystemRulebookStore implements RulebookFileStore {
 
     @Override
     public StoredRulebookFile store(String filename, byte[] bytes) throws IOException {
-        Path rulebookDir = Path.of(dataDirProvider.getDataDir(), "rulebooks");
+        Path rulebookDir = rulebookDir();
         Files.createDirectories(rulebookDir);
-        String storedName = System.currentTimeMillis() + "_" + filename;
-        Path target = rulebookDir.resolve(storedName);
-        Files.write(target, bytes);
+        Path target = rulebookDir.resolve(sha256(bytes) + EXTENSION);
+        if (!Files.exists(target)) {
+            writeAtomically(target, bytes);
+        }
         return new StoredRulebookFile(target.toString());
     }
 
+    // 임시 파일에 다 쓴 뒤 옮겨서, 같은 내용을 동시에 올려도 반쯤 쓴 파일이 보이지 않게 한다.
+    private void writeAtomically(Path target, byte[] bytes) throws IOException {
+        Path temp = Files.createTempFile(target.getParent(), "upload", ".part");
+        try {
+            Files.write(temp, bytes);
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    // 잘못된 UTF-8은 Files.readString과 같이 예외(CharacterCodingException)로 알린다.
     @Override
     public String readText(String path) throws IOException {
-        return Files.readString(Path.of(path), StandardCharsets.UTF_8);
+        return StandardCharsets.UTF_8.newDecoder().decode(ByteBuffer.wrap(readBytes(path))).toString();
     }
 
+    // 파일 크기만큼 배열을 한 번에 잡고 채널로 바로 채운다(readAllBytes의 단계별 버퍼 확장이 없다).
     @Override
     public byte[] readBytes(String path) throws IOException {
-        return Files.readAllBytes(Path.of(path));
+        try (FileChannel channel = FileChannel.open(Path.of(path), StandardOpenOption.READ)) {
+            ByteBuffer buffer = ByteBuffer.allocate(Math.toIntExact(channel.size()));
+            while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+                // 끝까지 읽는다.
+            }
+            return buffer.hasRemaining() ? Arrays.copyOf(buffer.array(), buffer.position()) : buffer.array();
+        }
     }
 
     @Override
     public void clearAll() throws IOException {
-        Path rulebookDir = Path.of(dataDirProvider.getDataDir(), "rulebooks");
+        Path rulebookDir = rulebookDir();
         if (!Files.exists(rulebookDir)) {
             return;
         }
@@ -52,6 +87,18 @@ public class FileSystemRulebookStore implements RulebookFileStore {
         }
     }
 
+    private Path rulebookDir() {
+        return Path.of(dataDirProvider.getDataDir(), "rulebooks");
+    }
+
+    private static String sha256(byte[] bytes) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 algorithm is unavailable", e);
+        }
+    }
+
     private void deleteQuietly(Path path) {
         try {
             Files.deleteIfExists(path);
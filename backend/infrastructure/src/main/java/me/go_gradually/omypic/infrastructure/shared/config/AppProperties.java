@@ -87,6 +87,21 @@ public class AppProperties implements DataDirProvider, SttPolicy, RagPolicy, Fee
         return rag.getMaxContextChunks();
     }
 
+    @Override
+    public int getChunkTargetChars() {
+        return rag.getChunkTargetChars();
+    }
+
+    @Override
+    public int getChunkOverlapChars() {
+        return rag.getChunkOverlapChars();
+    }
+
+    @Override
+    public long getEnabledRulebookCacheTtlMs() {
+        return rag.getEnabledRulebookCacheTtlMs();
+    }
+
     @Override
     public int getSummaryMaxChars() {
         return feedback.getSummaryMaxChars();
@@ -112,6 +127,16 @@ public class AppProperties implements DataDirProvider, SttPolicy, RagPolicy, Fee
         return feedback.getWrongnoteWindowSize();
     }
 
+    @Override
+    public long getTurnPromptCacheTtlMs() {
+        return feedback.getTurnPromptCacheTtlMs();
+    }
+
+    @Override
+    public int getTurnPromptCacheMaxEntries() {
+        return feedback.getTurnPromptCacheMaxEntries();
+    }
+
     @Override
     public String voiceSttModel() {
         return voice.getSttModel();
@@ -147,6 +172,31 @@ public class AppProperties implements DataDirProvider, SttPolicy, RagPolicy, Fee
         return voice.getStoppedContextMax();
     }
 
+    @Override
+    public long voiceEventReplayMaxBytes() {
+        return voice.getEventReplayMaxBytes();
+    }
+
+    @Override
+    public int voiceSinkQueueCapacity() {
+        return voice.getSinkQueueCapacity();
+    }
+
+    @Override
+    public String voiceSlowSinkPolicy() {
+        return voice.getSlowSinkPolicy();
+    }
+
+    @Override
+    public String voiceSttAudioFormat() {
+        return voice.getSttAudioFormat();
+    }
+
+    @Override
+    public boolean voiceSkipNoSpeechTurns() {
+        return voice.isSkipNoSpeechTurns();
+    }
+
     public static class Stt {
         private long maxFileBytes = 26214400L;
         private int maxDurationSeconds = 180;
@@ -188,8 +238,8 @@ public class AppProperties implements DataDirProvider, SttPolicy, RagPolicy, Fee
 
     public static class Vad {
         private int prefixPaddingMs = 300;
-        private int silenceDurationMs = 200;
-        private double threshold = 0.5;
+        private int silenceDurationMs = 800;
+        private double threshold = 0.015;
 
         public int getPrefixPaddingMs() {
             return prefixPaddingMs;
@@ -220,6 +270,9 @@ public class AppProperties implements DataDirProvider, SttPolicy, RagPolicy, Fee
         private String provider = "fasttext";
         private int embeddingDim = 300;
         private int maxContextChunks = 4;
+        private int chunkTargetChars = 800;
+        private int chunkOverlapChars = 120;
+        private long enabledRulebookCacheTtlMs = 5000L;
         private String modelPath = "";
         private String modelVersion = "cc.ko.300.vec.gz";
         private String modelSha256 = "9d71f0ae144e0f89dd233bfa7eca421be26bd1e5dd18e2cc56888a04be982d97";
@@ -228,6 +281,7 @@ public class AppProperties implements DataDirProvider, SttPolicy, RagPolicy, Fee
         private int downloadRetryMax = 2;
         private boolean allowHashFallback = false;
         private int modelMaxVocab = 200000;
+        private String subwordModelPath = "";
 
         public String getProvider() {
             return provider;
@@ -253,6 +307,30 @@ public class AppProperties implements DataDirProvider, SttPolicy, RagPolicy, Fee
             this.maxContextChunks = maxContextChunks;
         }
 
+        public int getChunkTargetChars() {
+            return chunkTargetChars;
+        }
+
+        public void setChunkTargetChars(int chunkTargetChars) {
+            this.chunkTargetChars = chunkTargetChars;
+        }
+
+        public int getChunkOverlapChars() {
+            return chunkOverlapChars;
+        }
+
+        public void setChunkOverlapChars(int chunkOverlapChars) {
+            this.chunkOverlapChars = chunkOverlapChars;
+        }
+
+        public long getEnabledRulebookCacheTtlMs() {
+            return enabledRulebookCacheTtlMs;
+        }
+
+        public void setEnabledRulebookCacheTtlMs(long enabledRulebookCacheTtlMs) {
+            this.enabledRulebookCacheTtlMs = enabledRulebookCacheTtlMs;
+        }
+
         public String getModelPath() {
             return modelPath;
         }
@@ -316,6 +394,14 @@ public class AppProperties implements DataDirProvider, SttPolicy, RagPolicy, Fee
         public void setModelMaxVocab(int modelMaxVocab) {
             this.modelMaxVocab = modelMaxVocab;
         }
+
+        public String getSubwordModelPath() {
+            return subwordModelPath;
+        }
+
+        public void setSubwordModelPath(String subwordModelPath) {
+            this.subwordModelPath = subwordModelPath;
+        }
     }
 
     public static class Feedback {
@@ -324,6 +410,8 @@ public class AppProperties implements DataDirProvider, SttPolicy, RagPolicy, Fee
         private double exampleMaxRatio = 1.2;
         private int wrongnoteSummaryMaxChars = 255;
         private int wrongnoteWindowSize = 100;
+        private long turnPromptCacheTtlMs = 600000L;
+        private int turnPromptCacheMaxEntries = 512;
 
         public int getSummaryMaxChars() {
             return summaryMaxChars;
@@ -364,6 +452,22 @@ public class AppProperties implements DataDirProvider, SttPolicy, RagPolicy, Fee
         public void setWrongnoteWindowSize(int wrongnoteWindowSize) {
             this.wrongnoteWindowSize = wrongnoteWindowSize;
         }
+
+        public long getTurnPromptCacheTtlMs() {
+            return turnPromptCacheTtlMs;
+        }
+
+        public void setTurnPromptCacheTtlMs(long turnPromptCacheTtlMs) {
+            this.turnPromptCacheTtlMs = turnPromptCacheTtlMs;
+        }
+
+        public int getTurnPromptCacheMaxEntries() {
+            return turnPromptCacheMaxEntries;
+        }
+
+        public void setTurnPromptCacheMaxEntries(int turnPromptCacheMaxEntries) {
+            this.turnPromptCacheMaxEntries = turnPromptCacheMaxEntries;
+        }
     }
 
     public static class Voice {
@@ -374,6 +478,14 @@ public class AppProperties implements DataDirProvider, SttPolicy, RagPolicy, Fee
         private String ttsVoice = "alloy";
         private long recoveryRetentionMs = 600000L;
         private int stoppedContextMax = 1000;
+        private String sttAudioFormat = "flac";
+        private boolean skipNoSpeechTurns = false;
+        private long eventReplayMaxBytes = 2097152L;
+        private int sinkQueueCapacity = 64;
+        private String slowSinkPolicy = "disconnect";
+        private long reaperIntervalMs = 30000L;
+        private String stateStore = "memory";
+        private long stateTtlMs = 86400000L;
 
         public String getSttModel() {
             return sttModel;
@@ -430,6 +542,70 @@ public class AppProperties implements DataDirProvider, SttPolicy, RagPolicy, Fee
         public void setStoppedContextMax(int stoppedContextMax) {
             this.stoppedContextMax = stoppedContextMax;
         }
+
+        public String getSttAudioFormat() {
+            return sttAudioFormat;
+        }
+
+        public void setSttAudioFormat(String sttAudioFormat) {
+            this.sttAudioFormat = sttAudioFormat;
+        }
+
+        public boolean isSkipNoSpeechTurns() {
+            return skipNoSpeechTurns;
+        }
+
+        public void setSkipNoSpeechTurns(boolean skipNoSpeechTurns) {
+            this.skipNoSpeechTurns = skipNoSpeechTurns;
+        }
+
+        public long getEventReplayMaxBytes() {
+            return eventReplayMaxBytes;
+        }
+
+        public void setEventReplayMaxBytes(long eventReplayMaxBytes) {
+            this.eventReplayMaxBytes = eventReplayMaxBytes;
+        }
+
+        public int getSinkQueueCapacity() {
+            return sinkQueueCapacity;
+        }
+
+        public void setSinkQueueCapacity(int sinkQueueCapacity) {
+            this.sinkQueueCapacity = sinkQueueCapacity;
+        }
+
+        public String getSlowSinkPolicy() {
+            return slowSinkPolicy;
+        }
+
+        public void setSlowSinkPolicy(String slowSinkPolicy) {
+            this.slowSinkPolicy = slowSinkPolicy;
+        }
+
+        public long getReaperIntervalMs() {
+            return reaperIntervalMs;
+        }
+
+        public void setReaperIntervalMs(long reaperIntervalMs) {
+            this.reaperIntervalMs = reaperIntervalMs;
+        }
+
+        public String getStateStore() {
+            return stateStore;
+        }
+
+        public void setStateStore(String stateStore) {
+            this.stateStore = stateStore;
+        }
+
+        public long getStateTtlMs() {
+            return stateTtlMs;
+        }
+
+        public void setStateTtlMs(long stateTtlMs) {
+            this.stateTtlMs = stateTtlMs;
+        }
     }
 
     public static class Integrations {
@@ -448,6 +624,9 @@ public class AppProperties implements DataDirProvider, SttPolicy, RagPolicy, Fee
         private String baseUrl = "https://api.openai.com";
         private boolean responsesEnabled = true;
         private int conversationRebaseTurns = 6;
+        private long conversationRebaseInputTokens = 12000L;
+        private long conversationRebaseLatencyMs = 8000L;
+        private int conversationRebaseCarryTurns = 2;
         private Logging logging = new Logging();
 
         public String getBaseUrl() {
@@ -474,6 +653,30 @@ public class AppProperties implements DataDirProvider, SttPolicy, RagPolicy, Fee
             this.conversationRebaseTurns = conversationRebaseTurns;
         }
 
+        public long getConversationRebaseInputTokens() {
+            return conversationRebaseInputTokens;
+        }
+
+        public void setConversationRebaseInputTokens(long conversationRebaseInputTokens) {
+            this.conversationRebaseInputTokens = conversationRebaseInputTokens;
+        }
+
+        public long getConversationRebaseLatencyMs() {
+            return conversationRebaseLatencyMs;
+        }
+
+        public void setConversationRebaseLatencyMs(long conversationRebaseLatencyMs) {
+            this.conversationRebaseLatencyMs = conversationRebaseLatencyMs;
+        }
+
+        public int getConversationRebaseCarryTurns() {
+            return conversationRebaseCarryTurns;
+        }
+
+        public void setConversationRebaseCarryTurns(int conversationRebaseCarryTurns) {
+            this.conversationRebaseCarryTurns = conversationRebaseCarryTurns;
+        }
+
         public Logging getLogging() {
             return logging;
         }
@@ -1,5 +1,6 @@
 package me.go_gradually.omypic.infrastructure.shared.metrics;
 
+import io.micrometer.core.instrument.DistributionSummary;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
 import me.go_gradually.omypic.application.shared.port.MetricsPort;
@@ -40,6 +41,25 @@ public class MicrometerMetricsAdapter implements MetricsPort {
         record("voice.turn.latency", duration);
     }
 
+    @Override
+    public void recordVoiceTurnSttLatency(Duration duration) {
+        record("voice.turn.stt.latency", duration);
+    }
+
+    @Override
+    public void recordSttUploadBytes(long bytes) {
+        DistributionSummary.builder("stt.upload.bytes")
+                .baseUnit("bytes")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry)
+                .record(bytes);
+    }
+
+    @Override
+    public void recordVoiceEventDeliveryLag(Duration duration) {
+        record("voice.event.delivery.lag", duration);
+    }
+
     @Override
     public void recordRulebookUploadLatency(Duration duration) {
         record("rulebook.upload.latency", duration);
@@ -90,6 +110,21 @@ public class MicrometerMetricsAdapter implements MetricsPort {
         meterRegistry.counter("feedback.recommendation.minimal_fallback").increment();
     }
 
+    @Override
+    public void incrementConversationRebase(String reason) {
+        meterRegistry.counter("feedback.conversation.rebase", "reason", reason == null ? "unknown" : reason).increment();
+    }
+
+    @Override
+    public void incrementVoiceEventDropped(String policy) {
+        meterRegistry.counter("voice.event.dropped", "policy", policy == null ? "unknown" : policy).increment();
+    }
+
+    @Override
+    public void incrementTurnPromptCache(String outcome) {
+        meterRegistry.counter("feedback.prefetch.cache", "outcome", outcome == null ? "unknown" : outcome).increment();
+    }
+
     private void record(String name, Duration duration) {
         Timer.builder(name)
                 .publishPercentiles(0.5, 0.95, 0.99)
@@ -0,0 +1,31 @@
+package me.go_gradually.omypic.infrastructure.shared.persistence.mongo;
+
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndReplaceOptions;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * id가 정해진 문서 여러 개를 bulkWrite 한 번으로 저장한다.
+ * MongoRepository.saveAll은 id가 있는 문서를 새 문서로 보지 않아 하나씩 save하므로 import처럼 많이 쓸 때는 이쪽을 쓴다.
+ */
+public final class MongoBulkWrites {
+    private MongoBulkWrites() {
+    }
+
+    // 문서마다 _id로 찾아 통째로 바꾸고, 없으면 넣는다. 순서는 상관없어 UNORDERED로 보낸다.
+    public static <T> void replaceAllById(MongoOperations mongoOperations, Class<T> type, List<T> documents, Function<T, String> idOf) {
+        if (documents.isEmpty()) {
+            return;
+        }
+        BulkOperations bulk = mongoOperations.bulkOps(BulkOperations.BulkMode.UNORDERED, type);
+        for (T document : documents) {
+            bulk.replaceOne(Query.query(Criteria.where("_id").is(idOf.apply(document))), document, FindAndReplaceOptions.options().upsert());
+        }
+        bulk.execute();
+    }
+}
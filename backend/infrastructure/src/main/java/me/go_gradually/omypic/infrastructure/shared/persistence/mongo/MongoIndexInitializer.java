@@ -0,0 +1,66 @@
+package me.go_gradually.omypic.infrastructure.shared.persistence.mongo;
+
+import me.go_gradually.omypic.infrastructure.question.persistence.mongo.QuestionGroupDocument;
+import me.go_gradually.omypic.infrastructure.rulebook.persistence.mongo.RulebookDocument;
+import me.go_gradually.omypic.infrastructure.shared.config.AppProperties;
+import me.go_gradually.omypic.infrastructure.voice.persistence.mongo.VoiceSessionStateDocument;
+import me.go_gradually.omypic.infrastructure.wrongnote.persistence.mongo.WrongNoteDocument;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * 어댑터 조회가 기대는 인덱스를 기동 시 만든다. 이미 같은 정의가 있으면 Mongo가 그대로 둔다.
+ * 하나가 실패해도(예: 예전 데이터에 같은 패턴이 두 번 있어 unique를 못 거는 경우) 나머지는 계속 만들고 경고만 남긴다.
+ */
+@Component
+public class MongoIndexInitializer {
+    private static final Logger log = Logger.getLogger(MongoIndexInitializer.class.getName());
+
+    private final MongoOperations mongoOperations;
+    private final AppProperties properties;
+
+    public MongoIndexInitializer(MongoOperations mongoOperations, AppProperties properties) {
+        this.mongoOperations = mongoOperations;
+        this.properties = properties;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void ensureIndexes() {
+        // 세션 태그 선택: tags $in (multikey)
+        ensure(QuestionGroupDocument.class, new Index().on("tags", Sort.Direction.ASC).named("tags"));
+        // 켜진 룰북 목록: enabled 일치, 범위·질문 그룹 순으로 좁힌다.
+        ensure(RulebookDocument.class, new Index()
+                .on("enabled", Sort.Direction.ASC)
+                .on("scope", Sort.Direction.ASC)
+                .on("questionGroup", Sort.Direction.ASC)
+                .named("enabled_scope_questionGroup"));
+        // 오답노트는 패턴 하나에 문서 하나(findByPattern).
+        ensure(WrongNoteDocument.class, new Index().on("pattern", Sort.Direction.ASC).unique().named("pattern_unique"));
+        // 음성 세션 상태: 소유 프로세스가 사라져 더 갱신되지 않는 문서는 updatedAt 기준으로 만료시킨다.
+        ensure(VoiceSessionStateDocument.class, voiceStateTtlIndex());
+    }
+
+    private Index voiceStateTtlIndex() {
+        return new Index()
+                .on("updatedAt", Sort.Direction.ASC)
+                .expire(Duration.ofMillis(properties.getVoice().getStateTtlMs()))
+                .named("updatedAt_ttl");
+    }
+
+    private void ensure(Class<?> documentType, Index index) {
+        try {
+            mongoOperations.indexOps(documentType).ensureIndex(index);
+        } catch (RuntimeException e) {
+            log.log(Level.WARNING, "Failed to create Mongo index " + index.getIndexOptions().get("name")
+                    + " on " + documentType.getSimpleName(), e);
+        }
+    }
+}
@@ -10,6 +10,7 @@ import java.util.Map;
 
 @Component
 public class OpenAiSttGateway implements SttGateway {
+    private static final String DEFAULT_FILE_NAME = "audio.wav";
     private final String baseUrl;
 
     public OpenAiSttGateway(AppProperties properties) {
@@ -17,14 +18,15 @@ public class OpenAiSttGateway implements SttGateway {
     }
 
     @Override
-    public String transcribe(byte[] fileBytes, String model, String apiKey, boolean translate, VadSettings vadSettings) throws Exception {
+    public String transcribe(byte[] fileBytes, String fileName, String model, String apiKey, boolean translate, VadSettings vadSettings) throws Exception {
         OpenAiAudioApi audioApi = audioApi(apiKey);
         byte[] safeBytes = fileBytes == null ? new byte[0] : fileBytes;
+        String uploadName = fileName == null || fileName.isBlank() ? DEFAULT_FILE_NAME : fileName;
         Map<?, ?> response;
         if (translate) {
             OpenAiAudioApi.TranslationRequest request = new OpenAiAudioApi.TranslationRequest(
                     safeBytes,
-                    "audio.wav",
+                    uploadName,
                     model,
                     null,
                     OpenAiAudioApi.TranscriptResponseFormat.JSON,
@@ -34,7 +36,7 @@ public class OpenAiSttGateway implements SttGateway {
         } else {
             OpenAiAudioApi.TranscriptionRequest request = new OpenAiAudioApi.TranscriptionRequest(
                     safeBytes,
-                    "audio.wav",
+                    uploadName,
                     model,
                     null,
                     null,
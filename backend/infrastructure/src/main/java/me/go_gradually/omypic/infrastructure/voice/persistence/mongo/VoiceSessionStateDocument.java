@@ -0,0 +1,190 @@
+package me.go_gradually.omypic.infrastructure.voice.persistence.mongo;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+@Document(collection = "voice_session_states")
+public class VoiceSessionStateDocument {
+    @Id
+    private String id;
+    private String sessionId;
+    private boolean stopped;
+    private String stopReason;
+    private long stoppedAtEpochMs;
+    private long currentTurnId;
+    private QuestionDocument currentQuestion;
+    private Long lastAcceptedChunkSequence;
+    private long latestEventId;
+    private List<EventDocument> events = new ArrayList<>();
+    private Instant updatedAt;
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public String getSessionId() {
+        return sessionId;
+    }
+
+    public void setSessionId(String sessionId) {
+        this.sessionId = sessionId;
+    }
+
+    public boolean isStopped() {
+        return stopped;
+    }
+
+    public void setStopped(boolean stopped) {
+        this.stopped = stopped;
+    }
+
+    public String getStopReason() {
+        return stopReason;
+    }
+
+    public void setStopReason(String stopReason) {
+        this.stopReason = stopReason;
+    }
+
+    public long getStoppedAtEpochMs() {
+        return stoppedAtEpochMs;
+    }
+
+    public void setStoppedAtEpochMs(long stoppedAtEpochMs) {
+        this.stoppedAtEpochMs = stoppedAtEpochMs;
+    }
+
+    public long getCurrentTurnId() {
+        return currentTurnId;
+    }
+
+    public void setCurrentTurnId(long currentTurnId) {
+        this.currentTurnId = currentTurnId;
+    }
+
+    public QuestionDocument getCurrentQuestion() {
+        return currentQuestion;
+    }
+
+    public void setCurrentQuestion(QuestionDocument currentQuestion) {
+        this.currentQuestion = currentQuestion;
+    }
+
+    public Long getLastAcceptedChunkSequence() {
+        return lastAcceptedChunkSequence;
+    }
+
+    public void setLastAcceptedChunkSequence(Long lastAcceptedChunkSequence) {
+        this.lastAcceptedChunkSequence = lastAcceptedChunkSequence;
+    }
+
+    public long getLatestEventId() {
+        return latestEventId;
+    }
+
+    public void setLatestEventId(long latestEventId) {
+        this.latestEventId = latestEventId;
+    }
+
+    public List<EventDocument> getEvents() {
+        return events;
+    }
+
+    public void setEvents(List<EventDocument> events) {
+        this.events = events;
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(Instant updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+    public static class QuestionDocument {
+        private String questionId;
+        private String text;
+        private String group;
+        private String groupId;
+        private String questionType;
+
+        public String getQuestionId() {
+            return questionId;
+        }
+
+        public void setQuestionId(String questionId) {
+            this.questionId = questionId;
+        }
+
+        public String getText() {
+            return text;
+        }
+
+        public void setText(String text) {
+            this.text = text;
+        }
+
+        public String getGroup() {
+            return group;
+        }
+
+        public void setGroup(String group) {
+            this.group = group;
+        }
+
+        public String getGroupId() {
+            return groupId;
+        }
+
+        public void setGroupId(String groupId) {
+            this.groupId = groupId;
+        }
+
+        public String getQuestionType() {
+            return questionType;
+        }
+
+        public void setQuestionType(String questionType) {
+            this.questionType = questionType;
+        }
+    }
+
+    public static class EventDocument {
+        private long eventId;
+        private String event;
+        private String json;
+
+        public long getEventId() {
+            return eventId;
+        }
+
+        public void setEventId(long eventId) {
+            this.eventId = eventId;
+        }
+
+        public String getEvent() {
+            return event;
+        }
+
+        public void setEvent(String event) {
+            this.event = event;
+        }
+
+        public String getJson() {
+            return json;
+        }
+
+        public void setJson(String json) {
+            this.json = json;
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package me.go_gradually.omypic.infrastructure.voice.persistence.mongo;
+
+import me.go_gradually.omypic.application.voice.model.VoiceSessionState;
+import me.go_gradually.omypic.application.voice.port.VoiceSessionStateStore;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 여러 인스턴스가 같은 음성 세션 상태를 보도록 Mongo에 둔다.
+ * 메타데이터는 필드 단위 $set으로, 이벤트는 $push + $slice로 붙여 문서를 읽지 않고 한 번의 업데이트로 끝낸다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "omypic.voice", name = "state-store", havingValue = "mongo")
+public class VoiceSessionStateMongoAdapter implements VoiceSessionStateStore {
+    private final MongoOperations mongoOperations;
+
+    public VoiceSessionStateMongoAdapter(MongoOperations mongoOperations) {
+        this.mongoOperations = mongoOperations;
+    }
+
+    @Override
+    public void save(VoiceSessionState state) {
+        mongoOperations.upsert(byId(state.voiceSessionId()), metadataUpdate(state), VoiceSessionStateDocument.class);
+    }
+
+    @Override
+    public void appendEvent(String voiceSessionId, VoiceSessionState.Event event, int maxEvents) {
+        appendEvents(voiceSessionId, List.of(event), maxEvents);
+    }
+
+    // 모인 이벤트를 $each 한 번으로 붙인다. maxEvents는 호출자가 replay 로그의 바이트 예산으로 줄여 넘기므로 문서 크기도 그 안에 머문다.
+    @Override
+    public void appendEvents(String voiceSessionId, List<VoiceSessionState.Event> events, int maxEvents) {
+        if (events.isEmpty()) {
+            return;
+        }
+        Update update = new Update()
+                .max("latestEventId", events.get(events.size() - 1).eventId())
+                .set("updatedAt", Instant.now());
+        update.push("events").slice(-Math.max(1, maxEvents)).each(events.stream().map(VoiceSessionStateMongoAdapter::toDocument).toArray());
+        mongoOperations.updateFirst(byId(voiceSessionId), update, VoiceSessionStateDocument.class);
+    }
+
+    @Override
+    public Optional<VoiceSessionState> find(String voiceSessionId) {
+        return Optional.ofNullable(mongoOperations.findById(voiceSessionId, VoiceSessionStateDocument.class))
+                .map(VoiceSessionStateMongoAdapter::toState);
+    }
+
+    @Override
+    public void delete(String voiceSessionId) {
+        mongoOperations.remove(byId(voiceSessionId), VoiceSessionStateDocument.class);
+    }
+
+    private static Query byId(String voiceSessionId) {
+        return Query.query(Criteria.where("_id").is(voiceSessionId));
+    }
+
+    // latestEventId는 이벤트 append와 순서가 엇갈려도 뒤로 가지 않도록 $max로 올린다.
+    private static Update metadataUpdate(VoiceSessionState state) {
+        return new Update()
+                .set("sessionId", state.sessionId())
+                .set("stopped", state.stopped())
+                .set("stopReason", state.stopReason())
+                .set("stoppedAtEpochMs", state.stoppedAtEpochMs())
+                .set("currentTurnId", state.currentTurnId())
+                .set("currentQuestion", toDocument(state.currentQuestion()))
+                .set("lastAcceptedChunkSequence", state.lastAcceptedChunkSequence())
+                .max("latestEventId", state.latestEventId())
+                .set("updatedAt", Instant.now());
+    }
+
+    private static VoiceSessionStateDocument.QuestionDocument toDocument(VoiceSessionState.Question question) {
+        if (question == null) {
+            return null;
+        }
+        VoiceSessionStateDocument.QuestionDocument doc = new VoiceSessionStateDocument.QuestionDocument();
+        doc.setQuestionId(question.id());
+        doc.setText(question.text());
+        doc.setGroup(question.group());
+        doc.setGroupId(question.groupId());
+        doc.setQuestionType(question.questionType());
+        return doc;
+    }
+
+    private static VoiceSessionStateDocument.EventDocument toDocument(VoiceSessionState.Event event) {
+        VoiceSessionStateDocument.EventDocument doc = new VoiceSessionStateDocument.EventDocument();
+        doc.setEventId(event.eventId());
+        doc.setEvent(event.event());
+        doc.setJson(event.json());
+        return doc;
+    }
+
+    private static VoiceSessionState toState(VoiceSessionStateDocument doc) {
+        return new VoiceSessionState(doc.getId(), doc.getSessionId(), doc.isStopped(), doc.getStopReason(),
+                doc.getStoppedAtEpochMs(), doc.getCurrentTurnId(), toQuestion(doc.getCurrentQuestion()),
+                doc.getLastAcceptedChunkSequence(), doc.getLatestEventId(), toEvents(doc.getEvents()));
+    }
+
+    private static VoiceSessionState.Question toQuestion(VoiceSessionStateDocument.QuestionDocument doc) {
+        if (doc == null) {
+            return null;
+        }
+        return new VoiceSessionState.Question(doc.getQuestionId(), doc.getText(), doc.getGroup(), doc.getGroupId(), doc.getQuestionType());
+    }
+
+    private static List<VoiceSessionState.Event> toEvents(List<VoiceSessionStateDocument.EventDocument> docs) {
+        if (docs == null) {
+            return List.of();
+        }
+        return docs.stream()
+                .map(doc -> new VoiceSessionState.Event(doc.getEventId(), doc.getEvent(), doc.getJson()))
+                .toList();
+    }
+}
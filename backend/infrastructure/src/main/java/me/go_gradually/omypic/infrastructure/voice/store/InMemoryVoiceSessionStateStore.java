@@ -0,0 +1,68 @@
+package me.go_gradually.omypic.infrastructure.voice.store;
+
+import me.go_gradually.omypic.application.voice.model.VoiceSessionState;
+import me.go_gradually.omypic.application.voice.port.VoiceSessionStateStore;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 단일 인스턴스용 기본 저장소. 프로세스가 내려가면 함께 사라진다.
+ * 이벤트는 같은 프로세스의 replay 로그가 이미 바이트 예산 안에서 들고 있으므로 한 벌 더 보관하지 않고 latestEventId만 올린다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "omypic.voice", name = "state-store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryVoiceSessionStateStore implements VoiceSessionStateStore {
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    @Override
+    public void save(VoiceSessionState state) {
+        entries.computeIfAbsent(state.voiceSessionId(), id -> new Entry()).update(state);
+    }
+
+    @Override
+    public void appendEvent(String voiceSessionId, VoiceSessionState.Event event, int maxEvents) {
+        Entry entry = entries.get(voiceSessionId);
+        if (entry != null) {
+            entry.append(event);
+        }
+    }
+
+    @Override
+    public boolean sharesEventsAcrossInstances() {
+        return false;
+    }
+
+    @Override
+    public Optional<VoiceSessionState> find(String voiceSessionId) {
+        Entry entry = entries.get(voiceSessionId);
+        return entry == null ? Optional.empty() : entry.snapshot();
+    }
+
+    @Override
+    public void delete(String voiceSessionId) {
+        entries.remove(voiceSessionId);
+    }
+
+    private static final class Entry {
+        private VoiceSessionState state;
+        private long latestEventId;
+
+        private synchronized void update(VoiceSessionState state) {
+            this.state = state;
+            this.latestEventId = Math.max(latestEventId, state.latestEventId());
+        }
+
+        private synchronized void append(VoiceSessionState.Event event) {
+            latestEventId = Math.max(latestEventId, event.eventId());
+        }
+
+        private synchronized Optional<VoiceSessionState> snapshot() {
+            return state == null ? Optional.empty() : Optional.of(state.withEvents(List.of(), latestEventId));
+        }
+    }
+}
@@ -3,8 +3,11 @@ package me.go_gradually.omypic.infrastructure.wrongnote.persistence.mongo;
 import me.go_gradually.omypic.application.wrongnote.port.WrongNotePort;
 import me.go_gradually.omypic.domain.wrongnote.WrongNote;
 import me.go_gradually.omypic.domain.wrongnote.WrongNoteId;
+import me.go_gradually.omypic.infrastructure.shared.persistence.mongo.MongoBulkWrites;
+import org.springframework.data.mongodb.core.MongoOperations;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -12,9 +15,11 @@ import java.util.stream.Collectors;
 @Component
 public class WrongNoteMongoAdapter implements WrongNotePort {
     private final WrongNoteMongoRepository repository;
+    private final MongoOperations mongoOperations;
 
-    public WrongNoteMongoAdapter(WrongNoteMongoRepository repository) {
+    public WrongNoteMongoAdapter(WrongNoteMongoRepository repository, MongoOperations mongoOperations) {
         this.repository = repository;
+        this.mongoOperations = mongoOperations;
     }
 
     @Override
@@ -45,6 +50,21 @@ public class WrongNoteMongoAdapter implements WrongNotePort {
         repository.deleteAll();
     }
 
+    @Override
+    public List<WrongNote> saveAll(Collection<WrongNote> notes) {
+        List<WrongNoteDocument> documents = notes.stream().map(this::toDocument).toList();
+        MongoBulkWrites.replaceAllById(mongoOperations, WrongNoteDocument.class, documents, WrongNoteDocument::getId);
+        return documents.stream().map(this::toDomain).toList();
+    }
+
+    @Override
+    public void deleteAllById(Collection<WrongNoteId> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        repository.deleteAllById(ids.stream().map(WrongNoteId::value).toList());
+    }
+
     private WrongNote toDomain(WrongNoteDocument doc) {
         return WrongNote.rehydrate(
                 WrongNoteId.of(doc.getId()),
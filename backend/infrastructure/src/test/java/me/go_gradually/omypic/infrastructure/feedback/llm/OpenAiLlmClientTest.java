@@ -5,6 +5,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import me.go_gradually.omypic.domain.session.LlmConversationState;
 import me.go_gradually.omypic.application.feedback.port.LlmGenerateResult;
 import me.go_gradually.omypic.domain.session.LlmPromptContext;
+import me.go_gradually.omypic.domain.feedback.Recommendations;
 import me.go_gradually.omypic.infrastructure.shared.config.AppProperties;
 import okhttp3.mockwebserver.MockResponse;
 import okhttp3.mockwebserver.MockWebServer;
@@ -87,6 +88,50 @@ class OpenAiLlmClientTest {
         assertEquals("Bearer api-key", request.getHeader("Authorization"));
     }
 
+    @Test
+    void generate_reportsInputTokensFromResponsesUsage() throws Exception {
+        server.enqueue(new MockResponse()
+                .setHeader("Content-Type", "application/json")
+                .setBody("""
+                        {
+                          "id":"resp-1",
+                          "conversation":"conv-1",
+                          "output_text":%s,
+                          "usage":{"input_tokens":5120,"output_tokens":300}
+                        }
+                        """.formatted(jsonString(minimalStructuredResponse()))));
+
+        OpenAiLlmClient client = client();
+        LlmGenerateResult result = client.generate(
+                "api-key",
+                "gpt-4o-mini",
+                "sys",
+                "user",
+                LlmConversationState.empty(),
+                LlmPromptContext.empty()
+        );
+
+        assertEquals(5120L, result.inputTokens());
+    }
+
+    @Test
+    void generate_acceptsCodeFencedStructuredOutput() throws Exception {
+        enqueueResponsesResponse("```json\n" + minimalStructuredResponse() + "```", "resp-1", "conv-1");
+
+        OpenAiLlmClient client = client();
+        LlmGenerateResult result = client.generate(
+                "api-key",
+                "gpt-4o-mini",
+                "sys",
+                "user",
+                LlmConversationState.empty(),
+                LlmPromptContext.empty()
+        );
+
+        assertEquals("요약", result.feedback().getSummary());
+        assertTrue(result.schemaFallbackReasons().isEmpty());
+    }
+
     @Test
     void generate_reusesConversationWhenProvided() throws Exception {
         enqueueResponsesResponse(minimalStructuredResponse(), "resp-2", "conv-1");
@@ -189,6 +234,30 @@ class OpenAiLlmClientTest {
         assertTrue(mergedPrompt.contains("# Current input"));
     }
 
+    @Test
+    void generateRecommendations_usesStatelessRecommendationOnlySchema() throws Exception {
+        enqueueResponsesResponse("""
+                {
+                  "filler":{"term":"Actually","usage":"답변 시작 완충"},
+                  "adjective":{"term":"cozy","usage":"장소 묘사"},
+                  "adverb":{"term":"honestly","usage":"개인 의견 강조"}
+                }
+                """, "resp-rec", "conv-rec");
+
+        OpenAiLlmClient client = client();
+        Recommendations recommendations = client.generateRecommendations("api-key", "gpt-4o-mini", "sys", "user");
+
+        assertEquals("Actually", recommendations.filler().term());
+        assertEquals("cozy", recommendations.adjective().term());
+        assertEquals("honestly", recommendations.adverb().term());
+
+        JsonNode payload = objectMapper.readTree(server.takeRequest().getBody().readUtf8());
+        String prompt = payload.path("input").path(0).path("content").path(0).path("text").asText();
+        assertFalse(payload.has("conversation"));
+        assertFalse(payload.has("previous_response_id"));
+        assertFalse(prompt.contains("exampleAnswer"));
+    }
+
     private OpenAiLlmClient client() {
         AppProperties properties = new AppProperties();
         properties.getIntegrations().getOpenai().setBaseUrl(server.url("/").toString());
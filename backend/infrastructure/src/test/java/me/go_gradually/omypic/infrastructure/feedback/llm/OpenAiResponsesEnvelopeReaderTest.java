@@ -0,0 +1,52 @@
+package me.go_gradually.omypic.infrastructure.feedback.llm;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class OpenAiResponsesEnvelopeReaderTest {
+
+    private final OpenAiResponsesEnvelopeReader reader = new OpenAiResponsesEnvelopeReader(new JsonFactory());
+
+    @Test
+    void read_extractsFieldsAndSkipsUnrelatedStructures() throws Exception {
+        OpenAiResponsesEnvelopeReader.Envelope envelope = reader.read("""
+                {
+                  "id":"resp-1",
+                  "metadata":{"nested":[1,{"id":"ignored"}]},
+                  "conversation":{"id":"conv-1","object":"conversation"},
+                  "output":[
+                    {"type":"reasoning","summary":[]},
+                    {"type":"message","content":[
+                      {"type":"output_text","text":" first ","annotations":[]},
+                      {"type":"output_text","text":"second"}
+                    ]}
+                  ],
+                  "usage":{"input_tokens":321,"input_tokens_details":{"cached_tokens":0},"output_tokens":12}
+                }
+                """);
+
+        assertEquals("resp-1", envelope.responseId());
+        assertEquals("conv-1", envelope.conversationId());
+        assertEquals("first\nsecond", envelope.outputText());
+        assertEquals(321L, envelope.inputTokens());
+    }
+
+    @Test
+    void read_prefersTopLevelOutputText() throws Exception {
+        OpenAiResponsesEnvelopeReader.Envelope envelope = reader.read("""
+                {"output_text":"direct","output":[{"content":[{"text":"fragment"}]}],"conversation_id":"conv-2"}
+                """);
+
+        assertEquals("direct", envelope.outputText());
+        assertEquals("conv-2", envelope.conversationId());
+    }
+
+    @Test
+    void read_joinsOutputTextArrayAndToleratesEmptyBody() throws Exception {
+        assertEquals("a\nb", reader.read("{\"output_text\":[\"a\",\" \",\"b\"]}").outputText());
+        assertEquals("", reader.read(null).outputText());
+        assertEquals(0L, reader.read("[]").inputTokens());
+    }
+}
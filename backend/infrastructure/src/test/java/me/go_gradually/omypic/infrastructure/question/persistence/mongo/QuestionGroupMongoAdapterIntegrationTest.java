@@ -0,0 +1,100 @@
+package me.go_gradually.omypic.infrastructure.question.persistence.mongo;
+
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import me.go_gradually.omypic.domain.question.QuestionGroupId;
+import me.go_gradually.omypic.infrastructure.shared.config.AppProperties;
+import me.go_gradually.omypic.infrastructure.shared.persistence.mongo.MongoIndexInitializer;
+import org.bson.Document;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.repository.support.MongoRepositoryFactory;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// 실제 Mongo에서 tags $in + questions.0 $exists 조건과 tags 인덱스 사용을 확인한다. Docker가 없으면 건너뛴다.
+@Testcontainers(disabledWithoutDocker = true)
+class QuestionGroupMongoAdapterIntegrationTest {
+
+    @Container
+    private static final MongoDBContainer MONGO = new MongoDBContainer("mongo:7.0");
+
+    private MongoClient client;
+    private MongoTemplate mongoTemplate;
+    private QuestionGroupMongoAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        client = MongoClients.create(MONGO.getConnectionString());
+        mongoTemplate = new MongoTemplate(client, "omypic-test");
+        mongoTemplate.dropCollection(QuestionGroupDocument.class);
+        QuestionGroupMongoRepository repository = new MongoRepositoryFactory(mongoTemplate).getRepository(QuestionGroupMongoRepository.class);
+        adapter = new QuestionGroupMongoAdapter(repository, mongoTemplate);
+    }
+
+    @AfterEach
+    void tearDown() {
+        client.close();
+    }
+
+    @Test
+    void findIdsWithQuestionsByAnyTag_matchesAnyTagAndSkipsGroupsWithoutQuestions() {
+        insert("g1", List.of("travel"), true);
+        insert("g2", List.of("travel", "habit"), false);
+        insert("g3", List.of("habit"), true);
+        insert("g4", List.of("food"), true);
+
+        List<QuestionGroupId> ids = adapter.findIdsWithQuestionsByAnyTag(Set.of(" Travel ", "habit"));
+
+        assertEquals(Set.of(QuestionGroupId.of("g1"), QuestionGroupId.of("g3")), Set.copyOf(ids));
+    }
+
+    @Test
+    void normalizeStoredTags_makesLegacyTagsSelectable() {
+        insert("g1", List.of(" Travel ", "HABIT"), true);
+        assertTrue(adapter.findIdsWithQuestionsByAnyTag(Set.of("travel")).isEmpty());
+
+        adapter.normalizeStoredTags();
+
+        assertEquals(List.of(QuestionGroupId.of("g1")), adapter.findIdsWithQuestionsByAnyTag(Set.of("travel")));
+        assertEquals(List.of("habit", "travel"), mongoTemplate.findById("g1", QuestionGroupDocument.class).getTags());
+    }
+
+    @Test
+    void findIdsWithQuestionsByAnyTag_usesTagsIndex() {
+        new MongoIndexInitializer(mongoTemplate, new AppProperties()).ensureIndexes();
+        insert("g1", List.of("travel"), true);
+
+        Document filter = Document.parse("{ 'tags' : { $in : ['travel'] }, 'questions.0' : { $exists : true } }");
+        Document explain = mongoTemplate.getDb().runCommand(new Document("explain", new Document("find", "question_groups").append("filter", filter))
+                .append("verbosity", "queryPlanner"));
+
+        String plan = explain.get("queryPlanner", Document.class).toJson();
+        assertTrue(plan.contains("\"IXSCAN\"") && plan.contains("\"indexName\": \"tags\""), plan);
+    }
+
+    private void insert(String id, List<String> tags, boolean withQuestion) {
+        QuestionGroupDocument doc = new QuestionGroupDocument();
+        doc.setId(id);
+        doc.setName(id);
+        doc.setTags(tags);
+        if (withQuestion) {
+            QuestionItemDocument item = new QuestionItemDocument();
+            item.setId(id + "-q1");
+            item.setText("Question");
+            doc.setQuestions(List.of(item));
+        } else {
+            doc.setQuestions(List.of());
+        }
+        mongoTemplate.insert(doc);
+    }
+}
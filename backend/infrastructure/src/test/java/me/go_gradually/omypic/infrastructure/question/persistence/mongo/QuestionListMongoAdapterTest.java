@@ -4,21 +4,32 @@ import me.go_gradually.omypic.domain.question.QuestionGroupAggregate;
 import me.go_gradually.omypic.domain.question.QuestionGroupId;
 import me.go_gradually.omypic.domain.question.QuestionItem;
 import me.go_gradually.omypic.domain.question.QuestionItemId;
+import org.bson.Document;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndReplaceOptions;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 
 import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -26,12 +37,16 @@ class QuestionGroupMongoAdapterTest {
 
     @Mock
     private QuestionGroupMongoRepository repository;
+    @Mock
+    private MongoOperations mongoOperations;
+    @Mock
+    private BulkOperations bulkOperations;
 
     private QuestionGroupMongoAdapter adapter;
 
     @BeforeEach
     void setUp() {
-        adapter = new QuestionGroupMongoAdapter(repository);
+        adapter = new QuestionGroupMongoAdapter(repository, mongoOperations);
     }
 
     @Test
@@ -81,6 +96,26 @@ class QuestionGroupMongoAdapterTest {
         assertEquals("habit", saved.getQuestions().get(0).getQuestionType());
     }
 
+    @Test
+    void saveAll_replacesDocumentsInOneUnorderedBulkWrite() {
+        when(mongoOperations.bulkOps(BulkOperations.BulkMode.UNORDERED, QuestionGroupDocument.class)).thenReturn(bulkOperations);
+        QuestionGroupAggregate group = QuestionGroupAggregate.rehydrate(
+                QuestionGroupId.of("g1"),
+                "Travel",
+                List.of("travel"),
+                List.of(QuestionItem.rehydrate(QuestionItemId.of("q1"), "Question", "habit")),
+                Instant.parse("2026-02-01T00:00:00Z"),
+                Instant.parse("2026-02-01T00:00:00Z")
+        );
+
+        List<QuestionGroupAggregate> saved = adapter.saveAll(List.of(group));
+
+        verify(bulkOperations).replaceOne(any(Query.class), any(QuestionGroupDocument.class), any(FindAndReplaceOptions.class));
+        verify(bulkOperations).execute();
+        verify(repository, never()).save(any(QuestionGroupDocument.class));
+        assertEquals("g1", saved.get(0).getId().value());
+    }
+
     @Test
     void deleteById_delegatesToRepository() {
         adapter.deleteById(QuestionGroupId.of("g2"));
@@ -88,6 +123,73 @@ class QuestionGroupMongoAdapterTest {
         verify(repository).deleteById("g2");
     }
 
+    @Test
+    void findAllTags_readsTagProjectionOnly() {
+        QuestionGroupDocument projected = new QuestionGroupDocument();
+        projected.setId("g1");
+        projected.setTags(List.of("travel", "habit"));
+        when(repository.findAllTags()).thenReturn(List.of(projected));
+
+        List<Set<String>> tags = adapter.findAllTags();
+
+        assertEquals(List.of(Set.of("travel", "habit")), tags);
+        verify(repository, never()).findAll();
+    }
+
+    @Test
+    void findAllTags_normalizesStoredTagsLikeAggregate() {
+        QuestionGroupDocument projected = new QuestionGroupDocument();
+        projected.setId("g1");
+        projected.setTags(List.of(" Travel ", "HABIT", " "));
+        QuestionGroupDocument untagged = new QuestionGroupDocument();
+        untagged.setId("g2");
+        when(repository.findAllTags()).thenReturn(List.of(projected, untagged));
+
+        assertEquals(List.of(Set.of("travel", "habit"), Set.of()), adapter.findAllTags());
+    }
+
+    @Test
+    void findIdsWithQuestionsByAnyTag_mapsProjectedIdsAndSkipsEmptyTags() {
+        QuestionGroupDocument projected = new QuestionGroupDocument();
+        projected.setId("g1");
+        when(repository.findIdsWithQuestionsByTagsIn(Set.of("travel"))).thenReturn(List.of(projected));
+
+        assertEquals(List.of(QuestionGroupId.of("g1")), adapter.findIdsWithQuestionsByAnyTag(Set.of("travel")));
+        assertTrue(adapter.findIdsWithQuestionsByAnyTag(Set.of()).isEmpty());
+        verify(repository, times(1)).findIdsWithQuestionsByTagsIn(anyCollection());
+    }
+
+    @Test
+    void normalizeStoredTags_rewritesOnlyDocumentsWithUnnormalizedTags() {
+        when(mongoOperations.bulkOps(BulkOperations.BulkMode.UNORDERED, QuestionGroupDocument.class)).thenReturn(bulkOperations);
+        when(repository.findAllTags()).thenReturn(List.of(tagged("g1", "habit", "travel"), tagged("g2", " Travel ", "HABIT", " ")));
+
+        adapter.normalizeStoredTags();
+
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        ArgumentCaptor<Update> update = ArgumentCaptor.forClass(Update.class);
+        verify(bulkOperations).updateOne(query.capture(), update.capture());
+        verify(bulkOperations).execute();
+        assertEquals("g2", query.getValue().getQueryObject().get("_id"));
+        assertEquals(List.of("habit", "travel"), update.getValue().getUpdateObject().get("$set", Document.class).get("tags"));
+    }
+
+    @Test
+    void normalizeStoredTags_skipsWriteWhenAllTagsAreNormalized() {
+        when(repository.findAllTags()).thenReturn(List.of(tagged("g1", "habit", "travel")));
+
+        adapter.normalizeStoredTags();
+
+        verifyNoInteractions(mongoOperations);
+    }
+
+    private QuestionGroupDocument tagged(String id, String... tags) {
+        QuestionGroupDocument doc = new QuestionGroupDocument();
+        doc.setId(id);
+        doc.setTags(List.of(tags));
+        return doc;
+    }
+
     private QuestionGroupDocument documentWithQuestions() {
         QuestionItemDocument item = new QuestionItemDocument();
         item.setId("q1");
@@ -10,6 +10,10 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndReplaceOptions;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.query.Query;
 
 import java.time.Instant;
 import java.util.List;
@@ -18,6 +22,8 @@ import java.util.Optional;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -26,12 +32,16 @@ class RulebookMongoAdapterTest {
 
     @Mock
     private RulebookMongoRepository repository;
+    @Mock
+    private MongoOperations mongoOperations;
+    @Mock
+    private BulkOperations bulkOperations;
 
     private RulebookMongoAdapter adapter;
 
     @BeforeEach
     void setUp() {
-        adapter = new RulebookMongoAdapter(repository);
+        adapter = new RulebookMongoAdapter(repository, mongoOperations);
     }
 
     @Test
@@ -93,6 +103,40 @@ class RulebookMongoAdapterTest {
         verify(repository).deleteById("r2");
     }
 
+    @Test
+    void findAllEnabled_queriesOnlyEnabledDocuments() {
+        when(repository.findByEnabledTrue()).thenReturn(List.of(document()));
+
+        List<Rulebook> result = adapter.findAllEnabled();
+
+        assertEquals(1, result.size());
+        assertEquals("r1", result.get(0).getId().value());
+        verify(repository, never()).findAll();
+    }
+
+    @Test
+    void saveAll_replacesDocumentsInOneUnorderedBulkWrite() {
+        when(mongoOperations.bulkOps(BulkOperations.BulkMode.UNORDERED, RulebookDocument.class)).thenReturn(bulkOperations);
+        Rulebook first = Rulebook.rehydrate(RulebookId.of("r1"), "a.md", "/tmp/a.md", RulebookScope.MAIN, null, true,
+                Instant.parse("2026-02-01T00:00:00Z"), Instant.parse("2026-02-01T00:00:00Z"));
+        Rulebook second = Rulebook.rehydrate(RulebookId.of("r2"), "b.md", "/tmp/b.md", RulebookScope.MAIN, null, false,
+                Instant.parse("2026-02-01T00:00:00Z"), Instant.parse("2026-02-01T00:00:00Z"));
+
+        List<Rulebook> saved = adapter.saveAll(List.of(first, second));
+
+        verify(bulkOperations, times(2)).replaceOne(any(Query.class), any(RulebookDocument.class), any(FindAndReplaceOptions.class));
+        verify(bulkOperations).execute();
+        verify(repository, never()).save(any(RulebookDocument.class));
+        assertEquals(List.of("r1", "r2"), saved.stream().map(rulebook -> rulebook.getId().value()).toList());
+    }
+
+    @Test
+    void deleteAllById_removesInOneRepositoryCall() {
+        adapter.deleteAllById(List.of(RulebookId.of("r1"), RulebookId.of("r2")));
+
+        verify(repository).deleteAllById(List.of("r1", "r2"));
+    }
+
     private RulebookDocument document() {
         RulebookDocument doc = new RulebookDocument();
         doc.setId("r1");
@@ -0,0 +1,50 @@
+package me.go_gradually.omypic.infrastructure.rulebook.rag;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class EmbeddingTokenizerTest {
+
+    @Test
+    void words_splitsOnNonLetterOrDigitAndLowercases() {
+        List<String> tokens = new ArrayList<>();
+
+        int accepted = EmbeddingTokenizer.words("  Hello, WORLD!! 한국어-답변 2024년 ", collect(tokens));
+
+        assertEquals(List.of("hello", "world", "한국어", "답변", "2024년"), tokens);
+        assertEquals(5, accepted);
+    }
+
+    @Test
+    void nonWhitespace_keepsPunctuationInsideTokens() {
+        List<String> tokens = new ArrayList<>();
+
+        EmbeddingTokenizer.nonWhitespace("Hi,\tthere\n\nFRIEND.", collect(tokens));
+
+        assertEquals(List.of("hi,", "there", "friend."), tokens);
+    }
+
+    @Test
+    void words_keepsSupplementaryCodePointsIntact() {
+        List<String> tokens = new ArrayList<>();
+
+        EmbeddingTokenizer.words("a𝐀b c", collect(tokens));
+
+        assertEquals(List.of("a𝐀b", "c"), tokens);
+    }
+
+    @Test
+    void words_countsOnlyTokensTheSinkAccepts() {
+        int accepted = EmbeddingTokenizer.words("keep drop keep", token -> token.toString().equals("keep"));
+
+        assertEquals(2, accepted);
+    }
+
+    private EmbeddingTokenizer.TokenSink collect(List<String> tokens) {
+        return token -> tokens.add(token.toString());
+    }
+}
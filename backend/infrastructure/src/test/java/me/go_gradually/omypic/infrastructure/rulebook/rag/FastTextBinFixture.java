@@ -0,0 +1,69 @@
+package me.go_gradually.omypic.infrastructure.rulebook.rag;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * 테스트용 최소 FastText .bin(version 12, 비양자화) 파일. 버킷 b의 행은 b번째 성분만 1인 one-hot 벡터라
+ * 합성 결과를 보면 어떤 n-gram 버킷이 쓰였는지 알 수 있다.
+ */
+final class FastTextBinFixture {
+    private FastTextBinFixture() {
+    }
+
+    static Path write(Path path, List<String> words, int bucket, int minn, int maxn) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(ints(793712314, 12, bucket, 5, 5, 5, 5, 1, 1, 1, bucket, minn, maxn, 100));
+        out.write(littleEndian(Double.BYTES).putDouble(1e-4).array());
+        out.write(ints(words.size(), words.size(), 0));
+        out.write(littleEndian(Long.BYTES * 2).putLong(0).putLong(-1).array());
+        for (String word : words) {
+            out.write(word.getBytes(StandardCharsets.UTF_8));
+            out.write(0);
+            out.write(littleEndian(Long.BYTES + 1).putLong(1).put((byte) 0).array());
+        }
+        out.write(0);
+        out.write(matrix(words.size(), bucket));
+        return Files.write(path, out.toByteArray());
+    }
+
+    // fastText dictionary.cc의 hash()와 같은 FNV-1a(바이트 부호 확장).
+    static int bucketOf(String ngram, int bucket) {
+        int hash = (int) 2166136261L;
+        for (byte value : ngram.getBytes(StandardCharsets.UTF_8)) {
+            hash = (hash ^ value) * 16777619;
+        }
+        return Integer.remainderUnsigned(hash, bucket);
+    }
+
+    // 단어 행은 0, 버킷 행은 one-hot. 차원은 bucket과 같다.
+    private static byte[] matrix(int nwords, int bucket) {
+        long rows = nwords + bucket;
+        ByteBuffer buffer = littleEndian(Long.BYTES * 2 + (int) rows * bucket * Float.BYTES);
+        buffer.putLong(rows).putLong(bucket);
+        for (int row = 0; row < rows; row++) {
+            for (int column = 0; column < bucket; column++) {
+                buffer.putFloat(row - nwords == column ? 1f : 0f);
+            }
+        }
+        return buffer.array();
+    }
+
+    private static byte[] ints(int... values) {
+        ByteBuffer buffer = littleEndian(values.length * Integer.BYTES);
+        for (int value : values) {
+            buffer.putInt(value);
+        }
+        return buffer.array();
+    }
+
+    private static ByteBuffer littleEndian(int capacity) {
+        return ByteBuffer.allocate(capacity).order(ByteOrder.LITTLE_ENDIAN);
+    }
+}
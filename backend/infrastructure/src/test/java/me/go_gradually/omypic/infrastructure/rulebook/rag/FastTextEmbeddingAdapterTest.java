@@ -12,8 +12,12 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class FastTextEmbeddingAdapterTest {
@@ -34,6 +38,7 @@ class FastTextEmbeddingAdapterTest {
 
         AppProperties properties = properties(modelPath, sha256(modelBytes));
         FastTextEmbeddingAdapter adapter = new FastTextEmbeddingAdapter(properties, () -> tempDir.toString());
+        adapter.warmUp().join();
 
         float[] vector = adapter.embed("hello world");
 
@@ -59,6 +64,7 @@ class FastTextEmbeddingAdapterTest {
             AppProperties properties = properties(modelPath, sha256(modelBytes));
             properties.getRag().setDownloadUrl(server.url("/ko.vec").toString());
             FastTextEmbeddingAdapter adapter = new FastTextEmbeddingAdapter(properties, () -> tempDir.toString());
+            adapter.warmUp().join();
 
             float[] vector = adapter.embed("hello");
 
@@ -76,11 +82,83 @@ class FastTextEmbeddingAdapterTest {
         properties.getRag().setDownloadUrl("");
 
         FastTextEmbeddingAdapter adapter = new FastTextEmbeddingAdapter(properties, () -> tempDir.toString());
+        adapter.warmUp().join();
 
         float[] vector = adapter.embed("fallback token");
 
         assertEquals(3, vector.length);
         assertTrue(l2Norm(vector) > 0.0);
+        assertEquals(FastTextEmbeddingAdapter.ModelState.FALLBACK, adapter.state());
+        assertTrue(adapter.isReady());
+    }
+
+    @Test
+    void embed_usesHashProviderUntilBackgroundLoadPublishesReadyEvent() throws IOException {
+        byte[] modelBytes = "1 3\nhello 1 0 0\n".getBytes(StandardCharsets.UTF_8);
+        Path modelPath = tempDir.resolve("ko.vec");
+        Files.write(modelPath, modelBytes);
+        List<Object> events = new ArrayList<>();
+        FastTextEmbeddingAdapter adapter =
+                new FastTextEmbeddingAdapter(properties(modelPath, sha256(modelBytes)), () -> tempDir.toString(), events::add);
+
+        assertFalse(adapter.isReady());
+        assertEquals("hash", adapter.provider());
+        adapter.warmUp().join();
+
+        assertTrue(adapter.isReady());
+        assertEquals("fasttext", adapter.provider());
+        assertEquals(List.of(new EmbeddingModelReadyEvent("fasttext", "ko.vec")), events);
+        assertEquals(1f, adapter.embed("hello")[0], 1e-6f);
+    }
+
+    @Test
+    void embed_keepsWordVectors_whenSubwordModelCannotBeOpened() throws IOException {
+        byte[] modelBytes = (
+                "2 3\n"
+                        + "hello 1 0 0\n"
+                        + "world 0 1 0\n"
+        ).getBytes(StandardCharsets.UTF_8);
+        Path modelPath = tempDir.resolve("ko.vec");
+        Files.write(modelPath, modelBytes);
+        Path brokenBin = tempDir.resolve("ko.bin");
+        Files.write(brokenBin, new byte[]{1, 2, 3});
+        AppProperties properties = properties(modelPath, sha256(modelBytes));
+        properties.getRag().setSubwordModelPath(brokenBin.toString());
+        FastTextEmbeddingAdapter adapter = new FastTextEmbeddingAdapter(properties, () -> tempDir.toString());
+
+        adapter.warmUp().join();
+
+        assertEquals(FastTextEmbeddingAdapter.ModelState.READY, adapter.state());
+        assertEquals(2, adapter.vocabularySize());
+        assertEquals(1f, adapter.embed("hello")[0], 1e-6f);
+        assertEquals("ko.vec", adapter.modelVersion());
+    }
+
+    @Test
+    void modelVersion_marksSubwordCompositionWhenBinOpens() throws IOException {
+        byte[] modelBytes = "1 3\nhello 1 0 0\n".getBytes(StandardCharsets.UTF_8);
+        Path modelPath = tempDir.resolve("ko.vec");
+        Files.write(modelPath, modelBytes);
+        Path bin = FastTextBinFixture.write(tempDir.resolve("ko.bin"), List.of("hello"), 3, 2, 3);
+        AppProperties properties = properties(modelPath, sha256(modelBytes));
+        properties.getRag().setSubwordModelPath(bin.toString());
+        FastTextEmbeddingAdapter adapter = new FastTextEmbeddingAdapter(properties, () -> tempDir.toString());
+
+        adapter.warmUp().join();
+
+        assertEquals("ko.vec+subword:ko.bin", adapter.modelVersion());
+    }
+
+    @Test
+    void embed_throwsAfterLoadFailure_whenFallbackDisabled() {
+        AppProperties properties = properties(tempDir.resolve("missing.vec"), "deadbeef");
+        properties.getRag().setDownloadUrl("");
+        FastTextEmbeddingAdapter adapter = new FastTextEmbeddingAdapter(properties, () -> tempDir.toString());
+        adapter.warmUp().join();
+
+        assertEquals(FastTextEmbeddingAdapter.ModelState.FAILED, adapter.state());
+        assertFalse(adapter.isReady());
+        assertThrows(IllegalStateException.class, () -> adapter.embed("hello"));
     }
 
     private AppProperties properties(Path modelPath, String sha256) {
@@ -0,0 +1,58 @@
+package me.go_gradually.omypic.infrastructure.rulebook.rag;
+
+import me.go_gradually.omypic.infrastructure.shared.config.AppProperties;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.Status;
+
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class FastTextModelHealthIndicatorTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void health_isUnknownWhileLoadingAndUpOnceEmbeddingSettles() {
+        FastTextEmbeddingAdapter adapter = new FastTextEmbeddingAdapter(properties(true), () -> tempDir.toString());
+        FastTextModelHealthIndicator indicator = new FastTextModelHealthIndicator(adapter);
+
+        Health loading = indicator.health();
+        adapter.warmUp().join();
+        Health settled = indicator.health();
+
+        assertEquals(Status.UNKNOWN, loading.getStatus());
+        assertEquals("LOADING", loading.getDetails().get("state"));
+        assertEquals(Status.UP, settled.getStatus());
+        assertEquals("FALLBACK", settled.getDetails().get("state"));
+        assertEquals("hash", settled.getDetails().get("provider"));
+    }
+
+    @Test
+    void health_isDownWithFailureCauseWhenLoadFailsWithoutFallback() {
+        FastTextEmbeddingAdapter adapter = new FastTextEmbeddingAdapter(properties(false), () -> tempDir.toString());
+        adapter.warmUp().join();
+
+        Health health = new FastTextModelHealthIndicator(adapter).health();
+
+        assertEquals(Status.DOWN, health.getStatus());
+        assertEquals("FAILED", health.getDetails().get("state"));
+        assertEquals("FastText model is missing and omypic.rag.download-url is not configured", health.getDetails().get("reason"));
+        assertEquals("java.lang.IllegalStateException: FastText model is missing and omypic.rag.download-url is not configured",
+                health.getDetails().get("error"));
+    }
+
+    private AppProperties properties(boolean allowHashFallback) {
+        AppProperties properties = new AppProperties();
+        properties.setDataDir(tempDir.toString());
+        properties.getRag().setEmbeddingDim(3);
+        properties.getRag().setModelPath(tempDir.resolve("missing.vec").toString());
+        properties.getRag().setModelSha256("deadbeef");
+        properties.getRag().setDownloadUrl("");
+        properties.getRag().setAllowHashFallback(allowHashFallback);
+        return properties;
+    }
+}
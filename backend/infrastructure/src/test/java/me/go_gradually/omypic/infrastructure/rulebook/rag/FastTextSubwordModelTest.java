@@ -0,0 +1,82 @@
+package me.go_gradually.omypic.infrastructure.rulebook.rag;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FastTextSubwordModelTest {
+    private static final int BUCKET = 97;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void composer_averagesCharacterNgramBucketsLikeFastText() throws IOException {
+        Path path = FastTextBinFixture.write(tempDir.resolve("ko.bin"), List.of("hello", "world"), BUCKET, 2, 3);
+        FastTextSubwordModel model = FastTextSubwordModel.open(path, BUCKET);
+
+        float[] sum = new float[BUCKET];
+        assertTrue(model.composer().addTo(new StringBuilder("ab"), sum));
+
+        assertArrayEquals(expected("<a", "<ab", "ab", "ab>", "b>"), sum, 1e-6f);
+    }
+
+    @Test
+    void composer_countsKoreanNgramsByCharacterNotByte() throws IOException {
+        Path path = FastTextBinFixture.write(tempDir.resolve("ko.bin"), List.of("답변"), BUCKET, 2, 3);
+        FastTextSubwordModel model = FastTextSubwordModel.open(path, BUCKET);
+
+        float[] sum = new float[BUCKET];
+        assertTrue(model.composer().addTo("가", sum));
+
+        assertArrayEquals(expected("<가", "<가>", "가>"), sum, 1e-6f);
+    }
+
+    @Test
+    void composer_reusesBuffersAcrossTokensOfDifferentLength() throws IOException {
+        Path path = FastTextBinFixture.write(tempDir.resolve("ko.bin"), List.of("a"), BUCKET, 3, 3);
+        FastTextSubwordModel.Composer composer = FastTextSubwordModel.open(path, BUCKET).composer();
+
+        float[] longToken = new float[BUCKET];
+        float[] shortToken = new float[BUCKET];
+        assertTrue(composer.addTo("한국어로말하기연습을합니다".repeat(8), longToken));
+        assertFalse(composer.addTo("", shortToken));
+        assertTrue(composer.addTo("x", shortToken));
+
+        assertArrayEquals(expected("<x>"), shortToken, 1e-6f);
+    }
+
+    @Test
+    void open_rejectsDimensionMismatchAndForeignFiles() throws IOException {
+        Path path = FastTextBinFixture.write(tempDir.resolve("ko.bin"), List.of("a"), BUCKET, 2, 3);
+        Path text = Files.writeString(tempDir.resolve("ko.vec"), "1 3\nhello 1 0 0\n");
+
+        assertThrows(IllegalStateException.class, () -> FastTextSubwordModel.open(path, 300));
+        assertThrows(IllegalStateException.class, () -> FastTextSubwordModel.open(text, 3));
+    }
+
+    // 버킷 행이 one-hot이므로 합성 벡터는 n-gram 버킷 히스토그램을 정규화한 것과 같다.
+    private float[] expected(String... ngrams) {
+        float[] histogram = new float[BUCKET];
+        for (String ngram : ngrams) {
+            histogram[FastTextBinFixture.bucketOf(ngram, BUCKET)] += 1f;
+        }
+        double norm = 0.0;
+        for (float v : histogram) {
+            norm += v * v;
+        }
+        for (int i = 0; i < histogram.length; i++) {
+            histogram[i] = (float) (histogram[i] / Math.sqrt(norm));
+        }
+        return histogram;
+    }
+}
@@ -0,0 +1,127 @@
+package me.go_gradually.omypic.infrastructure.rulebook.rag;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.function.IntFunction;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class Int8VectorTableTest {
+    private static final int DIMENSION = 64;
+
+    @Test
+    void addTo_accumulatesDequantizedVectorWithinHalfStep() {
+        Int8VectorTable table = new Int8VectorTable(3);
+        table.putIfAbsent("hello", new float[]{0.8f, -0.6f, 0.0f});
+        float[] sum = {1f, 1f, 1f};
+
+        assertTrue(table.addTo("hello", sum));
+
+        float step = 0.8f / 127f;
+        assertEquals(1.8f, sum[0], step / 2);
+        assertEquals(0.4f, sum[1], step / 2);
+        assertEquals(1.0f, sum[2], 0f);
+    }
+
+    @Test
+    void putIfAbsent_keepsFirstVectorAndIgnoresUnknownTokens() {
+        Int8VectorTable table = new Int8VectorTable(2);
+        table.putIfAbsent("a", new float[]{1f, 0f});
+        table.putIfAbsent("a", new float[]{0f, 1f});
+
+        float[] sum = new float[2];
+        assertFalse(table.addTo("missing", sum));
+        assertEquals(1, table.size());
+        assertEquals(1f, table.dequantize("a")[0], 1e-6);
+        assertNull(table.dequantize("missing"));
+    }
+
+    @Test
+    void addTo_findsTokensByCharSequenceContent() {
+        Int8VectorTable table = new Int8VectorTable(2);
+        table.putIfAbsent("답변", new float[]{0f, 1f});
+        StringBuilder buffer = new StringBuilder("답");
+
+        float[] sum = new float[2];
+        assertFalse(table.addTo(buffer, sum));
+        assertTrue(table.addTo(buffer.append('변'), sum));
+        assertEquals(1f, sum[1], 1e-6);
+    }
+
+    @Test
+    void zeroVector_staysZero() {
+        Int8VectorTable table = new Int8VectorTable(2);
+        table.putIfAbsent("zero", new float[2]);
+
+        assertEquals(0f, table.dequantize("zero")[0], 0f);
+    }
+
+    @Test
+    void growsPastInitialCapacityAndTrims() {
+        Int8VectorTable table = new Int8VectorTable(4);
+        for (int i = 0; i < 3000; i++) {
+            table.putIfAbsent("w" + i, new float[]{i, 1f, 0f, -1f});
+        }
+        table.trimToSize();
+
+        assertEquals(3000, table.size());
+        assertEquals(2999f, table.dequantize("w2999")[0], 2999f / 127f / 2);
+    }
+
+    // 같은 단위 벡터들을 float 그대로 비교했을 때의 top-10과 양자화 후의 top-10이 거의 같아야 한다.
+    @Test
+    void nearestNeighbours_keepRecallAgainstFloatBaseline() {
+        SplittableRandom random = new SplittableRandom(7L);
+        List<float[]> vectors = new ArrayList<>();
+        Int8VectorTable table = new Int8VectorTable(DIMENSION);
+        for (int i = 0; i < 500; i++) {
+            float[] vector = unitVector(random);
+            vectors.add(vector);
+            table.putIfAbsent("w" + i, vector);
+        }
+        int matched = 0;
+        for (int q = 0; q < 20; q++) {
+            float[] query = unitVector(random);
+            List<Integer> exact = topTen(query, i -> vectors.get(i));
+            List<Integer> quantized = topTen(query, i -> table.dequantize("w" + i));
+            matched += (int) quantized.stream().filter(exact::contains).count();
+        }
+        assertTrue(matched / 200.0 >= 0.9, "recall@10=" + matched / 200.0);
+    }
+
+    private List<Integer> topTen(float[] query, IntFunction<float[]> vectorAt) {
+        return IntStream.range(0, 500).boxed()
+                .sorted(Comparator.comparingDouble((Integer i) -> -dot(query, vectorAt.apply(i))))
+                .limit(10)
+                .toList();
+    }
+
+    private float[] unitVector(SplittableRandom random) {
+        float[] vector = new float[DIMENSION];
+        double norm = 0.0;
+        for (int i = 0; i < DIMENSION; i++) {
+            vector[i] = (float) random.nextGaussian();
+            norm += vector[i] * vector[i];
+        }
+        for (int i = 0; i < DIMENSION; i++) {
+            vector[i] = (float) (vector[i] / Math.sqrt(norm));
+        }
+        return vector;
+    }
+
+    private double dot(float[] left, float[] right) {
+        double sum = 0.0;
+        for (int i = 0; i < left.length; i++) {
+            sum += left[i] * right[i];
+        }
+        return sum;
+    }
+}
@@ -2,17 +2,39 @@ package me.go_gradually.omypic.infrastructure.rulebook.rag;
 
 import me.go_gradually.omypic.application.rulebook.port.EmbeddingPort;
 import me.go_gradually.omypic.application.shared.policy.DataDirProvider;
+import me.go_gradually.omypic.domain.rulebook.RulebookChunk;
 import me.go_gradually.omypic.domain.rulebook.RulebookContext;
 import me.go_gradually.omypic.domain.rulebook.RulebookId;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.KnnFloatVectorField;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.store.FSDirectory;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Properties;
 import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class LuceneRulebookIndexAdapterTest {
@@ -42,8 +64,8 @@ class LuceneRulebookIndexAdapterTest {
     void indexAndSearch_filtersByEnabledRulebookIds_andRespectsTopK() throws IOException {
         LuceneRulebookIndexAdapter adapter = new LuceneRulebookIndexAdapter(dataDir(tempDir), embedding("hash", "v1"));
 
-        adapter.indexRulebookChunks(RulebookId.of("r1"), "r1.md", List.of("alpha first", "alpha second"));
-        adapter.indexRulebookChunks(RulebookId.of("r2"), "r2.md", List.of("beta only"));
+        adapter.indexRulebookChunks(RulebookId.of("r1"), "r1.md", chunks("alpha first", "alpha second"));
+        adapter.indexRulebookChunks(RulebookId.of("r2"), "r2.md", chunks("beta only"));
 
         List<RulebookContext> result = adapter.search("alpha", 1, Set.of(RulebookId.of("r1")));
 
@@ -54,17 +76,267 @@ class LuceneRulebookIndexAdapterTest {
     }
 
     @Test
-    void search_resetsIndex_whenEmbeddingMetadataChanges() throws IOException {
+    void search_fusesKeywordMatchesThatVectorSearchRanksLow() throws IOException {
+        LuceneRulebookIndexAdapter adapter = new LuceneRulebookIndexAdapter(dataDir(tempDir), embedding("hash", "v1"));
+        adapter.indexRulebookChunks(RulebookId.of("r1"), "r1.md", chunks("alpha first", "alpha second", "Role Play guide"));
+
+        List<RulebookContext> result = adapter.search("role play alpha", 2, Set.of(RulebookId.of("r1")));
+
+        assertEquals(List.of("alpha first", "Role Play guide"), result.stream().map(RulebookContext::text).toList());
+    }
+
+    @Test
+    void search_matchesKoreanKeywordsLexically() throws IOException {
+        LuceneRulebookIndexAdapter adapter = new LuceneRulebookIndexAdapter(dataDir(tempDir), embedding("hash", "v1"));
+        adapter.indexRulebookChunks(RulebookId.of("r1"), "r1.md", chunks("일반 답변 요령", "비교 질문은 과거와 현재를 대조한다"));
+
+        List<RulebookContext> result = adapter.search("비교 질문", 1, Set.of(RulebookId.of("r1")));
+
+        assertEquals(1, result.size());
+        assertEquals("비교 질문은 과거와 현재를 대조한다", result.get(0).text());
+    }
+
+    @Test
+    void search_matchesHeadingPathAndReturnsItAsSource() throws IOException {
+        LuceneRulebookIndexAdapter adapter = new LuceneRulebookIndexAdapter(dataDir(tempDir), embedding("hash", "v1"));
+        adapter.indexRulebookChunks(RulebookId.of("r1"), "r1.md", List.of(
+                RulebookChunk.of("alpha first"),
+                new RulebookChunk("ask three questions", List.of("Strategy", "Role Play"))
+        ));
+
+        List<RulebookContext> result = adapter.search("role play", 1, Set.of(RulebookId.of("r1")));
+
+        assertEquals(1, result.size());
+        assertEquals("ask three questions", result.get(0).text());
+        assertEquals("Strategy > Role Play", result.get(0).headingPath());
+        assertEquals("r1.md > Strategy > Role Play", result.get(0).source());
+    }
+
+    // 양자화된 HNSW 결과가 float 벡터로 전수 비교한 top5와 크게 다르지 않아야 한다.
+    @Test
+    void search_quantizedVectorsKeepRecallAgainstExactFloatRanking() throws IOException {
+        LuceneRulebookIndexAdapter adapter = new LuceneRulebookIndexAdapter(dataDir(tempDir), randomEmbedding());
+        List<String> texts = IntStream.range(0, 300).mapToObj(i -> "d" + i).toList();
+        adapter.indexRulebookChunks(RulebookId.of("r1"), "r1.md", chunks(texts.toArray(String[]::new)));
+
+        int matched = 0;
+        for (int q = 0; q < 10; q++) {
+            float[] query = randomVector("q" + q);
+            List<String> exact = texts.stream()
+                    .sorted(Comparator.comparingDouble(text -> -dot(query, randomVector(text))))
+                    .limit(5)
+                    .toList();
+            List<RulebookContext> found = adapter.search("q" + q, 5, Set.of(RulebookId.of("r1")));
+            matched += (int) found.stream().map(RulebookContext::text).filter(exact::contains).count();
+        }
+
+        assertTrue(matched >= 40, "recall@5=" + matched / 50.0);
+    }
+
+    @Test
+    void search_resetsIndex_whenEmbeddingDimensionChanges() throws IOException {
         LuceneRulebookIndexAdapter hashAdapter = new LuceneRulebookIndexAdapter(dataDir(tempDir), embedding("hash", "v1"));
-        hashAdapter.indexRulebookChunks(RulebookId.of("r1"), "r1.md", List.of("alpha first"));
+        hashAdapter.indexRulebookChunks(RulebookId.of("r1"), "r1.md", chunks("alpha first"));
 
-        LuceneRulebookIndexAdapter fasttextAdapter =
-                new LuceneRulebookIndexAdapter(dataDir(tempDir), embedding("fasttext", "cc.ko.300.vec.gz"));
-        List<RulebookContext> result = fasttextAdapter.search("alpha", 3, Set.of(RulebookId.of("r1")));
+        LuceneRulebookIndexAdapter randomAdapter = new LuceneRulebookIndexAdapter(dataDir(tempDir), randomEmbedding());
+        List<RulebookContext> result = randomAdapter.search("alpha", 3, Set.of(RulebookId.of("r1")));
 
         assertTrue(result.isEmpty());
     }
 
+    @Test
+    void search_reembedsStoredChunks_whenModelChangesWithSameDimension() throws IOException {
+        SwitchingEmbedding embedding = new SwitchingEmbedding("hash:v1");
+        LuceneRulebookIndexAdapter adapter = new LuceneRulebookIndexAdapter(dataDir(tempDir), embedding);
+        adapter.indexRulebookChunks(RulebookId.of("r1"), "r1.md", chunks("alpha first"));
+
+        embedding.switchTo("fasttext:cc.ko.300.vec.gz", true);
+        embedding.embedded.clear();
+        List<RulebookContext> result = adapter.search("alpha", 3, Set.of(RulebookId.of("r1")));
+
+        assertEquals(List.of("alpha first"), result.stream().map(RulebookContext::text).toList());
+        assertEquals(List.of("alpha first", "alpha"), embedding.embedded);
+    }
+
+    // 로딩 중 임시 모델로 넣은 룰북만 모델 준비 이벤트 때 다시 임베딩되고, 이미 실제 모델로 넣은 룰북은 건드리지 않는다.
+    @Test
+    void onEmbeddingModelReady_reembedsOnlyRulebooksIndexedWhileLoading() throws IOException {
+        SwitchingEmbedding embedding = new SwitchingEmbedding("fasttext:v1");
+        LuceneRulebookIndexAdapter adapter = new LuceneRulebookIndexAdapter(dataDir(tempDir), embedding);
+        adapter.indexRulebookChunks(RulebookId.of("r1"), "r1.md", chunks("alpha first"));
+
+        embedding.switchTo("hash:v2", false);
+        adapter.indexRulebookChunks(RulebookId.of("r2"), "r2.md", chunks("beta only"));
+        adapter.search("beta", 3, Set.of(RulebookId.of("r2")));
+        embedding.switchTo("fasttext:v1", true);
+        embedding.embedded.clear();
+        adapter.onEmbeddingModelReady();
+
+        assertEquals(List.of("beta only"), embedding.embedded);
+        assertEquals(2, adapter.search("alpha beta", 3, Set.of(RulebookId.of("r1"), RulebookId.of("r2"))).size());
+    }
+
+    // 재시작 뒤 모델을 읽는 동안 질의는 해시 벡터가 되므로, 색인에 남은 FastText 벡터와 비교하지 않고 키워드 결과만 돌려준다.
+    @Test
+    void search_usesKeywordHitsOnly_whileQueryModelDiffersFromIndexedModel() throws IOException {
+        SwitchingEmbedding embedding = new SwitchingEmbedding("fasttext:v1");
+        new LuceneRulebookIndexAdapter(dataDir(tempDir), embedding)
+                .indexRulebookChunks(RulebookId.of("r1"), "r1.md", chunks("alpha first", "beta only"));
+
+        embedding.switchTo("hash:v2", false);
+        embedding.embedded.clear();
+        LuceneRulebookIndexAdapter restarted = new LuceneRulebookIndexAdapter(dataDir(tempDir), embedding);
+        List<RulebookContext> keyword = restarted.search("beta", 3, Set.of(RulebookId.of("r1")));
+        List<RulebookContext> unmatched = restarted.search("gamma", 3, Set.of(RulebookId.of("r1")));
+
+        assertEquals(List.of("beta only"), keyword.stream().map(RulebookContext::text).toList());
+        assertTrue(unmatched.isEmpty());
+        assertTrue(embedding.embedded.isEmpty());
+    }
+
+    // 재임베딩 중인 룰북이 writer를 잡고 있어도 검색은 바로 끝나고, 업로드는 실패하지 않고 그 룰북 다음 차례에 들어간다.
+    @Test
+    void searchAndUpload_proceedWhileReembedRuns() throws Exception {
+        SwitchingEmbedding embedding = new SwitchingEmbedding("hash:v1");
+        LuceneRulebookIndexAdapter adapter = new LuceneRulebookIndexAdapter(dataDir(tempDir), embedding);
+        adapter.indexRulebookChunks(RulebookId.of("r1"), "r1.md", chunks("alpha first"));
+        embedding.switchTo("fasttext:v2", true);
+        List<RulebookContext> concurrentResult = new CopyOnWriteArrayList<>();
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        List<Thread> uploads = new CopyOnWriteArrayList<>();
+        embedding.onEmbed = text -> {
+            if ("alpha first".equals(text) && uploads.isEmpty()) {
+                uploads.add(start(() -> adapter.indexRulebookChunks(RulebookId.of("r2"), "r2.md", chunks("beta only")), failure));
+                join(start(() -> concurrentResult.addAll(adapter.search("alpha", 3, Set.of(RulebookId.of("r1")))), failure));
+            }
+        };
+
+        adapter.onEmbeddingModelReady();
+        join(uploads.get(0));
+
+        assertNull(failure.get());
+        assertEquals(List.of("alpha first"), concurrentResult.stream().map(RulebookContext::text).toList());
+        assertEquals(2, adapter.search("alpha beta", 3, Set.of(RulebookId.of("r1"), RulebookId.of("r2"))).size());
+    }
+
+    // 예전 색인은 본문을 저장만 해서(StoredField) 같은 필드를 TextField로 쓰면 Lucene이 색인 옵션 불일치로 거부한다.
+    @Test
+    void indexRulebookChunks_writesIntoIndexBuiltWithStoredOnlyTextAfterSchemaReset() throws IOException {
+        writeStoredOnlyTextIndex(tempDir.resolve("indexes").resolve("rulebooks"));
+        LuceneRulebookIndexAdapter adapter = new LuceneRulebookIndexAdapter(dataDir(tempDir), embedding("hash", "v1"));
+
+        assertTrue(adapter.resetIfOutdated());
+        adapter.indexRulebookChunks(RulebookId.of("r1"), "r1.md", chunks("alpha first", "Role Play guide"));
+
+        assertFalse(adapter.resetIfOutdated());
+        List<RulebookContext> result = adapter.search("role play", 1, Set.of(RulebookId.of("r1")));
+        assertEquals(List.of("Role Play guide"), result.stream().map(RulebookContext::text).toList());
+    }
+
+    @Test
+    void resetIfOutdated_keepsFreshIndexWithoutRebuild() throws IOException {
+        LuceneRulebookIndexAdapter adapter = new LuceneRulebookIndexAdapter(dataDir(tempDir), embedding("hash", "v1"));
+        assertFalse(adapter.resetIfOutdated());
+        adapter.indexRulebookChunks(RulebookId.of("r1"), "r1.md", chunks("alpha first"));
+
+        assertFalse(adapter.resetIfOutdated());
+        assertEquals(1, adapter.search("alpha", 3, Set.of(RulebookId.of("r1"))).size());
+    }
+
+    private static void writeStoredOnlyTextIndex(Path indexPath) throws IOException {
+        Files.createDirectories(indexPath);
+        try (IndexWriter writer = new IndexWriter(FSDirectory.open(indexPath), new IndexWriterConfig(new StandardAnalyzer()))) {
+            Document doc = new Document();
+            doc.add(new StringField("rulebookId", "r1", Field.Store.YES));
+            doc.add(new StringField("filename", "r1.md", Field.Store.YES));
+            doc.add(new StoredField("text", "alpha first"));
+            doc.add(new KnnFloatVectorField("embedding", new float[]{1f, 0f}));
+            writer.addDocument(doc);
+        }
+        Properties meta = new Properties();
+        meta.setProperty("provider", "hash");
+        meta.setProperty("modelVersion", "v1");
+        meta.setProperty("dimension", "2");
+        try (OutputStream out = Files.newOutputStream(indexPath.resolve("index-meta.properties"))) {
+            meta.store(out, null);
+        }
+    }
+
+    private static Thread start(IndexAction action, AtomicReference<Throwable> failure) {
+        Thread thread = new Thread(() -> {
+            try {
+                action.run();
+            } catch (Throwable e) {
+                failure.set(e);
+            }
+        });
+        thread.start();
+        return thread;
+    }
+
+    private static void join(Thread thread) {
+        try {
+            thread.join(5_000L);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        assertFalse(thread.isAlive(), "blocked behind re-embedding");
+    }
+
+    private interface IndexAction {
+        void run() throws IOException;
+    }
+
+    private List<RulebookChunk> chunks(String... texts) {
+        return Arrays.stream(texts).map(RulebookChunk::of).toList();
+    }
+
+    private EmbeddingPort randomEmbedding() {
+        return new EmbeddingPort() {
+            @Override
+            public float[] embed(String text) {
+                return randomVector(text);
+            }
+
+            @Override
+            public int dimension() {
+                return 32;
+            }
+
+            @Override
+            public String provider() {
+                return "random";
+            }
+
+            @Override
+            public String modelVersion() {
+                return "v1";
+            }
+        };
+    }
+
+    private static float[] randomVector(String text) {
+        SplittableRandom random = new SplittableRandom(text.hashCode());
+        float[] vector = new float[32];
+        double norm = 0.0;
+        for (int i = 0; i < vector.length; i++) {
+            vector[i] = (float) random.nextGaussian();
+            norm += vector[i] * vector[i];
+        }
+        for (int i = 0; i < vector.length; i++) {
+            vector[i] = (float) (vector[i] / Math.sqrt(norm));
+        }
+        return vector;
+    }
+
+    private static double dot(float[] left, float[] right) {
+        double sum = 0.0;
+        for (int i = 0; i < left.length; i++) {
+            sum += left[i] * right[i];
+        }
+        return sum;
+    }
+
     private DataDirProvider dataDir(Path path) {
         return () -> path.toString();
     }
@@ -102,4 +374,48 @@ class LuceneRulebookIndexAdapterTest {
             }
         };
     }
+
+    private static final class SwitchingEmbedding implements EmbeddingPort {
+        private final List<String> embedded = new CopyOnWriteArrayList<>();
+        private Consumer<String> onEmbed = text -> {
+        };
+        private String model;
+        private boolean ready = true;
+
+        private SwitchingEmbedding(String model) {
+            this.model = model;
+        }
+
+        private void switchTo(String nextModel, boolean nextReady) {
+            model = nextModel;
+            ready = nextReady;
+        }
+
+        @Override
+        public float[] embed(String text) {
+            embedded.add(text);
+            onEmbed.accept(text);
+            return text.contains("alpha") ? new float[]{1f, 0f} : new float[]{0f, 1f};
+        }
+
+        @Override
+        public int dimension() {
+            return 2;
+        }
+
+        @Override
+        public String provider() {
+            return model.substring(0, model.indexOf(':'));
+        }
+
+        @Override
+        public String modelVersion() {
+            return model.substring(model.indexOf(':') + 1);
+        }
+
+        @Override
+        public boolean isReady() {
+            return ready;
+        }
+    }
 }
@@ -0,0 +1,71 @@
+package me.go_gradually.omypic.infrastructure.rulebook.rag;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ModelChecksumStampTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void sha256_matchesMessageDigestAcrossBufferBoundaries() throws Exception {
+        byte[] bytes = new byte[(1 << 20) * 2 + 3];
+        new SplittableRandom(7).nextBytes(bytes);
+        Path empty = Files.write(tempDir.resolve("empty.vec"), new byte[0]);
+        Path large = Files.write(tempDir.resolve("large.vec"), bytes);
+
+        assertEquals("e3b0c44298fc1c149afbf4c8996fb92427ae41e4649b934ca495991b7852b855", ModelChecksumStamp.sha256(empty));
+        assertEquals(HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes)), ModelChecksumStamp.sha256(large));
+    }
+
+    @Test
+    void verify_hashesOnceAndTrustsStampWhileFileIsUnchanged() throws IOException {
+        Path model = Files.writeString(tempDir.resolve("ko.vec"), "hello 1 0 0\n", StandardCharsets.UTF_8);
+        String sha256 = ModelChecksumStamp.sha256(model);
+
+        assertTrue(ModelChecksumStamp.verify(model, sha256.toUpperCase(), tempDir.resolve("data")));
+        assertTrue(Files.exists(tempDir.resolve("ko.vec.sha256-stamp")));
+        assertFalse(ModelChecksumStamp.verify(model, sha256, tempDir.resolve("data")));
+    }
+
+    @Test
+    void verify_rehashesWhenFileChangesOrExpectedHashChanges() throws IOException {
+        Path model = Files.writeString(tempDir.resolve("ko.vec"), "hello 1 0 0\n", StandardCharsets.UTF_8);
+        String sha256 = ModelChecksumStamp.sha256(model);
+        ModelChecksumStamp.verify(model, sha256, tempDir);
+
+        assertThrows(IllegalStateException.class, () -> ModelChecksumStamp.verify(model, "deadbeef", tempDir));
+        Files.writeString(model, "hello 0 1 0\n", StandardCharsets.UTF_8);
+        Files.setLastModifiedTime(model, FileTime.fromMillis(Files.getLastModifiedTime(model).toMillis() + 1000));
+
+        assertThrows(IllegalStateException.class, () -> ModelChecksumStamp.verify(model, sha256, tempDir));
+    }
+
+    // 번들 모델처럼 옆에 쓸 수 없는 경우를 스탬프 자리에 디렉터리를 두어 흉내 낸다.
+    @Test
+    void verify_fallsBackToDataDirWhenModelDirectoryRejectsStamp() throws IOException {
+        Path model = Files.writeString(tempDir.resolve("ko.vec"), "hello 1 0 0\n", StandardCharsets.UTF_8);
+        Files.createDirectories(tempDir.resolve("ko.vec.sha256-stamp").resolve("blocked"));
+        Path dataDir = tempDir.resolve("data");
+        String sha256 = ModelChecksumStamp.sha256(model);
+
+        assertTrue(ModelChecksumStamp.verify(model, sha256, dataDir));
+        assertTrue(Files.isRegularFile(dataDir.resolve("ko.vec.sha256-stamp")));
+        assertFalse(ModelChecksumStamp.verify(model, sha256, dataDir));
+    }
+}
@@ -0,0 +1,35 @@
+package me.go_gradually.omypic.infrastructure.rulebook.rag;
+
+import org.apache.lucene.search.ScoreDoc;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ReciprocalRankFusionTest {
+
+    @Test
+    void fuse_ranksDocumentsFoundByBothListsFirst() {
+        ScoreDoc[] vector = {hit(1, 0.9f), hit(2, 0.8f), hit(3, 0.7f)};
+        ScoreDoc[] lexical = {hit(3, 12f), hit(4, 8f)};
+
+        List<Integer> fused = ReciprocalRankFusion.fuse(3, vector, lexical);
+
+        assertEquals(List.of(3, 1, 2), fused);
+    }
+
+    @Test
+    void fuse_keepsFirstListOrderOnTiesAndHonorsLimit() {
+        ScoreDoc[] vector = {hit(5, 1f)};
+        ScoreDoc[] lexical = {hit(6, 1f)};
+
+        assertEquals(List.of(5), ReciprocalRankFusion.fuse(1, vector, lexical));
+        assertEquals(List.of(5, 6), ReciprocalRankFusion.fuse(5, vector, lexical));
+        assertEquals(List.of(), ReciprocalRankFusion.fuse(3, new ScoreDoc[0], new ScoreDoc[0]));
+    }
+
+    private ScoreDoc hit(int doc, float score) {
+        return new ScoreDoc(doc, score);
+    }
+}
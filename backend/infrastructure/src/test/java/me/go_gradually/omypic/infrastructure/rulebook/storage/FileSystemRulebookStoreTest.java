@@ -4,10 +4,16 @@ import me.go_gradually.omypic.application.shared.policy.DataDirProvider;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.stream.Stream;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class FileSystemRulebookStoreTest {
@@ -39,6 +45,41 @@ class FileSystemRulebookStoreTest {
         assertEquals("plain ascii text", text);
     }
 
+    @Test
+    void store_namesFilesByContentHashAndKeepsOneCopyPerContent() throws Exception {
+        FileSystemRulebookStore store = new FileSystemRulebookStore(dataDir(tempDir));
+
+        String first = store.store("a.md", "same".getBytes(StandardCharsets.UTF_8)).path();
+        String duplicate = store.store("b.md", "same".getBytes(StandardCharsets.UTF_8)).path();
+        String other = store.store("a.md", "other".getBytes(StandardCharsets.UTF_8)).path();
+
+        assertEquals(first, duplicate);
+        assertNotEquals(first, other);
+        assertTrue(Path.of(first).getFileName().toString().matches("[0-9a-f]{64}\\.md"));
+        try (Stream<Path> files = Files.list(tempDir.resolve("rulebooks"))) {
+            assertEquals(2, files.count());
+        }
+    }
+
+    @Test
+    void readBytesAndReadText_roundTripStoredContent() throws Exception {
+        FileSystemRulebookStore store = new FileSystemRulebookStore(dataDir(tempDir));
+        byte[] bytes = "# 규칙\n답변은 구체적으로".getBytes(StandardCharsets.UTF_8);
+
+        String path = store.store("rules.md", bytes).path();
+
+        assertArrayEquals(bytes, store.readBytes(path));
+        assertEquals("# 규칙\n답변은 구체적으로", store.readText(path));
+    }
+
+    @Test
+    void readText_rejectsMalformedUtf8LikeFilesReadString() throws Exception {
+        FileSystemRulebookStore store = new FileSystemRulebookStore(dataDir(tempDir));
+        Path file = Files.write(tempDir.resolve("broken.md"), new byte[]{(byte) 0xC3, (byte) 0x28});
+
+        assertThrows(CharacterCodingException.class, () -> store.readText(file.toString()));
+    }
+
     private DataDirProvider dataDir(Path path) {
         return () -> path.toString();
     }
@@ -21,6 +21,9 @@ class AppPropertiesTest {
 
         properties.getRag().setEmbeddingDim(32);
         properties.getRag().setMaxContextChunks(9);
+        properties.getRag().setChunkTargetChars(600);
+        properties.getRag().setChunkOverlapChars(90);
+        properties.getRag().setEnabledRulebookCacheTtlMs(1500L);
         properties.getRag().setProvider("fasttext");
         properties.getRag().setModelPath("/tmp/models/ko.vec.gz");
         properties.getRag().setModelVersion("ko.vec.gz");
@@ -30,15 +33,21 @@ class AppPropertiesTest {
         properties.getRag().setDownloadRetryMax(3);
         properties.getRag().setAllowHashFallback(true);
         properties.getRag().setModelMaxVocab(321);
+        properties.getRag().setSubwordModelPath("/tmp/models/ko.bin");
 
         properties.getFeedback().setSummaryMaxChars(333);
         properties.getFeedback().setExampleMinRatio(0.7);
         properties.getFeedback().setExampleMaxRatio(1.5);
         properties.getFeedback().setWrongnoteSummaryMaxChars(88);
         properties.getFeedback().setWrongnoteWindowSize(33);
+        properties.getFeedback().setTurnPromptCacheTtlMs(45000L);
+        properties.getFeedback().setTurnPromptCacheMaxEntries(64);
         properties.getIntegrations().getOpenai().setBaseUrl("http://openai.local");
         properties.getIntegrations().getOpenai().setResponsesEnabled(false);
         properties.getIntegrations().getOpenai().setConversationRebaseTurns(9);
+        properties.getIntegrations().getOpenai().setConversationRebaseInputTokens(4000L);
+        properties.getIntegrations().getOpenai().setConversationRebaseLatencyMs(2500L);
+        properties.getIntegrations().getOpenai().setConversationRebaseCarryTurns(1);
         properties.getIntegrations().getOpenai().getLogging().setResponsePreviewChars(777);
         properties.getIntegrations().getOpenai().getLogging().setFullBody(true);
         properties.getIntegrations().getOpenai().getLogging().setLogSuccessAtFine(false);
@@ -49,6 +58,14 @@ class AppPropertiesTest {
         properties.getVoice().setTtsVoice("alloy");
         properties.getVoice().setRecoveryRetentionMs(600000L);
         properties.getVoice().setStoppedContextMax(1000);
+        properties.getVoice().setSttAudioFormat("wav");
+        properties.getVoice().setSkipNoSpeechTurns(true);
+        properties.getVoice().setEventReplayMaxBytes(4096L);
+        properties.getVoice().setSinkQueueCapacity(16);
+        properties.getVoice().setSlowSinkPolicy("drop-oldest");
+        properties.getVoice().setReaperIntervalMs(5000L);
+        properties.getVoice().setStateStore("mongo");
+        properties.getVoice().setStateTtlMs(3600000L);
 
         assertEquals("/tmp/omypic", properties.getDataDir());
         assertEquals(1234L, properties.getMaxFileBytes());
@@ -59,6 +76,8 @@ class AppPropertiesTest {
         assertEquals(0.8, vadSettings.threshold());
 
         assertEquals(9, properties.getMaxContextChunks());
+        assertEquals(600, properties.getChunkTargetChars());
+        assertEquals(90, properties.getChunkOverlapChars());
         assertEquals("fasttext", properties.getRag().getProvider());
         assertEquals("/tmp/models/ko.vec.gz", properties.getRag().getModelPath());
         assertEquals("ko.vec.gz", properties.getRag().getModelVersion());
@@ -68,14 +87,21 @@ class AppPropertiesTest {
         assertEquals(3, properties.getRag().getDownloadRetryMax());
         assertTrue(properties.getRag().isAllowHashFallback());
         assertEquals(321, properties.getRag().getModelMaxVocab());
+        assertEquals("/tmp/models/ko.bin", properties.getRag().getSubwordModelPath());
+        assertEquals(1500L, properties.getEnabledRulebookCacheTtlMs());
         assertEquals(333, properties.getSummaryMaxChars());
         assertEquals(0.7, properties.getExampleMinRatio());
         assertEquals(1.5, properties.getExampleMaxRatio());
         assertEquals(88, properties.getWrongnoteSummaryMaxChars());
         assertEquals(33, properties.getWrongnoteWindowSize());
+        assertEquals(45000L, properties.getTurnPromptCacheTtlMs());
+        assertEquals(64, properties.getTurnPromptCacheMaxEntries());
         assertEquals("http://openai.local", properties.getIntegrations().getOpenai().getBaseUrl());
         assertEquals(false, properties.getIntegrations().getOpenai().isResponsesEnabled());
         assertEquals(9, properties.getIntegrations().getOpenai().getConversationRebaseTurns());
+        assertEquals(4000L, properties.getIntegrations().getOpenai().getConversationRebaseInputTokens());
+        assertEquals(2500L, properties.getIntegrations().getOpenai().getConversationRebaseLatencyMs());
+        assertEquals(1, properties.getIntegrations().getOpenai().getConversationRebaseCarryTurns());
         assertEquals(777, properties.getIntegrations().getOpenai().getLogging().getResponsePreviewChars());
         assertTrue(properties.getIntegrations().getOpenai().getLogging().isFullBody());
         assertEquals(false, properties.getIntegrations().getOpenai().getLogging().isLogSuccessAtFine());
@@ -86,5 +112,13 @@ class AppPropertiesTest {
         assertEquals("alloy", properties.voiceTtsVoice());
         assertEquals(600000L, properties.voiceRecoveryRetentionMs());
         assertEquals(1000, properties.voiceStoppedContextMax());
+        assertEquals("wav", properties.voiceSttAudioFormat());
+        assertTrue(properties.voiceSkipNoSpeechTurns());
+        assertEquals(4096L, properties.voiceEventReplayMaxBytes());
+        assertEquals(16, properties.voiceSinkQueueCapacity());
+        assertEquals("drop-oldest", properties.voiceSlowSinkPolicy());
+        assertEquals(5000L, properties.getVoice().getReaperIntervalMs());
+        assertEquals("mongo", properties.getVoice().getStateStore());
+        assertEquals(3600000L, properties.getVoice().getStateTtlMs());
     }
 }
@@ -20,6 +20,8 @@ class MicrometerMetricsAdapterTest {
         adapter.recordTtsLatency(Duration.ofMillis(30));
         adapter.recordQuestionNextLatency(Duration.ofMillis(40));
         adapter.recordVoiceTurnLatency(Duration.ofMillis(50));
+        adapter.recordVoiceTurnSttLatency(Duration.ofMillis(55));
+        adapter.recordSttUploadBytes(4096L);
         adapter.recordRulebookUploadLatency(Duration.ofMillis(60));
 
         adapter.incrementSttRequest();
@@ -31,6 +33,10 @@ class MicrometerMetricsAdapterTest {
         adapter.incrementRecommendationRepairAttempt();
         adapter.incrementRecommendationRepairSuccess();
         adapter.incrementRecommendationMinimalFallback();
+        adapter.incrementConversationRebase("TURN_LIMIT");
+        adapter.incrementTurnPromptCache("hit");
+        adapter.incrementTurnPromptCache("hit");
+        adapter.incrementTurnPromptCache("stale");
 
         assertNotNull(registry.find("stt.latency").timer());
         assertEquals(1, registry.find("stt.latency").timer().count());
@@ -38,6 +44,8 @@ class MicrometerMetricsAdapterTest {
         assertEquals(1, registry.find("tts.latency").timer().count());
         assertEquals(1, registry.find("question.next.latency").timer().count());
         assertEquals(1, registry.find("voice.turn.latency").timer().count());
+        assertEquals(1, registry.find("voice.turn.stt.latency").timer().count());
+        assertEquals(4096.0, registry.find("stt.upload.bytes").summary().totalAmount());
         assertEquals(1, registry.find("rulebook.upload.latency").timer().count());
 
         assertEquals(1.0, registry.find("stt.requests").counter().count());
@@ -49,5 +57,8 @@ class MicrometerMetricsAdapterTest {
         assertEquals(1.0, registry.find("feedback.recommendation.repair_attempt").counter().count());
         assertEquals(1.0, registry.find("feedback.recommendation.repair_success").counter().count());
         assertEquals(1.0, registry.find("feedback.recommendation.minimal_fallback").counter().count());
+        assertEquals(1.0, registry.find("feedback.conversation.rebase").tag("reason", "TURN_LIMIT").counter().count());
+        assertEquals(2.0, registry.find("feedback.prefetch.cache").tag("outcome", "hit").counter().count());
+        assertEquals(1.0, registry.find("feedback.prefetch.cache").tag("outcome", "stale").counter().count());
     }
 }
@@ -0,0 +1,63 @@
+package me.go_gradually.omypic.infrastructure.shared.persistence.mongo;
+
+import me.go_gradually.omypic.infrastructure.wrongnote.persistence.mongo.WrongNoteDocument;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndReplaceOptions;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MongoBulkWritesTest {
+
+    @Mock
+    private MongoOperations mongoOperations;
+    @Mock
+    private BulkOperations bulkOperations;
+
+    @Test
+    void replaceAllById_upsertsEachDocumentByIdInOneUnorderedBulk() {
+        when(mongoOperations.bulkOps(BulkOperations.BulkMode.UNORDERED, WrongNoteDocument.class)).thenReturn(bulkOperations);
+        WrongNoteDocument first = document("n1");
+        WrongNoteDocument second = document("n2");
+
+        MongoBulkWrites.replaceAllById(mongoOperations, WrongNoteDocument.class, List.of(first, second), WrongNoteDocument::getId);
+
+        ArgumentCaptor<Query> queries = ArgumentCaptor.forClass(Query.class);
+        ArgumentCaptor<WrongNoteDocument> documents = ArgumentCaptor.forClass(WrongNoteDocument.class);
+        ArgumentCaptor<FindAndReplaceOptions> options = ArgumentCaptor.forClass(FindAndReplaceOptions.class);
+        verify(bulkOperations, times(2)).replaceOne(queries.capture(), documents.capture(), options.capture());
+        verify(bulkOperations).execute();
+        assertEquals("n1", queries.getAllValues().get(0).getQueryObject().get("_id"));
+        assertEquals("n2", queries.getAllValues().get(1).getQueryObject().get("_id"));
+        assertSame(first, documents.getAllValues().get(0));
+        assertTrue(options.getAllValues().stream().allMatch(FindAndReplaceOptions::isUpsert));
+    }
+
+    @Test
+    void replaceAllById_skipsEmptyInput() {
+        MongoBulkWrites.replaceAllById(mongoOperations, WrongNoteDocument.class, List.of(), WrongNoteDocument::getId);
+
+        verifyNoInteractions(mongoOperations);
+    }
+
+    private WrongNoteDocument document(String id) {
+        WrongNoteDocument doc = new WrongNoteDocument();
+        doc.setId(id);
+        return doc;
+    }
+}
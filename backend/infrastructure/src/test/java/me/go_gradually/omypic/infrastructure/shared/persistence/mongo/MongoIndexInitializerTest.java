@@ -0,0 +1,88 @@
+package me.go_gradually.omypic.infrastructure.shared.persistence.mongo;
+
+import me.go_gradually.omypic.infrastructure.question.persistence.mongo.QuestionGroupDocument;
+import me.go_gradually.omypic.infrastructure.rulebook.persistence.mongo.RulebookDocument;
+import me.go_gradually.omypic.infrastructure.shared.config.AppProperties;
+import me.go_gradually.omypic.infrastructure.voice.persistence.mongo.VoiceSessionStateDocument;
+import me.go_gradually.omypic.infrastructure.wrongnote.persistence.mongo.WrongNoteDocument;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.index.IndexDefinition;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MongoIndexInitializerTest {
+
+    @Mock
+    private MongoOperations mongoOperations;
+    @Mock
+    private IndexOperations questionGroupIndexes;
+    @Mock
+    private IndexOperations rulebookIndexes;
+    @Mock
+    private IndexOperations wrongNoteIndexes;
+    @Mock
+    private IndexOperations voiceStateIndexes;
+
+    @Test
+    void ensureIndexes_definesLookupIndexesPerCollection() {
+        stubIndexOps();
+
+        initializer().ensureIndexes();
+
+        assertEquals(List.of("tags"), keysOf(questionGroupIndexes));
+        assertEquals(List.of("enabled", "scope", "questionGroup"), keysOf(rulebookIndexes));
+        IndexDefinition pattern = captured(wrongNoteIndexes);
+        assertEquals(List.of("pattern"), List.copyOf(pattern.getIndexKeys().keySet()));
+        assertEquals(true, pattern.getIndexOptions().get("unique"));
+        IndexDefinition ttl = captured(voiceStateIndexes);
+        assertEquals(List.of("updatedAt"), List.copyOf(ttl.getIndexKeys().keySet()));
+        assertEquals(3600L, ((Number) ttl.getIndexOptions().get("expireAfterSeconds")).longValue());
+    }
+
+    @Test
+    void ensureIndexes_keepsGoingWhenOneIndexFails() {
+        stubIndexOps();
+        when(questionGroupIndexes.ensureIndex(any(IndexDefinition.class))).thenThrow(new IllegalStateException("duplicate"));
+
+        initializer().ensureIndexes();
+
+        assertTrue(captured(rulebookIndexes).getIndexKeys().containsKey("enabled"));
+        assertTrue(captured(wrongNoteIndexes).getIndexKeys().containsKey("pattern"));
+    }
+
+    private void stubIndexOps() {
+        when(mongoOperations.indexOps(QuestionGroupDocument.class)).thenReturn(questionGroupIndexes);
+        when(mongoOperations.indexOps(RulebookDocument.class)).thenReturn(rulebookIndexes);
+        when(mongoOperations.indexOps(WrongNoteDocument.class)).thenReturn(wrongNoteIndexes);
+        when(mongoOperations.indexOps(VoiceSessionStateDocument.class)).thenReturn(voiceStateIndexes);
+    }
+
+    private MongoIndexInitializer initializer() {
+        AppProperties properties = new AppProperties();
+        properties.getVoice().setStateTtlMs(3_600_000L);
+        return new MongoIndexInitializer(mongoOperations, properties);
+    }
+
+    private List<String> keysOf(IndexOperations indexOperations) {
+        return List.copyOf(captured(indexOperations).getIndexKeys().keySet());
+    }
+
+    private IndexDefinition captured(IndexOperations indexOperations) {
+        ArgumentCaptor<IndexDefinition> captor = ArgumentCaptor.forClass(IndexDefinition.class);
+        verify(indexOperations).ensureIndex(captor.capture());
+        return captor.getValue();
+    }
+}
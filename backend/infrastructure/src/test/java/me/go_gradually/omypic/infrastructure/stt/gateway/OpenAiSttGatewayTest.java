@@ -37,7 +37,7 @@ class OpenAiSttGatewayTest {
 
         OpenAiSttGateway gateway = gateway();
 
-        String text = gateway.transcribe(new byte[]{1, 2, 3}, "whisper-1", "api-key", false, new VadSettings(111, 222, 0.7));
+        String text = gateway.transcribe(new byte[]{1, 2, 3}, "audio.wav", "whisper-1", "api-key", false, new VadSettings(111, 222, 0.7));
 
         assertEquals("hello", text);
 
@@ -62,7 +62,7 @@ class OpenAiSttGatewayTest {
 
         OpenAiSttGateway gateway = gateway();
 
-        String text = gateway.transcribe(new byte[]{9}, "whisper-1", "api-key", true, new VadSettings(1, 2, 0.5));
+        String text = gateway.transcribe(new byte[]{9}, "audio.wav", "whisper-1", "api-key", true, new VadSettings(1, 2, 0.5));
 
         assertEquals("translated", text);
         assertEquals("/v1/audio/translations", server.takeRequest().getPath());
@@ -76,11 +76,25 @@ class OpenAiSttGatewayTest {
 
         OpenAiSttGateway gateway = gateway();
 
-        String text = gateway.transcribe(new byte[]{1}, "whisper-1", "api-key", false, new VadSettings(1, 2, 0.5));
+        String text = gateway.transcribe(new byte[]{1}, null, "whisper-1", "api-key", false, new VadSettings(1, 2, 0.5));
 
         assertEquals("", text);
     }
 
+    @Test
+    void transcribe_usesGivenUploadFileName() throws Exception {
+        server.enqueue(new MockResponse()
+                .setHeader("Content-Type", "application/json")
+                .setBody("{\"text\":\"hello\"}"));
+
+        OpenAiSttGateway gateway = gateway();
+
+        gateway.transcribe(new byte[]{1, 2}, "audio.flac", "whisper-1", "api-key", false, new VadSettings(1, 2, 0.5));
+
+        String body = server.takeRequest().getBody().readUtf8();
+        assertTrue(body.contains("audio.flac"));
+    }
+
     private OpenAiSttGateway gateway() {
         AppProperties properties = new AppProperties();
         properties.getIntegrations().getOpenai().setBaseUrl(server.url("/").toString());
@@ -0,0 +1,113 @@
+package me.go_gradually.omypic.infrastructure.voice.persistence.mongo;
+
+import me.go_gradually.omypic.application.voice.model.VoiceSessionState;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class VoiceSessionStateMongoAdapterTest {
+
+    @Mock
+    private MongoOperations mongoOperations;
+
+    private VoiceSessionStateMongoAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        adapter = new VoiceSessionStateMongoAdapter(mongoOperations);
+    }
+
+    @Test
+    void save_upsertsMetadataWithoutTouchingEvents() {
+        VoiceSessionState state = new VoiceSessionState("v1", "s1", false, null, 0L, 2L,
+                new VoiceSessionState.Question("q1", "Tell me", "travel", "g1", "TRAVEL"), 4L, 7L, List.of());
+        ArgumentCaptor<Update> update = ArgumentCaptor.forClass(Update.class);
+
+        adapter.save(state);
+
+        verify(mongoOperations).upsert(any(Query.class), update.capture(), eq(VoiceSessionStateDocument.class));
+        Document set = (Document) update.getValue().getUpdateObject().get("$set");
+        Document max = (Document) update.getValue().getUpdateObject().get("$max");
+        assertEquals("s1", set.get("sessionId"));
+        assertEquals(4L, set.get("lastAcceptedChunkSequence"));
+        assertEquals(7L, max.get("latestEventId"));
+        assertFalse(set.containsKey("events"));
+    }
+
+    @Test
+    void appendEvent_pushesWithSliceAndRaisesLatestEventId() {
+        ArgumentCaptor<Update> update = ArgumentCaptor.forClass(Update.class);
+
+        adapter.appendEvent("v1", new VoiceSessionState.Event(9L, "turn.processed", "{\"eventId\":9}"), 256);
+
+        verify(mongoOperations).updateFirst(any(Query.class), update.capture(), eq(VoiceSessionStateDocument.class));
+        Document push = (Document) update.getValue().getUpdateObject().get("$push");
+        Update.Modifiers modifiers = (Update.Modifiers) push.get("events");
+        Document max = (Document) update.getValue().getUpdateObject().get("$max");
+        assertTrue(modifiers.getModifiers().stream()
+                .anyMatch(modifier -> "$slice".equals(modifier.getKey()) && Integer.valueOf(-256).equals(modifier.getValue())));
+        assertEquals(9L, max.get("latestEventId"));
+    }
+
+    @Test
+    void appendEvents_pushesBatchInOneUpdate() {
+        ArgumentCaptor<Update> update = ArgumentCaptor.forClass(Update.class);
+
+        adapter.appendEvents("v1", List.of(
+                new VoiceSessionState.Event(9L, "tts.audio", "{\"eventId\":9}"),
+                new VoiceSessionState.Event(10L, "tts.audio", "{\"eventId\":10}")), 12);
+
+        verify(mongoOperations).updateFirst(any(Query.class), update.capture(), eq(VoiceSessionStateDocument.class));
+        Document push = (Document) update.getValue().getUpdateObject().get("$push");
+        Update.Modifiers modifiers = (Update.Modifiers) push.get("events");
+        Document max = (Document) update.getValue().getUpdateObject().get("$max");
+        assertTrue(modifiers.getModifiers().stream()
+                .anyMatch(modifier -> "$each".equals(modifier.getKey()) && ((Object[]) modifier.getValue()).length == 2));
+        assertTrue(modifiers.getModifiers().stream()
+                .anyMatch(modifier -> "$slice".equals(modifier.getKey()) && Integer.valueOf(-12).equals(modifier.getValue())));
+        assertEquals(10L, max.get("latestEventId"));
+    }
+
+    @Test
+    void find_mapsDocumentToState() {
+        VoiceSessionStateDocument doc = new VoiceSessionStateDocument();
+        doc.setId("v1");
+        doc.setSessionId("s1");
+        doc.setStopped(true);
+        doc.setStopReason("user_stop");
+        doc.setLatestEventId(3L);
+        VoiceSessionStateDocument.EventDocument event = new VoiceSessionStateDocument.EventDocument();
+        event.setEventId(3L);
+        event.setEvent("session.stopped");
+        event.setJson("{}");
+        doc.setEvents(List.of(event));
+        when(mongoOperations.findById("v1", VoiceSessionStateDocument.class)).thenReturn(doc);
+
+        VoiceSessionState state = adapter.find("v1").orElseThrow();
+
+        assertEquals("s1", state.sessionId());
+        assertTrue(state.stopped());
+        assertNull(state.currentQuestion());
+        assertEquals(3L, state.oldestEventId());
+        assertEquals("session.stopped", state.events().get(0).event());
+    }
+}
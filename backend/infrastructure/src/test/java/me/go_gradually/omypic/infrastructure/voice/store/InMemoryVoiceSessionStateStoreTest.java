@@ -0,0 +1,47 @@
+package me.go_gradually.omypic.infrastructure.voice.store;
+
+import me.go_gradually.omypic.application.voice.model.VoiceSessionState;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class InMemoryVoiceSessionStateStoreTest {
+
+    @Test
+    void appendEvent_raisesLatestEventIdWithoutKeepingEventCopies() {
+        InMemoryVoiceSessionStateStore store = new InMemoryVoiceSessionStateStore();
+        store.save(state("v1", false, 0L));
+
+        store.appendEvent("v1", new VoiceSessionState.Event(1L, "session.ready", "{}"), 2);
+        store.appendEvent("v1", new VoiceSessionState.Event(2L, "question.prompt", "{}"), 2);
+        store.save(state("v1", true, 0L));
+        store.appendEvent("v1", new VoiceSessionState.Event(3L, "session.stopped", "{}"), 2);
+
+        VoiceSessionState stored = store.find("v1").orElseThrow();
+        assertTrue(stored.stopped());
+        assertEquals(3L, stored.latestEventId());
+        assertTrue(stored.events().isEmpty());
+        assertFalse(store.sharesEventsAcrossInstances());
+    }
+
+    @Test
+    void appendEvent_ignoresUnknownSessionAndDeleteRemovesState() {
+        InMemoryVoiceSessionStateStore store = new InMemoryVoiceSessionStateStore();
+        store.appendEvent("missing", new VoiceSessionState.Event(1L, "session.ready", "{}"), 8);
+        store.save(state("v1", false, 0L));
+
+        store.delete("v1");
+
+        assertTrue(store.find("missing").isEmpty());
+        assertTrue(store.find("v1").isEmpty());
+    }
+
+    private VoiceSessionState state(String voiceSessionId, boolean stopped, long latestEventId) {
+        return new VoiceSessionState(voiceSessionId, "s1", stopped, stopped ? "user_stop" : null, 0L, 1L,
+                null, null, latestEventId, List.of());
+    }
+}
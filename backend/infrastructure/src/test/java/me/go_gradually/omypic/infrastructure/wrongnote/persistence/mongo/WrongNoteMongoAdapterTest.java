@@ -8,6 +8,10 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndReplaceOptions;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.query.Query;
 
 import java.time.Instant;
 import java.util.List;
@@ -16,6 +20,8 @@ import java.util.Optional;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -24,12 +30,16 @@ class WrongNoteMongoAdapterTest {
 
     @Mock
     private WrongNoteMongoRepository repository;
+    @Mock
+    private MongoOperations mongoOperations;
+    @Mock
+    private BulkOperations bulkOperations;
 
     private WrongNoteMongoAdapter adapter;
 
     @BeforeEach
     void setUp() {
-        adapter = new WrongNoteMongoAdapter(repository);
+        adapter = new WrongNoteMongoAdapter(repository, mongoOperations);
     }
 
     @Test
@@ -84,6 +94,27 @@ class WrongNoteMongoAdapterTest {
         verify(repository).deleteById("n2");
     }
 
+    @Test
+    void saveAll_replacesDocumentsInOneUnorderedBulkWrite() {
+        when(mongoOperations.bulkOps(BulkOperations.BulkMode.UNORDERED, WrongNoteDocument.class)).thenReturn(bulkOperations);
+
+        List<WrongNote> saved = adapter.saveAll(List.of(WrongNote.rehydrate(
+                WrongNoteId.of("n1"), "pattern", 1, "summary", Instant.parse("2026-02-01T00:00:00Z"))));
+
+        assertEquals("pattern", saved.get(0).getPattern());
+        verify(bulkOperations).replaceOne(any(Query.class), any(WrongNoteDocument.class), any(FindAndReplaceOptions.class));
+        verify(bulkOperations).execute();
+        verify(repository, never()).save(any(WrongNoteDocument.class));
+        verify(repository, never()).saveAll(anyList());
+    }
+
+    @Test
+    void deleteAllById_skipsEmptyInput() {
+        adapter.deleteAllById(List.of());
+
+        verify(repository, never()).deleteAllById(anyList());
+    }
+
     private WrongNoteDocument document() {
         WrongNoteDocument doc = new WrongNoteDocument();
         doc.setId("n1");
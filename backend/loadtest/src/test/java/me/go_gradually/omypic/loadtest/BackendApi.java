@@ -0,0 +1,94 @@
+package me.go_gradually.omypic.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 프론트엔드가 호출하는 순서 그대로 백엔드 REST/SSE API를 부른다.
+ */
+final class BackendApi {
+    private static final String API_KEY = "sk-loadtest";
+
+    private final URI baseUri;
+    private final ObjectMapper objectMapper;
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    BackendApi(URI baseUri, ObjectMapper objectMapper) {
+        this.baseUri = baseUri;
+        this.objectMapper = objectMapper;
+    }
+
+    // 이전 실행에서 만든 부하 테스트용 그룹을 지우고, 세션당 turn 수를 채울 만큼 새로 만든다.
+    void seedQuestionGroups(String tag, int groupCount) throws IOException, InterruptedException {
+        for (JsonNode group : send("GET", "/api/question-groups", null)) {
+            if (group.path("tags").toString().contains("\"" + tag + "\"")) {
+                send("DELETE", "/api/question-groups/" + group.path("id").asText(), null);
+            }
+        }
+        for (int i = 0; i < groupCount; i++) {
+            JsonNode group = send("POST", "/api/question-groups", Map.of("name", "Load test " + i, "tags", List.of(tag)));
+            for (int q = 0; q < 3; q++) {
+                send("POST", "/api/question-groups/" + group.path("id").asText() + "/items",
+                        Map.of("text", "Load test question " + i + "-" + q + ". Describe a recent trip.", "questionType", "DESCRIPTION"));
+            }
+        }
+    }
+
+    void selectImmediateMode(String sessionId, String tag) throws IOException, InterruptedException {
+        send("PUT", "/api/modes", Map.of("sessionId", sessionId, "mode", "IMMEDIATE", "selectedGroupTags", List.of(tag)));
+    }
+
+    String openVoiceSession(String sessionId) throws IOException, InterruptedException {
+        return send("POST", "/api/voice/sessions", Map.of("sessionId", sessionId)).path("voiceSessionId").asText();
+    }
+
+    SseEventStream subscribeEvents(String voiceSessionId) {
+        SseEventStream stream = new SseEventStream(objectMapper);
+        HttpRequest request = HttpRequest.newBuilder(baseUri.resolve("/api/voice/sessions/" + voiceSessionId + "/events"))
+                .header("Accept", "text/event-stream")
+                .GET()
+                .build();
+        httpClient.sendAsync(request, HttpResponse.BodyHandlers.fromLineSubscriber(stream));
+        return stream;
+    }
+
+    void appendAudio(String voiceSessionId, String pcm16Base64, long sequence) throws IOException, InterruptedException {
+        send("POST", "/api/voice/sessions/" + voiceSessionId + "/audio-chunks",
+                Map.of("pcm16Base64", pcm16Base64, "sampleRate", 16000, "sequence", sequence));
+    }
+
+    void stop(String voiceSessionId) throws IOException, InterruptedException {
+        send("POST", "/api/voice/sessions/" + voiceSessionId + "/stop", Map.of("forced", true, "reason", "user_stop"));
+    }
+
+    private JsonNode send(String method, String path, Object body) throws IOException, InterruptedException {
+        HttpRequest.BodyPublisher publisher = body == null
+                ? HttpRequest.BodyPublishers.noBody()
+                : HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body));
+        HttpRequest request = HttpRequest.newBuilder(baseUri.resolve(path))
+                .header("Content-Type", "application/json")
+                .header("X-API-Key", API_KEY)
+                .method(method, publisher)
+                .build();
+        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() / 100 != 2) {
+            throw new IllegalStateException(method + " " + path + " failed: " + response.statusCode() + " " + response.body());
+        }
+        String responseBody = response.body();
+        return responseBody == null || responseBody.isBlank()
+                ? objectMapper.missingNode()
+                : objectMapper.readTree(responseBody);
+    }
+}
@@ -0,0 +1,59 @@
+package me.go_gradually.omypic.loadtest;
+
+import java.util.Locale;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * OpenAI 대역 응답 지연 분포.
+ * {@code fixed:300}, {@code uniform:200:800}, {@code lognormal:<median>:<p99>} 형식(ms)을 받는다.
+ */
+record LatencyDistribution(Kind kind, long first, long second) {
+    private static final double Z_99 = 2.3263;
+
+    enum Kind {
+        FIXED,
+        UNIFORM,
+        LOGNORMAL
+    }
+
+    static LatencyDistribution parse(String spec) {
+        if (spec == null || spec.isBlank()) {
+            return new LatencyDistribution(Kind.FIXED, 0L, 0L);
+        }
+        String[] parts = spec.trim().split(":");
+        Kind kind = Kind.valueOf(parts[0].trim().toUpperCase(Locale.ROOT));
+        long first = parts.length > 1 ? Long.parseLong(parts[1].trim()) : 0L;
+        long second = parts.length > 2 ? Long.parseLong(parts[2].trim()) : first;
+        if (first < 0L || second < first) {
+            throw new IllegalArgumentException("Invalid latency distribution: " + spec);
+        }
+        return new LatencyDistribution(kind, first, second);
+    }
+
+    long sampleMillis() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return switch (kind) {
+            case FIXED -> first;
+            case UNIFORM -> first == second ? first : random.nextLong(first, second + 1L);
+            case LOGNORMAL -> sampleLogNormal(random);
+        };
+    }
+
+    private long sampleLogNormal(ThreadLocalRandom random) {
+        if (first <= 0L) {
+            return 0L;
+        }
+        double mu = Math.log(first);
+        double sigma = Math.log((double) second / first) / Z_99;
+        return Math.round(Math.exp(mu + sigma * random.nextGaussian()));
+    }
+
+    @Override
+    public String toString() {
+        return switch (kind) {
+            case FIXED -> "fixed:" + first;
+            case UNIFORM -> "uniform:" + first + ":" + second;
+            case LOGNORMAL -> "lognormal:" + first + ":" + second;
+        };
+    }
+}
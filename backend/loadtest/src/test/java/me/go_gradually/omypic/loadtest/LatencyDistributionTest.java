@@ -0,0 +1,38 @@
+package me.go_gradually.omypic.loadtest;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LatencyDistributionTest {
+
+    @Test
+    void parse_readsFixedAndUniformSpecs() {
+        assertEquals(300L, LatencyDistribution.parse("fixed:300").sampleMillis());
+        assertEquals(0L, LatencyDistribution.parse("").sampleMillis());
+
+        LatencyDistribution uniform = LatencyDistribution.parse("uniform:200:400");
+        assertTrue(LongStream.range(0, 200).map(i -> uniform.sampleMillis()).allMatch(v -> v >= 200 && v <= 400));
+        assertEquals("uniform:200:400", uniform.toString());
+    }
+
+    @Test
+    void lognormal_centersOnMedian() {
+        LatencyDistribution distribution = LatencyDistribution.parse("lognormal:1000:4000");
+        long[] samples = LongStream.range(0, 5001).map(i -> distribution.sampleMillis()).toArray();
+        Arrays.sort(samples);
+
+        long median = samples[samples.length / 2];
+        assertTrue(median > 850 && median < 1150, "median=" + median);
+    }
+
+    @Test
+    void parse_rejectsInvertedRange() {
+        assertThrows(IllegalArgumentException.class, () -> LatencyDistribution.parse("uniform:500:100"));
+    }
+}
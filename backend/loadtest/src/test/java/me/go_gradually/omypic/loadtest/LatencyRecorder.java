@@ -0,0 +1,38 @@
+package me.go_gradually.omypic.loadtest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 밀리초 단위 지연 샘플을 모아 nearest-rank 백분위를 계산한다.
+ */
+final class LatencyRecorder {
+    private final List<Long> samples = new ArrayList<>();
+
+    synchronized void record(long millis) {
+        samples.add(Math.max(0L, millis));
+    }
+
+    synchronized int count() {
+        return samples.size();
+    }
+
+    synchronized long percentile(double percentile) {
+        if (samples.isEmpty()) {
+            return 0L;
+        }
+        List<Long> sorted = new ArrayList<>(samples);
+        sorted.sort(null);
+        int rank = (int) Math.ceil(percentile / 100.0 * sorted.size());
+        return sorted.get(Math.min(sorted.size() - 1, Math.max(0, rank - 1)));
+    }
+
+    synchronized long max() {
+        return samples.stream().mapToLong(Long::longValue).max().orElse(0L);
+    }
+
+    String summary() {
+        return "p50=" + percentile(50) + " p90=" + percentile(90) + " p99=" + percentile(99)
+                + " max=" + max() + " (n=" + count() + ")";
+    }
+}
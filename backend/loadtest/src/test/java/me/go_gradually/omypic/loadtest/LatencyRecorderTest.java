@@ -0,0 +1,30 @@
+package me.go_gradually.omypic.loadtest;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class LatencyRecorderTest {
+
+    @Test
+    void percentile_usesNearestRank() {
+        LatencyRecorder recorder = new LatencyRecorder();
+        for (long value = 100; value >= 1; value--) {
+            recorder.record(value);
+        }
+
+        assertEquals(50L, recorder.percentile(50));
+        assertEquals(90L, recorder.percentile(90));
+        assertEquals(99L, recorder.percentile(99));
+        assertEquals(100L, recorder.max());
+        assertEquals(100, recorder.count());
+    }
+
+    @Test
+    void percentile_returnsZeroWithoutSamples() {
+        LatencyRecorder recorder = new LatencyRecorder();
+
+        assertEquals(0L, recorder.percentile(99));
+        assertEquals("p50=0 p90=0 p99=0 max=0 (n=0)", recorder.summary());
+    }
+}
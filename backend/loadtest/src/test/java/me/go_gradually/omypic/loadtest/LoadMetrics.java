@@ -0,0 +1,31 @@
+package me.go_gradually.omypic.loadtest;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * 모든 가상 클라이언트가 공유하는 측정값.
+ */
+final class LoadMetrics {
+    final LatencyRecorder turnLatency = new LatencyRecorder();
+    final LatencyRecorder eventLag = new LatencyRecorder();
+    final LongAdder completedTurns = new LongAdder();
+    final LongAdder failedTurns = new LongAdder();
+    final LongAdder completedSessions = new LongAdder();
+    final LongAdder failedSessions = new LongAdder();
+    private final Map<String, LongAdder> failureReasons = new ConcurrentHashMap<>();
+
+    void recordFailure(String reason) {
+        failureReasons.computeIfAbsent(reason == null ? "unknown" : reason, key -> new LongAdder()).increment();
+    }
+
+    String failureSummary() {
+        return failureReasons.entrySet().stream()
+                .sorted((left, right) -> Long.compare(right.getValue().sum(), left.getValue().sum()))
+                .limit(5)
+                .map(entry -> entry.getValue().sum() + "x " + entry.getKey())
+                .collect(Collectors.joining("; "));
+    }
+}
@@ -0,0 +1,51 @@
+package me.go_gradually.omypic.loadtest;
+
+/**
+ * 부하 시나리오 설정. Gradle {@code -Ploadtest.*} 값이 시스템 프로퍼티로 전달된다.
+ */
+record LoadTestConfig(int sessions,
+                      int turnsPerSession,
+                      long rampUpMillis,
+                      int audioSeconds,
+                      long turnTimeoutSeconds,
+                      LatencyDistribution sttLatency,
+                      LatencyDistribution ttsLatency,
+                      LatencyDistribution responsesLatency,
+                      String mongoUri,
+                      String voiceStateStore) {
+    private static final String PREFIX = "loadtest.";
+
+    static LoadTestConfig fromSystemProperties() {
+        return new LoadTestConfig(
+                intProperty("sessions", 20),
+                intProperty("turns", 3),
+                longProperty("rampUpMillis", 2000L),
+                intProperty("audioSeconds", 5),
+                longProperty("turnTimeoutSeconds", 60L),
+                LatencyDistribution.parse(property("sttLatency", "lognormal:600:2000")),
+                LatencyDistribution.parse(property("ttsLatency", "lognormal:400:1500")),
+                LatencyDistribution.parse(property("responsesLatency", "lognormal:1500:5000")),
+                property("mongoUri", defaultMongoUri()),
+                property("voiceStateStore", "memory")
+        );
+    }
+
+    // 개발용 DB를 건드리지 않도록 기본값은 별도 데이터베이스를 쓴다.
+    private static String defaultMongoUri() {
+        String fromEnv = System.getenv("OMYPIC_LOADTEST_MONGODB_URI");
+        return fromEnv == null || fromEnv.isBlank() ? "mongodb://localhost:27017/omypic_loadtest" : fromEnv;
+    }
+
+    private static String property(String name, String fallback) {
+        String value = System.getProperty(PREFIX + name);
+        return value == null || value.isBlank() ? fallback : value.trim();
+    }
+
+    private static int intProperty(String name, int fallback) {
+        return Math.max(1, Integer.parseInt(property(name, String.valueOf(fallback))));
+    }
+
+    private static long longProperty(String name, long fallback) {
+        return Math.max(0L, Long.parseLong(property(name, String.valueOf(fallback))));
+    }
+}
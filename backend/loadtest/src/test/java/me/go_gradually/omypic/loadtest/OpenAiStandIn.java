@@ -0,0 +1,164 @@
+package me.go_gradually.omypic.loadtest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import okio.Buffer;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * {@code /v1/audio/transcriptions}, {@code /v1/audio/speech}, {@code /v1/responses}를 흉내 내는 로컬 OpenAI 대역.
+ * 엔드포인트별 지연 분포만큼 응답을 늦추고, 전사 응답 시각을 기록해 SSE 전달 지연 측정에 쓴다.
+ */
+final class OpenAiStandIn implements AutoCloseable {
+    private static final Pattern TRANSCRIPT_ID = Pattern.compile("^\\[lt-(\\d+)]");
+    private static final List<String> FILLERS = List.of("Well", "Actually", "To be honest", "You know", "I mean", "Let me think");
+    private static final List<String> ADJECTIVES = List.of("memorable", "vivid", "cozy", "hectic", "relaxing", "crowded");
+    private static final List<String> ADVERBS = List.of("definitely", "honestly", "usually", "clearly", "totally", "rarely");
+    private static final byte[] SPEECH_WAV = silentWav(16000, 8000);
+
+    private final MockWebServer server = new MockWebServer();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final LoadTestConfig config;
+    private final Map<Long, Long> transcriptReadyNanos = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+    private final LongAdder sttRequests = new LongAdder();
+    private final LongAdder ttsRequests = new LongAdder();
+    private final LongAdder responsesRequests = new LongAdder();
+
+    private OpenAiStandIn(LoadTestConfig config) {
+        this.config = config;
+    }
+
+    static OpenAiStandIn start(LoadTestConfig config) throws IOException {
+        OpenAiStandIn standIn = new OpenAiStandIn(config);
+        standIn.server.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) throws InterruptedException {
+                return standIn.route(request);
+            }
+        });
+        standIn.server.start();
+        return standIn;
+    }
+
+    String baseUrl() {
+        String url = server.url("/").toString();
+        return url.endsWith("/") ? url.substring(0, url.length() - 1) : url;
+    }
+
+    Long transcriptReadyNanos(String transcript) {
+        Matcher matcher = TRANSCRIPT_ID.matcher(transcript == null ? "" : transcript);
+        return matcher.find() ? transcriptReadyNanos.remove(Long.parseLong(matcher.group(1))) : null;
+    }
+
+    String requestCounts() {
+        return "stt=" + sttRequests.sum() + " tts=" + ttsRequests.sum() + " responses=" + responsesRequests.sum();
+    }
+
+    @Override
+    public void close() throws IOException {
+        server.shutdown();
+    }
+
+    private MockResponse route(RecordedRequest request) throws InterruptedException {
+        String path = request.getPath() == null ? "" : request.getPath();
+        if (path.endsWith("/v1/audio/transcriptions")) {
+            sttRequests.increment();
+            return transcription(config.sttLatency().sampleMillis());
+        }
+        if (path.endsWith("/v1/audio/speech")) {
+            ttsRequests.increment();
+            Thread.sleep(config.ttsLatency().sampleMillis());
+            return new MockResponse().setHeader("Content-Type", "audio/wav").setBody(new Buffer().write(SPEECH_WAV));
+        }
+        if (path.endsWith("/v1/responses")) {
+            responsesRequests.increment();
+            Thread.sleep(config.responsesLatency().sampleMillis());
+            return json(responsesBody(request.getBody().readUtf8()));
+        }
+        return new MockResponse().setResponseCode(404);
+    }
+
+    private MockResponse transcription(long delayMillis) throws InterruptedException {
+        Thread.sleep(delayMillis);
+        long id = sequence.incrementAndGet();
+        String text = "[lt-" + id + "] Last summer I went to Busan with my family and we walked along the beach.";
+        transcriptReadyNanos.put(id, System.nanoTime());
+        return json(Map.of("text", text));
+    }
+
+    private Map<String, Object> responsesBody(String requestBody) {
+        long id = sequence.incrementAndGet();
+        return Map.of(
+                "id", "resp-lt-" + id,
+                "conversation", Map.of("id", "conv-lt-" + id),
+                "output_text", outputText(requestBody, (int) (id % FILLERS.size())),
+                "usage", Map.of("input_tokens", Math.max(1, requestBody.length() / 4), "output_tokens", 320)
+        );
+    }
+
+    // 요청에 담긴 구조화 출력 스키마를 보고 피드백/추천 표현/부트스트랩 응답을 고른다.
+    private String outputText(String requestBody, int rotation) {
+        if (requestBody.contains("exampleAnswer")) {
+            return toJson(Map.of(
+                    "summary", "Clear answer. Add one concrete reason. Keep the past tense.",
+                    "corrections", Map.of(
+                            "grammar", Map.of("issue", "Tense drifts", "fix", "Stay in past tense"),
+                            "expression", Map.of("issue", "Repetitive verbs", "fix", "Use a more specific verb"),
+                            "logic", Map.of("issue", "Reason is missing", "fix", "Add a because clause")),
+                    "recommendations", recommendations(rotation),
+                    "exampleAnswer", "Well, last summer I went to Busan with my family, and it was definitely memorable.",
+                    "rulebookEvidence", List.of()
+            ));
+        }
+        if (requestBody.contains("adverb")) {
+            return toJson(recommendations(rotation + 1));
+        }
+        return "ok";
+    }
+
+    private Map<String, Object> recommendations(int rotation) {
+        return Map.of(
+                "filler", Map.of("term", FILLERS.get(rotation % FILLERS.size()), "usage", "Open the answer"),
+                "adjective", Map.of("term", ADJECTIVES.get(rotation % ADJECTIVES.size()), "usage", "Describe the place"),
+                "adverb", Map.of("term", ADVERBS.get(rotation % ADVERBS.size()), "usage", "Stress the opinion")
+        );
+    }
+
+    private MockResponse json(Object body) {
+        return new MockResponse().setHeader("Content-Type", "application/json").setBody(toJson(body));
+    }
+
+    private String toJson(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize stand-in response", e);
+        }
+    }
+
+    private static byte[] silentWav(int sampleRate, int samples) {
+        int dataBytes = samples * 2;
+        ByteBuffer buffer = ByteBuffer.allocate(44 + dataBytes).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.put("RIFF".getBytes(StandardCharsets.US_ASCII)).putInt(36 + dataBytes).put("WAVE".getBytes(StandardCharsets.US_ASCII));
+        buffer.put("fmt ".getBytes(StandardCharsets.US_ASCII)).putInt(16).putShort((short) 1).putShort((short) 1);
+        buffer.putInt(sampleRate).putInt(sampleRate * 2).putShort((short) 2).putShort((short) 16);
+        buffer.put("data".getBytes(StandardCharsets.US_ASCII)).putInt(dataBytes);
+        return buffer.array();
+    }
+}
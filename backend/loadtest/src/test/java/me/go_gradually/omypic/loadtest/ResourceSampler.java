@@ -0,0 +1,62 @@
+package me.go_gradually.omypic.loadtest;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.ThreadMXBean;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 부하 구간 동안 JVM 스레드 수와 힙 사용량을 주기적으로 샘플링한다.
+ * 백엔드와 부하 생성기가 같은 JVM에서 돌기 때문에 기준값(부하 시작 직전)과의 차이를 함께 본다.
+ */
+final class ResourceSampler implements AutoCloseable {
+    private final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+    private final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "loadtest-resource-sampler");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final int baselineThreads;
+    private final long baselineHeapBytes;
+    private volatile int peakThreads;
+    private volatile long peakHeapBytes;
+
+    private ResourceSampler() {
+        System.gc();
+        this.baselineThreads = threads.getThreadCount();
+        this.baselineHeapBytes = heapUsed();
+        this.peakThreads = baselineThreads;
+        this.peakHeapBytes = baselineHeapBytes;
+    }
+
+    static ResourceSampler start(long periodMillis) {
+        ResourceSampler sampler = new ResourceSampler();
+        sampler.scheduler.scheduleAtFixedRate(sampler::sample, 0L, periodMillis, TimeUnit.MILLISECONDS);
+        return sampler;
+    }
+
+    Snapshot snapshot() {
+        sample();
+        return new Snapshot(baselineThreads, peakThreads, baselineHeapBytes, peakHeapBytes, heapUsed());
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+
+    private void sample() {
+        peakThreads = Math.max(peakThreads, threads.getThreadCount());
+        peakHeapBytes = Math.max(peakHeapBytes, heapUsed());
+    }
+
+    private long heapUsed() {
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+
+    record Snapshot(int baselineThreads, int peakThreads, long baselineHeapBytes, long peakHeapBytes, long endHeapBytes) {
+    }
+}
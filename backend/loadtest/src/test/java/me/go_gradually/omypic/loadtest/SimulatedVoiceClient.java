@@ -0,0 +1,114 @@
+package me.go_gradually.omypic.loadtest;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 한 명의 사용자를 흉내 낸다: 모드 선택 → 음성 세션 open → SSE 구독 → 질문마다 음성 청크 전송 → stop.
+ * turn 지연은 음성 청크 전송 직후부터 같은 turn의 feedback.final 수신까지다.
+ */
+final class SimulatedVoiceClient implements Runnable {
+    private final int index;
+    private final LoadTestConfig config;
+    private final BackendApi api;
+    private final OpenAiStandIn standIn;
+    private final LoadMetrics metrics;
+    private final String audioBase64;
+    private final String questionTag;
+    private long chunkSequence;
+
+    SimulatedVoiceClient(int index,
+                         LoadTestConfig config,
+                         BackendApi api,
+                         OpenAiStandIn standIn,
+                         LoadMetrics metrics,
+                         String audioBase64,
+                         String questionTag) {
+        this.index = index;
+        this.config = config;
+        this.api = api;
+        this.standIn = standIn;
+        this.metrics = metrics;
+        this.audioBase64 = audioBase64;
+        this.questionTag = questionTag;
+    }
+
+    // 발화 구간(220Hz 톤) 뒤에 1초 무음을 붙여, 서버가 음량으로 발화 끝을 판단하더라도 turn이 닫히게 한다.
+    static String speechLikePcm16Base64(int seconds) {
+        int sampleRate = 16000;
+        int voicedSamples = sampleRate * seconds;
+        ByteBuffer buffer = ByteBuffer.allocate((voicedSamples + sampleRate) * 2).order(ByteOrder.LITTLE_ENDIAN);
+        for (int i = 0; i < voicedSamples; i++) {
+            buffer.putShort((short) (6000 * Math.sin(2 * Math.PI * 220 * i / sampleRate)));
+        }
+        return Base64.getEncoder().encodeToString(buffer.array());
+    }
+
+    @Override
+    public void run() {
+        try {
+            runSession();
+            metrics.completedSessions.increment();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            metrics.failedSessions.increment();
+        } catch (Exception e) {
+            metrics.failedSessions.increment();
+            metrics.recordFailure("session: " + e.getMessage());
+        }
+    }
+
+    private void runSession() throws Exception {
+        String sessionId = "loadtest-" + index + "-" + UUID.randomUUID();
+        api.selectImmediateMode(sessionId, questionTag);
+        String voiceSessionId = api.openVoiceSession(sessionId);
+        try (SseEventStream events = api.subscribeEvents(voiceSessionId)) {
+            runTurns(voiceSessionId, events);
+        } finally {
+            api.stop(voiceSessionId);
+        }
+    }
+
+    private void runTurns(String voiceSessionId, SseEventStream events) throws Exception {
+        Duration timeout = Duration.ofSeconds(config.turnTimeoutSeconds());
+        SseEventStream.ReceivedEvent prompt = events.awaitNextPrompt(0L, timeout);
+        for (int turn = 0; turn < config.turnsPerSession(); turn++) {
+            if (prompt == null || !prompt.hasQuestion()) {
+                metrics.recordFailure(prompt == null ? "question.prompt timeout" : "questions exhausted");
+                return;
+            }
+            long turnId = prompt.turnId();
+            runTurn(voiceSessionId, events, turnId, timeout);
+            prompt = turn + 1 < config.turnsPerSession() ? events.awaitNextPrompt(turnId, timeout) : prompt;
+        }
+    }
+
+    private void runTurn(String voiceSessionId, SseEventStream events, long turnId, Duration timeout) throws Exception {
+        api.appendAudio(voiceSessionId, audioBase64, ++chunkSequence);
+        long sentAt = System.nanoTime();
+        SseEventStream.ReceivedEvent transcript = events.awaitTurnEvent("stt.final", turnId, timeout);
+        if (transcript != null && transcript.is("stt.final")) {
+            recordEventLag(transcript);
+        }
+        SseEventStream.ReceivedEvent feedback = events.awaitTurnEvent("feedback.final", turnId, timeout);
+        if (feedback == null || !feedback.is("feedback.final")) {
+            metrics.failedTurns.increment();
+            metrics.recordFailure(feedback == null ? "feedback.final timeout" : feedback.name() + ": " + feedback.text("message"));
+            return;
+        }
+        metrics.turnLatency.record(TimeUnit.NANOSECONDS.toMillis(feedback.receivedNanos() - sentAt));
+        metrics.completedTurns.increment();
+    }
+
+    // 대역이 전사 응답을 돌려준 시점부터 클라이언트가 stt.final을 받은 시점까지.
+    private void recordEventLag(SseEventStream.ReceivedEvent transcript) {
+        Long readyAt = standIn.transcriptReadyNanos(transcript.text("text"));
+        if (readyAt != null) {
+            metrics.eventLag.record(TimeUnit.NANOSECONDS.toMillis(transcript.receivedNanos() - readyAt));
+        }
+    }
+}
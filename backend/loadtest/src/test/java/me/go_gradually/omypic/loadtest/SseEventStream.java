@@ -0,0 +1,135 @@
+package me.go_gradually.omypic.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.time.Duration;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Flow;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SSE 응답 줄을 이벤트로 묶어 큐에 넣는다.
+ * HttpClient 라인 구독자로 동작하므로 세션마다 읽기 전용 스레드를 만들지 않는다.
+ */
+final class SseEventStream implements Flow.Subscriber<String>, AutoCloseable {
+    private static final ReceivedEvent END_OF_STREAM = new ReceivedEvent("", null, 0L);
+
+    private final ObjectMapper objectMapper;
+    private final BlockingQueue<ReceivedEvent> events = new LinkedBlockingQueue<>();
+    private final StringBuilder data = new StringBuilder();
+    private volatile Flow.Subscription subscription;
+    private String eventName = "";
+
+    SseEventStream(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        this.subscription = subscription;
+        subscription.request(Long.MAX_VALUE);
+    }
+
+    @Override
+    public void onNext(String line) {
+        if (line.isEmpty()) {
+            dispatch();
+        } else if (line.startsWith("event:")) {
+            eventName = line.substring("event:".length()).trim();
+        } else if (line.startsWith("data:")) {
+            data.append(line.substring("data:".length()));
+        }
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        events.add(END_OF_STREAM);
+    }
+
+    @Override
+    public void onComplete() {
+        events.add(END_OF_STREAM);
+    }
+
+    /**
+     * 지정한 turn의 이벤트가 올 때까지 기다린다. 같은 turn의 session.error나 session.stopped가 먼저 오면 그것을 돌려주고,
+     * 시간 초과나 스트림 종료 시에는 null을 돌려준다.
+     */
+    ReceivedEvent awaitTurnEvent(String name, long turnId, Duration timeout) throws InterruptedException {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (true) {
+            ReceivedEvent event = events.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+            if (event == null || event == END_OF_STREAM) {
+                return null;
+            }
+            if (event.is(name) && event.turnId() == turnId || event.isTerminalFor(turnId)) {
+                return event;
+            }
+        }
+    }
+
+    /**
+     * 이전 turn과 다른 turnId를 가진 question.prompt를 기다린다. 질문이 소진되면 question이 null인 이벤트가 온다.
+     */
+    ReceivedEvent awaitNextPrompt(long previousTurnId, Duration timeout) throws InterruptedException {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (true) {
+            ReceivedEvent event = events.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+            if (event == null || event == END_OF_STREAM) {
+                return null;
+            }
+            if (event.is("session.stopped") || event.is("question.prompt") && event.turnId() != previousTurnId) {
+                return event;
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        Flow.Subscription current = subscription;
+        if (current != null) {
+            current.cancel();
+        }
+    }
+
+    private void dispatch() {
+        if (eventName.isEmpty() && data.length() == 0) {
+            return;
+        }
+        events.add(new ReceivedEvent(eventName, parse(data.toString()), System.nanoTime()));
+        eventName = "";
+        data.setLength(0);
+    }
+
+    private JsonNode parse(String raw) {
+        try {
+            return objectMapper.readTree(raw);
+        } catch (Exception e) {
+            return objectMapper.getNodeFactory().textNode(raw);
+        }
+    }
+
+    record ReceivedEvent(String name, JsonNode data, long receivedNanos) {
+        boolean is(String eventName) {
+            return name.equals(eventName);
+        }
+
+        long turnId() {
+            return data == null ? -1L : data.path("turnId").asLong(-1L);
+        }
+
+        boolean hasQuestion() {
+            return data != null && data.path("question").isObject();
+        }
+
+        String text(String field) {
+            return data == null ? "" : data.path(field).asText("");
+        }
+
+        private boolean isTerminalFor(long turnId) {
+            return is("session.stopped") || is("session.error") && turnId() == turnId;
+        }
+    }
+}
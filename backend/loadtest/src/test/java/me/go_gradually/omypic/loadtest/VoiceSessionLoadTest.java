@@ -0,0 +1,133 @@
+package me.go_gradually.omypic.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import me.go_gradually.omypic.OmypicApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.PrintStream;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 음성 세션 동시 처리량 부하 생성기.
+ * 백엔드를 같은 JVM에 띄우고 OpenAI 호출은 {@link OpenAiStandIn}으로 돌린다. MongoDB는 {@code loadtest.mongoUri}에 연결한다.
+ */
+public final class VoiceSessionLoadTest {
+    private static final String QUESTION_TAG = "loadtest";
+    private static final long SAMPLE_PERIOD_MILLIS = 250L;
+
+    private final LoadTestConfig config;
+    private final BackendApi api;
+    private final OpenAiStandIn standIn;
+
+    private VoiceSessionLoadTest(LoadTestConfig config, BackendApi api, OpenAiStandIn standIn) {
+        this.config = config;
+        this.api = api;
+        this.standIn = standIn;
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.fromSystemProperties();
+        Path dataDir = Files.createTempDirectory("omypic-loadtest");
+        ObjectMapper objectMapper = new ObjectMapper();
+        try (OpenAiStandIn standIn = OpenAiStandIn.start(config);
+             ConfigurableApplicationContext backend = startBackend(config, standIn, dataDir)) {
+            String port = backend.getEnvironment().getProperty("local.server.port");
+            BackendApi api = new BackendApi(URI.create("http://127.0.0.1:" + port), objectMapper);
+            api.seedQuestionGroups(QUESTION_TAG, config.turnsPerSession() / 3 + 1);
+            new VoiceSessionLoadTest(config, api, standIn).run(System.out);
+        }
+    }
+
+    private static ConfigurableApplicationContext startBackend(LoadTestConfig config, OpenAiStandIn standIn, Path dataDir) {
+        return new SpringApplicationBuilder(OmypicApplication.class)
+                .properties(Map.of(
+                        "server.port", "0",
+                        "spring.data.mongodb.uri", config.mongoUri(),
+                        "omypic.data-dir", dataDir.toString(),
+                        "omypic.rag.provider", "hash",
+                        "omypic.voice.state-store", config.voiceStateStore(),
+                        "omypic.integrations.openai.base-url", standIn.baseUrl(),
+                        "omypic.integrations.openai.responses-enabled", "true",
+                        "logging.level.root", "WARN"
+                ))
+                .run();
+    }
+
+    private void run(PrintStream out) throws Exception {
+        LoadMetrics metrics = new LoadMetrics();
+        String audio = SimulatedVoiceClient.speechLikePcm16Base64(config.audioSeconds());
+        ThreadPoolExecutor clients = (ThreadPoolExecutor) Executors.newFixedThreadPool(config.sessions());
+        clients.prestartAllCoreThreads();
+        long startedAt = System.nanoTime();
+        try (ResourceSampler sampler = ResourceSampler.start(SAMPLE_PERIOD_MILLIS)) {
+            awaitAll(submitClients(clients, metrics, audio));
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+            printReport(out, metrics, sampler.snapshot(), elapsedMillis);
+        } finally {
+            clients.shutdownNow();
+        }
+    }
+
+    private List<Future<?>> submitClients(ThreadPoolExecutor clients, LoadMetrics metrics, String audio) {
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < config.sessions(); i++) {
+            long delayMillis = config.rampUpMillis() * i / config.sessions();
+            SimulatedVoiceClient client = new SimulatedVoiceClient(i, config, api, standIn, metrics, audio, QUESTION_TAG);
+            futures.add(clients.submit(() -> {
+                sleep(delayMillis);
+                client.run();
+            }));
+        }
+        return futures;
+    }
+
+    private void awaitAll(List<Future<?>> futures) throws Exception {
+        for (Future<?> future : futures) {
+            future.get();
+        }
+    }
+
+    private void printReport(PrintStream out, LoadMetrics metrics, ResourceSampler.Snapshot resources, long elapsedMillis) {
+        double seconds = Math.max(1L, elapsedMillis) / 1000.0;
+        out.println("== Voice session load test ==");
+        out.printf("sessions=%d turns/session=%d audio=%ds ramp-up=%dms elapsed=%.1fs%n",
+                config.sessions(), config.turnsPerSession(), config.audioSeconds(), config.rampUpMillis(), seconds);
+        out.printf("stand-in latency stt=%s tts=%s responses=%s%n",
+                config.sttLatency(), config.ttsLatency(), config.responsesLatency());
+        out.printf("sessions completed=%d failed=%d%n", metrics.completedSessions.sum(), metrics.failedSessions.sum());
+        out.printf("turns completed=%d failed=%d throughput=%.2f turns/s%n",
+                metrics.completedTurns.sum(), metrics.failedTurns.sum(), metrics.completedTurns.sum() / seconds);
+        out.println("turn latency ms (audio sent -> feedback.final): " + metrics.turnLatency.summary());
+        out.println("event lag ms (stt response -> stt.final received): " + metrics.eventLag.summary());
+        out.printf("threads baseline=%d peak=%d (+%d)%n", resources.baselineThreads(), resources.peakThreads(),
+                resources.peakThreads() - resources.baselineThreads());
+        out.printf("heap MiB baseline=%d peak=%d end=%d%n", mib(resources.baselineHeapBytes()),
+                mib(resources.peakHeapBytes()), mib(resources.endHeapBytes()));
+        out.println("stand-in requests " + standIn.requestCounts());
+        if (metrics.failedTurns.sum() + metrics.failedSessions.sum() > 0) {
+            out.println("failures: " + metrics.failureSummary());
+        }
+    }
+
+    private static long mib(long bytes) {
+        return bytes / (1024L * 1024L);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
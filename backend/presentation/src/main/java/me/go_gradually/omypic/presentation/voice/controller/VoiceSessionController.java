@@ -70,9 +70,10 @@ public class VoiceSessionController {
                             @Valid @RequestBody VoiceAudioChunkRequest request) {
         VoiceAudioChunkCommand command = new VoiceAudioChunkCommand();
         command.setVoiceSessionId(voiceSessionId);
-        command.setPcm16Base64(request.getPcm16Base64());
+        command.setPcm16(request.getPcm16Base64().getBytes(), request.getPcm16Base64().getLength());
         command.setSampleRate(request.getSampleRate());
         command.setSequence(request.getSequence());
+        command.setEndOfTurn(request.getEndOfTurn());
         voiceSessionUseCase.appendAudio(command);
     }
 
@@ -88,20 +89,38 @@ public class VoiceSessionController {
     }
 
     private VoiceEventSink toSink(SseEmitter emitter, AtomicBoolean open) {
-        return (event, data) -> {
-            if (!open.get()) {
-                return false;
+        return new VoiceEventSink() {
+            @Override
+            public boolean send(String event, Object payload) {
+                return sendEvent(emitter, open, SseEmitter.event().name(event).data(payload));
             }
-            try {
-                emitter.send(SseEmitter.event().name(event).data(data));
-                return true;
-            } catch (IOException e) {
+
+            // 이미 직렬화된 JSON 바이트를 그대로 써서 재연결 재전송마다 다시 직렬화하지 않는다.
+            @Override
+            public boolean sendSerialized(String event, Object payload, byte[] json) {
+                return sendEvent(emitter, open, SseEmitter.event().name(event).data(json, MediaType.APPLICATION_JSON));
+            }
+
+            @Override
+            public void disconnect() {
                 emitter.complete();
-                return false;
             }
         };
     }
 
+    private boolean sendEvent(SseEmitter emitter, AtomicBoolean open, SseEmitter.SseEventBuilder event) {
+        if (!open.get()) {
+            return false;
+        }
+        try {
+            emitter.send(event);
+            return true;
+        } catch (IOException e) {
+            emitter.complete();
+            return false;
+        }
+    }
+
     private void registerCallbacks(SseEmitter emitter,
                                    AtomicBoolean open,
                                    String voiceSessionId,
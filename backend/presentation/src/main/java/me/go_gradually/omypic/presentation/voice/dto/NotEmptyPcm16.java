@@ -0,0 +1,24 @@
+package me.go_gradually.omypic.presentation.voice.dto;
+
+import jakarta.validation.Constraint;
+import jakarta.validation.Payload;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * base64를 디코딩한 PCM16 청크가 비어 있지 않아야 한다.
+ * 문자열 필드일 때 {@code @NotBlank}가 막던 빈 본문을 디코딩된 payload에서도 똑같이 400으로 돌려준다.
+ */
+@Target(ElementType.FIELD)
+@Retention(RetentionPolicy.RUNTIME)
+@Constraint(validatedBy = NotEmptyPcm16Validator.class)
+public @interface NotEmptyPcm16 {
+    String message() default "must not be blank";
+
+    Class<?>[] groups() default {};
+
+    Class<? extends Payload>[] payload() default {};
+}
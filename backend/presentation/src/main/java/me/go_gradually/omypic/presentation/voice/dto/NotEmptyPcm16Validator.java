@@ -0,0 +1,11 @@
+package me.go_gradually.omypic.presentation.voice.dto;
+
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+
+public class NotEmptyPcm16Validator implements ConstraintValidator<NotEmptyPcm16, Pcm16Base64Payload> {
+    @Override
+    public boolean isValid(Pcm16Base64Payload value, ConstraintValidatorContext context) {
+        return value != null && value.getLength() > 0;
+    }
+}
@@ -0,0 +1,56 @@
+package me.go_gradually.omypic.presentation.voice.dto;
+
+import com.fasterxml.jackson.core.Base64Variant;
+import com.fasterxml.jackson.core.Base64Variants;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+/**
+ * 파서가 문자열 토큰을 읽기 전에 base64를 스트리밍으로 디코딩해, 요청 스레드별 재사용 버퍼에 바로 쓴다.
+ * 클라이언트가 패딩을 생략해도 받아 주던 {@link java.util.Base64} 디코더와 맞추려고 패딩은 선택으로 둔다.
+ */
+class Pcm16Base64Deserializer extends StdDeserializer<Pcm16Base64Payload> {
+    private static final Base64Variant BASE64 = Base64Variants.MIME_NO_LINEFEEDS
+            .withReadPadding(Base64Variant.PaddingReadBehaviour.PADDING_ALLOWED);
+    private static final int INITIAL_BYTES = 16 * 1024;
+    // turn 전체를 한 번에 올린 요청이 지나간 뒤에도 스레드마다 큰 버퍼를 쥐고 있지 않게 한다.
+    private static final int MAX_RETAINED_BYTES = 256 * 1024;
+    private static final ThreadLocal<ScratchBuffer> SCRATCH = ThreadLocal.withInitial(ScratchBuffer::new);
+
+    Pcm16Base64Deserializer() {
+        super(Pcm16Base64Payload.class);
+    }
+
+    @Override
+    public Pcm16Base64Payload deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+        if (!parser.hasToken(JsonToken.VALUE_STRING)) {
+            return (Pcm16Base64Payload) context.handleUnexpectedToken(Pcm16Base64Payload.class, parser);
+        }
+        ScratchBuffer scratch = SCRATCH.get();
+        scratch.recycle();
+        parser.readBinaryValue(BASE64, scratch);
+        return new Pcm16Base64Payload(scratch.array(), scratch.size());
+    }
+
+    private static final class ScratchBuffer extends ByteArrayOutputStream {
+        private ScratchBuffer() {
+            super(INITIAL_BYTES);
+        }
+
+        private byte[] array() {
+            return buf;
+        }
+
+        private void recycle() {
+            if (buf.length > MAX_RETAINED_BYTES) {
+                buf = new byte[INITIAL_BYTES];
+            }
+            reset();
+        }
+    }
+}
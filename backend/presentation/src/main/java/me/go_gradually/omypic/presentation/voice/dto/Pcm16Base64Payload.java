@@ -0,0 +1,26 @@
+package me.go_gradually.omypic.presentation.voice.dto;
+
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+
+/**
+ * 요청 본문의 base64 문자열을 String으로 만들지 않고 바로 디코딩한 PCM16 청크.
+ * 바이트 배열은 요청 스레드가 재사용하는 버퍼이므로 같은 요청을 처리하는 동안에만 유효하다.
+ */
+@JsonDeserialize(using = Pcm16Base64Deserializer.class)
+public final class Pcm16Base64Payload {
+    private final byte[] bytes;
+    private final int length;
+
+    Pcm16Base64Payload(byte[] bytes, int length) {
+        this.bytes = bytes;
+        this.length = length;
+    }
+
+    public byte[] getBytes() {
+        return bytes;
+    }
+
+    public int getLength() {
+        return length;
+    }
+}
@@ -1,18 +1,17 @@
 package me.go_gradually.omypic.presentation.voice.dto;
 
-import jakarta.validation.constraints.NotBlank;
-
 public class VoiceAudioChunkRequest {
-    @NotBlank
-    private String pcm16Base64;
+    @NotEmptyPcm16
+    private Pcm16Base64Payload pcm16Base64;
     private Integer sampleRate;
     private Long sequence;
+    private Boolean endOfTurn;
 
-    public String getPcm16Base64() {
+    public Pcm16Base64Payload getPcm16Base64() {
         return pcm16Base64;
     }
 
-    public void setPcm16Base64(String pcm16Base64) {
+    public void setPcm16Base64(Pcm16Base64Payload pcm16Base64) {
         this.pcm16Base64 = pcm16Base64;
     }
 
@@ -31,4 +30,12 @@ public class VoiceAudioChunkRequest {
     public void setSequence(Long sequence) {
         this.sequence = sequence;
     }
+
+    public Boolean getEndOfTurn() {
+        return endOfTurn;
+    }
+
+    public void setEndOfTurn(Boolean endOfTurn) {
+        this.endOfTurn = endOfTurn;
+    }
 }
@@ -18,6 +18,7 @@ import org.springframework.test.web.servlet.MockMvc;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
@@ -71,7 +72,8 @@ class VoiceSessionControllerTest {
                                 {
                                   "pcm16Base64":"AQI=",
                                   "sampleRate":16000,
-                                  "sequence":9
+                                  "sequence":9,
+                                  "endOfTurn":false
                                 }
                                 """))
                 .andExpect(status().isNoContent());
@@ -79,9 +81,44 @@ class VoiceSessionControllerTest {
         ArgumentCaptor<VoiceAudioChunkCommand> captor = ArgumentCaptor.forClass(VoiceAudioChunkCommand.class);
         verify(voiceSessionUseCase).appendAudio(captor.capture());
         assertEquals("voice-1", captor.getValue().getVoiceSessionId());
-        assertEquals("AQI=", captor.getValue().getPcm16Base64());
+        assertEquals(2, captor.getValue().getPcm16Length());
+        assertEquals(1, captor.getValue().getPcm16()[0]);
+        assertEquals(2, captor.getValue().getPcm16()[1]);
         assertEquals(16000, captor.getValue().getSampleRate());
         assertEquals(9L, captor.getValue().getSequence());
+        assertEquals(false, captor.getValue().getEndOfTurn());
+    }
+
+    @Test
+    void appendAudio_returnsBadRequest_whenBase64Invalid() throws Exception {
+        mockMvc.perform(post("/api/voice/sessions/voice-1/audio-chunks")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {
+                                  "pcm16Base64":"@@not-base64@@",
+                                  "sampleRate":16000
+                                }
+                                """))
+                .andExpect(status().isBadRequest());
+
+        verify(voiceSessionUseCase, never()).appendAudio(any());
+    }
+
+    @Test
+    void appendAudio_returnsBadRequest_whenEndOfTurnPayloadEmpty() throws Exception {
+        mockMvc.perform(post("/api/voice/sessions/voice-1/audio-chunks")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {
+                                  "pcm16Base64":"",
+                                  "sampleRate":16000,
+                                  "sequence":10,
+                                  "endOfTurn":true
+                                }
+                                """))
+                .andExpect(status().isBadRequest());
+
+        verify(voiceSessionUseCase, never()).appendAudio(any());
     }
 
     @Test
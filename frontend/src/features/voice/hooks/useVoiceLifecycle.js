@@ -602,7 +602,8 @@ export function useVoiceLifecycle({
             await sendVoiceAudioChunk(turn.voiceSessionId, {
                 pcm16Base64: turn.pcm16Base64,
                 sampleRate: turn.sampleRate,
-                sequence: turn.sequence
+                sequence: turn.sequence,
+                endOfTurn: true
             }, {
                 signal: abortController.signal
             })